@@ -0,0 +1,101 @@
+package bignumber;
+
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+/* ******************************************************************************
+ * Class     AddBenchmark
+ * Purpose   The AddBenchmark class times the addition of two random numbers of
+ *               several lengths three ways: with `BigNumberImpl.add`, which walks
+ *               the two digit lists, with the scalar limb loop of Limbs.add, and
+ *               with `Adder.addLanes`, whose loops the JIT compiler runs as SIMD
+ *               instructions. Each way is warmed up before it is timed, and the
+ *               times are printed in nanoseconds per decimal digit. Run it with the
+ *               main and test classes on the class path; the optional argument is
+ *               the number of timed rounds per length.
+ * ***************************************************************************** */
+public final class AddBenchmark {
+
+    private static final int[] LENGTHS = {1_000, 10_000, 100_000, 1_000_000};
+    private static final long DIGITS_PER_ROUND = 20_000_000L;
+
+    // Read after every run, so that the JIT compiler cannot drop the additions
+    private static long sink;
+
+    private AddBenchmark() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    time
+     * Purpose   Runs an addition a number of times and returns the mean time of one
+     *               run in nanoseconds per decimal digit.
+     * @param    'addition'    --    (IntSupplier)  the addition to time, returning
+     *                                               the length of the sum
+     * @param    'runs'        --    (int)       the number of runs
+     * @param    'length'      --    (int)       the number of digits per operand
+     * @returns  (double) the mean time, in nanoseconds per digit
+     * ----------------------------------------------------------------------------*/
+    private static double time(IntSupplier addition, int runs, int length) {
+
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            sink += addition.getAsInt();
+        }
+        return (System.nanoTime() - start) / ((double) runs * length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    main
+     * Purpose   Times the three additions at every length and prints a table of
+     *               the results with the speedup of `Adder.addLanes` over the scalar
+     *               limb loop.
+     * @param    'args'    --    (String[])  the number of timed rounds, optional
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void main(String[] args) {
+
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Random random = new Random(42);
+
+        System.out.printf("%10s %14s %14s %14s %8s%n",
+                "digits", "list ns/dig", "scalar ns/dig", "lanes ns/dig", "speedup");
+
+        for (int length : LENGTHS) {
+            String a = TestDigits.randomDigits(random, length);
+            String b = TestDigits.randomDigits(random, length);
+            BigNumber aList = new BigNumberImpl(a);
+            BigNumber bList = new BigNumberImpl(b);
+            int[] aLimbs = Limbs.fromString(a);
+            int[] bLimbs = Limbs.fromString(b);
+
+            int runs = (int) Math.max(1, DIGITS_PER_ROUND / length);
+            int listRuns = Math.max(1, runs / 20);
+            IntSupplier list = () -> aList.add(bList).length();
+            IntSupplier scalar = () -> Limbs.add(aLimbs, aLimbs.length, bLimbs, bLimbs.length).length;
+            IntSupplier lanes = () -> Adder.addLanes(aLimbs, aLimbs.length, bLimbs, bLimbs.length).length;
+
+            // The first round is warm-up for the JIT compiler and is not kept
+            double listTime = Double.MAX_VALUE;
+            double scalarTime = Double.MAX_VALUE;
+            double lanesTime = Double.MAX_VALUE;
+            for (int round = 0; round <= rounds; round++) {
+                double listRound = time(list, listRuns, length);
+                double scalarRound = time(scalar, runs, length);
+                double lanesRound = time(lanes, runs, length);
+                if (round > 0) {
+                    listTime = Math.min(listTime, listRound);
+                    scalarTime = Math.min(scalarTime, scalarRound);
+                    lanesTime = Math.min(lanesTime, lanesRound);
+                }
+            }
+
+            System.out.printf("%10d %14.3f %14.3f %14.3f %7.2fx%n",
+                    length, listTime, scalarTime, lanesTime, scalarTime / lanesTime);
+        }
+
+        if (sink == 0) {
+            System.out.println();
+        }
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,170 @@
+package bignumber;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/* ******************************************************************************
+ * Class     BigIntegerBenchmark
+ * Purpose   The BigIntegerBenchmark class is the java.math.BigInteger baseline for
+ *               BigNumberBenchmark: it runs the same operations on the same values,
+ *               with the same JMH settings. A decimal shift is a multiplication or
+ *               division by 10^SHIFT. BigInteger is immutable and stores binary
+ *               digits, so `copy` and `getDigitAt` have no counterpart here.
+ * @attrib   'digits'         --    (int)         the number of digits of the operands
+ * @attrib   'text'           --    (String)      the digits of the first operand
+ * @attrib   'first'          --    (BigInteger)  the first operand
+ * @attrib   'second'         --    (BigInteger)  the second operand, of the same length
+ * @attrib   'equal'          --    (BigInteger)  an equal copy of the first operand,
+ *                                                  built separately
+ * @attrib   'lastDiffers'    --    (BigInteger)  the first operand with its least
+ *                                                  significant digit changed
+ * ***************************************************************************** */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class BigIntegerBenchmark {
+
+    private static final BigInteger SHIFT_FACTOR = BigInteger.TEN.pow(BigNumberBenchmark.SHIFT);
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int digits;
+
+    private String text;
+    private BigInteger first;
+    private BigInteger second;
+    private BigInteger equal;
+    private BigInteger lastDiffers;
+
+    /* -----------------------------------------------------------------------------
+     * Method    setUp
+     * Purpose   Builds the operands once per trial, from the same digits as
+     *               BigNumberBenchmark.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(this.digits);
+        this.text = TestDigits.randomDigits(random, this.digits);
+        this.first = new BigInteger(this.text);
+        this.second = new BigInteger(TestDigits.randomDigits(random, this.digits));
+        this.equal = new BigInteger(this.text);
+        this.lastDiffers = new BigInteger(BigNumberBenchmark.lastDigitChanged(this.text));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    construct
+     * Purpose   Benchmarks building a BigInteger from a String of digits.
+     * @param    None
+     * @returns  (BigInteger) the new BigInteger
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigInteger construct() {
+
+        return new BigInteger(this.text);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Benchmarks the addition of two BigIntegers of the same length.
+     * @param    None
+     * @returns  (BigInteger) the sum
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigInteger add() {
+
+        return this.first.add(this.second);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compareTo
+     * Purpose   Benchmarks the comparison of two BigIntegers that differ only in
+     *               their least significant decimal digit.
+     * @param    None
+     * @returns  (int) the result of the comparison
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public int compareTo() {
+
+        return this.first.compareTo(this.lastDiffers);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    equalsEqual
+     * Purpose   Benchmarks `equals` on two equal BigIntegers built separately.
+     * @param    None
+     * @returns  (boolean) the result of `equals`
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public boolean equalsEqual() {
+
+        return this.first.equals(this.equal);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    equalsLastDiffers
+     * Purpose   Benchmarks `equals` on two BigIntegers that differ only in their
+     *               least significant decimal digit.
+     * @param    None
+     * @returns  (boolean) the result of `equals`
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public boolean equalsLastDiffers() {
+
+        return this.first.equals(this.lastDiffers);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLeft
+     * Purpose   Benchmarks a decimal left shift by SHIFT digits.
+     * @param    None
+     * @returns  (BigInteger) the shifted value
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigInteger shiftLeft() {
+
+        return this.first.multiply(SHIFT_FACTOR);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftRight
+     * Purpose   Benchmarks a decimal right shift by SHIFT digits.
+     * @param    None
+     * @returns  (BigInteger) the shifted value
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigInteger shiftRight() {
+
+        return this.first.divide(SHIFT_FACTOR);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    format
+     * Purpose   Benchmarks `toString`.
+     * @param    None
+     * @returns  (String) the digits of the first operand
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public String format() {
+
+        return this.first.toString();
+    }
+
+} /* ****************************************************************************** */
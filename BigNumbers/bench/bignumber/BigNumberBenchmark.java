@@ -0,0 +1,239 @@
+package bignumber;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/* ******************************************************************************
+ * Class     BigNumberBenchmark
+ * Purpose   The BigNumberBenchmark class is a JMH benchmark of the operations of
+ *               the BigNumber interface: construction from a String, `add`,
+ *               `compareTo`, `equals`, `copy`, `shiftLeft`, `shiftRight`,
+ *               `getDigitAt` and `toString`. Every operation is run for numbers of
+ *               10 to 10^7 digits, and for each implementation named by the
+ *               'implementation' parameter. BigIntegerBenchmark runs the same
+ *               operations on java.math.BigInteger as a baseline. Run both with
+ *               `org.openjdk.jmh.Main`, for instance with `-p digits=1000` to
+ *               pick a single size; the 10^7 digit linked lists need a few GB of
+ *               heap, which the forked JVMs are given.
+ * @attrib   'digits'            --    (int)        the number of digits of the operands
+ * @attrib   'implementation'    --    (String)     the BigNumber class to benchmark
+ * @attrib   'text'              --    (String)     the digits of the first operand
+ * @attrib   'first'             --    (BigNumber)  the first operand
+ * @attrib   'second'            --    (BigNumber)  the second operand, of the same length
+ * @attrib   'equal'             --    (BigNumber)  an equal copy of the first operand,
+ *                                                    built separately
+ * @attrib   'lastDiffers'       --    (BigNumber)  the first operand with its least
+ *                                                    significant digit changed
+ * ***************************************************************************** */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class BigNumberBenchmark {
+
+    static final int SHIFT = 3;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int digits;
+
+    @Param({"BigNumberImpl", "PackedBigNumberImpl"})
+    private String implementation;
+
+    private String text;
+    private BigNumber first;
+    private BigNumber second;
+    private BigNumber equal;
+    private BigNumber lastDiffers;
+
+    /* -----------------------------------------------------------------------------
+     * Method    lastDigitChanged
+     * Purpose   Returns a String of digits with its least significant digit changed,
+     *               so that a comparison with the original has to reach the end.
+     * @param    'digits'    --    (String)  the digits
+     * @returns  (String) the digits with the last one changed
+     * ----------------------------------------------------------------------------*/
+    static String lastDigitChanged(String digits) {
+
+        char last = digits.charAt(digits.length() - 1);
+        return digits.substring(0, digits.length() - 1) + (last == '9' ? '8' : (char) (last + 1));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    newNumber
+     * Purpose   Creates a BigNumber of the implementation under test. Throws
+     *               IllegalArgumentException if the implementation is unknown.
+     * @param    'numberAsString'    --    (String)  the digits of the number
+     * @returns  (BigNumber) the new BigNumber
+     * ----------------------------------------------------------------------------*/
+    private BigNumber newNumber(String numberAsString) {
+
+        switch (this.implementation) {
+            case "BigNumberImpl":
+                return new BigNumberImpl(numberAsString);
+            case "PackedBigNumberImpl":
+                return new PackedBigNumberImpl(numberAsString);
+            default:
+                throw new IllegalArgumentException("Unknown implementation " + this.implementation + ".");
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setUp
+     * Purpose   Builds the operands once per trial.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(this.digits);
+        this.text = TestDigits.randomDigits(random, this.digits);
+        this.first = this.newNumber(this.text);
+        this.second = this.newNumber(TestDigits.randomDigits(random, this.digits));
+        this.equal = this.newNumber(this.text);
+        this.lastDiffers = this.newNumber(lastDigitChanged(this.text));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    construct
+     * Purpose   Benchmarks building a BigNumber from a String of digits.
+     * @param    None
+     * @returns  (BigNumber) the new BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigNumber construct() {
+
+        return this.newNumber(this.text);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Benchmarks the addition of two BigNumbers of the same length.
+     * @param    None
+     * @returns  (BigNumber) the sum
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigNumber add() {
+
+        return this.first.add(this.second);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compareTo
+     * Purpose   Benchmarks the comparison of two BigNumbers that differ only in
+     *               their least significant digit, the worst case.
+     * @param    None
+     * @returns  (int) the result of the comparison
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public int compareTo() {
+
+        return this.first.compareTo(this.lastDiffers);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    equalsEqual
+     * Purpose   Benchmarks `equals` on two equal BigNumbers built separately.
+     * @param    None
+     * @returns  (boolean) the result of `equals`
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public boolean equalsEqual() {
+
+        return this.first.equals(this.equal);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    equalsLastDiffers
+     * Purpose   Benchmarks `equals` on two BigNumbers of the same length that differ
+     *               only in their least significant digit.
+     * @param    None
+     * @returns  (boolean) the result of `equals`
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public boolean equalsLastDiffers() {
+
+        return this.first.equals(this.lastDiffers);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    copy
+     * Purpose   Benchmarks `copy`.
+     * @param    None
+     * @returns  (BigNumber) the copy
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigNumber copy() {
+
+        return this.first.copy();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLeft
+     * Purpose   Benchmarks shifting a copy of the first operand left by SHIFT
+     *               digits. The shifts mutate, so the time includes that of `copy`.
+     * @param    None
+     * @returns  (BigNumber) the shifted copy
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigNumber shiftLeft() {
+
+        BigNumber shifted = this.first.copy();
+        shifted.shiftLeft(SHIFT);
+        return shifted;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftRight
+     * Purpose   Benchmarks shifting a copy of the first operand right by SHIFT
+     *               digits. The shifts mutate, so the time includes that of `copy`.
+     * @param    None
+     * @returns  (BigNumber) the shifted copy
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public BigNumber shiftRight() {
+
+        BigNumber shifted = this.first.copy();
+        shifted.shiftRight(SHIFT);
+        return shifted;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitAt
+     * Purpose   Benchmarks reading the middle digit of the first operand.
+     * @param    None
+     * @returns  (int) the digit
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public int getDigitAt() {
+
+        return this.first.getDigitAt(this.digits / 2);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    format
+     * Purpose   Benchmarks `toString`.
+     * @param    None
+     * @returns  (String) the digits of the first operand
+     * ----------------------------------------------------------------------------*/
+    @Benchmark
+    public String format() {
+
+        return this.first.toString();
+    }
+
+} /* ****************************************************************************** */
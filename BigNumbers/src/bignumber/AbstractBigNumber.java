@@ -0,0 +1,416 @@
+package bignumber;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/* ******************************************************************************
+ * Class     AbstractBigNumber
+ * Purpose   The AbstractBigNumber class is the parent class of the BigNumber
+ *               implementations in this package. It holds the arithmetic that does
+ *               not depend on how the digits are stored: each child class only
+ *               has to convert its value to and from an array of base-10^9 limbs
+ *               (see the Limbs class), and the algorithms work on the limbs. Child
+ *               classes with a faster path for a given operation override it.
+ *               The class also holds `equals` and the cached hash code; child
+ *               classes call `invalidateHash` or `shiftHash` from every method
+ *               that changes their value, and override `cachesHash` while their
+ *               value can change behind their back. The class is package-private.
+ * @attrib   'hash'          --    (int)      the cached hash code, or 0 if not known
+ * @attrib   'hashIsZero'    --    (boolean)  true if the hash code is known to be 0
+ * ***************************************************************************** */
+abstract class AbstractBigNumber implements BigNumber {
+
+    private int hash;
+    private boolean hashIsZero;
+
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Returns the value of this BigNumber as a normalized, exactly sized
+     *               limb array. The caller may keep the array but must not change it.
+     * @param    None
+     * @returns  (int[]) the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    abstract int[] toLimbs();
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromLimbs
+     * Purpose   Returns a new BigNumber of the same implementation as this one,
+     *               holding the value of a normalized limb array. The array may be
+     *               kept by the new object and must not be changed afterwards.
+     * @param    'limbs'    --    (int[])  the value as limbs, least significant first
+     * @returns  (BigNumber) a new BigNumber holding the value
+     * ----------------------------------------------------------------------------*/
+    abstract BigNumber fromLimbs(int[] limbs);
+
+    /* -----------------------------------------------------------------------------
+     * Method    accumulateInto
+     * Purpose   Adds the limbs of this BigNumber to an array of base-10^9 limb
+     *               columns without normalizing them. Used by the ColumnAccumulator
+     *               class; child classes override it to read their digits in place.
+     *               The array must be long enough for the length of this BigNumber.
+     * @param    'columns'    --    (long[])  the columns to add the limbs to
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void accumulateInto(long[] columns) {
+
+        int[] limbs = this.toLimbs();
+        for (int i = 0; i < limbs.length; i++) {
+            columns[i] += limbs[i];
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    computeHash
+     * Purpose   Computes the hash code defined by `BigNumber.hashCode` from the
+     *               digits, least significant first. Child classes override it to
+     *               read their digits in place.
+     * @param    None
+     * @returns  (int) the hash code of the decimal digits
+     * ----------------------------------------------------------------------------*/
+    int computeHash() {
+
+        int[] hashAndPower = {0, 1};
+        this.digits().forEachOrdered(digit -> {
+            hashAndPower[0] += ('0' + digit) * hashAndPower[1];
+            hashAndPower[1] *= Limbs.HASH_MULTIPLIER;
+        });
+        return hashAndPower[0];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    cachesHash
+     * Purpose   Returns true if the hash code may be cached. Child classes return
+     *               false while their digits can be changed from outside, e.g.
+     *               through a List handed out by `getDigitList`; the hash code is
+     *               then computed on every call and never used by `equals`.
+     * @param    None
+     * @returns  (boolean) true if the hash code may be cached
+     * ----------------------------------------------------------------------------*/
+    boolean cachesHash() {
+
+        return true;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    invalidateHash
+     * Purpose   Forgets the cached hash code. Called by child classes before any
+     *               change to their value that `shiftHash` cannot follow.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    final void invalidateHash() {
+
+        this.hash = 0;
+        this.hashIsZero = false;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftHash
+     * Purpose   Updates the cached hash code, if there is one, for a decimal shift
+     *               of the value, in O(log shift) instead of a new pass over the
+     *               digits. A negative shift must only drop zeroes.
+     * @param    'shift'    --    (int)  the number of digits shifted left, or right
+     *                                     if negative
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    final void shiftHash(int shift) {
+
+        if (this.hash == 0 && !this.hashIsZero) {
+            return;
+        }
+
+        int shifted = Limbs.hashShifted(this.hash, shift);
+        this.hash = shifted;
+        this.hashIsZero = shifted == 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    mostSignificantDigit
+     * Purpose   Returns the most significant digit, for the shortcut in `equals`.
+     *               Child classes whose `getDigitAt` walks the digits override it.
+     * @param    None
+     * @returns  (int) the most significant digit
+     * ----------------------------------------------------------------------------*/
+    int mostSignificantDigit() {
+
+        return this.getDigitAt(this.length() - 1);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hashCode
+     * Purpose   Returns the hash code defined by `BigNumber.hashCode`. It is
+     *               computed on the first call and cached until the value changes,
+     *               unless `cachesHash` returns false.
+     * @param    None
+     * @returns  (int) the hash code of the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int hashCode() {
+
+        if (!this.cachesHash()) {
+            return this.computeHash();
+        }
+
+        int h = this.hash;
+        if (h == 0 && !this.hashIsZero) {
+            h = this.computeHash();
+            if (h == 0) {
+                this.hashIsZero = true;
+            } else {
+                this.hash = h;
+            }
+        }
+        return h;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    equals
+     * Purpose   Returns true if BigNumbers are equal. Else, returns false. Any
+     *               BigNumber implementation may be compared. Throws
+     *               IllegalArgumentException when argument is null or not a
+     *               BigNumber object. Numbers of different lengths, different
+     *               cached hash codes or different most significant digits are
+     *               told apart without reading the other digits; else the digits
+     *               are compared once with `compareTo`.
+     * @param    'obj'     --    (Object)   a comparator against this BigNumber
+     * @returns  (boolean) true if two BigNumbers are equal; false if not equal
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean equals(Object obj) {
+
+        if (obj == null) {
+            throw new IllegalArgumentException("Argument must not be null.");
+        }
+
+        if (!(obj instanceof BigNumber)) {
+            throw new IllegalArgumentException("Argument must be an instance" +
+                    " of the BigNumber interface.");
+        }
+
+        if (obj == this) {
+            return true;
+        }
+
+        BigNumber other = (BigNumber) obj;
+        int length = this.length();
+        if (length != other.length()) {
+            return false;
+        }
+
+        if (other instanceof AbstractBigNumber) {
+            AbstractBigNumber otherNumber = (AbstractBigNumber) other;
+            boolean bothHashed = this.cachesHash() && otherNumber.cachesHash()
+                    && (this.hash != 0 || this.hashIsZero)
+                    && (otherNumber.hash != 0 || otherNumber.hashIsZero);
+            if (bothHashed && this.hash != otherNumber.hash) {
+                return false;
+            }
+            if (this.mostSignificantDigit() != otherNumber.mostSignificantDigit()) {
+                return false;
+            }
+        }
+        else if (this.mostSignificantDigit() != other.getDigitAt(length - 1)) {
+            return false;
+        }
+
+        return this.compareTo(other) == 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiply
+     * Purpose   Multiplies two BigNumbers together and returns the value as a new
+     *               BigNumber object of the same implementation as this one. The
+     *               algorithm (schoolbook, Karatsuba, Toom-Cook 3 or NTT) is chosen by
+     *               the Multiplier class from the length of the shorter operand.
+     * @param    'other'      --      (BigNumber)   the second factor
+     * @returns  (BigNumber) the product of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber multiply(BigNumber other) {
+
+        return this.fromLimbs(Multiplier.multiply(this.toLimbs(), Limbs.toLimbs(other)));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divide
+     * Purpose   Divides this BigNumber by another and returns the quotient as a new
+     *               BigNumber object of the same implementation as this one.
+     * @param    'other'      --      (BigNumber)   the divisor
+     * @returns  (BigNumber) the quotient of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber divide(BigNumber other) {
+
+        return this.divideAndRemainder(other)[0];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    remainder
+     * Purpose   Divides this BigNumber by another and returns the remainder as a new
+     *               BigNumber object of the same implementation as this one.
+     * @param    'other'      --      (BigNumber)   the divisor
+     * @returns  (BigNumber) the remainder of the division
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber remainder(BigNumber other) {
+
+        return this.divideAndRemainder(other)[1];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideAndRemainder
+     * Purpose   Divides this BigNumber by another with the Divider class and returns
+     *               the quotient and the remainder as new BigNumber objects of the
+     *               same implementation as this one.
+     * @param    'other'      --      (BigNumber)   the divisor
+     * @returns  (BigNumber[]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber[] divideAndRemainder(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("The divisor must not be null.");
+        }
+
+        int[][] result = Divider.divideAndRemainder(this.toLimbs(), Limbs.toLimbs(other));
+        return new BigNumber[] {this.fromLimbs(result[0]), this.fromLimbs(result[1])};
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    pow
+     * Purpose   Raises this BigNumber to a power with the Exponentiator class and
+     *               returns the value as a new BigNumber object of the same
+     *               implementation as this one. Throws IllegalArgumentException if
+     *               the exponent is negative or the power would have more than
+     *               Integer.MAX_VALUE digits.
+     * @param    'exponent'      --      (int)   the exponent
+     * @returns  (BigNumber) this BigNumber to the power of exponent
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber pow(int exponent) {
+
+        if (exponent < 0) {
+            throw new IllegalArgumentException("The exponent must not be negative.");
+        }
+
+        if ((long) (this.length() - 1) * exponent >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The power has too many digits.");
+        }
+
+        return this.fromLimbs(Exponentiator.pow(this.toLimbs(), exponent));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    modPow
+     * Purpose   Raises this BigNumber to a power modulo another with the
+     *               Exponentiator class and returns the value as a new BigNumber
+     *               object of the same implementation as this one.
+     * @param    'exponent'      --      (BigNumber)   the exponent
+     * @param    'modulus'       --      (BigNumber)   the modulus
+     * @returns  (BigNumber) this BigNumber to the power of exponent, modulo modulus
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber modPow(BigNumber exponent, BigNumber modulus) {
+
+        if (exponent == null || modulus == null) {
+            throw new IllegalArgumentException("The exponent and the modulus must not be null.");
+        }
+
+        return this.fromLimbs(Exponentiator.modPow(this.toLimbs(), Limbs.toLimbs(exponent), Limbs.toLimbs(modulus)));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digits
+     * Purpose   Returns the digits of the BigNumber, least significant first, read
+     *               from the limbs returned by `toLimbs` by a LimbDigitSpliterator.
+     * @param    None
+     * @returns  (IntStream) the digits, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public IntStream digits() {
+
+        int[] limbs = this.toLimbs();
+        return digitsOf(IntBuffer.wrap(limbs), Limbs.digitCount(limbs, limbs.length));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digitsOf
+     * Purpose   Returns a sequential IntStream of the digits of a limb buffer,
+     *               least significant first, for the child classes that can stream
+     *               their limbs in place.
+     * @param    'limbs'         --    (IntBuffer)  the limbs, least significant first
+     * @param    'digitCount'    --    (int)        the number of digits
+     * @returns  (IntStream) the digits, least significant first
+     * ----------------------------------------------------------------------------*/
+    static IntStream digitsOf(IntBuffer limbs, int digitCount) {
+
+        return StreamSupport.intStream(new LimbDigitSpliterator(limbs, 0, digitCount), false);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the decimal digits of the BigNumber to an OutputStream as
+     *               ASCII bytes, through `writeTo(Appendable)`. The stream is flushed
+     *               but not closed.
+     * @param    'out'      --      (OutputStream)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+
+        if (out == null) {
+            throw new IllegalArgumentException("The OutputStream must not be null.");
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII));
+        this.writeTo(writer);
+        writer.flush();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the BigNumber to a file in the binary format of the
+     *               BigNumberFile class, from the limbs returned by `toLimbs`.
+     * @param    'file'     --      (Path)   the file to write
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Path file) throws IOException {
+
+        int[] limbs = this.toLimbs();
+        BigNumberFile.write(file, IntBuffer.wrap(limbs), limbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns String representation of the BigNumber, written by
+     *               `writeTo(Appendable)` into a StringBuilder of the exact length.
+     * @param    None
+     * @returns  (String) String representation of the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String toString() {
+
+        StringBuilder printable = new StringBuilder(this.length());
+
+        try {
+            this.writeTo(printable);
+        }
+        catch (IOException e) {
+            // A StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
+
+        return printable.toString();
+    }
+
+} /* ****************************************************************************** */
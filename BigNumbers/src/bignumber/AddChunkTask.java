@@ -0,0 +1,101 @@
+package bignumber;
+
+import java.util.concurrent.RecursiveAction;
+
+/* ******************************************************************************
+ * Class     AddChunkTask
+ * Purpose   The AddChunkTask class runs one pass of a parallel addition over a
+ *               range of chunks as a ForkJoin task. In the first pass each chunk is
+ *               summed by Adder.sumChunk and its carry state recorded; in the
+ *               resolving pass, run after the prefix scan, each chunk whose lower
+ *               neighbour passes on a carry receives it through
+ *               Adder.carryIntoChunk. Ranges of several chunks are split in half
+ *               and run in parallel; chunks never share limbs.
+ * @attrib   'a'              --    (int[])   the longer addend
+ * @attrib   'aCount'         --    (int)     the number of limbs in use in a
+ * @attrib   'b'              --    (int[])   the shorter addend
+ * @attrib   'bCount'         --    (int)     the number of limbs in use in b
+ * @attrib   'sum'            --    (int[])   the array receiving the sum
+ * @attrib   'states'         --    (int[])   the carry state of every chunk
+ * @attrib   'chunkLimbs'     --    (int)     the number of limbs per chunk
+ * @attrib   'fromChunk'      --    (int)     the first chunk of the range
+ * @attrib   'toChunk'        --    (int)     one past the last chunk of the range
+ * @attrib   'resolve'        --    (boolean) true for the resolving pass
+ * ***************************************************************************** */
+class AddChunkTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] a;
+    private final int aCount;
+    private final int[] b;
+    private final int bCount;
+    private final int[] sum;
+    private final int[] states;
+    private final int chunkLimbs;
+    private final int fromChunk;
+    private final int toChunk;
+    private final boolean resolve;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a task for one pass over the chunks from `inFromChunk` to
+     *               `inToChunk`.
+     * @param    'inA'            --    (int[])   the longer addend
+     * @param    'inACount'       --    (int)     the number of limbs in use in a
+     * @param    'inB'            --    (int[])   the shorter addend
+     * @param    'inBCount'       --    (int)     the number of limbs in use in b
+     * @param    'inSum'          --    (int[])   the array receiving the sum
+     * @param    'inStates'       --    (int[])   the carry state of every chunk
+     * @param    'inChunkLimbs'   --    (int)     the number of limbs per chunk
+     * @param    'inFromChunk'    --    (int)     the first chunk of the range
+     * @param    'inToChunk'      --    (int)     one past the last chunk
+     * @param    'inResolve'      --    (boolean) true for the resolving pass
+     * ----------------------------------------------------------------------------*/
+    AddChunkTask(int[] inA, int inACount, int[] inB, int inBCount, int[] inSum, int[] inStates,
+                 int inChunkLimbs, int inFromChunk, int inToChunk, boolean inResolve) {
+
+        this.a = inA;
+        this.aCount = inACount;
+        this.b = inB;
+        this.bCount = inBCount;
+        this.sum = inSum;
+        this.states = inStates;
+        this.chunkLimbs = inChunkLimbs;
+        this.fromChunk = inFromChunk;
+        this.toChunk = inToChunk;
+        this.resolve = inResolve;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compute
+     * Purpose   Runs the pass on a single chunk directly, else splits the range
+     *               in two.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    protected void compute() {
+
+        if (this.toChunk - this.fromChunk == 1) {
+            int chunk = this.fromChunk;
+            int from = chunk * this.chunkLimbs;
+            int to = Math.min(this.aCount, from + this.chunkLimbs);
+
+            if (!this.resolve) {
+                this.states[chunk] = Adder.sumChunk(this.a, this.b, this.bCount, this.sum, from, to);
+            }
+            else if (chunk > 0 && this.states[chunk - 1] == Adder.GENERATE) {
+                Adder.carryIntoChunk(this.sum, from, to);
+            }
+            return;
+        }
+
+        int middle = (this.fromChunk + this.toChunk) >>> 1;
+        invokeAll(new AddChunkTask(this.a, this.aCount, this.b, this.bCount, this.sum, this.states,
+                        this.chunkLimbs, this.fromChunk, middle, this.resolve),
+                new AddChunkTask(this.a, this.aCount, this.b, this.bCount, this.sum, this.states,
+                        this.chunkLimbs, middle, this.toChunk, this.resolve));
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,367 @@
+package bignumber;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/* ******************************************************************************
+ * Class     Adder
+ * Purpose   The Adder class holds the addition of limb arrays used by
+ *               `PackedBigNumberImpl.add`. Below the parallel threshold, or while
+ *               parallel mode is off, the limbs are added sequentially: short
+ *               operands in a single scalar pass, longer ones by `addLanes`, whose
+ *               loops the JIT compiler turns into SIMD instructions. In parallel
+ *               mode, enabled by giving a ForkJoinPool to `setParallelPool`,
+ *               longer operands are added with carry-lookahead: the limbs are cut
+ *               into chunks that are summed independently, each chunk reporting
+ *               whether it generates a carry, propagates an incoming carry, or
+ *               kills it; a parallel prefix scan over those states gives the
+ *               carry into every chunk, and a last parallel pass adds it in. The
+ *               class cannot be instantiated.
+ * @attrib   'parallelThreshold'    --  (int)  digits in the longer operand from
+ *                                                which parallel mode is used
+ * @attrib   'parallelPool'         --  (ForkJoinPool)  the pool for parallel mode, or null
+ * ***************************************************************************** */
+public final class Adder {
+
+    static final int DEFAULT_PARALLEL_THRESHOLD = 300_000;
+    static final int CHUNK_LIMBS = 1 << 13;
+    static final int LANES_THRESHOLD = 1 << 10;
+
+    // Carry states of a chunk, combined by the prefix scan
+    static final int KILL = 0;
+    static final int GENERATE = 1;
+    static final int PROPAGATE = 2;
+
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private static volatile ForkJoinPool parallelPool = null;
+
+    private Adder() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getParallelThreshold
+     * Purpose   Returns the number of digits in the longer operand from which
+     *               additions are run in parallel, when parallel mode is on.
+     * @param    None
+     * @returns  (int) the parallel threshold, in decimal digits
+     * ----------------------------------------------------------------------------*/
+    public static int getParallelThreshold() {
+
+        return parallelThreshold;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setParallelThreshold
+     * Purpose   Sets the number of digits in the longer operand from which
+     *               additions are run in parallel. Throws IllegalArgumentException
+     *               if the threshold is not positive.
+     * @param    'digits'   --    (int)  the new threshold, in decimal digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setParallelThreshold(int digits) {
+
+        if (digits < 1) {
+            throw new IllegalArgumentException("The parallel threshold must be positive.");
+        }
+
+        parallelThreshold = digits;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getParallelPool
+     * Purpose   Returns the pool used in parallel mode, or null if parallel mode
+     *               is off.
+     * @param    None
+     * @returns  (ForkJoinPool) the pool for parallel mode, or null
+     * ----------------------------------------------------------------------------*/
+    public static ForkJoinPool getParallelPool() {
+
+        return parallelPool;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setParallelPool
+     * Purpose   Turns parallel mode on by giving the pool that long additions are
+     *               split across, or off by passing null.
+     * @param    'pool'     --    (ForkJoinPool)  the pool for parallel mode, or null
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setParallelPool(ForkJoinPool pool) {
+
+        parallelPool = pool;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    resetThresholds
+     * Purpose   Restores the parallel threshold to its default value.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void resetThresholds() {
+
+        parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two limb arrays, in parallel if parallel mode is on and the
+     *               longer operand reaches the parallel threshold, else with
+     *               `addLanes` once the shorter operand has LANES_THRESHOLD limbs and
+     *               with Limbs.add below that.
+     * @param    'a'        --    (int[])  the first addend
+     * @param    'aCount'   --    (int)    the number of limbs in use in a
+     * @param    'b'        --    (int[])  the second addend
+     * @param    'bCount'   --    (int)    the number of limbs in use in b
+     * @returns  (int[]) the sum as an exactly sized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] add(int[] a, int aCount, int[] b, int bCount) {
+
+        ForkJoinPool pool = parallelPool;
+
+        if (pool != null && Math.max(aCount, bCount) >= Limbs.limbCountFor(parallelThreshold)) {
+            return addParallel(a, aCount, b, bCount, pool, CHUNK_LIMBS);
+        }
+
+        if (Math.min(aCount, bCount) >= LANES_THRESHOLD) {
+            return addLanes(a, aCount, b, bCount);
+        }
+
+        return Limbs.add(a, aCount, b, bCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addLanes
+     * Purpose   Adds two limb arrays with loops that carry nothing from one limb to
+     *               the next, so that the JIT compiler runs them several limbs per
+     *               SIMD instruction. The first loop adds the limbs pairwise, takes
+     *               BASE off every sum that reaches it and records the carry; the
+     *               carries, moved up one limb by an array copy, are added by a
+     *               second loop. The carries come from sign bits, not branches.
+     *               That is exact unless a limb at BASE - 1 receives a carry; the
+     *               second loop records if that happens, and a scalar pass then
+     *               ripples those rare carries up. The limbs of the longer operand
+     *               above the shorter one are copied after rippling in the carry.
+     * @param    'a'        --    (int[])  the first addend
+     * @param    'aCount'   --    (int)    the number of limbs in use in a
+     * @param    'b'        --    (int[])  the second addend
+     * @param    'bCount'   --    (int)    the number of limbs in use in b
+     * @returns  (int[]) the sum as an exactly sized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] addLanes(int[] a, int aCount, int[] b, int bCount) {
+
+        // Let a be the longer addend
+        if (aCount < bCount) {
+            int[] tempLimbs = a;
+            a = b;
+            b = tempLimbs;
+            int tempCount = aCount;
+            aCount = bCount;
+            bCount = tempCount;
+        }
+
+        if (bCount == 0) {
+            return Arrays.copyOf(a, aCount);
+        }
+
+        int[] sum = new int[aCount + 1];
+        int[] carries = new int[bCount];
+
+        int carry = addLanePairs(a, b, sum, carries, bCount);
+        System.arraycopy(carries, 0, carries, 1, bCount - 1);
+        carries[0] = 0;
+        int overflow = addLaneCarries(sum, carries, bCount);
+
+        // Some limb reached BASE: ripple the extra carries up
+        if (overflow < 0) {
+            int ripple = 0;
+            for (int i = 0; i < bCount; i++) {
+                int limb = sum[i] + ripple;
+                ripple = limb >= Limbs.BASE ? 1 : 0;
+                sum[i] = limb - ripple * Limbs.BASE;
+            }
+            carry += ripple;
+        }
+
+        int i = bCount;
+        for (; carry != 0 && i < aCount; i++) {
+            int limb = a[i] + carry;
+            carry = limb >= Limbs.BASE ? 1 : 0;
+            sum[i] = limb - carry * Limbs.BASE;
+        }
+        System.arraycopy(a, i, sum, i, aCount - i);
+
+        if (carry == 0) {
+            return Arrays.copyOf(sum, aCount);
+        }
+
+        sum[aCount] = carry;
+        return sum;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addLanePairs
+     * Purpose   First loop of `addLanes`: adds the limbs of a and b pairwise, takes
+     *               BASE off every sum that reaches it and stores the carry out of
+     *               every limb. (BASE - 1 - t) >> 31 is -1 exactly when t >= BASE,
+     *               else 0. Kept as a method of its own, so that the JIT compiler
+     *               vectorizes the loop.
+     * @param    'a'          --    (int[])  the first addend
+     * @param    'b'          --    (int[])  the second addend
+     * @param    'sum'        --    (int[])  the sums of the limbs, filled in
+     * @param    'carries'    --    (int[])  the carries out of the limbs, filled in
+     * @param    'count'      --    (int)    the number of limbs to add
+     * @returns  (int) the carry out of the top limb
+     * ----------------------------------------------------------------------------*/
+    private static int addLanePairs(int[] a, int[] b, int[] sum, int[] carries, int count) {
+
+        for (int i = 0; i < count; i++) {
+            int limbSum = a[i] + b[i];
+            int carryMask = (Limbs.BASE - 1 - limbSum) >> 31;
+            sum[i] = limbSum - (carryMask & Limbs.BASE);
+            carries[i] = -carryMask;
+        }
+
+        return carries[count - 1];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addLaneCarries
+     * Purpose   Second loop of `addLanes`: adds the carries, already moved up one
+     *               limb, to the sums. The result is negative if some limb reached
+     *               BASE and the carries must be rippled up.
+     * @param    'sum'        --    (int[])  the sums of the limbs, updated
+     * @param    'carries'    --    (int[])  the carries into the limbs
+     * @param    'count'      --    (int)    the number of limbs
+     * @returns  (int) a negative value if some limb reached BASE, else 0 or more
+     * ----------------------------------------------------------------------------*/
+    private static int addLaneCarries(int[] sum, int[] carries, int count) {
+
+        int overflow = 0;
+        for (int i = 0; i < count; i++) {
+            int limb = sum[i] + carries[i];
+            sum[i] = limb;
+            overflow |= Limbs.BASE - 1 - limb;
+        }
+
+        return overflow;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addParallel
+     * Purpose   Adds two limb arrays with carry-lookahead on a ForkJoinPool. The
+     *               chunks are first summed without incoming carries, the carry
+     *               states are then combined by Arrays.parallelPrefix, and the
+     *               carries are finally added into every chunk that receives one.
+     * @param    'a'            --    (int[])  the first addend
+     * @param    'aCount'       --    (int)    the number of limbs in use in a
+     * @param    'b'            --    (int[])  the second addend
+     * @param    'bCount'       --    (int)    the number of limbs in use in b
+     * @param    'pool'         --    (ForkJoinPool)  the pool to run on
+     * @param    'chunkLimbs'   --    (int)    the number of limbs per chunk
+     * @returns  (int[]) the sum as an exactly sized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] addParallel(int[] a, int aCount, int[] b, int bCount, ForkJoinPool pool, int chunkLimbs) {
+
+        // Let a be the longer addend
+        if (aCount < bCount) {
+            int[] tempLimbs = a;
+            a = b;
+            b = tempLimbs;
+            int tempCount = aCount;
+            aCount = bCount;
+            bCount = tempCount;
+        }
+
+        int[] sum = new int[aCount + 1];
+        int chunkCount = (aCount + chunkLimbs - 1) / chunkLimbs;
+        int[] states = new int[chunkCount];
+
+        pool.invoke(new AddChunkTask(a, aCount, b, bCount, sum, states, chunkLimbs, 0, chunkCount, false));
+
+        // After the scan, states[i] is GENERATE exactly when a carry leaves chunk i
+        pool.submit(() -> Arrays.parallelPrefix(states, Adder::combineStates)).join();
+
+        pool.invoke(new AddChunkTask(a, aCount, b, bCount, sum, states, chunkLimbs, 0, chunkCount, true));
+
+        if (states[chunkCount - 1] == GENERATE) {
+            sum[aCount] = 1;
+            return sum;
+        }
+
+        return Arrays.copyOf(sum, aCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    combineStates
+     * Purpose   Combines the carry states of two neighbouring runs of chunks: a
+     *               run that propagates passes on the state of the run below it.
+     *               The operation is associative, as the prefix scan requires.
+     * @param    'lower'    --    (int)  the state of the less significant run
+     * @param    'upper'    --    (int)  the state of the more significant run
+     * @returns  (int) the state of the two runs together
+     * ----------------------------------------------------------------------------*/
+    static int combineStates(int lower, int upper) {
+
+        return upper == PROPAGATE ? lower : upper;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    sumChunk
+     * Purpose   Adds one chunk of limbs without any incoming carry, and returns the
+     *               carry state of the chunk: GENERATE if a carry leaves it, else
+     *               PROPAGATE if every limb of the sum is BASE - 1, else KILL.
+     * @param    'a'        --    (int[])  the longer addend
+     * @param    'b'        --    (int[])  the shorter addend
+     * @param    'bCount'   --    (int)    the number of limbs in use in b
+     * @param    'sum'      --    (int[])  the array receiving the sum
+     * @param    'from'     --    (int)    the first limb of the chunk
+     * @param    'to'       --    (int)    one past the last limb of the chunk
+     * @returns  (int) the carry state of the chunk
+     * ----------------------------------------------------------------------------*/
+    static int sumChunk(int[] a, int[] b, int bCount, int[] sum, int from, int to) {
+
+        int carry = 0;
+        int allNines = Limbs.BASE - 1;
+        int i = from;
+
+        for (int end = Math.min(to, bCount); i < end; i++) {
+            int limbSum = a[i] + b[i] + carry;
+            carry = limbSum >= Limbs.BASE ? 1 : 0;
+            sum[i] = limbSum - carry * Limbs.BASE;
+            allNines &= sum[i] == Limbs.BASE - 1 ? -1 : 0;
+        }
+
+        for (; i < to; i++) {
+            int limbSum = a[i] + carry;
+            carry = limbSum >= Limbs.BASE ? 1 : 0;
+            sum[i] = limbSum - carry * Limbs.BASE;
+            allNines &= sum[i] == Limbs.BASE - 1 ? -1 : 0;
+        }
+
+        if (carry != 0) {
+            return GENERATE;
+        }
+        return allNines != 0 ? PROPAGATE : KILL;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    carryIntoChunk
+     * Purpose   Adds an incoming carry of 1 to a chunk of the sum. Limbs equal to
+     *               BASE - 1 wrap to 0 until one absorbs the carry.
+     * @param    'sum'      --    (int[])  the array holding the sum
+     * @param    'from'     --    (int)    the first limb of the chunk
+     * @param    'to'       --    (int)    one past the last limb of the chunk
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void carryIntoChunk(int[] sum, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (sum[i] != Limbs.BASE - 1) {
+                sum[i]++;
+                return;
+            }
+            sum[i] = 0;
+        }
+    }
+
+} /* ****************************************************************************** */
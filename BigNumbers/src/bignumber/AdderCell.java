@@ -0,0 +1,99 @@
+package bignumber;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/* ******************************************************************************
+ * Class     AdderCell
+ * Purpose   The AdderCell class is one stripe of a BigNumberAdder. It holds part
+ *               of the total as two primitives: `value`, kept below LIMIT = 10^18,
+ *               and `carries`, the number of times LIMIT has been carried out of
+ *               it, so the cell stands for carries * 10^18 + value. Additions
+ *               update `value` with a single compare-and-set; when it reaches
+ *               LIMIT the carry is moved into `carries`. The hot fields are padded
+ *               on both sides by unused longs so that two cells allocated next to
+ *               each other do not share a cache line. The class is
+ *               package-private.
+ * @attrib   'LIMIT'        --    (long)    the bound `value` is kept below, 10^18
+ * @attrib   'value'        --    (long)    the part of the total below LIMIT
+ * @attrib   'carries'      --    (long)    the number of LIMITs carried out
+ * ***************************************************************************** */
+final class AdderCell {
+
+    static final long LIMIT = (long) Limbs.BASE * Limbs.BASE;
+
+    private static final VarHandle VALUE;
+    private static final VarHandle CARRIES;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VALUE = lookup.findVarHandle(AdderCell.class, "value", long.class);
+            CARRIES = lookup.findVarHandle(AdderCell.class, "carries", long.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Padding: the fields are never read
+    long p0, p1, p2, p3, p4, p5, p6;
+    private volatile long value;
+    private volatile long carries;
+    long q0, q1, q2, q3, q4, q5, q6;
+
+    /* -----------------------------------------------------------------------------
+     * Method    tryAdd
+     * Purpose   Adds a value below LIMIT to the cell with one compare-and-set,
+     *               carrying into `carries` if `value` reaches LIMIT. Returns false,
+     *               leaving the cell unchanged, if another thread updated `value`
+     *               first.
+     * @param    'addend'      --    (long)  the value to add, 0 <= addend < LIMIT
+     * @returns  (boolean) true if the value was added
+     * ----------------------------------------------------------------------------*/
+    boolean tryAdd(long addend) {
+
+        long current = this.value;
+        long next = current + addend;
+
+        if (next < LIMIT) {
+            return VALUE.compareAndSet(this, current, next);
+        }
+
+        if (!VALUE.compareAndSet(this, current, next - LIMIT)) {
+            return false;
+        }
+        CARRIES.getAndAdd(this, 1L);
+        return true;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addCarries
+     * Purpose   Adds a number of LIMITs to the cell. Never fails.
+     * @param    'count'      --    (long)  the number of LIMITs to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void addCarries(long count) {
+
+        CARRIES.getAndAdd(this, count);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    foldInto
+     * Purpose   Adds the part of the total held by the cell to a ColumnAccumulator.
+     *               With `reset` set, the fields are swapped for 0 atomically one
+     *               at a time, so no concurrent addition is lost.
+     * @param    'accumulator'   --    (ColumnAccumulator)  the sum to add to
+     * @param    'reset'         --    (boolean)            true to zero the cell
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void foldInto(ColumnAccumulator accumulator, boolean reset) {
+
+        long low = reset ? (long) VALUE.getAndSet(this, 0L) : this.value;
+        long high = reset ? (long) CARRIES.getAndSet(this, 0L) : this.carries;
+
+        accumulator.add(low, 0);
+        accumulator.add(high, 2);
+    }
+
+} /* ****************************************************************************** */
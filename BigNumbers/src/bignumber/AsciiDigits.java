@@ -0,0 +1,97 @@
+package bignumber;
+
+/* ******************************************************************************
+ * Class     AsciiDigits
+ * Purpose   The AsciiDigits class is a read-only CharSequence view over a range of
+ *               a byte array holding ASCII text. It lets the parsing code read
+ *               numbers stored as bytes without first decoding them into a
+ *               String. Bytes outside the ASCII range are read as chars above
+ *               '\u007f', which the parsing code rejects as non-numeric. The class
+ *               is package-private.
+ * @attrib   'bytes'      --    (byte[])  the underlying bytes, not copied
+ * @attrib   'offset'     --    (int)     the index of the first byte in the view
+ * @attrib   'length'     --    (int)     the number of bytes in the view
+ * ***************************************************************************** */
+final class AsciiDigits implements CharSequence {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a view over a range of a byte array. Throws
+     *               IndexOutOfBoundsException if the range is outside the array.
+     * @param    'bytes'      --    (byte[])  the bytes to view
+     * @param    'offset'     --    (int)     the index of the first byte
+     * @param    'length'     --    (int)     the number of bytes
+     * ----------------------------------------------------------------------------*/
+    AsciiDigits(byte[] bytes, int offset, int length) {
+
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    length
+     * Purpose   Returns the number of chars in the view
+     * @param    None
+     * @returns  (int) the number of chars
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int length() {
+
+        return this.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    charAt
+     * Purpose   Returns the char at an index of the view
+     * @param    'index'      --    (int)   the index of the char
+     * @returns  (char) the byte at the index, read as an unsigned value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public char charAt(int index) {
+
+        return (char) (this.bytes[this.offset + index] & 0xff);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    subSequence
+     * Purpose   Returns a view over part of this view
+     * @param    'start'      --    (int)   the index of the first char, inclusive
+     * @param    'end'        --    (int)   the index of the last char, exclusive
+     * @returns  (CharSequence) the view over the range
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public CharSequence subSequence(int start, int end) {
+
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new AsciiDigits(this.bytes, this.offset + start, end - start);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns the chars in the view as a String
+     * @param    None
+     * @returns  (String) the chars in the view
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String toString() {
+
+        StringBuilder builder = new StringBuilder(this.length);
+        for (int i = 0; i < this.length; i++) {
+            builder.append(this.charAt(i));
+        }
+        return builder.toString();
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,191 @@
+package bignumber;
+
+import java.util.Arrays;
+
+/* ******************************************************************************
+ * Class     BarrettReducer
+ * Purpose   The BarrettReducer class reduces limb arrays modulo a fixed modulus
+ *               with Barrett reduction, in base 10^9. The quotient by the modulus
+ *               is estimated from the precomputed factor mu = BASE^(2k) / m, where
+ *               k is the number of limbs of m, with two multiplications and no
+ *               division; the estimate is at most three too small, which as many
+ *               subtractions correct. Only the half of each product that the
+ *               reduction reads is computed. Building the reducer costs one long
+ *               division, after which every reduction by the same modulus costs
+ *               two multiplications, so it pays for itself over the many
+ *               reductions of a modular exponentiation. The class is
+ *               package-private.
+ * @attrib   'modulus'        --    (int[])   the normalized modulus m
+ * @attrib   'limbCount'      --    (int)     k, the number of limbs of m
+ * @attrib   'mu'             --    (int[])   BASE^(2k) / m, rounded down
+ * ***************************************************************************** */
+final class BarrettReducer {
+
+    private final int[] modulus;
+    private final int limbCount;
+    private final int[] mu;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a BarrettReducer for a modulus, computing mu with one
+     *               division. Throws IllegalArgumentException if the modulus is 0.
+     * @param    'inModulus'     --    (int[])  the modulus as limbs
+     * ----------------------------------------------------------------------------*/
+    BarrettReducer(int[] inModulus) {
+
+        this.modulus = Multiplier.trim(inModulus);
+        if (Multiplier.isZero(this.modulus)) {
+            throw new IllegalArgumentException("The modulus must not be zero.");
+        }
+
+        this.limbCount = this.modulus.length;
+        this.mu = Divider.divideAndRemainder(power(2 * this.limbCount), this.modulus)[0];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    reduce
+     * Purpose   Returns x mod m for a value below BASE^(2k), such as the product of
+     *               two values below m. Throws IllegalArgumentException if x is
+     *               too long.
+     * @param    'x'        --    (int[])  a normalized limb array below BASE^(2k)
+     * @returns  (int[]) x mod m as a normalized limb array
+     * ----------------------------------------------------------------------------*/
+    int[] reduce(int[] x) {
+
+        if (x.length > 2 * this.limbCount) {
+            throw new IllegalArgumentException("The value is too long for Barrett reduction.");
+        }
+
+        if (Multiplier.compare(x, this.modulus) < 0) {
+            return x;
+        }
+
+        int[] quotient = this.estimateQuotient(x);
+
+        // x - quotient * m is below 4m < BASE^(k + 1), so it is exact modulo BASE^(k + 1)
+        int[] remainder = this.lowProduct(quotient);
+        long borrow = 0;
+        for (int i = 0; i <= this.limbCount; i++) {
+            long limb = (i < x.length ? x[i] : 0) - remainder[i] - borrow;
+            borrow = limb < 0 ? 1 : 0;
+            remainder[i] = (int) (limb + borrow * Limbs.BASE);
+        }
+        remainder = Multiplier.trim(remainder);
+
+        while (Multiplier.compare(remainder, this.modulus) >= 0) {
+            remainder = Multiplier.subtract(remainder, this.modulus);
+        }
+        return remainder;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    estimateQuotient
+     * Purpose   Returns (x / BASE^(k - 1)) * mu / BASE^(k + 1), at most three below
+     *               x / m. Below the Karatsuba threshold, the columns of the
+     *               product under k - 1 are never computed: together they carry
+     *               at most 1 into the result.
+     * @param    'x'        --    (int[])  a normalized limb array below BASE^(2k)
+     * @returns  (int[]) the estimated quotient
+     * ----------------------------------------------------------------------------*/
+    private int[] estimateQuotient(int[] x) {
+
+        int[] top = Multiplier.slice(x, this.limbCount - 1, x.length);
+
+        if (this.limbCount >= Limbs.limbCountFor(Multiplier.getKaratsubaThreshold())) {
+            int[] product = Multiplier.multiply(top, this.mu);
+            return Multiplier.slice(product, this.limbCount + 1, product.length);
+        }
+
+        int[] product = new int[top.length + this.mu.length];
+        for (int i = 0; i < top.length; i++) {
+            long topLimb = top[i];
+            if (topLimb == 0) {
+                continue;
+            }
+
+            long carry = 0;
+            for (int j = Math.max(0, this.limbCount - 1 - i); j < this.mu.length; j++) {
+                long t = topLimb * this.mu[j] + product[i + j] + carry;
+                carry = t / Limbs.BASE;
+                product[i + j] = (int) (t - carry * Limbs.BASE);
+            }
+            product[i + this.mu.length] = (int) carry;
+        }
+
+        return Multiplier.slice(product, this.limbCount + 1, product.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    lowProduct
+     * Purpose   Returns the low k + 1 limbs of quotient * m, computing only those
+     *               columns below the Karatsuba threshold.
+     * @param    'quotient'   --    (int[])  the estimated quotient
+     * @returns  (int[]) quotient * m mod BASE^(k + 1), in an array of k + 1 limbs
+     * ----------------------------------------------------------------------------*/
+    private int[] lowProduct(int[] quotient) {
+
+        int width = this.limbCount + 1;
+
+        if (this.limbCount >= Limbs.limbCountFor(Multiplier.getKaratsubaThreshold())) {
+            return Arrays.copyOf(Multiplier.multiply(quotient, this.modulus), width);
+        }
+
+        int[] product = new int[width];
+        for (int i = 0; i < Math.min(quotient.length, width); i++) {
+            long quotientLimb = quotient[i];
+            if (quotientLimb == 0) {
+                continue;
+            }
+
+            long carry = 0;
+            int j = 0;
+            for (; j < this.modulus.length && i + j < width; j++) {
+                long t = quotientLimb * this.modulus[j] + product[i + j] + carry;
+                carry = t / Limbs.BASE;
+                product[i + j] = (int) (t - carry * Limbs.BASE);
+            }
+            if (i + j < width) {
+                product[i + j] = (int) carry;
+            }
+        }
+
+        return product;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiply
+     * Purpose   Returns a * b mod m for two values below m.
+     * @param    'a'        --    (int[])  the first factor, below m
+     * @param    'b'        --    (int[])  the second factor, below m
+     * @returns  (int[]) the product modulo m
+     * ----------------------------------------------------------------------------*/
+    int[] multiply(int[] a, int[] b) {
+
+        return this.reduce(Multiplier.multiply(a, b));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    square
+     * Purpose   Returns a * a mod m for a value below m.
+     * @param    'a'        --    (int[])  the value to square, below m
+     * @returns  (int[]) the square modulo m
+     * ----------------------------------------------------------------------------*/
+    int[] square(int[] a) {
+
+        return this.reduce(Multiplier.square(a));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    power
+     * Purpose   Returns BASE^exponent as a limb array.
+     * @param    'exponent'     --    (int)  the power of BASE
+     * @returns  (int[]) a one followed by `exponent` zero limbs
+     * ----------------------------------------------------------------------------*/
+    private static int[] power(int exponent) {
+
+        int[] limbs = new int[exponent + 1];
+        limbs[exponent] = 1;
+        return limbs;
+    }
+
+} /* ****************************************************************************** */
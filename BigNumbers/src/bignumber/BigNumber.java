@@ -1,6 +1,11 @@
 package bignumber;
 import bignumber.linkedlist.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
 /* ******************************************************************************
  * Interface  BigNumber
  * Purpose    The BigNumber interface models a positive integer of arbitrary length,
@@ -8,10 +13,18 @@ import bignumber.linkedlist.*;
  *                a single node of a Linked List. Methods included provide the
  *                ability to left-shift or right-shift a BigNumber, to get the length
  *                or a copy of the BigNumber, as well as to add a digit to the value
- *                of the BigNumber, and to add two BigNumbers together. The interface
- *                extends Comparable<BigNumber> and overrides the `compareTo` method
- *                for the class. It also overrides the `toString` and `equals` methods.
- *                BigNumber is implemented by the BigNumberImpl concrete class.
+ *                of the BigNumber, to add, multiply or divide two BigNumbers, and to
+ *                raise a BigNumber to a power, optionally modulo another. The
+ *                interface extends Comparable<BigNumber> and overrides the `compareTo`
+ *                method for the class. It also overrides the `toString`, `equals` and
+ *                `hashCode` methods. BigNumber is implemented by the BigNumberImpl concrete
+ *                class, by the PackedBigNumberImpl concrete class, which stores its
+ *                digits in a primitive array instead of a Linked List, and by the
+ *                OffHeapBigNumberImpl concrete class, which stores them outside the
+ *                Java heap. A BigNumber can be saved in a compact binary file with
+ *                `writeTo(Path)` and mapped back, without parsing, by `mapFromFile`.
+ *                Equal values can share a single ImmutableBigNumberImpl through
+ *                `intern`.
  * ***************************************************************************** */
 public interface BigNumber extends Comparable<BigNumber> {
 
@@ -88,6 +101,83 @@ public interface BigNumber extends Comparable<BigNumber> {
      * ----------------------------------------------------------------------------*/
     BigNumber add(BigNumber other);
 
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Adds another BigNumber to this one, changing the value of this
+     *               BigNumber instead of returning a new object. Throws
+     *               IllegalArgumentException if the argument is null.
+     * @param    'other'      --      (BigNumber)   the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void addInPlace(BigNumber other);
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiply
+     * Purpose   Multiplies two BigNumbers together and returns the value as a new
+     *               BigNumber object. Schoolbook multiplication is used for short
+     *               operands, and Karatsuba, Toom-Cook 3 or NTT multiplication above
+     *               the digit-count thresholds set in the Multiplier class.
+     * @param    'other'      --      (BigNumber)   the second factor
+     * @returns  (BigNumber) the product of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    BigNumber multiply(BigNumber other);
+
+    /* -----------------------------------------------------------------------------
+     * Method    divide
+     * Purpose   Divides this BigNumber by another and returns the integer quotient,
+     *               rounded down, as a new BigNumber object. Throws
+     *               IllegalArgumentException if the divisor is 0.
+     * @param    'other'      --      (BigNumber)   the divisor
+     * @returns  (BigNumber) the quotient of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    BigNumber divide(BigNumber other);
+
+    /* -----------------------------------------------------------------------------
+     * Method    remainder
+     * Purpose   Divides this BigNumber by another and returns the remainder as a
+     *               new BigNumber object. Throws IllegalArgumentException if the
+     *               divisor is 0.
+     * @param    'other'      --      (BigNumber)   the divisor
+     * @returns  (BigNumber) the remainder of the division
+     * ----------------------------------------------------------------------------*/
+    BigNumber remainder(BigNumber other);
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideAndRemainder
+     * Purpose   Divides this BigNumber by another and returns both the quotient and
+     *               the remainder, computed in a single division. Schoolbook long
+     *               division is used for short divisors, and Burnikel-Ziegler
+     *               recursive division above the threshold set in the Divider class.
+     *               Throws IllegalArgumentException if the divisor is 0.
+     * @param    'other'      --      (BigNumber)   the divisor
+     * @returns  (BigNumber[]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    BigNumber[] divideAndRemainder(BigNumber other);
+
+    /* -----------------------------------------------------------------------------
+     * Method    pow
+     * Purpose   Raises this BigNumber to a power and returns the value as a new
+     *               BigNumber object, by binary exponentiation with the squaring
+     *               algorithms of the Multiplier class. Any value to the power 0 is
+     *               1. Throws IllegalArgumentException if the exponent is negative.
+     * @param    'exponent'      --      (int)   the exponent
+     * @returns  (BigNumber) this BigNumber to the power of exponent
+     * ----------------------------------------------------------------------------*/
+    BigNumber pow(int exponent);
+
+    /* -----------------------------------------------------------------------------
+     * Method    modPow
+     * Purpose   Returns this BigNumber to the power of exponent, modulo modulus, as
+     *               a new BigNumber object, without ever building the full power:
+     *               the exponent is scanned with a sliding window and every product
+     *               is reduced by Barrett reduction. Throws IllegalArgumentException
+     *               if an argument is null or the modulus is 0.
+     * @param    'exponent'      --      (BigNumber)   the exponent
+     * @param    'modulus'       --      (BigNumber)   the modulus
+     * @returns  (BigNumber) this BigNumber to the power of exponent, modulo modulus
+     * ----------------------------------------------------------------------------*/
+    BigNumber modPow(BigNumber exponent, BigNumber modulus);
+
     /* -----------------------------------------------------------------------------
      * Method    getDigitList
      * Purpose   Returns the digitList.
@@ -117,19 +207,106 @@ public interface BigNumber extends Comparable<BigNumber> {
 
     /* -----------------------------------------------------------------------------
      * Method    equals
-     * Purpose   Returns true if BigNumbers are equal. Else, returns false.
-     *               Throws IllegalArgumentException when argument is null or not a
-     *               BigNumberImpl object.
+     * Purpose   Returns true if BigNumbers are equal. Else, returns false. Any
+     *               BigNumber implementation may be compared. Throws
+     *               IllegalArgumentException when argument is null or not a
+     *               BigNumber object.
      * @param    'obj'     --    (Object)   a comparator against this BigNumber
      * @returns  (boolean) true if two BigNumbers are equal; false if not equal
      * ----------------------------------------------------------------------------*/
     @Override
     public boolean equals(Object obj);
 
+    /* -----------------------------------------------------------------------------
+     * Method    hashCode
+     * Purpose   Returns the hash code of the BigNumber, which is the hash code of
+     *               its `toString` and so the same for equal BigNumbers of any
+     *               implementation. Implementations cache it until their value
+     *               changes.
+     * @param    None
+     * @returns  (int) the hash code of the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int hashCode();
+
+    /* -----------------------------------------------------------------------------
+     * Method    digits
+     * Purpose   Returns a sequential IntStream of the digits of the BigNumber, from
+     *               the least significant, in the order of `getDigitAt`. The stream
+     *               splits evenly for `parallel` use. The BigNumber must not be
+     *               changed until the stream has been consumed.
+     * @param    None
+     * @returns  (IntStream) the digits, least significant first
+     * ----------------------------------------------------------------------------*/
+    IntStream digits();
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the decimal digits of the BigNumber, most significant first,
+     *               to an Appendable in a single linear pass. The Appendable is not
+     *               flushed or closed.
+     * @param    'out'      --      (Appendable)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void writeTo(Appendable out) throws IOException;
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the decimal digits of the BigNumber, most significant first,
+     *               to an OutputStream as ASCII bytes in a single linear pass. The
+     *               stream is flushed but not closed.
+     * @param    'out'      --      (OutputStream)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void writeTo(OutputStream out) throws IOException;
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the BigNumber to a file as base-10^9 limbs behind a header
+     *               holding its length and a CRC-32 checksum (see the BigNumberFile
+     *               class), replacing any existing file. The file can be read back
+     *               with `mapFromFile`.
+     * @param    'file'     --      (Path)   the file to write
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void writeTo(Path file) throws IOException;
+
+    /* -----------------------------------------------------------------------------
+     * Method    intern
+     * Purpose   Returns the canonical instance of the value of this BigNumber from
+     *               the shared BigNumberInternPool: an ImmutableBigNumberImpl that is
+     *               the same object for every equal BigNumber interned while it is
+     *               still in use. Holding the canonical instance instead of this one
+     *               lets duplicate values share their digits.
+     * @param    None
+     * @returns  (BigNumber) the canonical ImmutableBigNumberImpl of the value
+     * ----------------------------------------------------------------------------*/
+    default BigNumber intern() {
+
+        return BigNumberInternPool.shared().intern(this);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    mapFromFile
+     * Purpose   Memory-maps a file written by `writeTo(Path)` and returns a
+     *               read-only BigNumber over it. Only the header is read up front;
+     *               the digits are read from the mapping as they are used, so the
+     *               time taken does not depend on the length of the number. The
+     *               checksum is not verified here; see
+     *               `MappedBigNumberImpl.map(Path, boolean)`. Throws IOException if
+     *               the file cannot be read or is not a BigNumber file.
+     * @param    'file'     --      (Path)   the file to map
+     * @returns  (BigNumber) a read-only MappedBigNumberImpl over the file
+     * ----------------------------------------------------------------------------*/
+    static BigNumber mapFromFile(Path file) throws IOException {
+
+        return MappedBigNumberImpl.map(file, false);
+    }
+
     /* -----------------------------------------------------------------------------
      * Method    toString
-     * Purpose   Returns String representation of the BigNumber. Calls relevant
-     *               method in MyListImpl class.
+     * Purpose   Returns String representation of the BigNumber, as written by
+     *               `writeTo(Appendable)`.
      * @param    None
      * @returns  (String) String representation of the BigNumber
      * ----------------------------------------------------------------------------*/
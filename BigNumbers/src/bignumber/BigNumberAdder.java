@@ -0,0 +1,236 @@
+package bignumber;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/* ******************************************************************************
+ * Class     BigNumberAdder
+ * Purpose   The BigNumberAdder class keeps a running total that many threads add
+ *               to at once, in the manner of java.util.concurrent.atomic.LongAdder.
+ *               No lock is taken. The total is spread over a table of AdderCells,
+ *               one power of two of them per available processor; each thread
+ *               adds to the cell its probe points at, with a single
+ *               compare-and-set on a long and a primitive carry. A thread whose
+ *               compare-and-set fails moves its probe to another cell, so threads
+ *               that collide spread out. Values of more than MAX_CELL_DIGITS
+ *               digits go to `base` instead, a PersistentBigNumberImpl swapped by
+ *               compare-and-set; the sum shares the unchanged segments of the old
+ *               base. The exact BigNumber is only built by `sum`, which folds the
+ *               base and the cells with a ColumnAccumulator. As with LongAdder,
+ *               `sum` is exact when no addition is under way, but is not a
+ *               snapshot of one instant while other threads keep adding.
+ * @attrib   'MAX_CELL_DIGITS'   --    (int)           the longest value added to a cell
+ * @attrib   'PROBES'            --    (ThreadLocal<int[]>)  the cell probe of each thread
+ * @attrib   'cells'             --    (AdderCell[])   the stripes of the total
+ * @attrib   'base'              --    (AtomicReference<PersistentBigNumberImpl>)
+ *                                                       the part of the total added
+ *                                                       in values of more than
+ *                                                       MAX_CELL_DIGITS digits
+ * ***************************************************************************** */
+public final class BigNumberAdder {
+
+    static final int MAX_CELL_DIGITS = 18;
+
+    private static final ThreadLocal<int[]> PROBES = ThreadLocal.withInitial(
+            () -> new int[] {(int) (Thread.currentThread().getId() * 0x9E3779B9L) | 1});
+
+    private final AdderCell[] cells;
+    private final AtomicReference<PersistentBigNumberImpl> base;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a BigNumberAdder with a total of 0 and a cell table sized
+     *               to the number of available processors.
+     * ----------------------------------------------------------------------------*/
+    public BigNumberAdder() {
+
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a BigNumberAdder with a total of 0 and at least the given
+     *               number of cells, rounded up to a power of two. Throws
+     *               IllegalArgumentException if the count is not between 1 and 65536.
+     * @param    'inCellCount'     --    (int)  the least number of cells
+     * ----------------------------------------------------------------------------*/
+    public BigNumberAdder(int inCellCount) {
+
+        if (inCellCount < 1 || inCellCount > 1 << 16) {
+            throw new IllegalArgumentException("The cell count must be between 1 and 65536.");
+        }
+
+        int size = Integer.highestOneBit(inCellCount);
+        if (size < inCellCount) {
+            size <<= 1;
+        }
+
+        this.cells = new AdderCell[size];
+        for (int i = 0; i < size; i++) {
+            this.cells[i] = new AdderCell();
+        }
+        this.base = new AtomicReference<>(new PersistentBigNumberImpl("0"));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds a non-negative long to the total. Throws
+     *               IllegalArgumentException if the value is negative.
+     * @param    'value'      --    (long)  the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public void add(long value) {
+
+        if (value < 0) {
+            throw new IllegalArgumentException("The addend must not be negative.");
+        }
+
+        this.addToCell(value / AdderCell.LIMIT, value % AdderCell.LIMIT);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds a BigNumber to the total. A value of at most MAX_CELL_DIGITS
+     *               digits is added to a cell; a longer one is added to the base.
+     *               Throws IllegalArgumentException if the BigNumber is null.
+     * @param    'number'      --    (BigNumber)  the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public void add(BigNumber number) {
+
+        if (number == null) {
+            throw new IllegalArgumentException("The addend must not be null.");
+        }
+
+        if (number.length() <= MAX_CELL_DIGITS) {
+            int[] limbs = Limbs.toLimbs(number);
+            long low = limbs[0] + (limbs.length > 1 ? (long) limbs[1] * Limbs.BASE : 0L);
+            this.addToCell(0L, low);
+            return;
+        }
+
+        // The addend is copied once, so the retries never see it change
+        PersistentBigNumberImpl addend = PersistentBigNumberImpl.of(number);
+        this.base.accumulateAndGet(addend, (total, x) -> (PersistentBigNumberImpl) total.add(x));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    increment
+     * Purpose   Adds 1 to the total.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public void increment() {
+
+        this.addToCell(0L, 1L);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    sum
+     * Purpose   Returns the total. The cells and the base are read in turn without
+     *               stopping other threads: additions made during the call may or
+     *               may not be counted.
+     * @param    None
+     * @returns  (BigNumber) the total, as a new PackedBigNumberImpl
+     * ----------------------------------------------------------------------------*/
+    public BigNumber sum() {
+
+        return this.fold(false);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    sumThenReset
+     * Purpose   Returns the total and sets it to 0. Each cell and the base are
+     *               swapped for 0 atomically, so an addition made during the call
+     *               is counted either in the result or in the new total.
+     * @param    None
+     * @returns  (BigNumber) the total before the reset, as a new PackedBigNumberImpl
+     * ----------------------------------------------------------------------------*/
+    public BigNumber sumThenReset() {
+
+        return this.fold(true);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    reset
+     * Purpose   Sets the total to 0. Only exact when no addition is under way.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public void reset() {
+
+        this.fold(true);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getCellCount
+     * Purpose   Returns the number of cells the total is spread over.
+     * @param    None
+     * @returns  (int) the number of cells
+     * ----------------------------------------------------------------------------*/
+    public int getCellCount() {
+
+        return this.cells.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns the digits of the current total.
+     * @param    None
+     * @returns  (String) the result of `sum().toString()`
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String toString() {
+
+        return this.sum().toString();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addToCell
+     * Purpose   Adds carries * 10^18 + low to the cell of the calling thread,
+     *               moving the probe of the thread to another cell each time the
+     *               compare-and-set loses to another thread.
+     * @param    'carries'      --    (long)  the number of 10^18 to add
+     * @param    'low'          --    (long)  the value below 10^18 to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void addToCell(long carries, long low) {
+
+        int[] probe = PROBES.get();
+        int mask = this.cells.length - 1;
+
+        AdderCell cell = this.cells[probe[0] & mask];
+        while (!cell.tryAdd(low)) {
+            // Xorshift step, as in the probes of java.util.concurrent
+            int next = probe[0];
+            next ^= next << 13;
+            next ^= next >>> 17;
+            next ^= next << 5;
+            probe[0] = next;
+            cell = this.cells[next & mask];
+        }
+
+        if (carries != 0) {
+            cell.addCarries(carries);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fold
+     * Purpose   Adds the base and every cell into a ColumnAccumulator, optionally
+     *               zeroing each as it is read.
+     * @param    'reset'      --    (boolean)  true to set the total to 0
+     * @returns  (BigNumber) the folded total
+     * ----------------------------------------------------------------------------*/
+    private BigNumber fold(boolean reset) {
+
+        ColumnAccumulator accumulator = new ColumnAccumulator();
+
+        accumulator.add(reset ? this.base.getAndSet(new PersistentBigNumberImpl("0")) : this.base.get());
+        for (AdderCell cell : this.cells) {
+            cell.foldInto(accumulator, reset);
+        }
+
+        return accumulator.toBigNumber();
+    }
+
+} /* ****************************************************************************** */
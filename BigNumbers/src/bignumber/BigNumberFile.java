@@ -0,0 +1,188 @@
+package bignumber;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/* ******************************************************************************
+ * Class     BigNumberFile
+ * Purpose   The BigNumberFile class defines the binary file format written by
+ *               `BigNumber.writeTo(Path)` and read by `BigNumber.mapFromFile`. A
+ *               file is a fixed header followed by the base-10^9 limbs of the
+ *               number, least significant first, each as a little-endian 32-bit
+ *               int. All header fields are little-endian:
+ *                   offset  0   int    MAGIC
+ *                   offset  4   int    VERSION
+ *                   offset  8   int    the number of decimal digits
+ *                   offset 12   int    the number of limbs
+ *                   offset 16   long   the CRC-32 of the limb bytes
+ *               The class is package-private and cannot be instantiated.
+ * @attrib   'MAGIC'          --    (int)   the first four bytes of every file, "BGNM"
+ * @attrib   'VERSION'        --    (int)   the version of the format
+ * @attrib   'HEADER_BYTES'   --    (int)   the size of the header
+ * ***************************************************************************** */
+final class BigNumberFile {
+
+    static final int MAGIC = 0x4D4E4742;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+
+    static final int DIGIT_COUNT_OFFSET = 8;
+    static final int LIMB_COUNT_OFFSET = 12;
+    static final int CHECKSUM_OFFSET = 16;
+
+    private static final int CHUNK_BYTES = 1 << 16;
+
+    private BigNumberFile() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    write
+     * Purpose   Writes a normalized limb array to a file in this format, replacing
+     *               any existing file. The limbs are streamed through a fixed-size
+     *               buffer while their checksum is computed, and the header is
+     *               written last.
+     * @param    'path'     --    (Path)       the file to write
+     * @param    'limbs'    --    (IntBuffer)  the limbs, on or off the heap
+     * @param    'count'    --    (int)        the number of limbs in use
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void write(Path path, IntBuffer limbs, int count) throws IOException {
+
+        if (path == null) {
+            throw new IllegalArgumentException("The path must not be null.");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 checksum = new CRC32();
+            channel.position(HEADER_BYTES);
+
+            for (int i = 0; i < count; i++) {
+                if (chunk.remaining() < Integer.BYTES) {
+                    writeChunk(channel, chunk, checksum);
+                }
+                chunk.putInt(limbs.get(i));
+            }
+            writeChunk(channel, chunk, checksum);
+
+            int digitCount = (count - 1) * Limbs.BASE_DIGITS + Limbs.digitsIn(limbs.get(count - 1));
+            writeFully(channel, header(digitCount, count, checksum.getValue()), 0);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    readHeader
+     * Purpose   Reads the header of a BigNumber file and checks its magic number,
+     *               its version and that the limb count matches the file size.
+     *               Throws IOException if the file is not a valid BigNumber file.
+     * @param    'channel'    --    (FileChannel)  the open file
+     * @param    'path'       --    (Path)         the file, for error messages
+     * @returns  (ByteBuffer) the little-endian header, read with absolute gets
+     * ----------------------------------------------------------------------------*/
+    static ByteBuffer readHeader(FileChannel channel, Path path) throws IOException {
+
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (size < HEADER_BYTES) {
+            throw new IOException("Not a BigNumber file: " + path);
+        }
+
+        readFully(channel, header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a BigNumber file: " + path);
+        }
+
+        int limbCount = header.getInt(LIMB_COUNT_OFFSET);
+        if (limbCount < 1 || (long) limbCount * Integer.BYTES != size - HEADER_BYTES) {
+            throw new IOException("The BigNumber file is truncated or has trailing bytes: " + path);
+        }
+
+        return header;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    header
+     * Purpose   Returns a header for the given counts and checksum, ready to write.
+     * @param    'digitCount'   --    (int)   the number of decimal digits
+     * @param    'limbCount'    --    (int)   the number of limbs
+     * @param    'checksum'     --    (long)  the CRC-32 of the limb bytes
+     * @returns  (ByteBuffer) the little-endian header, flipped for reading
+     * ----------------------------------------------------------------------------*/
+    static ByteBuffer header(int digitCount, int limbCount, long checksum) {
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(digitCount)
+                .putInt(limbCount)
+                .putLong(checksum)
+                .flip();
+        return header;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    readFully
+     * Purpose   Fills the remaining space of a buffer from a channel, starting at
+     *               the given file position. Throws EOFException if the file ends
+     *               first.
+     * @param    'channel'     --    (FileChannel)  the file to read
+     * @param    'buffer'      --    (ByteBuffer)   the buffer to fill
+     * @param    'position'    --    (long)         the file position to read from
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of BigNumber file.");
+            }
+            position += read;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeFully
+     * Purpose   Writes the remaining bytes of a buffer to a channel, starting at the
+     *               given file position.
+     * @param    'channel'     --    (FileChannel)  the file to write
+     * @param    'buffer'      --    (ByteBuffer)   the bytes to write
+     * @param    'position'    --    (long)         the file position to write at
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeChunk
+     * Purpose   Adds the filled part of a chunk to the checksum, writes it to the
+     *               channel at its current position and clears the chunk.
+     * @param    'channel'    --    (FileChannel)  the file being written
+     * @param    'chunk'      --    (ByteBuffer)   the chunk, in write mode
+     * @param    'checksum'   --    (CRC32)        the running checksum
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private static void writeChunk(FileChannel channel, ByteBuffer chunk, CRC32 checksum) throws IOException {
+
+        chunk.flip();
+        checksum.update(chunk.duplicate());
+        while (chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+
+} /* ****************************************************************************** */
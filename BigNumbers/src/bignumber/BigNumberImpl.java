@@ -1,7 +1,11 @@
 package bignumber;
 import bignumber.linkedlist.*;
 
-import java.util.Objects;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /* ******************************************************************************
  * Class     BigNumberImpl
@@ -15,12 +19,35 @@ import java.util.Objects;
  *               the number, and to return the digit at a certain position in the number.
  *               Methods are also implemented to add a digit to the value of the BigNumber,
  *               and to add two BigNumbers together. `toString`, `equals`, and `compareTo`
- *               have also been implemented.
+ *               have also been implemented. Multiplication is inherited from
+ *               AbstractBigNumber. Trailing zeroes added by `shiftLeft` are not
+ *               stored as Nodes but counted in the scale, so that shifts take O(1)
+ *               time; they are only inserted into the digitList when a digit
+ *               below the scale is changed or the digitList itself is requested.
+ *               `copy` shares the digitList with the copy instead of duplicating
+ *               it; whichever of the two is mutated first takes its own copy of
+ *               the digits it keeps (copy-on-write). The MyList implementation
+ *               is chosen by a list factory passed to the constructor: MyListImpl
+ *               by default, or for instance SkipListImpl for O(log n) access to
+ *               any digit. Every BigNumberImpl derived from this one (sums,
+ *               products, copies) uses the same factory.
+ * @attrib   'listFactory'    --    (Supplier<MyList>)  creates the empty Lists for digits
  * @attrib   'digitList'      --    (MyList)    a List containing the digits of the number
+ * @attrib   'scale'          --    (int)       the number of implicit trailing zeroes
+ *                                                below the Head of the digitList
+ * @attrib   'shared'         --    (boolean)   true if the digitList may also be held
+ *                                                by a copy, and must not be mutated
+ * @attrib   'exposed'        --    (boolean)   true if the digitList was handed out by
+ *                                                `getDigitList` or `setDigitList`, so
+ *                                                the caller may still change it
  * ***************************************************************************** */
-public class BigNumberImpl implements BigNumber {
+public class BigNumberImpl extends AbstractBigNumber {
 
+    private final Supplier<MyList> listFactory;
     private MyList digitList;
+    private int scale;
+    private boolean shared;
+    private boolean exposed;
 
     /* -----------------------------------------------------------------------------
      * Method    Constructor
@@ -30,47 +57,162 @@ public class BigNumberImpl implements BigNumber {
      * ----------------------------------------------------------------------------*/
     public BigNumberImpl() {
 
-        this.digitList = new MyListImpl();
+        this(MyListImpl::new);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a BigNumberImpl object with the value 0, whose digits are
+     *               stored in Lists created by the given factory. Throws
+     *               IllegalArgumentException if the factory is null.
+     * @param    'inListFactory'     --    (Supplier<MyList>)  creates empty digit Lists
+     * ----------------------------------------------------------------------------*/
+    public BigNumberImpl(Supplier<MyList> inListFactory) {
+
+        if (inListFactory == null) {
+            throw new IllegalArgumentException("The list factory must not be null.");
+        }
+
+        this.listFactory = inListFactory;
+        this.digitList = inListFactory.get();
         this.digitList.insertRear(0);
     }
 
     /* -----------------------------------------------------------------------------
      * Method    Constructor
      * Purpose   Creates a BigNumberImpl object from a number represented as a String.
-     *               Reads the String one char at a time into the digitList. throws
+     *               Reads the String in a single pass with `parseDigitList`. Throws
      *               NumberFormatException if a negative integer or non-numeric char
-     *               is encountered. Also checks for and removes leading zeroes.
+     *               is encountered. Leading zeroes are skipped, and an empty String
+     *               is read as 0.
      * @param    'numberAsString'     --    (String)  a String representing a number.
      * ----------------------------------------------------------------------------*/
     public BigNumberImpl(String numberAsString) {
 
-        this.digitList = new MyListImpl();
+        this(numberAsString, MyListImpl::new);
+    }
 
-        // If empty String, initialize value to 0.
-        if (Objects.equals(numberAsString, "")) {
-            this.digitList.insertRear(0);
-            return;
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a BigNumberImpl object from a number represented as a
+     *               String, whose digits are stored in Lists created by the given
+     *               factory. Throws NumberFormatException as the String constructor
+     *               does, and IllegalArgumentException if the factory is null.
+     * @param    'numberAsString'    --    (String)            a String representing a number.
+     * @param    'inListFactory'     --    (Supplier<MyList>)  creates empty digit Lists
+     * ----------------------------------------------------------------------------*/
+    public BigNumberImpl(String numberAsString, Supplier<MyList> inListFactory) {
+
+        if (inListFactory == null) {
+            throw new IllegalArgumentException("The list factory must not be null.");
         }
 
-        char currChar;
+        this.listFactory = inListFactory;
+        this.digitList = parseDigitList(numberAsString, inListFactory.get());
+    }
 
-        // For every char in String, insertFront. If any char is non-numeric, throw exception
-        for (int i = 0; i < numberAsString.length(); i++) {
-            currChar = numberAsString.charAt(i);
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a BigNumberImpl from a sequence of decimal digits, most
+     *               significant first. Throws NumberFormatException if a non-numeric
+     *               char is encountered, and IllegalArgumentException if the digits
+     *               are null. Leading zeroes are skipped, and an empty sequence is
+     *               read as 0.
+     * @param    'digits'     --    (CharSequence)  the digits of the number
+     * @returns  (BigNumberImpl) a new BigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static BigNumberImpl parse(CharSequence digits) {
 
-            if (currChar < '0' || currChar > '9') {
-                throw new NumberFormatException("The String must represent a valid non-negative integer.");
-            }
+        if (digits == null) {
+            throw new IllegalArgumentException("The digits must not be null.");
+        }
+
+        BigNumberImpl newNumber = new BigNumberImpl();
+        newNumber.replaceDigitList(parseDigitList(digits, new MyListImpl()));
+        return newNumber;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a BigNumberImpl from an array of ASCII decimal digits, most
+     *               significant first, without decoding it into a String.
+     * @param    'digits'     --    (byte[])  the ASCII digits of the number
+     * @returns  (BigNumberImpl) a new BigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static BigNumberImpl parse(byte[] digits) {
+
+        if (digits == null) {
+            throw new IllegalArgumentException("The digits must not be null.");
+        }
+
+        return parse(digits, 0, digits.length);
+    }
 
-            this.digitList.insertFront(currChar - '0');
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a BigNumberImpl from a range of an array of ASCII decimal
+     *               digits, most significant first. Throws IndexOutOfBoundsException
+     *               if the range is outside the array.
+     * @param    'digits'     --    (byte[])  the ASCII digits of the number
+     * @param    'offset'     --    (int)     the index of the first digit
+     * @param    'length'     --    (int)     the number of digits
+     * @returns  (BigNumberImpl) a new BigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static BigNumberImpl parse(byte[] digits, int offset, int length) {
+
+        if (digits == null) {
+            throw new IllegalArgumentException("The digits must not be null.");
         }
 
-        // Delete leading zeroes if applicable
-        int tailIndex = this.length() - 1;
-        while (this.length() > 1 && this.getDigitAt(tailIndex) == 0) {
-            this.digitList.remove(tailIndex);
-            tailIndex--;
+        return parse(new AsciiDigits(digits, offset, length));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a BigNumberImpl from every remaining char of a Reader. The
+     *               Reader is not closed.
+     * @param    'reader'     --    (Reader)  the source of the digits
+     * @returns  (BigNumberImpl) a new BigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static BigNumberImpl parse(Reader reader) throws IOException {
+
+        if (reader == null) {
+            throw new IllegalArgumentException("The reader must not be null.");
         }
+
+        return parse(Limbs.readAll(reader));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    parseDigitList
+     * Purpose   Reads a sequence of decimal digits into an empty digitList in a
+     *               single pass. Leading zeroes are checked and skipped before any Node is
+     *               allocated, and each remaining digit is inserted at the Head, so
+     *               that the last char read ends up as the least significant digit.
+     * @param    'digits'          --    (CharSequence)  the digits, most significant first
+     * @param    'newDigitList'    --    (MyList)        the empty List to fill
+     * @returns  (MyList) the digits, least significant digit at the Head
+     * ----------------------------------------------------------------------------*/
+    private static MyList parseDigitList(CharSequence digits, MyList newDigitList) {
+
+        int end = digits.length();
+        int start = 0;
+
+        // Skip leading zeroes, keeping the last one if every char is 0
+        while (start < end - 1 && digits.charAt(start) == '0') {
+            start++;
+        }
+
+        for (int i = start; i < end; i++) {
+            newDigitList.insertFront(Limbs.checkDigitChar(digits.charAt(i)));
+        }
+
+        // If empty, initialize value to 0.
+        if (newDigitList.size() == 0) {
+            newDigitList.insertRear(0);
+        }
+
+        return newDigitList;
     }
 
     /* -----------------------------------------------------------------------------
@@ -82,14 +224,15 @@ public class BigNumberImpl implements BigNumber {
     @Override
     public int length() {
 
-        return this.digitList.size();
+        return this.digitList.size() + this.scale;
     }
 
     /* -----------------------------------------------------------------------------
      * Method    shiftLeft
      * Purpose   Left-shift BigNumber by one position. Equivalent to multiplying by 10.
      *               If called with negative numOfShifts, calls shiftRight with positive
-     *               numOfShifts instead.
+     *               numOfShifts instead. Runs in O(1) by increasing the scale. Throws
+     *               IllegalArgumentException if the length would overflow an int.
      * @param    'numOfShifts'      --      (int)   the number of times to left-shift
      * @returns  None
      * ----------------------------------------------------------------------------*/
@@ -111,17 +254,22 @@ public class BigNumberImpl implements BigNumber {
             return;
         }
 
-        // General case
-        for (int i = 0; i < numOfShifts; i++) {
-            this.digitList.insertFront(0);
+        if (numOfShifts > Integer.MAX_VALUE - this.length()) {
+            throw new IllegalArgumentException("The shifted BigNumber would be too long.");
         }
+
+        // General case: the new zeroes are only counted in the scale
+        this.shiftHash(numOfShifts);
+        this.scale += numOfShifts;
     }
 
     /* -----------------------------------------------------------------------------
      * Method    shiftRight
      * Purpose   Right-shift BigNumber by one position. Equivalent to div 10.
      *               If called with negative numOfShifts, calls shiftLeft with positive
-     *               numOfShifts instead.
+     *               numOfShifts instead. Zeroes counted in the scale are dropped in
+     *               O(1); only stored digits below them are removed one by one. A
+     *               digitList dropped whole is returned to the NodePool.
      * @param    'numOfShifts'      --      (int)   the number of times to right-shift
      * @returns  None
      * ----------------------------------------------------------------------------*/
@@ -143,14 +291,32 @@ public class BigNumberImpl implements BigNumber {
             return;
         }
 
-        // If numOfShifts is greater than length,
-        // set to length and insert extra Node with value 0
+        // If numOfShifts is greater than length, the value becomes 0
         if (numOfShifts >= this.length()) {
-            numOfShifts = this.length();
-            this.digitList.insertRear(0);
+            this.invalidateHash();
+            MyList zero = this.listFactory.get();
+            zero.insertRear(0);
+            this.replaceDigitList(zero);
+            return;
+        }
+
+        // Drop implicit zeroes first, then stored digits from the Head
+        if (numOfShifts <= this.scale) {
+            this.shiftHash(-numOfShifts);
+            this.scale -= numOfShifts;
+            return;
+        }
+
+        this.invalidateHash();
+        numOfShifts -= this.scale;
+        this.scale = 0;
+
+        // A shared digitList is not changed; only the digits kept are copied
+        if (this.shared) {
+            this.replaceDigitList(this.digitList.subList(numOfShifts, this.digitList.size() - 1));
+            return;
         }
 
-        // General case
         for (int i = 0; i < numOfShifts; i++) {
             this.digitList.remove(0);
         }
@@ -159,7 +325,8 @@ public class BigNumberImpl implements BigNumber {
     /* -----------------------------------------------------------------------------
      * Method    addDigit
      * Purpose   Add to BigNumber the value of a single digit. Throws IllegalArgumentException
-     *               if argument is not a valid digit.
+     *               if argument is not a valid digit. Walks the digitList once with
+     *               a cursor, stopping as soon as there is nothing left to carry.
      * @param    'inDigit'      --      (int)   the value to add to the BigNumber
      * @returns  None
      * ----------------------------------------------------------------------------*/
@@ -170,41 +337,40 @@ public class BigNumberImpl implements BigNumber {
             throw new IllegalArgumentException("The addend must be a single non-negative digit.");
         }
 
-        int currIndex = 0;
+        if (inDigit == 0) {
+            return;
+        }
+
+        this.invalidateHash();
+        this.materializeScale();
+        this.unshareDigitList();
+        MyListCursor cursor = this.digitList.cursorAtHead();
         int currDigitValue = inDigit;
-        boolean carry = true;
 
-        // While carry flag is true
-        while (carry) {
+        // While there is still a value to carry
+        while (currDigitValue > 0) {
 
-            // If no more Nodes and the carry flag is still true,
+            // If no more Nodes and there is still a carry,
             // insert new Node at Rear to hold the 1
-            if (currIndex == this.length()) {
-                this.digitList.insertRear(1);
-                carry = false;
+            if (!cursor.hasNext()) {
+                this.digitList.insertRear(currDigitValue);
+                return;
             }
 
-            // Else, if currIndex < this.length()
-            else {
-                // Get carry + current index value
-                currDigitValue += this.getDigitAt(currIndex);
-
-                // If total value is single digit, then just set value
-                // to this Node and end loop
-                if (currDigitValue <= 9) {
-                    this.digitList.set(currIndex, currDigitValue);
-                    carry = false;
-                }
+            // Get carry + current digit value
+            currDigitValue += cursor.next();
 
-                // Else, if total value is two digits, set value of
-                // current Node and carry 1 to next Node
-                else {
-                    currDigitValue -= 10;
-                    this.digitList.set(currIndex, currDigitValue);
-                    currDigitValue = 1;
-                    currIndex++;
-                }
+            // If total value is single digit, then just set value
+            // to this Node and end loop
+            if (currDigitValue <= 9) {
+                cursor.set(currDigitValue);
+                return;
             }
+
+            // Else, if total value is two digits, set value of
+            // current Node and carry 1 to next Node
+            cursor.set(currDigitValue - 10);
+            currDigitValue = 1;
         }
     }
 
@@ -222,7 +388,11 @@ public class BigNumberImpl implements BigNumber {
             throw new IllegalArgumentException("Invalid position passed.");
         }
 
-        return this.digitList.get(position);
+        if (position < this.scale) {
+            return 0;
+        }
+
+        return this.digitList.get(position - this.scale);
     }
 
     /* -----------------------------------------------------------------------------
@@ -240,21 +410,45 @@ public class BigNumberImpl implements BigNumber {
             throw new IllegalArgumentException("Invalid position passed.");
         }
 
-        this.digitList.set(position, inDigit);
+        // Setting an implicit zero to 0 changes nothing
+        if (position < this.scale) {
+            if (inDigit == 0) {
+                return;
+            }
+            this.materializeScale();
+        }
+
+        this.invalidateHash();
+        this.unshareDigitList();
+        this.digitList.set(position - this.scale, inDigit);
     }
 
     /* -----------------------------------------------------------------------------
      * Method    copy
-     * Purpose   Returns a copy of this BigNumber obj.
+     * Purpose   Returns a copy of this BigNumber obj in O(1). The copy shares the
+     *               digitList with this BigNumber, and both are marked as shared so
+     *               that the first mutation of either one copies the digits first.
+     *               A digitList handed out by `getDigitList` or `setDigitList` may
+     *               still be changed by its holder, so it is never shared: the copy
+     *               then takes its own List in O(n).
      * @param    None
      * @returns  (BigNumber) a copy of this BigNumber obj
      * ----------------------------------------------------------------------------*/
     @Override
     public BigNumber copy() {
 
-        MyList digitListCopy = this.digitList.subList(0, this.length() - 1);
-        BigNumber bigNumberCopy = new BigNumberImpl();
-        bigNumberCopy.setDigitList(digitListCopy);
+        BigNumberImpl bigNumberCopy = new BigNumberImpl(this.listFactory);
+
+        if (this.exposed) {
+            bigNumberCopy.replaceDigitList(this.digitList.subList(0, this.digitList.size() - 1));
+            bigNumberCopy.scale = this.scale;
+            return bigNumberCopy;
+        }
+
+        bigNumberCopy.digitList = this.digitList;
+        bigNumberCopy.scale = this.scale;
+        bigNumberCopy.shared = true;
+        this.shared = true;
 
         return bigNumberCopy;
     }
@@ -262,7 +456,10 @@ public class BigNumberImpl implements BigNumber {
     /* -----------------------------------------------------------------------------
      * Method    add
      * Purpose   Adds two BigNumbers together and returns the value as a new
-     *               BigNumber object.
+     *               BigNumber object. Both digitLists are walked once, from the
+     *               least significant digit, with cursors. The sum keeps the smaller
+     *               scale of the two, and the implicit zeroes of the other addend
+     *               above it are read as digits without being stored.
      * @param    'other'      --      (BigNumber)   the second addend
      * @returns  (BigNumber) the sum of the two BigNumbers
      * ----------------------------------------------------------------------------*/
@@ -270,98 +467,228 @@ public class BigNumberImpl implements BigNumber {
     public BigNumber add(BigNumber other) {
 
         // Create new BigNumber obj and empty the digitList
-        BigNumberImpl newNumber = new BigNumberImpl();
-        newNumber.getDigitList().remove(0);
-
-        int currIndex = 0;
+        BigNumberImpl newNumber = new BigNumberImpl(this.listFactory);
+        MyList newDigitList = newNumber.digitList;
+        newDigitList.remove(0);
+
+        int otherScale = scaleOf(other);
+        int commonScale = Math.min(this.scale, otherScale);
+        int thisZeroes = this.scale - commonScale;
+        int otherZeroes = otherScale - commonScale;
+        newNumber.scale = commonScale;
+
+        MyListCursor thisCursor = this.digitList.cursorAtHead();
+        MyListCursor otherCursor = storedDigitsOf(other).cursorAtHead();
         int thisIndexSum;
         int carryValue = 0;
 
-        // While index is less than the smaller length of the two BigNumbers
-        while (currIndex < this.length() && currIndex < other.length()) {
+        // While either BigNumber has digits left, a missing digit counting as 0
+        while (thisZeroes > 0 || otherZeroes > 0 || thisCursor.hasNext() || otherCursor.hasNext()) {
 
             // Get the sum of the two digits at the same position plus any value carried from
-            // previous index
-            thisIndexSum = this.getDigitAt(currIndex) + other.getDigitAt(currIndex) + carryValue;
+            // previous index; implicit zeroes come before the stored digits
+            thisIndexSum = carryValue;
+            if (thisZeroes > 0) {
+                thisZeroes--;
+            }
+            else if (thisCursor.hasNext()) {
+                thisIndexSum += thisCursor.next();
+            }
+            if (otherZeroes > 0) {
+                otherZeroes--;
+            }
+            else if (otherCursor.hasNext()) {
+                thisIndexSum += otherCursor.next();
+            }
 
             // If sum is single digit, insert sum into newNumber and set carry to 0
             if (thisIndexSum <= 9) {
-                newNumber.getDigitList().insertRear(thisIndexSum);
+                newDigitList.insertRear(thisIndexSum);
                 carryValue = 0;
             }
 
-            // Else, if sum is two digits, insert sum into newNumber and set carry value
+            // Else, if sum is two digits, insert the ones digit and carry the rest
             else {
-                carryValue = thisIndexSum;
-                thisIndexSum = thisIndexSum % 10;
-                newNumber.getDigitList().insertRear(thisIndexSum);
-                carryValue = (carryValue - thisIndexSum) / 10;
+                newDigitList.insertRear(thisIndexSum % 10);
+                carryValue = thisIndexSum / 10;
             }
-            currIndex++;
         }
 
-        // CASE in which this is longer than other
-        while (currIndex < this.length()) {
-            thisIndexSum = this.getDigitAt(currIndex) + carryValue;
-            if (thisIndexSum <= 9) {
-                newNumber.getDigitList().insertRear(thisIndexSum);
-                carryValue = 0;
-            }
-            else { // If thisIndexSum > 9
-                carryValue = thisIndexSum;
-                thisIndexSum = thisIndexSum % 10;
-                newNumber.getDigitList().insertRear(thisIndexSum);
-                carryValue = (carryValue - thisIndexSum) / 10;
+        // If all nodes accounted for and there is still a carryValue, insert at Rear
+        if (carryValue > 0) {
+            newDigitList.insertRear(carryValue);
+        }
+
+        return newNumber;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Adds another BigNumber to this one, setting the digits of the
+     *               digitList in place with a single cursor walk and inserting Nodes
+     *               at the Rear only when the sum is longer. If the other addend has
+     *               a smaller scale, only the implicit zeroes below it are inserted.
+     * @param    'other'      --      (BigNumber)   the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addInPlace(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("The addend must not be null.");
+        }
+
+        int otherScale = scaleOf(other);
+        MyList otherDigits = storedDigitsOf(other);
+        this.invalidateHash();
+        this.unshareDigitList();
+
+        // Insert the implicit zeroes that the other addend has digits for
+        if (otherScale < this.scale) {
+            for (int i = otherScale; i < this.scale; i++) {
+                this.digitList.insertFront(0);
             }
-            currIndex++;
+            this.scale = otherScale;
         }
 
-        // CASE in which other is longer than this
-        while (currIndex < other.length()) {
-            thisIndexSum = other.getDigitAt(currIndex) + carryValue;
-            if (thisIndexSum <= 9) {
-                newNumber.getDigitList().insertRear(thisIndexSum);
-                carryValue = 0;
+        int otherZeroes = otherScale - this.scale;
+        MyListCursor thisCursor = this.digitList.cursorAtHead();
+        MyListCursor otherCursor = otherDigits.cursorAtHead();
+        int carryValue = 0;
+
+        // While the other BigNumber has digits left or there is a value to carry
+        while (otherZeroes > 0 || otherCursor.hasNext() || carryValue > 0) {
+
+            int thisIndexSum = carryValue;
+            if (otherZeroes > 0) {
+                otherZeroes--;
             }
-            else { // If thisIndexSum > 9
-                carryValue = thisIndexSum;
-                thisIndexSum = thisIndexSum % 10;
-                newNumber.getDigitList().insertRear(thisIndexSum);
-                carryValue -= thisIndexSum;
+            else if (otherCursor.hasNext()) {
+                thisIndexSum += otherCursor.next();
             }
-            currIndex++;
+
+            // Set the digit in place, or append a new Node past the Tail
+            if (thisCursor.hasNext()) {
+                thisIndexSum += thisCursor.next();
+                thisCursor.set(thisIndexSum % 10);
+            }
+            else {
+                this.digitList.insertRear(thisIndexSum % 10);
+            }
+            carryValue = thisIndexSum / 10;
         }
+    }
 
-        // If all nodes accounted for and there is still a carryValue, insert at Rear
-        if (carryValue > 0) {
-            newNumber.getDigitList().insertRear(carryValue);
+    /* -----------------------------------------------------------------------------
+     * Method    accumulateInto
+     * Purpose   Adds every digit of this BigNumber to an array of base-10^9 limb
+     *               columns, walking the digitList once without packing it first.
+     *               The implicit zeroes are skipped.
+     * @param    'columns'    --    (long[])  the columns to add the limbs to
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    void accumulateInto(long[] columns) {
+
+        MyListCursor cursor = this.digitList.cursorAtHead();
+        int position = this.scale;
+
+        while (cursor.hasNext()) {
+            int digit = cursor.next();
+            if (digit != 0) {
+                columns[position / Limbs.BASE_DIGITS] += digit * Limbs.POW10[position % Limbs.BASE_DIGITS];
+            }
+            position++;
         }
+    }
 
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Packs the digitList and the implicit zeroes below it into a
+     *               normalized limb array.
+     * @param    None
+     * @returns  (int[]) the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int[] toLimbs() {
+
+        return Limbs.fromDigitList(this.digitList, this.scale);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromLimbs
+     * Purpose   Returns a new BigNumberImpl whose digitList is unpacked from a
+     *               normalized limb array.
+     * @param    'limbs'    --    (int[])  the value as limbs, least significant first
+     * @returns  (BigNumber) a new BigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    BigNumber fromLimbs(int[] limbs) {
+
+        BigNumberImpl newNumber = new BigNumberImpl(this.listFactory);
+        newNumber.replaceDigitList(Limbs.toDigitList(limbs, limbs.length, this.listFactory.get()));
         return newNumber;
     }
 
     /* -----------------------------------------------------------------------------
      * Method    getDigitList
-     * Purpose   Returns the digitList.
+     * Purpose   Returns the digitList. Any implicit zeroes are inserted first, so
+     *               that the List holds every digit of the BigNumber. The caller
+     *               may change the List, so it is not shared with a copy and its
+     *               hash code is not cached until this BigNumber gets a List of its
+     *               own again.
      * @param    None
      * @returns  (MyList) the digits of the BigNumber as a Linked List
      * ----------------------------------------------------------------------------*/
     @Override
     public MyList getDigitList() {
 
+        this.invalidateHash();
+        this.materializeScale();
+        this.unshareDigitList();
+        this.exposed = true;
         return this.digitList;
     }
 
     /* -----------------------------------------------------------------------------
      * Method    setDigitList
-     * Purpose   Replaces the digitList with a new digitList.
+     * Purpose   Replaces the digitList with a new digitList. The caller keeps
+     *               the List and may change it, so it is never shared with a copy
+     *               and its hash code is not cached.
      * @param    'inDigitList'  --  (MyList)    a list of digits representing a BigNumber
      * @returns  None
      * ----------------------------------------------------------------------------*/
     @Override
     public void setDigitList(MyList inDigitList) {
 
-        this.digitList = inDigitList;
+        this.invalidateHash();
+        this.replaceDigitList(inDigitList);
+        this.exposed = true;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    cachesHash
+     * Purpose   Returns false while the digitList may be changed by a caller that
+     *               holds it.
+     * @param    None
+     * @returns  (boolean) true if the hash code may be cached
+     * ----------------------------------------------------------------------------*/
+    @Override
+    boolean cachesHash() {
+
+        return !this.exposed;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isShared
+     * Purpose   Returns true if the digitList is shared with a copy, and so will
+     *               be copied before it is next changed.
+     * @param    None
+     * @returns  (boolean) true if the digitList is shared
+     * ----------------------------------------------------------------------------*/
+    boolean isShared() {
+
+        return this.shared;
     }
 
     /* -----------------------------------------------------------------------------
@@ -384,12 +711,18 @@ public class BigNumberImpl implements BigNumber {
             return -1;
         }
 
-        // If lengths are equal, compare Nodes from most significant to least significant Nodes
+        // If lengths are equal, compare Nodes from most significant to least significant Nodes;
+        // once a digitList runs out, only its implicit zeroes are left
         else {
-            for (int i = this.length() - 1; i >= 0; i--) {
-                if (this.getDigitAt(i) > other.getDigitAt(i)) {
+            MyListCursor thisCursor = this.digitList.cursorAtTail();
+            MyListCursor otherCursor = storedDigitsOf(other).cursorAtTail();
+
+            while (thisCursor.hasPrevious() || otherCursor.hasPrevious()) {
+                int thisDigit = thisCursor.hasPrevious() ? thisCursor.previous() : 0;
+                int otherDigit = otherCursor.hasPrevious() ? otherCursor.previous() : 0;
+                if (thisDigit > otherDigit) {
                     return 1;
-                } else if (this.getDigitAt(i) < other.getDigitAt(i)) {
+                } else if (thisDigit < otherDigit) {
                     return -1;
                 }
             }
@@ -400,40 +733,174 @@ public class BigNumberImpl implements BigNumber {
     }
 
     /* -----------------------------------------------------------------------------
-     * Method    equals
-     * Purpose   Returns true if BigNumbers are equal. Else, returns false.
-     *               Throws IllegalArgumentException when argument is null or not a
-     *               BigNumberImpl object.
-     * @param    'obj'     --    (Object)   a comparator against this BigNumber
-     * @returns  (boolean) true if two BigNumbers are equal; false if not equal
+     * Method    mostSignificantDigit
+     * Purpose   Returns the most significant digit from the Tail of the digitList,
+     *               without walking the List as `getDigitAt` would.
+     * @param    None
+     * @returns  (int) the most significant digit
      * ----------------------------------------------------------------------------*/
     @Override
-    public boolean equals(Object obj) {
+    int mostSignificantDigit() {
+
+        return this.digitList.cursorAtTail().previous();
+    }
 
-        if (obj == null) {
-            throw new IllegalArgumentException("Argument must not be null.");
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the digits of the BigNumber, most significant first, to an
+     *               Appendable. The digitList is walked once from the Tail with a
+     *               cursor, and the digits are handed over in chunks of chars.
+     * @param    'out'      --      (Appendable)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+
+        if (out == null) {
+            throw new IllegalArgumentException("The Appendable must not be null.");
+        }
+
+        char[] chunk = new char[Math.min(this.length(), Limbs.WRITE_CHUNK_CHARS)];
+        int chunkCount = 0;
+        MyListCursor cursor = this.digitList.cursorAtTail();
+
+        while (cursor.hasPrevious()) {
+            chunk[chunkCount++] = (char) ('0' + cursor.previous());
+            if (chunkCount == chunk.length) {
+                out.append(CharBuffer.wrap(chunk, 0, chunkCount));
+                chunkCount = 0;
+            }
         }
 
-        if (!(obj instanceof BigNumberImpl)) {
-            throw new IllegalArgumentException("Argument must be an instance" +
-                    " of the BigNumberImpl class.");
+        // Then the implicit zeroes
+        for (int i = 0; i < this.scale; i++) {
+            chunk[chunkCount++] = '0';
+            if (chunkCount == chunk.length) {
+                out.append(CharBuffer.wrap(chunk, 0, chunkCount));
+                chunkCount = 0;
+            }
         }
 
-        BigNumberImpl other = (BigNumberImpl) obj;
-        return Objects.equals(this.toString(), other.toString());
+        if (chunkCount > 0) {
+            out.append(CharBuffer.wrap(chunk, 0, chunkCount));
+        }
     }
 
     /* -----------------------------------------------------------------------------
-     * Method    toString
-     * Purpose   Returns String representation of the BigNumber. Calls relevant
-     *               method in MyListImpl class.
+     * Method    digits
+     * Purpose   Returns the digits of the BigNumber, least significant first: the
+     *               implicit zeroes of the scale, then the values of the digitList,
+     *               streamed through its Spliterator without copying it.
      * @param    None
-     * @returns  (String) String representation of the BigNumber
+     * @returns  (IntStream) the digits, least significant first
      * ----------------------------------------------------------------------------*/
     @Override
-    public String toString() {
+    public IntStream digits() {
+
+        if (this.scale == 0) {
+            return this.digitList.digits();
+        }
+
+        return IntStream.concat(IntStream.range(0, this.scale).map(i -> 0), this.digitList.digits());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    materializeScale
+     * Purpose   Inserts the implicit zeroes counted in the scale at the Head of the
+     *               digitList and resets the scale to 0.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void materializeScale() {
+
+        if (this.scale == 0) {
+            return;
+        }
+
+        this.unshareDigitList();
+        for (int i = 0; i < this.scale; i++) {
+            this.digitList.insertFront(0);
+        }
+        this.scale = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    unshareDigitList
+     * Purpose   Replaces a shared digitList with a private copy before it is
+     *               mutated. Does nothing if the digitList is not shared.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void unshareDigitList() {
+
+        if (this.shared) {
+            this.digitList = this.digitList.subList(0, this.digitList.size() - 1);
+            this.shared = false;
+            this.exposed = false;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    replaceDigitList
+     * Purpose   Makes a new List the digitList of this BigNumber, with no scale,
+     *               not shared with a copy and not yet handed out. The old List is
+     *               released first if this BigNumber is its only holder.
+     * @param    'inDigitList'  --  (MyList)    the new digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void replaceDigitList(MyList inDigitList) {
+
+        if (inDigitList != this.digitList) {
+            this.releaseDigitList();
+        }
+
+        this.digitList = inDigitList;
+        this.scale = 0;
+        this.shared = false;
+        this.exposed = false;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    scaleOf
+     * Purpose   Returns the number of implicit trailing zeroes of a BigNumber, which
+     *               is 0 for any implementation other than BigNumberImpl.
+     * @param    'number'   --    (BigNumber)  the BigNumber to inspect
+     * @returns  (int) the scale of the BigNumber
+     * ----------------------------------------------------------------------------*/
+    private static int scaleOf(BigNumber number) {
+
+        return number instanceof BigNumberImpl ? ((BigNumberImpl) number).scale : 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    releaseDigitList
+     * Purpose   Returns the Nodes of the digitList to the NodePool before the List
+     *               is dropped, when the pool is enabled. A List that a copy or a
+     *               caller may still hold is left alone.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void releaseDigitList() {
+
+        if (this.shared || this.exposed || !NodePool.isEnabled()) {
+            return;
+        }
+
+        if (this.digitList instanceof MyListImpl) {
+            ((MyListImpl) this.digitList).clear();
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    storedDigitsOf
+     * Purpose   Returns the digits of a BigNumber above its scale, without inserting
+     *               the implicit zeroes of a BigNumberImpl.
+     * @param    'number'   --    (BigNumber)  the BigNumber to inspect
+     * @returns  (MyList) the stored digits, least significant digit at the Head
+     * ----------------------------------------------------------------------------*/
+    private static MyList storedDigitsOf(BigNumber number) {
 
-        return this.digitList.getStrBigNumber();
+        return number instanceof BigNumberImpl ? ((BigNumberImpl) number).digitList : number.getDigitList();
     }
 
 } /* ****************************************************************************** */
@@ -0,0 +1,201 @@
+package bignumber;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/* ******************************************************************************
+ * Class     BigNumberInternPool
+ * Purpose   The BigNumberInternPool class canonicalizes BigNumber values: `intern`
+ *               returns one shared ImmutableBigNumberImpl per value, so that many
+ *               records holding the same number can drop their own copies and
+ *               keep the canonical one. Lookups rely on `equals` and `hashCode`,
+ *               which agree across implementations, so a BigNumber of any
+ *               implementation finds the canonical instance of its value. The
+ *               pool holds its instances through weak references only: once no
+ *               caller holds a canonical instance, it is collected and its entry
+ *               disappears. The pool counts the requests it served and how many
+ *               of them found an existing instance (hits), from which it reports
+ *               the dedup ratio and an estimate of the memory saved. `shared`
+ *               returns the pool used by `BigNumber.intern`; separate pools may
+ *               also be created. All methods are thread-safe.
+ * @attrib   'OBJECT_BYTES'    --    (long)  the estimated bytes of an
+ *                                             ImmutableBigNumberImpl without its limbs
+ * @attrib   'canonical'       --    (Map<BigNumber, WeakReference<ImmutableBigNumberImpl>>)
+ *                                             the canonical instance of every value
+ * @attrib   'requests'        --    (long)  the number of calls to `intern`
+ * @attrib   'hits'            --    (long)  the calls that found an existing instance
+ * @attrib   'bytesSaved'      --    (long)  the estimated bytes of the duplicates
+ *                                             that the hits made unnecessary
+ * ***************************************************************************** */
+public final class BigNumberInternPool {
+
+    // Object header, two fields and padding, plus the header of the limb array
+    static final long OBJECT_BYTES = 32 + 16;
+
+    private static final BigNumberInternPool SHARED = new BigNumberInternPool();
+
+    private final Map<BigNumber, WeakReference<ImmutableBigNumberImpl>> canonical;
+    private long requests;
+    private long hits;
+    private long bytesSaved;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an empty pool.
+     * ----------------------------------------------------------------------------*/
+    public BigNumberInternPool() {
+
+        this.canonical = new WeakHashMap<>();
+        this.requests = 0;
+        this.hits = 0;
+        this.bytesSaved = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shared
+     * Purpose   Returns the pool used by `BigNumber.intern`.
+     * @param    None
+     * @returns  (BigNumberInternPool) the shared pool
+     * ----------------------------------------------------------------------------*/
+    public static BigNumberInternPool shared() {
+
+        return SHARED;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    intern
+     * Purpose   Returns the canonical instance of the value of a BigNumber. If the
+     *               pool has none, an ImmutableBigNumberImpl of the value (the
+     *               argument itself if it is one) becomes the canonical instance.
+     *               Throws IllegalArgumentException if the argument is null.
+     * @param    'number'    --    (BigNumber)  the value to intern
+     * @returns  (ImmutableBigNumberImpl) the canonical instance of the value
+     * ----------------------------------------------------------------------------*/
+    public synchronized ImmutableBigNumberImpl intern(BigNumber number) {
+
+        if (number == null) {
+            throw new IllegalArgumentException("The BigNumber must not be null.");
+        }
+
+        this.requests++;
+
+        WeakReference<ImmutableBigNumberImpl> reference = this.canonical.get(number);
+        ImmutableBigNumberImpl instance = reference == null ? null : reference.get();
+        if (instance != null) {
+            this.hits++;
+            this.bytesSaved += estimateBytes(instance);
+            return instance;
+        }
+
+        instance = ImmutableBigNumberImpl.of(number);
+        this.canonical.put(instance, new WeakReference<>(instance));
+        return instance;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    size
+     * Purpose   Returns the number of canonical instances still in the pool.
+     *               Instances no longer held elsewhere are counted until the
+     *               garbage collector clears them.
+     * @param    None
+     * @returns  (int) the number of pooled values
+     * ----------------------------------------------------------------------------*/
+    public synchronized int size() {
+
+        return this.canonical.size();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getRequests
+     * Purpose   Returns the number of calls to `intern`.
+     * @param    None
+     * @returns  (long) the number of requests
+     * ----------------------------------------------------------------------------*/
+    public synchronized long getRequests() {
+
+        return this.requests;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getHits
+     * Purpose   Returns the number of calls to `intern` that found an existing
+     *               canonical instance.
+     * @param    None
+     * @returns  (long) the number of hits
+     * ----------------------------------------------------------------------------*/
+    public synchronized long getHits() {
+
+        return this.hits;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDedupRatio
+     * Purpose   Returns the number of requests per canonical instance created: 1.0
+     *               if every value was distinct, 10.0 if each value was interned ten
+     *               times on average. Returns 1.0 before the first request.
+     * @param    None
+     * @returns  (double) the dedup ratio
+     * ----------------------------------------------------------------------------*/
+    public synchronized double getDedupRatio() {
+
+        long created = this.requests - this.hits;
+        return created == 0 ? 1.0 : (double) this.requests / created;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getBytesSaved
+     * Purpose   Returns an estimate of the memory saved by the hits: for every hit,
+     *               the size of an ImmutableBigNumberImpl of the value, which is the
+     *               least a separate copy of it would take. Duplicates held in a
+     *               Linked List save several times more.
+     * @param    None
+     * @returns  (long) the estimated bytes saved
+     * ----------------------------------------------------------------------------*/
+    public synchronized long getBytesSaved() {
+
+        return this.bytesSaved;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    clear
+     * Purpose   Empties the pool and resets its statistics. Canonical instances
+     *               already handed out stay valid, but are no longer returned.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public synchronized void clear() {
+
+        this.canonical.clear();
+        this.requests = 0;
+        this.hits = 0;
+        this.bytesSaved = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns a one-line summary of the statistics of the pool.
+     * @param    None
+     * @returns  (String) the statistics of the pool
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public synchronized String toString() {
+
+        return String.format("BigNumberInternPool[size=%d, requests=%d, hits=%d, dedup=%.2fx, saved=%d bytes]",
+                this.canonical.size(), this.requests, this.hits, this.getDedupRatio(),
+                this.bytesSaved);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    estimateBytes
+     * Purpose   Returns the estimated heap size of an ImmutableBigNumberImpl: the
+     *               object and array headers plus four bytes per limb.
+     * @param    'number'    --    (ImmutableBigNumberImpl)  the BigNumber to measure
+     * @returns  (long) the estimated size in bytes
+     * ----------------------------------------------------------------------------*/
+    static long estimateBytes(ImmutableBigNumberImpl number) {
+
+        return OBJECT_BYTES + 4L * Limbs.limbCountFor(number.length());
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,60 @@
+package bignumber;
+
+import java.util.stream.Stream;
+
+/* ******************************************************************************
+ * Class     BigNumbers
+ * Purpose   The BigNumbers class holds static operations over many BigNumbers at
+ *               once. `sum` adds any number of operands by column addition in a
+ *               single pass (see the ColumnAccumulator class) instead of chaining
+ *               `add`, which would allocate an intermediate BigNumber for every
+ *               operand. The operands may be of any BigNumber implementation, and
+ *               the result is a PackedBigNumberImpl. The class cannot be
+ *               instantiated.
+ * ***************************************************************************** */
+public final class BigNumbers {
+
+    private BigNumbers() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    sum
+     * Purpose   Returns the sum of every BigNumber of an Iterable. An empty
+     *               Iterable sums to 0. Throws IllegalArgumentException if the
+     *               Iterable or any of its elements is null.
+     * @param    'numbers'    --    (Iterable)  the operands
+     * @returns  (BigNumber) the sum, as a new PackedBigNumberImpl
+     * ----------------------------------------------------------------------------*/
+    public static BigNumber sum(Iterable<? extends BigNumber> numbers) {
+
+        if (numbers == null) {
+            throw new IllegalArgumentException("The operands must not be null.");
+        }
+
+        ColumnAccumulator accumulator = new ColumnAccumulator();
+        for (BigNumber number : numbers) {
+            accumulator.add(number);
+        }
+        return accumulator.toBigNumber();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    sum
+     * Purpose   Returns the sum of every BigNumber of a Stream. A parallel Stream
+     *               sums its parts separately and merges the columns. An empty
+     *               Stream sums to 0. Throws IllegalArgumentException if the Stream
+     *               or any of its elements is null.
+     * @param    'numbers'    --    (Stream)  the operands
+     * @returns  (BigNumber) the sum, as a new PackedBigNumberImpl
+     * ----------------------------------------------------------------------------*/
+    public static BigNumber sum(Stream<? extends BigNumber> numbers) {
+
+        if (numbers == null) {
+            throw new IllegalArgumentException("The operands must not be null.");
+        }
+
+        return numbers.collect(ColumnAccumulator::new, ColumnAccumulator::add, ColumnAccumulator::merge)
+                .toBigNumber();
+    }
+
+} /* ****************************************************************************** */
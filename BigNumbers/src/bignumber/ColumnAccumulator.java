@@ -0,0 +1,186 @@
+package bignumber;
+
+import java.util.Arrays;
+
+/* ******************************************************************************
+ * Class     ColumnAccumulator
+ * Purpose   The ColumnAccumulator class sums any number of BigNumbers by column
+ *               addition. Each column holds the running sum of one base-10^9 limb
+ *               position across every operand in a long, so no carry is
+ *               propagated and nothing is allocated per operand; the carries are
+ *               resolved once at the end, or after CARRY_INTERVAL operands, before
+ *               a column could overflow. Used by the BigNumbers class. The class
+ *               is package-private.
+ * @attrib   'CARRY_INTERVAL'     --  (int)     operands added between two carry
+ *                                                propagations
+ * @attrib   'columns'            --  (long[])  the running sum of each limb position
+ * @attrib   'columnCount'        --  (int)     the number of columns in use
+ * @attrib   'sinceCarry'         --  (int)     operands added since the last carry
+ *                                                propagation
+ * ***************************************************************************** */
+final class ColumnAccumulator {
+
+    // Every column stays below (CARRY_INTERVAL + 1) * 10^9, well within a long
+    static final int CARRY_INTERVAL = 1 << 30;
+
+    private long[] columns;
+    private int columnCount;
+    private int sinceCarry;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a ColumnAccumulator holding the value 0.
+     * ----------------------------------------------------------------------------*/
+    ColumnAccumulator() {
+
+        this.columns = new long[16];
+        this.columnCount = 1;
+        this.sinceCarry = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds the limbs of a BigNumber to the columns. The implementations
+     *               in this package add themselves in place; any other
+     *               implementation is converted to limbs first. Throws
+     *               IllegalArgumentException if the operand is null.
+     * @param    'number'     --    (BigNumber)  the operand to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void add(BigNumber number) {
+
+        if (number == null) {
+            throw new IllegalArgumentException("The operands must not be null.");
+        }
+
+        if (number instanceof AbstractBigNumber) {
+            this.ensureColumns(Limbs.limbCountFor(number.length()));
+            ((AbstractBigNumber) number).accumulateInto(this.columns);
+        }
+        else {
+            int[] limbs = Limbs.fromDigitList(number.getDigitList());
+            this.ensureColumns(limbs.length);
+            for (int i = 0; i < limbs.length; i++) {
+                this.columns[i] += limbs[i];
+            }
+        }
+
+        this.countOperand();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds a non-negative long times 10^(9 * shift) to the columns,
+     *               one limb per column starting at column `shift`. Used by
+     *               BigNumberAdder to fold its cells.
+     * @param    'value'      --    (long)  the non-negative value to add
+     * @param    'shift'      --    (int)   the column of the lowest limb
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void add(long value, int shift) {
+
+        this.ensureColumns(shift + 3);
+        for (int i = shift; value != 0; i++) {
+            this.columns[i] += value % Limbs.BASE;
+            value /= Limbs.BASE;
+        }
+
+        this.countOperand();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    merge
+     * Purpose   Adds the columns of another ColumnAccumulator to this one. Used to
+     *               combine the partial sums of a parallel Stream.
+     * @param    'other'      --    (ColumnAccumulator)  the partial sum to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void merge(ColumnAccumulator other) {
+
+        // After both carry passes every column is below 10^9, so the sum cannot overflow
+        this.propagateCarries();
+        other.propagateCarries();
+
+        this.ensureColumns(other.columnCount);
+        for (int i = 0; i < other.columnCount; i++) {
+            this.columns[i] += other.columns[i];
+        }
+        this.countOperand();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toBigNumber
+     * Purpose   Resolves the carries and returns the sum as a PackedBigNumberImpl.
+     * @param    None
+     * @returns  (BigNumber) the sum of every operand added so far
+     * ----------------------------------------------------------------------------*/
+    BigNumber toBigNumber() {
+
+        this.propagateCarries();
+
+        int[] limbs = new int[this.columnCount];
+        for (int i = 0; i < this.columnCount; i++) {
+            limbs[i] = (int) this.columns[i];
+        }
+
+        int count = Limbs.normalizedCount(limbs, limbs.length);
+        return new PackedBigNumberImpl(limbs, count);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    countOperand
+     * Purpose   Counts one more operand, propagating the carries once
+     *               CARRY_INTERVAL operands have been added since the last time.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void countOperand() {
+
+        this.sinceCarry++;
+        if (this.sinceCarry >= CARRY_INTERVAL) {
+            this.propagateCarries();
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    propagateCarries
+     * Purpose   Moves the excess of every column above 10^9 into the next column,
+     *               so that each column holds a single limb again.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void propagateCarries() {
+
+        long carry = 0;
+
+        for (int i = 0; i < this.columnCount; i++) {
+            long column = this.columns[i] + carry;
+            carry = column / Limbs.BASE;
+            this.columns[i] = column - carry * Limbs.BASE;
+        }
+
+        while (carry != 0) {
+            this.ensureColumns(this.columnCount + 1);
+            this.columns[this.columnCount - 1] = carry % Limbs.BASE;
+            carry /= Limbs.BASE;
+        }
+
+        this.sinceCarry = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    ensureColumns
+     * Purpose   Makes sure that at least the given number of columns are in use,
+     *               growing the array by half again if needed.
+     * @param    'count'      --    (int)    the number of columns needed
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void ensureColumns(int count) {
+
+        if (this.columns.length < count) {
+            this.columns = Arrays.copyOf(this.columns, Math.max(count, this.columns.length + (this.columns.length >> 1)));
+        }
+        this.columnCount = Math.max(this.columnCount, count);
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,360 @@
+package bignumber;
+
+import java.util.Arrays;
+
+/* ******************************************************************************
+ * Class     Divider
+ * Purpose   The Divider class holds the division algorithms used by
+ *               `BigNumber.divide`, `remainder` and `divideAndRemainder`. They
+ *               work on base-10^9 limb arrays (see the Limbs class). Divisors of
+ *               one limb are handled by short division, and divisors below
+ *               BURNIKEL_ZIEGLER_THRESHOLD limbs by schoolbook long division
+ *               (Knuth's Algorithm D). Longer divisors use Burnikel-Ziegler
+ *               recursive division, which splits the division into half-size
+ *               divisions and multiplications, so that its cost follows the cost
+ *               of multiplication rather than growing quadratically. The class
+ *               is package-private and cannot be instantiated.
+ * @attrib   'BURNIKEL_ZIEGLER_THRESHOLD'   --  (int)  divisor limbs from which
+ *                                                      Burnikel-Ziegler is used
+ * @attrib   'BURNIKEL_ZIEGLER_OFFSET'      --  (int)  minimum number of extra limbs in
+ *                                                      the dividend for Burnikel-Ziegler
+ * ***************************************************************************** */
+final class Divider {
+
+    static final int BURNIKEL_ZIEGLER_THRESHOLD = 80;
+    static final int BURNIKEL_ZIEGLER_OFFSET = 40;
+
+    private Divider() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideAndRemainder
+     * Purpose   Divides one normalized limb array by another. Throws
+     *               IllegalArgumentException if the divisor is 0.
+     * @param    'a'        --    (int[])  the dividend
+     * @param    'b'        --    (int[])  the divisor
+     * @returns  (int[][]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    static int[][] divideAndRemainder(int[] a, int[] b) {
+
+        a = Multiplier.trim(a);
+        b = Multiplier.trim(b);
+
+        if (Multiplier.isZero(b)) {
+            throw new IllegalArgumentException("The divisor must not be zero.");
+        }
+
+        if (Multiplier.compare(a, b) < 0) {
+            return new int[][] {{0}, a};
+        }
+
+        if (b.length == 1) {
+            return divideBySmall(a, b[0]);
+        }
+
+        if (b.length < BURNIKEL_ZIEGLER_THRESHOLD || a.length - b.length < BURNIKEL_ZIEGLER_OFFSET) {
+            return divideKnuth(a, b);
+        }
+
+        return divideBurnikelZiegler(a, b);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideBySmall
+     * Purpose   Divides a limb array by a single limb with short division.
+     * @param    'a'         --    (int[])  the dividend
+     * @param    'divisor'   --    (int)    a divisor between 1 and 10^9 - 1
+     * @returns  (int[][]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    static int[][] divideBySmall(int[] a, int divisor) {
+
+        int[] quotient = new int[a.length];
+        long remainder = 0;
+
+        for (int i = a.length - 1; i >= 0; i--) {
+            long current = remainder * Limbs.BASE + a[i];
+            quotient[i] = (int) (current / divisor);
+            remainder = current - (long) quotient[i] * divisor;
+        }
+
+        return new int[][] {Multiplier.trim(quotient), {(int) remainder}};
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideKnuth
+     * Purpose   Divides a limb array by a divisor of at least two limbs with
+     *               schoolbook long division (Knuth's Algorithm D). Both operands
+     *               are first scaled so that the top limb of the divisor is at
+     *               least BASE / 2; each quotient limb is then estimated from the
+     *               top limbs and is off by at most two, which the add-back step
+     *               corrects.
+     * @param    'a'        --    (int[])  the dividend
+     * @param    'b'        --    (int[])  the divisor, at least two limbs
+     * @returns  (int[][]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    static int[][] divideKnuth(int[] a, int[] b) {
+
+        int n = b.length;
+        int m = a.length - n;
+
+        // Scale so that the divisor's top limb is at least BASE / 2
+        int scale = (int) (Limbs.BASE / ((long) b[n - 1] + 1));
+        int[] v = multiplyBySmall(b, scale, n);
+        int[] u = multiplyBySmall(a, scale, a.length + 1);
+
+        int[] quotient = new int[m + 1];
+        long vTop = v[n - 1];
+        long vNext = v[n - 2];
+
+        for (int j = m; j >= 0; j--) {
+
+            // Estimate the quotient limb from the top two limbs of the remainder
+            long top = (long) u[j + n] * Limbs.BASE + u[j + n - 1];
+            long qHat = top / vTop;
+            long rHat = top - qHat * vTop;
+
+            while (qHat >= Limbs.BASE
+                    || qHat * vNext > rHat * Limbs.BASE + u[j + n - 2]) {
+                qHat--;
+                rHat += vTop;
+                if (rHat >= Limbs.BASE) {
+                    break;
+                }
+            }
+
+            // Multiply and subtract qHat * v from the current window of u
+            long borrow = 0;
+            long carry = 0;
+            for (int i = 0; i < n; i++) {
+                long product = qHat * v[i] + carry;
+                carry = product / Limbs.BASE;
+                long difference = u[i + j] - (product - carry * Limbs.BASE) - borrow;
+                borrow = difference < 0 ? 1 : 0;
+                u[i + j] = (int) (difference + borrow * Limbs.BASE);
+            }
+            long difference = u[j + n] - carry - borrow;
+            borrow = difference < 0 ? 1 : 0;
+            u[j + n] = (int) (difference + borrow * Limbs.BASE);
+
+            // If the estimate was one too large, add the divisor back
+            if (borrow != 0) {
+                qHat--;
+                long addCarry = 0;
+                for (int i = 0; i < n; i++) {
+                    long sum = (long) u[i + j] + v[i] + addCarry;
+                    addCarry = sum >= Limbs.BASE ? 1 : 0;
+                    u[i + j] = (int) (sum - addCarry * Limbs.BASE);
+                }
+                u[j + n] = (int) ((u[j + n] + addCarry) % Limbs.BASE);
+            }
+
+            quotient[j] = (int) qHat;
+        }
+
+        // Undo the scaling of the remainder
+        int[] remainder = divideBySmall(Multiplier.trim(Arrays.copyOf(u, n)), scale)[0];
+
+        return new int[][] {Multiplier.trim(quotient), remainder};
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideBurnikelZiegler
+     * Purpose   Divides a limb array by a long divisor with Burnikel-Ziegler
+     *               recursive division. The divisor is padded to a block size n
+     *               made of a power-of-two number of sub-blocks, and both operands
+     *               are scaled so the divisor is normalized. The dividend is then
+     *               read in blocks of n limbs from the top, and each 2n-limb window
+     *               is divided by the divisor with `divide2n1n`.
+     * @param    'a'        --    (int[])  the dividend
+     * @param    'b'        --    (int[])  the divisor
+     * @returns  (int[][]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    static int[][] divideBurnikelZiegler(int[] a, int[] b) {
+
+        int s = b.length;
+
+        // Block size: j * m limbs with m a power of two and j below the threshold
+        int m = 1 << (32 - Integer.numberOfLeadingZeros(s / BURNIKEL_ZIEGLER_THRESHOLD));
+        int j = (s + m - 1) / m;
+        int n = j * m;
+
+        // Scale both operands by BASE^(n - s) * factor so that b has n limbs
+        // and a normalized top limb
+        int limbShift = n - s;
+        int factor = (int) (Limbs.BASE / ((long) b[s - 1] + 1));
+        int[] bScaled = shiftLimbs(multiplyBySmall(b, factor, s), limbShift);
+        int[] aScaled = shiftLimbs(Multiplier.trim(multiplyBySmall(a, factor, a.length + 1)), limbShift);
+
+        // Number of n-limb blocks, leaving the top block below BASE^n / 2
+        int t = Math.max(2, (aScaled.length + 1 + n - 1) / n);
+
+        int[] quotient = new int[t * n];
+        int[] z = Multiplier.slice(aScaled, (t - 2) * n, t * n);
+
+        for (int i = t - 2; i >= 0; i--) {
+            int[][] qr = divide2n1n(z, bScaled, n);
+            System.arraycopy(qr[0], 0, quotient, i * n, Math.min(qr[0].length, n));
+            if (i > 0) {
+                z = Multiplier.add(shiftLimbs(qr[1], n), Multiplier.slice(aScaled, (i - 1) * n, i * n));
+            }
+            else {
+                z = qr[1];
+            }
+        }
+
+        // Undo the scaling of the remainder
+        int[] remainder = Multiplier.slice(z, limbShift, z.length);
+        if (limbShift > 0 && !Multiplier.isZero(Multiplier.slice(z, 0, limbShift))) {
+            throw new IllegalStateException("The scaled remainder has non-zero low limbs.");
+        }
+        remainder = divideBySmall(remainder, factor)[0];
+
+        return new int[][] {Multiplier.trim(quotient), remainder};
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divide2n1n
+     * Purpose   Divides a value of at most 2n limbs by a normalized n-limb divisor,
+     *               where the quotient fits in n limbs. Splits the dividend in four
+     *               half-blocks and runs `divide3n2n` twice. Falls back to Knuth's
+     *               algorithm when n is odd or below the threshold.
+     * @param    'a'        --    (int[])  the dividend, below b * BASE^n
+     * @param    'b'        --    (int[])  the normalized divisor
+     * @param    'n'        --    (int)    the number of limbs in the divisor
+     * @returns  (int[][]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    private static int[][] divide2n1n(int[] a, int[] b, int n) {
+
+        if (n % 2 != 0 || n < BURNIKEL_ZIEGLER_THRESHOLD) {
+            return divideSchoolbook(a, b);
+        }
+
+        int half = n / 2;
+
+        // [a1, a2, a3] / b, then [r, a4] / b
+        int[][] first = divide3n2n(Multiplier.slice(a, half, a.length), b, half);
+        int[] next = Multiplier.add(shiftLimbs(first[1], half), Multiplier.slice(a, 0, half));
+        int[][] second = divide3n2n(next, b, half);
+
+        int[] quotient = Multiplier.add(shiftLimbs(first[0], half), second[0]);
+        return new int[][] {quotient, second[1]};
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divide3n2n
+     * Purpose   Divides a value of at most 3 half-blocks by a normalized divisor of
+     *               2 half-blocks [b1, b2], where the quotient fits in one half-block.
+     *               Estimates the quotient from the top two half-blocks divided by
+     *               b1, then corrects the remainder, which may come out negative,
+     *               by adding b back at most twice.
+     * @param    'a'        --    (int[])  the dividend, below b * BASE^half
+     * @param    'b'        --    (int[])  the normalized divisor of 2 * half limbs
+     * @param    'half'     --    (int)    the number of limbs in a half-block
+     * @returns  (int[][]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    private static int[][] divide3n2n(int[] a, int[] b, int half) {
+
+        int[] b1 = Multiplier.slice(b, half, b.length);
+        int[] b2 = Multiplier.slice(b, 0, half);
+        int[] a12 = Multiplier.slice(a, half, a.length);
+        int[] a1 = Multiplier.slice(a, 2 * half, a.length);
+        int[] a3 = Multiplier.slice(a, 0, half);
+
+        int[] q;
+        int[] r1;
+
+        if (Multiplier.compare(a1, b1) < 0) {
+            int[][] qr = divide2n1n(a12, b1, half);
+            q = qr[0];
+            r1 = qr[1];
+        }
+        else {
+            // The quotient is BASE^half - 1 and r1 = a12 - q * b1
+            q = new int[half];
+            Arrays.fill(q, Limbs.BASE - 1);
+            r1 = Multiplier.add(Multiplier.subtract(a12, shiftLimbs(b1, half)), b1);
+        }
+
+        // r = r1 * BASE^half + a3 - q * b2, corrected until non-negative
+        SignedLimbs r = SignedLimbs.of(Multiplier.add(shiftLimbs(r1, half), a3))
+                .subtract(SignedLimbs.of(Multiplier.multiply(q, b2)));
+        SignedLimbs divisor = SignedLimbs.of(b);
+
+        while (r.signum() < 0) {
+            r = r.add(divisor);
+            q = Multiplier.subtract(q, new int[] {1});
+        }
+
+        return new int[][] {Multiplier.trim(q), r.magnitude()};
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideSchoolbook
+     * Purpose   Divides with short or Knuth division, whichever fits the divisor.
+     *               Used at the bottom of the Burnikel-Ziegler recursion.
+     * @param    'a'        --    (int[])  the dividend
+     * @param    'b'        --    (int[])  the divisor
+     * @returns  (int[][]) the quotient at index 0 and the remainder at index 1
+     * ----------------------------------------------------------------------------*/
+    private static int[][] divideSchoolbook(int[] a, int[] b) {
+
+        a = Multiplier.trim(a);
+        b = Multiplier.trim(b);
+
+        if (Multiplier.compare(a, b) < 0) {
+            return new int[][] {{0}, a};
+        }
+
+        if (b.length == 1) {
+            return divideBySmall(a, b[0]);
+        }
+
+        return divideKnuth(a, b);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiplyBySmall
+     * Purpose   Multiplies a limb array by a single limb into a new array of the
+     *               given length, which must be long enough for the product.
+     * @param    'a'        --    (int[])  the limb array
+     * @param    'factor'   --    (int)    a factor between 1 and 10^9 - 1
+     * @param    'length'   --    (int)    the length of the returned array
+     * @returns  (int[]) the product, not trimmed
+     * ----------------------------------------------------------------------------*/
+    static int[] multiplyBySmall(int[] a, int factor, int length) {
+
+        int[] product = new int[length];
+        long carry = 0;
+
+        for (int i = 0; i < a.length; i++) {
+            long t = (long) a[i] * factor + carry;
+            carry = t / Limbs.BASE;
+            product[i] = (int) (t - carry * Limbs.BASE);
+        }
+        if (carry != 0) {
+            product[a.length] = (int) carry;
+        }
+
+        return product;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLimbs
+     * Purpose   Returns the value multiplied by BASE^count, i.e. with count zero
+     *               limbs inserted at the least significant end.
+     * @param    'a'        --    (int[])  a normalized limb array
+     * @param    'count'    --    (int)    the number of limbs to shift by
+     * @returns  (int[]) the shifted value
+     * ----------------------------------------------------------------------------*/
+    static int[] shiftLimbs(int[] a, int count) {
+
+        if (count == 0 || Multiplier.isZero(a)) {
+            return a;
+        }
+
+        int[] shifted = new int[a.length + count];
+        System.arraycopy(a, 0, shifted, count, a.length);
+        return shifted;
+    }
+
+} /* ****************************************************************************** */
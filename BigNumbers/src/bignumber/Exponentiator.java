@@ -0,0 +1,179 @@
+package bignumber;
+
+import java.util.BitSet;
+
+/* ******************************************************************************
+ * Class     Exponentiator
+ * Purpose   The Exponentiator class holds the exponentiation algorithms used by
+ *               `BigNumber.pow` and `modPow`. They work on base-10^9 limb arrays
+ *               (see the Limbs class). `pow` uses left-to-right binary
+ *               exponentiation: one square per bit of the exponent, through the
+ *               squaring algorithms of the Multiplier class, and one
+ *               multiplication per set bit. `modPow` scans the exponent with a
+ *               sliding window, so that only one multiplication is needed per
+ *               window of up to `windowSize` bits, from a table of the odd powers
+ *               of the base. Every square and product is reduced by a single
+ *               BarrettReducer built for the modulus. The class is
+ *               package-private and cannot be instantiated.
+ * @attrib   'WINDOW_THRESHOLDS'   --  (int[])  exponent bit lengths above which
+ *                                               the window grows by one bit
+ * @attrib   'BIT_CHUNK'           --  (int)    the bits read per division when
+ *                                               converting the exponent to binary
+ * ***************************************************************************** */
+final class Exponentiator {
+
+    static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793};
+
+    private static final int BIT_CHUNK = 29;
+
+    private Exponentiator() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    pow
+     * Purpose   Raises a normalized limb array to a non-negative int power.
+     * @param    'base'        --    (int[])  the base
+     * @param    'exponent'    --    (int)    the exponent, at least 0
+     * @returns  (int[]) the power as a new normalized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] pow(int[] base, int exponent) {
+
+        base = Multiplier.trim(base);
+
+        if (exponent == 0) {
+            return new int[] {1};
+        }
+
+        // 0 and 1 are their own powers
+        if (base.length == 1 && base[0] <= 1) {
+            return new int[] {base[0]};
+        }
+
+        int[] result = base;
+        for (int bit = 30 - Integer.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+            result = Multiplier.square(result);
+            if ((exponent & (1 << bit)) != 0) {
+                result = Multiplier.multiply(result, base);
+            }
+        }
+
+        return result == base ? base.clone() : result;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    modPow
+     * Purpose   Returns base^exponent mod modulus with a sliding window over the
+     *               bits of the exponent. Throws IllegalArgumentException if the
+     *               modulus is 0.
+     * @param    'base'        --    (int[])  the base
+     * @param    'exponent'    --    (int[])  the exponent
+     * @param    'modulus'     --    (int[])  the modulus, not 0
+     * @returns  (int[]) the power modulo the modulus, as a new limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] modPow(int[] base, int[] exponent, int[] modulus) {
+
+        BarrettReducer reducer = new BarrettReducer(modulus);
+        modulus = Multiplier.trim(modulus);
+
+        if (modulus.length == 1 && modulus[0] == 1) {
+            return new int[] {0};
+        }
+
+        BitSet bits = toBits(exponent);
+        int bitLength = bits.length();
+        if (bitLength == 0) {
+            return new int[] {1};
+        }
+
+        // The base may be longer than Barrett reduction takes, so divide once
+        int[] reduced = Divider.divideAndRemainder(base, modulus)[1];
+        if (Multiplier.isZero(reduced)) {
+            return new int[] {0};
+        }
+
+        // table[i] holds base^(2i + 1) mod modulus
+        int window = windowSize(bitLength);
+        int[][] table = new int[1 << (window - 1)][];
+        table[0] = reduced;
+        if (window > 1) {
+            int[] squared = reducer.square(reduced);
+            for (int i = 1; i < table.length; i++) {
+                table[i] = reducer.multiply(table[i - 1], squared);
+            }
+        }
+
+        // null stands for 1, so that the leading squares are skipped
+        int[] result = null;
+        int i = bitLength - 1;
+
+        while (i >= 0) {
+            if (!bits.get(i)) {
+                result = result == null ? null : reducer.square(result);
+                i--;
+                continue;
+            }
+
+            // The longest window of at most `window` bits that starts at i and ends in a 1
+            int j = Math.max(i - window + 1, 0);
+            while (!bits.get(j)) {
+                j++;
+            }
+
+            int value = 0;
+            for (int k = i; k >= j; k--) {
+                value = (value << 1) | (bits.get(k) ? 1 : 0);
+                if (result != null) {
+                    result = reducer.square(result);
+                }
+            }
+
+            result = result == null ? table[value >>> 1] : reducer.multiply(result, table[value >>> 1]);
+            i = j - 1;
+        }
+
+        return result == base ? result.clone() : result;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    windowSize
+     * Purpose   Returns the sliding-window width for an exponent: wider windows
+     *               need a larger table of odd powers but fewer multiplications.
+     * @param    'bitLength'   --    (int)  the number of bits in the exponent
+     * @returns  (int) the window width, from 1 to 7 bits
+     * ----------------------------------------------------------------------------*/
+    static int windowSize(int bitLength) {
+
+        int window = 1;
+        while (window <= WINDOW_THRESHOLDS.length && bitLength > WINDOW_THRESHOLDS[window - 1]) {
+            window++;
+        }
+        return window;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toBits
+     * Purpose   Converts a limb array to binary, BIT_CHUNK bits at a time, by
+     *               repeated short division by 2^BIT_CHUNK.
+     * @param    'limbs'     --    (int[])  a limb array
+     * @returns  (BitSet) the bits of the value, bit 0 the least significant
+     * ----------------------------------------------------------------------------*/
+    static BitSet toBits(int[] limbs) {
+
+        int[] value = Multiplier.trim(limbs);
+        BitSet bits = new BitSet();
+
+        for (int offset = 0; !Multiplier.isZero(value); offset += BIT_CHUNK) {
+            int[][] divided = Divider.divideBySmall(value, 1 << BIT_CHUNK);
+            int chunk = divided[1][0];
+            for (int bit = 0; chunk != 0; bit++, chunk >>>= 1) {
+                if ((chunk & 1) != 0) {
+                    bits.set(offset + bit);
+                }
+            }
+            value = divided[0];
+        }
+
+        return bits;
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,340 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+/* ******************************************************************************
+ * Class     ImmutableBigNumberImpl
+ * Purpose   The ImmutableBigNumberImpl class implements the BigNumber interface
+ *               for values that never change, such as the canonical instances
+ *               handed out by BigNumberInternPool. Like PackedBigNumberImpl, it
+ *               packs nine digits into each base-10^9 limb of an exactly sized int
+ *               array, but the array is never written after construction, so an
+ *               instance may be shared between threads and used as a map key
+ *               freely. Every mutating method throws UnsupportedOperationException;
+ *               `copy` returns a mutable PackedBigNumberImpl, and the arithmetic
+ *               methods return new ImmutableBigNumberImpl objects.
+ * @attrib   'limbs'          --    (int[])   the base-10^9 limbs, least significant
+ *                                              first, exactly sized and normalized
+ * @attrib   'digitCount'     --    (int)     the number of decimal digits
+ * ***************************************************************************** */
+public final class ImmutableBigNumberImpl extends AbstractBigNumber {
+
+    private final int[] limbs;
+    private final int digitCount;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an ImmutableBigNumberImpl from a String of digits. Leading
+     *               zeroes are dropped. Throws IllegalArgumentException if the String
+     *               is null, empty or holds anything but decimal digits.
+     * @param    'numberAsString'     --    (String)  the digits of the number
+     * ----------------------------------------------------------------------------*/
+    public ImmutableBigNumberImpl(String numberAsString) {
+
+        this(Limbs.fromString(numberAsString));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Wraps a normalized, exactly sized limb array without copying it.
+     *               The array must not be changed afterwards. Only used within the
+     *               package.
+     * @param    'inLimbs'     --    (int[])  the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    ImmutableBigNumberImpl(int[] inLimbs) {
+
+        this.limbs = inLimbs;
+        this.digitCount = Limbs.digitCount(inLimbs, inLimbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    of
+     * Purpose   Returns an ImmutableBigNumberImpl holding the value of a BigNumber
+     *               of any implementation: the argument itself if it already is
+     *               one, else a new object over a copy of its limbs. Throws
+     *               IllegalArgumentException if the argument is null.
+     * @param    'other'     --    (BigNumber)  the value
+     * @returns  (ImmutableBigNumberImpl) an immutable BigNumber holding the value
+     * ----------------------------------------------------------------------------*/
+    public static ImmutableBigNumberImpl of(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("The BigNumber must not be null.");
+        }
+
+        if (other instanceof ImmutableBigNumberImpl) {
+            return (ImmutableBigNumberImpl) other;
+        }
+
+        return new ImmutableBigNumberImpl(Limbs.toLimbs(other));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    length
+     * Purpose   Returns the number of digits in the BigNumber
+     * @param    None
+     * @returns  (int) the number of digits in the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int length() {
+
+        return this.digitCount;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLeft
+     * Purpose   Not supported: the BigNumber is immutable. Throws
+     *               UnsupportedOperationException.
+     * @param    'numOfShifts'      --      (int)   the number of times to left-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftLeft(int numOfShifts) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftRight
+     * Purpose   Not supported: the BigNumber is immutable. Throws
+     *               UnsupportedOperationException.
+     * @param    'numOfShifts'      --      (int)   the number of times to right-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftRight(int numOfShifts) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addDigit
+     * Purpose   Not supported: the BigNumber is immutable. Throws
+     *               UnsupportedOperationException.
+     * @param    'inDigit'      --      (int)   the value to add to the BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addDigit(int inDigit) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitAt
+     * Purpose   Returns digit at the specified position. Throws IllegalArgumentException
+     *               if position is out of bounds.
+     * @param    'position'      --      (int)   the position of the digit
+     * @returns  (int) the digit at the specified position
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int getDigitAt(int position) {
+
+        if (position < 0 || position >= this.digitCount) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        return Limbs.digitAt(this.limbs, this.limbs.length, position);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitAt
+     * Purpose   Not supported: the BigNumber is immutable. Throws
+     *               UnsupportedOperationException.
+     * @param    'position'      --      (int)   the position of the digit
+     * @param    'inDigit'       --      (int)   the value to set at the position
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitAt(int position, int inDigit) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    copy
+     * Purpose   Returns a mutable copy of this BigNumber.
+     * @param    None
+     * @returns  (BigNumber) a PackedBigNumberImpl holding the same value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber copy() {
+
+        return new PackedBigNumberImpl(this.limbs.clone(), this.limbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two BigNumbers together with the Adder class and returns the
+     *               value as a new ImmutableBigNumberImpl object.
+     * @param    'other'      --      (BigNumber)   the second addend
+     * @returns  (BigNumber) the sum of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber add(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("The addend must not be null.");
+        }
+
+        int[] otherLimbs = Limbs.toLimbs(other);
+        return this.fromLimbs(Adder.add(this.limbs, this.limbs.length, otherLimbs, otherLimbs.length));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Not supported: the BigNumber is immutable. Throws
+     *               UnsupportedOperationException.
+     * @param    'other'      --      (BigNumber)   the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addInPlace(BigNumber other) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    computeHash
+     * Purpose   Computes the hash code from the limb array in place.
+     * @param    None
+     * @returns  (int) the hash code of the decimal digits
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int computeHash() {
+
+        return Limbs.hash(IntBuffer.wrap(this.limbs), this.limbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Returns the limb array itself: it is exactly sized and never
+     *               changed, so no copy is needed.
+     * @param    None
+     * @returns  (int[]) the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int[] toLimbs() {
+
+        return this.limbs;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromLimbs
+     * Purpose   Wraps a normalized limb array in a new ImmutableBigNumberImpl.
+     * @param    'inLimbs'   --    (int[])  the value as limbs, least significant first
+     * @returns  (BigNumber) a new ImmutableBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    BigNumber fromLimbs(int[] inLimbs) {
+
+        return new ImmutableBigNumberImpl(inLimbs);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitList
+     * Purpose   Returns the digits as a new Linked List, least significant digit
+     *               at the Head. The List is a snapshot: changes to it are not
+     *               reflected in this BigNumber.
+     * @param    None
+     * @returns  (MyList) the digits of the BigNumber as a Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyList getDigitList() {
+
+        return Limbs.toDigitList(this.limbs, this.limbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitList
+     * Purpose   Not supported: the BigNumber is immutable. Throws
+     *               UnsupportedOperationException.
+     * @param    'inDigitList'  --  (MyList)    a list of digits representing a BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitList(MyList inDigitList) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compareTo
+     * Purpose   Compares two BigNumbers. Returns -1 if this is smaller than other,
+     *               returns 1 if this is larger than other, and 0 is they are equal.
+     *               The lengths are compared before any digit of other is read.
+     * @param    'other'  --  (BigNumber)    a BigNumber object
+     * @returns  (int) 1, 0, or -1, depending on whether this is larger than, equal
+     *               to, or smaller than other
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int compareTo(BigNumber other) {
+
+        int otherLength = other.length();
+        if (this.digitCount != otherLength) {
+            return this.digitCount > otherLength ? 1 : -1;
+        }
+
+        int[] otherLimbs = Limbs.toLimbs(other);
+        return Limbs.compare(this.limbs, this.limbs.length, otherLimbs, otherLimbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the digits of the BigNumber, most significant first, to an
+     *               Appendable, one limb at a time.
+     * @param    'out'      --      (Appendable)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+
+        if (out == null) {
+            throw new IllegalArgumentException("The Appendable must not be null.");
+        }
+
+        Limbs.writeDecimal(IntBuffer.wrap(this.limbs), this.limbs.length, out);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the BigNumber to a file in the binary format of the
+     *               BigNumberFile class, straight from the limb array.
+     * @param    'file'     --      (Path)   the file to write
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Path file) throws IOException {
+
+        BigNumberFile.write(file, IntBuffer.wrap(this.limbs), this.limbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digits
+     * Purpose   Returns the digits of the BigNumber, least significant first, read
+     *               in place from the limb array.
+     * @param    None
+     * @returns  (IntStream) the digits, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public IntStream digits() {
+
+        return digitsOf(IntBuffer.wrap(this.limbs), this.digitCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    immutable
+     * Purpose   Returns the exception thrown by every mutating method.
+     * @param    None
+     * @returns  (UnsupportedOperationException) the exception to throw
+     * ----------------------------------------------------------------------------*/
+    private static UnsupportedOperationException immutable() {
+
+        return new UnsupportedOperationException("An immutable BigNumber cannot be changed.");
+    }
+
+} /* ****************************************************************************** */
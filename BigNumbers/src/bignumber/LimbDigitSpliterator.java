@@ -0,0 +1,145 @@
+package bignumber;
+
+import java.nio.IntBuffer;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/* ******************************************************************************
+ * Class     LimbDigitSpliterator
+ * Purpose   The LimbDigitSpliterator class is a Spliterator over the decimal
+ *               digits of a base-10^9 limb array, least significant first. Any
+ *               digit is read in O(1) from its limb, so `trySplit` hands the lower
+ *               half of the remaining range to a new Spliterator in O(1) and a
+ *               parallel stream divides the digits evenly between threads. The
+ *               limbs are read in place and must not change while the digits are
+ *               streamed. The class is package-private.
+ * @attrib   'limbs'          --    (IntBuffer)  the limbs, least significant first
+ * @attrib   'position'       --    (int)        the next digit to read
+ * @attrib   'end'            --    (int)        one past the last digit to read
+ * ***************************************************************************** */
+final class LimbDigitSpliterator implements Spliterator.OfInt {
+
+    private static final int MIN_SPLIT_DIGITS = 1 << 12;
+
+    private final IntBuffer limbs;
+    private int position;
+    private final int end;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a Spliterator over the digits [inPosition, inEnd) of a limb
+     *               array.
+     * @param    'inLimbs'      --    (IntBuffer)  the limbs, least significant first
+     * @param    'inPosition'   --    (int)        the first digit to read
+     * @param    'inEnd'        --    (int)        one past the last digit to read
+     * ----------------------------------------------------------------------------*/
+    LimbDigitSpliterator(IntBuffer inLimbs, int inPosition, int inEnd) {
+
+        this.limbs = inLimbs;
+        this.position = inPosition;
+        this.end = inEnd;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    tryAdvance
+     * Purpose   Passes the next digit to the action, if any is left.
+     * @param    'action'     --    (IntConsumer)  receives the digit
+     * @returns  (boolean) false if no digit was left
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+
+        if (this.position >= this.end) {
+            return false;
+        }
+
+        action.accept(this.digitAt(this.position++));
+        return true;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    forEachRemaining
+     * Purpose   Passes every remaining digit to the action, unpacking each limb
+     *               once instead of dividing for every digit.
+     * @param    'action'     --    (IntConsumer)  receives the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+
+        int index = this.position;
+        this.position = this.end;
+
+        while (index < this.end) {
+            int limbIndex = index / Limbs.BASE_DIGITS;
+            int digit = index % Limbs.BASE_DIGITS;
+            int limb = this.limbs.get(limbIndex) / Limbs.POW10[digit];
+            int stop = Math.min(this.end, (limbIndex + 1) * Limbs.BASE_DIGITS);
+
+            for (; index < stop; index++) {
+                action.accept(limb % 10);
+                limb /= 10;
+            }
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    trySplit
+     * Purpose   Splits off the lower half of the remaining digits, unless fewer
+     *               than MIN_SPLIT_DIGITS are left.
+     * @param    None
+     * @returns  (Spliterator.OfInt) a Spliterator over the lower half, or null
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public Spliterator.OfInt trySplit() {
+
+        int remaining = this.end - this.position;
+        if (remaining < 2 * MIN_SPLIT_DIGITS) {
+            return null;
+        }
+
+        int middle = this.position + remaining / 2;
+        LimbDigitSpliterator lower = new LimbDigitSpliterator(this.limbs, this.position, middle);
+        this.position = middle;
+        return lower;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    estimateSize
+     * Purpose   Returns the exact number of digits left.
+     * @param    None
+     * @returns  (long) the number of digits left
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public long estimateSize() {
+
+        return this.end - this.position;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    characteristics
+     * Purpose   Returns the characteristics of the Spliterator: the digits are
+     *               ordered and counted exactly, and so are those of its splits.
+     * @param    None
+     * @returns  (int) the characteristics
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int characteristics() {
+
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.NONNULL;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digitAt
+     * Purpose   Returns one digit of the limbs.
+     * @param    'index'     --    (int)   the position of the digit
+     * @returns  (int) the digit
+     * ----------------------------------------------------------------------------*/
+    private int digitAt(int index) {
+
+        int limb = this.limbs.get(index / Limbs.BASE_DIGITS);
+        return (limb / Limbs.POW10[index % Limbs.BASE_DIGITS]) % 10;
+    }
+
+} /* ****************************************************************************** */
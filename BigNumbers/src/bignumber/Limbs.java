@@ -0,0 +1,563 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/* ******************************************************************************
+ * Class     Limbs
+ * Purpose   The Limbs class gathers the static helpers shared by the BigNumber
+ *               implementations that store their value as an array of base-10^9
+ *               "limbs". A limb array is little-endian: index 0 holds the nine
+ *               least significant decimal digits. Every helper takes the array
+ *               together with the number of limbs in use, so that callers may keep
+ *               spare capacity at the end of the array. A normalized limb array has
+ *               no zero limbs above index 0, and the value 0 is a single zero limb.
+ *               The class is package-private and cannot be instantiated.
+ * @attrib   'BASE'           --    (int)     the radix of a single limb, 10^9
+ * @attrib   'BASE_DIGITS'    --    (int)     the number of decimal digits per limb
+ * @attrib   'POW10'          --    (int[])   powers of ten from 10^0 to 10^9
+ * @attrib   'WRITE_CHUNK_CHARS'  --  (int)   the number of chars handed to an
+ *                                              Appendable at a time when writing
+ * @attrib   'HASH_MULTIPLIER'    --  (int)   the multiplier of the digit hash, as
+ *                                              in String.hashCode
+ * @attrib   'HASH_INVERSE'       --  (int)   the inverse of HASH_MULTIPLIER
+ *                                              modulo 2^32
+ * ***************************************************************************** */
+final class Limbs {
+
+    static final int BASE = 1_000_000_000;
+    static final int BASE_DIGITS = 9;
+    static final int[] POW10 = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+    static final int WRITE_CHUNK_CHARS = 4096;
+    static final int HASH_MULTIPLIER = 31;
+    static final int HASH_INVERSE = 0xBDEF7BDF;
+
+    private Limbs() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    limbCountFor
+     * Purpose   Returns the number of limbs needed to hold the given number of
+     *               decimal digits.
+     * @param    'digitCount'    --    (int)   a number of decimal digits
+     * @returns  (int) the number of limbs needed for that many digits
+     * ----------------------------------------------------------------------------*/
+    static int limbCountFor(int digitCount) {
+
+        return digitCount / BASE_DIGITS + (digitCount % BASE_DIGITS == 0 ? 0 : 1);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digitsIn
+     * Purpose   Returns the number of decimal digits in a single limb value. The
+     *               limb 0 counts as one digit.
+     * @param    'limb'     --    (int)   a value between 0 and BASE - 1
+     * @returns  (int) the number of decimal digits in the limb
+     * ----------------------------------------------------------------------------*/
+    static int digitsIn(int limb) {
+
+        int digits = 1;
+        while (digits < BASE_DIGITS && limb >= POW10[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digitCount
+     * Purpose   Returns the number of decimal digits of a normalized limb array.
+     * @param    'limbs'    --    (int[])  a normalized limb array
+     * @param    'count'    --    (int)    the number of limbs in use
+     * @returns  (int) the number of decimal digits in the value
+     * ----------------------------------------------------------------------------*/
+    static int digitCount(int[] limbs, int count) {
+
+        return (count - 1) * BASE_DIGITS + digitsIn(limbs[count - 1]);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digitAt
+     * Purpose   Returns the decimal digit at the given position, where position 0
+     *               is the least significant digit. Positions beyond the limbs in
+     *               use read as 0.
+     * @param    'limbs'      --    (int[])  a limb array
+     * @param    'count'      --    (int)    the number of limbs in use
+     * @param    'position'   --    (int)    the position of the digit
+     * @returns  (int) the digit at the position
+     * ----------------------------------------------------------------------------*/
+    static int digitAt(int[] limbs, int count, int position) {
+
+        int limbIndex = position / BASE_DIGITS;
+        if (limbIndex >= count) {
+            return 0;
+        }
+        return (limbs[limbIndex] / POW10[position % BASE_DIGITS]) % 10;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    normalizedCount
+     * Purpose   Returns the number of limbs in use once zero limbs at the most
+     *               significant end are discarded. Never returns less than 1.
+     * @param    'limbs'    --    (int[])  a limb array
+     * @param    'count'    --    (int)    the number of limbs currently counted
+     * @returns  (int) the normalized number of limbs
+     * ----------------------------------------------------------------------------*/
+    static int normalizedCount(int[] limbs, int count) {
+
+        while (count > 1 && limbs[count - 1] == 0) {
+            count--;
+        }
+        return Math.max(count, 1);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compare
+     * Purpose   Compares two normalized limb arrays. Returns -1, 0 or 1 in the same
+     *               manner as BigNumber.compareTo.
+     * @param    'a'        --    (int[])  the first limb array
+     * @param    'aCount'   --    (int)    the number of limbs in use in a
+     * @param    'b'        --    (int[])  the second limb array
+     * @param    'bCount'   --    (int)    the number of limbs in use in b
+     * @returns  (int) 1, 0, or -1, depending on whether a is larger than, equal
+     *               to, or smaller than b
+     * ----------------------------------------------------------------------------*/
+    static int compare(int[] a, int aCount, int[] b, int bCount) {
+
+        if (aCount != bCount) {
+            return aCount > bCount ? 1 : -1;
+        }
+
+        for (int i = aCount - 1; i >= 0; i--) {
+            if (a[i] != b[i]) {
+                return a[i] > b[i] ? 1 : -1;
+            }
+        }
+
+        return 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two limb arrays and returns a new, exactly sized, normalized
+     *               limb array holding the sum.
+     * @param    'a'        --    (int[])  the first addend
+     * @param    'aCount'   --    (int)    the number of limbs in use in a
+     * @param    'b'        --    (int[])  the second addend
+     * @param    'bCount'   --    (int)    the number of limbs in use in b
+     * @returns  (int[]) the sum as a limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] add(int[] a, int aCount, int[] b, int bCount) {
+
+        // Let a be the longer addend
+        if (aCount < bCount) {
+            int[] tempLimbs = a;
+            a = b;
+            b = tempLimbs;
+            int tempCount = aCount;
+            aCount = bCount;
+            bCount = tempCount;
+        }
+
+        int[] sum = new int[aCount + 1];
+        int carry = 0;
+        int i = 0;
+
+        for (; i < bCount; i++) {
+            int limbSum = a[i] + b[i] + carry;
+            carry = limbSum >= BASE ? 1 : 0;
+            sum[i] = limbSum - carry * BASE;
+        }
+
+        for (; i < aCount; i++) {
+            int limbSum = a[i] + carry;
+            carry = limbSum >= BASE ? 1 : 0;
+            sum[i] = limbSum - carry * BASE;
+        }
+
+        if (carry == 0) {
+            return Arrays.copyOf(sum, aCount);
+        }
+
+        sum[aCount] = carry;
+        return sum;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Adds the limbs of b to the limbs of a, storing the sum in a. The
+     *               array a must have room for max(aCount, bCount) + 1 limbs; limbs
+     *               of a past aCount are overwritten. a and b may be the same array.
+     * @param    'a'        --    (int[])  the first addend, replaced by the sum
+     * @param    'aCount'   --    (int)    the number of limbs in use in a
+     * @param    'b'        --    (int[])  the second addend
+     * @param    'bCount'   --    (int)    the number of limbs in use in b
+     * @returns  (int) the number of limbs in use in the sum
+     * ----------------------------------------------------------------------------*/
+    static int addInPlace(int[] a, int aCount, int[] b, int bCount) {
+
+        int top = Math.max(aCount, bCount);
+        Arrays.fill(a, aCount, top, 0);
+
+        int carry = 0;
+        int i = 0;
+
+        for (; i < bCount; i++) {
+            int limbSum = a[i] + b[i] + carry;
+            carry = limbSum >= BASE ? 1 : 0;
+            a[i] = limbSum - carry * BASE;
+        }
+
+        // Only the carry is left to ripple through the rest of a
+        for (; carry != 0 && i < top; i++) {
+            int limbSum = a[i] + carry;
+            carry = limbSum >= BASE ? 1 : 0;
+            a[i] = limbSum - carry * BASE;
+        }
+
+        if (carry == 0) {
+            return top;
+        }
+
+        a[top] = carry;
+        return top + 1;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromString
+     * Purpose   Packs a String of decimal digits into a normalized limb array.
+     *               Throws NumberFormatException if a non-numeric char is found.
+     *               An empty String is read as 0.
+     * @param    'digits'   --    (CharSequence)  the digits, most significant first
+     * @returns  (int[]) the normalized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] fromString(CharSequence digits) {
+
+        int start = 0;
+        int end = digits.length();
+
+        // Skip leading zeroes so that they are never packed
+        while (start < end && digits.charAt(start) == '0') {
+            start++;
+        }
+
+        if (start == end) {
+            for (int i = 0; i < end; i++) {
+                checkDigitChar(digits.charAt(i));
+            }
+            return new int[] {0};
+        }
+
+        int[] limbs = new int[limbCountFor(end - start)];
+        int limbIndex = 0;
+
+        // Read nine characters at a time from the least significant end
+        for (int limbEnd = end; limbEnd > start; limbEnd -= BASE_DIGITS) {
+            int limbStart = Math.max(start, limbEnd - BASE_DIGITS);
+            int limb = 0;
+            for (int i = limbStart; i < limbEnd; i++) {
+                limb = limb * 10 + checkDigitChar(digits.charAt(i));
+            }
+            limbs[limbIndex++] = limb;
+        }
+
+        return limbs;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    readAll
+     * Purpose   Reads every remaining char from a Reader into a single buffer, so
+     *               that a number can be parsed once its total length is known.
+     *               The Reader is not closed.
+     * @param    'reader'   --    (Reader)  the Reader to drain
+     * @returns  (CharSequence) the chars read
+     * ----------------------------------------------------------------------------*/
+    static CharSequence readAll(Reader reader) throws IOException {
+
+        char[] buffer = new char[8192];
+        int count = 0;
+        int read;
+
+        while ((read = reader.read(buffer, count, buffer.length - count)) != -1) {
+            count += read;
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        return CharBuffer.wrap(buffer, 0, count);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    checkDigitChar
+     * Purpose   Returns the value of a decimal digit char. Throws
+     *               NumberFormatException if the char is not a decimal digit.
+     * @param    'c'        --    (char)  the char to check
+     * @returns  (int) the value of the digit
+     * ----------------------------------------------------------------------------*/
+    static int checkDigitChar(char c) {
+
+        if (c < '0' || c > '9') {
+            throw new NumberFormatException("The String must represent a valid non-negative integer.");
+        }
+        return c - '0';
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Returns the value of any BigNumber as a normalized limb array.
+     *               The implementations in this package convert themselves; any
+     *               other implementation is read through its digitList. The caller
+     *               must not change the returned array.
+     * @param    'number'   --    (BigNumber)  the BigNumber to convert
+     * @returns  (int[]) the value as a normalized, exactly sized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] toLimbs(BigNumber number) {
+
+        if (number instanceof AbstractBigNumber) {
+            return ((AbstractBigNumber) number).toLimbs();
+        }
+
+        return fromDigitList(number.getDigitList());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromDigitList
+     * Purpose   Packs a List of digits, least significant digit at the Head, into
+     *               a normalized limb array in a single pass. Throws
+     *               IllegalArgumentException if the List holds a value that is not
+     *               a single digit.
+     * @param    'digitList'   --    (MyList)  the digits to pack
+     * @returns  (int[]) the normalized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] fromDigitList(MyList digitList) {
+
+        return fromDigitList(digitList, 0);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromDigitList
+     * Purpose   Packs a List of digits followed by a number of implicit trailing
+     *               zeroes, i.e. the value of the List times 10^scale, into a
+     *               normalized limb array in a single pass.
+     * @param    'digitList'   --    (MyList)  the digits to pack
+     * @param    'scale'       --    (int)     the number of implicit trailing zeroes
+     * @returns  (int[]) the normalized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] fromDigitList(MyList digitList, int scale) {
+
+        int[] limbs = new int[Math.max(1, limbCountFor(digitList.size() + scale))];
+        MyListCursor cursor = digitList.cursorAtHead();
+        int position = scale;
+
+        while (cursor.hasNext()) {
+            int digit = cursor.next();
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("The List must only hold single non-negative digits.");
+            }
+            limbs[position / BASE_DIGITS] += digit * POW10[position % BASE_DIGITS];
+            position++;
+        }
+
+        int count = normalizedCount(limbs, limbs.length);
+        return count == limbs.length ? limbs : Arrays.copyOf(limbs, count);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toDigitList
+     * Purpose   Unpacks a normalized limb array into a new List of digits, least
+     *               significant digit at the Head.
+     * @param    'limbs'    --    (int[])  a normalized limb array
+     * @param    'count'    --    (int)    the number of limbs in use
+     * @returns  (MyList) the digits as a Linked List
+     * ----------------------------------------------------------------------------*/
+    static MyList toDigitList(int[] limbs, int count) {
+
+        return toDigitList(limbs, count, new MyListImpl());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toDigitList
+     * Purpose   Unpacks a normalized limb array into an empty List of digits,
+     *               least significant digit at the Head.
+     * @param    'limbs'        --    (int[])   a normalized limb array
+     * @param    'count'        --    (int)     the number of limbs in use
+     * @param    'digitList'    --    (MyList)  an empty List to fill
+     * @returns  (MyList) the filled List
+     * ----------------------------------------------------------------------------*/
+    static MyList toDigitList(int[] limbs, int count, MyList digitList) {
+
+        for (int i = 0; i < count; i++) {
+            int limb = limbs[i];
+            int digitsToWrite = (i == count - 1) ? digitsIn(limb) : BASE_DIGITS;
+            for (int d = 0; d < digitsToWrite; d++) {
+                digitList.insertRear(limb % 10);
+                limb /= 10;
+            }
+        }
+
+        return digitList;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toDecimalString
+     * Purpose   Returns the decimal String representation of a normalized limb
+     *               array, most significant digit first.
+     * @param    'limbs'    --    (int[])  a normalized limb array
+     * @param    'count'    --    (int)    the number of limbs in use
+     * @returns  (String) the value as a String of decimal digits
+     * ----------------------------------------------------------------------------*/
+    static String toDecimalString(int[] limbs, int count) {
+
+        char[] chars = new char[digitCount(limbs, count)];
+        int charIndex = chars.length;
+
+        // Write every limb right to left; only the top limb is left unpadded
+        for (int i = 0; i < count; i++) {
+            int limb = limbs[i];
+            int digitsToWrite = (i == count - 1) ? digitsIn(limb) : BASE_DIGITS;
+            for (int d = 0; d < digitsToWrite; d++) {
+                chars[--charIndex] = (char) ('0' + limb % 10);
+                limb /= 10;
+            }
+        }
+
+        return new String(chars);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeDecimal
+     * Purpose   Writes the decimal digits of a normalized limb array, most
+     *               significant first, to an Appendable in a single pass. Only the
+     *               top limb is left unpadded; the digits are handed over in chunks
+     *               of WRITE_CHUNK_CHARS chars.
+     * @param    'limbs'    --    (IntBuffer)   a normalized limb array, on or off
+     *                                            the heap (see IntBuffer.wrap)
+     * @param    'count'    --    (int)         the number of limbs in use
+     * @param    'out'      --    (Appendable)  the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void writeDecimal(IntBuffer limbs, int count, Appendable out) throws IOException {
+
+        char[] chunk = new char[WRITE_CHUNK_CHARS];
+        int chunkCount = 0;
+
+        for (int i = count - 1; i >= 0; i--) {
+            if (chunkCount > chunk.length - BASE_DIGITS) {
+                out.append(CharBuffer.wrap(chunk, 0, chunkCount));
+                chunkCount = 0;
+            }
+
+            int limb = limbs.get(i);
+            int digitsToWrite = (i == count - 1) ? digitsIn(limb) : BASE_DIGITS;
+            for (int d = chunkCount + digitsToWrite - 1; d >= chunkCount; d--) {
+                chunk[d] = (char) ('0' + limb % 10);
+                limb /= 10;
+            }
+            chunkCount += digitsToWrite;
+        }
+
+        out.append(CharBuffer.wrap(chunk, 0, chunkCount));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hash
+     * Purpose   Returns the hash code of a normalized limb array: the hash code of
+     *               the String of its decimal digits, computed from the least
+     *               significant digit up without building the String.
+     * @param    'limbs'    --    (IntBuffer)   a normalized limb array, on or off
+     *                                            the heap (see IntBuffer.wrap)
+     * @param    'count'    --    (int)         the number of limbs in use
+     * @returns  (int) the hash code of the decimal digits
+     * ----------------------------------------------------------------------------*/
+    static int hash(IntBuffer limbs, int count) {
+
+        int hash = 0;
+        int power = 1;
+
+        for (int i = 0; i < count; i++) {
+            int limb = limbs.get(i);
+            int digitsToHash = (i == count - 1) ? digitsIn(limb) : BASE_DIGITS;
+            for (int d = 0; d < digitsToHash; d++) {
+                hash += ('0' + limb % 10) * power;
+                power *= HASH_MULTIPLIER;
+                limb /= 10;
+            }
+        }
+
+        return hash;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hashShifted
+     * Purpose   Returns the hash code of a number shifted by a number of decimal
+     *               digits, from the hash code of the number, in O(log shift). A
+     *               left shift appends zeroes below the digits; a negative shift
+     *               drops them again and is only valid if the dropped digits are
+     *               zeroes. The digit hash is a polynomial in HASH_MULTIPLIER, so
+     *               a shift multiplies it by a power of HASH_MULTIPLIER, or of
+     *               HASH_INVERSE, and adds or removes the hash of the zeroes.
+     * @param    'hash'     --    (int)  the hash code of the number
+     * @param    'shift'    --    (int)  the number of digits to shift left, or
+     *                                     right if negative
+     * @returns  (int) the hash code of the shifted number
+     * ----------------------------------------------------------------------------*/
+    static int hashShifted(int hash, int shift) {
+
+        if (shift >= 0) {
+            return hash * hashPower(HASH_MULTIPLIER, shift) + zeroRunHash(shift);
+        }
+
+        return (hash - zeroRunHash(-shift)) * hashPower(HASH_INVERSE, -shift);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hashPower
+     * Purpose   Returns a power of an int modulo 2^32, by squaring.
+     * @param    'base'        --    (int)  the base
+     * @param    'exponent'    --    (int)  the exponent, not negative
+     * @returns  (int) base to the power of exponent, modulo 2^32
+     * ----------------------------------------------------------------------------*/
+    private static int hashPower(int base, int exponent) {
+
+        int power = 1;
+        for (; exponent > 0; exponent >>= 1) {
+            if ((exponent & 1) != 0) {
+                power *= base;
+            }
+            base *= base;
+        }
+        return power;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    zeroRunHash
+     * Purpose   Returns the hash code of a run of '0' digits, by doubling: the hash
+     *               of two runs one after the other is the hash of the first times
+     *               HASH_MULTIPLIER to the length of the second, plus the hash of
+     *               the second.
+     * @param    'zeros'    --    (int)  the length of the run, not negative
+     * @returns  (int) the hash code of the run
+     * ----------------------------------------------------------------------------*/
+    private static int zeroRunHash(int zeros) {
+
+        int hash = 0;
+        int runHash = '0';
+        int runPower = HASH_MULTIPLIER;
+
+        for (; zeros > 0; zeros >>= 1) {
+            if ((zeros & 1) != 0) {
+                hash = hash * runPower + runHash;
+            }
+            runHash = runHash * runPower + runHash;
+            runPower *= runPower;
+        }
+        return hash;
+    }
+
+} /* ****************************************************************************** */
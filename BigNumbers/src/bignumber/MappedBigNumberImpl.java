@@ -0,0 +1,429 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/* ******************************************************************************
+ * Class     MappedBigNumberImpl
+ * Purpose   The MappedBigNumberImpl class implements the BigNumber interface as a
+ *               read-only view of a file written by `BigNumber.writeTo(Path)` (see
+ *               the BigNumberFile class for the format). The file is memory-mapped,
+ *               so opening it only reads the header: the limbs are read in place,
+ *               page by page, as digits are requested, and are never copied onto
+ *               the heap unless an operation needs them there. Every mutating
+ *               method throws UnsupportedOperationException; `copy` and the
+ *               arithmetic methods return a PackedBigNumberImpl. The mapping is
+ *               released when this object is collected.
+ * @attrib   'path'           --    (Path)        the mapped file
+ * @attrib   'bytes'          --    (ByteBuffer)  the mapped limb bytes
+ * @attrib   'limbs'          --    (IntBuffer)   the mapped limbs, least significant first
+ * @attrib   'limbCount'      --    (int)         the number of limbs
+ * @attrib   'digitCount'     --    (int)         the number of decimal digits
+ * @attrib   'checksum'       --    (long)        the CRC-32 stored in the header
+ * ***************************************************************************** */
+public class MappedBigNumberImpl extends AbstractBigNumber {
+
+    private final Path path;
+    private final ByteBuffer bytes;
+    private final IntBuffer limbs;
+    private final int limbCount;
+    private final int digitCount;
+    private final long checksum;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a MappedBigNumberImpl over a mapped file whose header has
+     *               been checked.
+     * @param    'inPath'        --    (Path)        the mapped file
+     * @param    'inBytes'       --    (ByteBuffer)  the mapped limb bytes
+     * @param    'inLimbCount'   --    (int)         the number of limbs
+     * @param    'inDigitCount'  --    (int)         the number of decimal digits
+     * @param    'inChecksum'    --    (long)        the CRC-32 stored in the header
+     * ----------------------------------------------------------------------------*/
+    private MappedBigNumberImpl(Path inPath, ByteBuffer inBytes, int inLimbCount, int inDigitCount,
+                                long inChecksum) {
+
+        this.path = inPath;
+        this.bytes = inBytes;
+        this.limbs = inBytes.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        this.limbCount = inLimbCount;
+        this.digitCount = inDigitCount;
+        this.checksum = inChecksum;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    map
+     * Purpose   Memory-maps a BigNumber file read-only. The header is checked
+     *               against the file size and the most significant limb; the limbs
+     *               themselves are only read when the checksum is verified. Throws
+     *               IOException if the file cannot be read or is not a valid
+     *               BigNumber file, including a checksum mismatch when `verify` is
+     *               true.
+     * @param    'path'     --    (Path)     the file to map
+     * @param    'verify'   --    (boolean)  true to check the CRC-32 of the limbs now
+     * @returns  (MappedBigNumberImpl) a read-only BigNumber over the file
+     * ----------------------------------------------------------------------------*/
+    public static MappedBigNumberImpl map(Path path, boolean verify) throws IOException {
+
+        if (path == null) {
+            throw new IllegalArgumentException("The path must not be null.");
+        }
+
+        ByteBuffer header;
+        MappedByteBuffer limbBytes;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            header = BigNumberFile.readHeader(channel, path);
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("The BigNumber file is too large to map: " + path);
+            }
+            limbBytes = channel.map(FileChannel.MapMode.READ_ONLY, BigNumberFile.HEADER_BYTES,
+                    channel.size() - BigNumberFile.HEADER_BYTES);
+        }
+
+        int digitCount = header.getInt(BigNumberFile.DIGIT_COUNT_OFFSET);
+        int limbCount = header.getInt(BigNumberFile.LIMB_COUNT_OFFSET);
+        long storedChecksum = header.getLong(BigNumberFile.CHECKSUM_OFFSET);
+
+        MappedBigNumberImpl number = new MappedBigNumberImpl(path, limbBytes, limbCount, digitCount,
+                storedChecksum);
+
+        // The top limb alone fixes the digit count of a normalized number
+        int top = number.limbs.get(limbCount - 1);
+        if ((top == 0 && limbCount > 1) || top < 0 || top >= Limbs.BASE
+                || digitCount != (limbCount - 1) * Limbs.BASE_DIGITS + Limbs.digitsIn(top)) {
+            throw new IOException("The BigNumber file header does not match its digits: " + path);
+        }
+
+        if (verify && !number.verifyChecksum()) {
+            throw new IOException("The BigNumber file checksum does not match: " + path);
+        }
+
+        return number;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    verifyChecksum
+     * Purpose   Reads every limb of the file and compares their CRC-32 with the
+     *               one stored in the header.
+     * @param    None
+     * @returns  (boolean) true if the checksum matches
+     * ----------------------------------------------------------------------------*/
+    public boolean verifyChecksum() {
+
+        CRC32 actual = new CRC32();
+        actual.update(this.bytes.duplicate());
+        return actual.getValue() == this.checksum;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getPath
+     * Purpose   Returns the mapped file.
+     * @param    None
+     * @returns  (Path) the mapped file
+     * ----------------------------------------------------------------------------*/
+    public Path getPath() {
+
+        return this.path;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    length
+     * Purpose   Returns the number of digits in the BigNumber, as stored in the
+     *               header.
+     * @param    None
+     * @returns  (int) the number of digits in the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int length() {
+
+        return this.digitCount;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLeft
+     * Purpose   Not supported: a mapped BigNumber is read-only. Throws
+     *               UnsupportedOperationException.
+     * @param    'numOfShifts'      --      (int)   the number of times to left-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftLeft(int numOfShifts) {
+
+        throw readOnly();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftRight
+     * Purpose   Not supported: a mapped BigNumber is read-only. Throws
+     *               UnsupportedOperationException.
+     * @param    'numOfShifts'      --      (int)   the number of times to right-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftRight(int numOfShifts) {
+
+        throw readOnly();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addDigit
+     * Purpose   Not supported: a mapped BigNumber is read-only. Throws
+     *               UnsupportedOperationException.
+     * @param    'inDigit'      --      (int)   the value to add to the BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addDigit(int inDigit) {
+
+        throw readOnly();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitAt
+     * Purpose   Returns digit at the specified position, reading a single limb of
+     *               the file. Throws IllegalArgumentException if position is out of
+     *               bounds.
+     * @param    'position'      --      (int)   the position of the digit
+     * @returns  (int) the digit at the specified position
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int getDigitAt(int position) {
+
+        if (position < 0 || position >= this.digitCount) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        int limb = this.limbs.get(position / Limbs.BASE_DIGITS);
+        return (limb / Limbs.POW10[position % Limbs.BASE_DIGITS]) % 10;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitAt
+     * Purpose   Not supported: a mapped BigNumber is read-only. Throws
+     *               UnsupportedOperationException.
+     * @param    'position'      --      (int)   the position of the digit
+     * @param    'inDigit'       --      (int)   the value to set at the position
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitAt(int position, int inDigit) {
+
+        throw readOnly();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    copy
+     * Purpose   Returns a mutable copy of this BigNumber on the heap.
+     * @param    None
+     * @returns  (BigNumber) a PackedBigNumberImpl holding the same value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber copy() {
+
+        int[] heapLimbs = this.toLimbs();
+        return new PackedBigNumberImpl(heapLimbs, heapLimbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two BigNumbers together and returns the value as a new
+     *               PackedBigNumberImpl object.
+     * @param    'other'      --      (BigNumber)   the second addend
+     * @returns  (BigNumber) the sum of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber add(BigNumber other) {
+
+        return this.copy().add(other);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Not supported: a mapped BigNumber is read-only. Throws
+     *               UnsupportedOperationException.
+     * @param    'other'      --      (BigNumber)   the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addInPlace(BigNumber other) {
+
+        throw readOnly();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    accumulateInto
+     * Purpose   Adds the limbs of this BigNumber to an array of base-10^9 limb
+     *               columns, reading the mapped file in place.
+     * @param    'columns'    --    (long[])  the columns to add the limbs to
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    void accumulateInto(long[] columns) {
+
+        for (int i = 0; i < this.limbCount; i++) {
+            columns[i] += this.limbs.get(i);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    computeHash
+     * Purpose   Computes the hash code from the mapped limbs in place. The file is
+     *               read-only, so the hash code is computed at most once.
+     * @param    None
+     * @returns  (int) the hash code of the decimal digits
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int computeHash() {
+
+        return Limbs.hash(this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Copies the mapped limbs to a new array on the heap.
+     * @param    None
+     * @returns  (int[]) the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int[] toLimbs() {
+
+        int[] heapLimbs = new int[this.limbCount];
+        this.limbs.get(0, heapLimbs);
+        return heapLimbs;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromLimbs
+     * Purpose   Returns a new PackedBigNumberImpl holding the value of a normalized
+     *               limb array, since results cannot be written to the mapped file.
+     * @param    'inLimbs'    --    (int[])  the value as limbs, least significant first
+     * @returns  (BigNumber) a new PackedBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    BigNumber fromLimbs(int[] inLimbs) {
+
+        return new PackedBigNumberImpl(inLimbs, inLimbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitList
+     * Purpose   Returns the digits as a new Linked List, least significant digit
+     *               at the Head. The List is a snapshot on the heap.
+     * @param    None
+     * @returns  (MyList) the digits of the BigNumber as a Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyList getDigitList() {
+
+        return Limbs.toDigitList(this.toLimbs(), this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitList
+     * Purpose   Not supported: a mapped BigNumber is read-only. Throws
+     *               UnsupportedOperationException.
+     * @param    'inDigitList'  --  (MyList)    a list of digits representing a BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitList(MyList inDigitList) {
+
+        throw readOnly();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compareTo
+     * Purpose   Compares two BigNumbers. Returns -1 if this is smaller than other,
+     *               returns 1 if this is larger than other, and 0 is they are equal.
+     *               The lengths are compared before any limb is read.
+     * @param    'other'  --  (BigNumber)    a BigNumber object
+     * @returns  (int) 1, 0, or -1, depending on whether this is larger than, equal
+     *               to, or smaller than other
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int compareTo(BigNumber other) {
+
+        int otherLength = other.length();
+        if (this.digitCount != otherLength) {
+            return this.digitCount > otherLength ? 1 : -1;
+        }
+
+        IntBuffer otherLimbs = other instanceof MappedBigNumberImpl
+                ? ((MappedBigNumberImpl) other).limbs
+                : IntBuffer.wrap(Limbs.toLimbs(other));
+
+        for (int i = this.limbCount - 1; i >= 0; i--) {
+            int thisLimb = this.limbs.get(i);
+            int otherLimb = otherLimbs.get(i);
+            if (thisLimb != otherLimb) {
+                return thisLimb > otherLimb ? 1 : -1;
+            }
+        }
+
+        return 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the digits of the BigNumber, most significant first, to an
+     *               Appendable, reading the limbs from the mapped file.
+     * @param    'out'      --      (Appendable)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+
+        if (out == null) {
+            throw new IllegalArgumentException("The Appendable must not be null.");
+        }
+
+        Limbs.writeDecimal(this.limbs, this.limbCount, out);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the BigNumber to a file in the binary format, reading the
+     *               limbs from the mapped file without copying them to the heap.
+     * @param    'file'     --      (Path)   the file to write
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Path file) throws IOException {
+
+        BigNumberFile.write(file, this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digits
+     * Purpose   Returns the digits of the BigNumber, least significant first, read
+     *               in place from the mapped file.
+     * @param    None
+     * @returns  (IntStream) the digits, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public IntStream digits() {
+
+        return digitsOf(this.limbs, this.length());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    readOnly
+     * Purpose   Returns the exception thrown by every mutating method.
+     * @param    None
+     * @returns  (UnsupportedOperationException) the exception to throw
+     * ----------------------------------------------------------------------------*/
+    private static UnsupportedOperationException readOnly() {
+
+        return new UnsupportedOperationException("A mapped BigNumber is read-only.");
+    }
+
+} /* ****************************************************************************** */
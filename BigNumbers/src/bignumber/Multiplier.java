@@ -0,0 +1,720 @@
+package bignumber;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/* ******************************************************************************
+ * Class     Multiplier
+ * Purpose   The Multiplier class holds the multiplication algorithms used by
+ *               `BigNumber.multiply`. All of them work on base-10^9 limb arrays
+ *               (see the Limbs class). Schoolbook multiplication is used while the
+ *               shorter operand is below the Karatsuba threshold, Karatsuba
+ *               multiplication up to the Toom-Cook threshold, Toom-Cook 3-way
+ *               multiplication up to the NTT threshold, and the number-theoretic
+ *               transform (see NttMultiplier) above it. All thresholds are counted
+ *               in decimal digits and can be tuned with the static setters; the
+ *               Karatsuba and Toom-Cook thresholds can also be picked for the
+ *               current machine by `calibrate`. Setting the system property
+ *               `bignumber.multiply.calibrate` to true runs the calibration once,
+ *               when the class is first used. In parallel mode, enabled by giving
+ *               a ForkJoinPool to `setParallelPool`, the NTT transforms are split
+ *               across the pool. Squares have their own entry point, `square`,
+ *               which saves part of the limb products at each level. The class
+ *               cannot be instantiated.
+ * @attrib   'karatsubaThreshold'   --  (int)  digits at which Karatsuba takes over
+ * @attrib   'toomCookThreshold'    --  (int)  digits at which Toom-Cook 3 takes over
+ * @attrib   'nttThreshold'         --  (int)  digits at which the NTT takes over
+ * @attrib   'parallelPool'         --  (ForkJoinPool)  the pool for parallel mode, or null
+ * ***************************************************************************** */
+public final class Multiplier {
+
+    static final int DEFAULT_KARATSUBA_THRESHOLD = 720;
+    static final int DEFAULT_TOOM_COOK_THRESHOLD = 2160;
+    static final int DEFAULT_NTT_THRESHOLD = 300_000;
+
+    private static volatile int karatsubaThreshold = DEFAULT_KARATSUBA_THRESHOLD;
+    private static volatile int toomCookThreshold = DEFAULT_TOOM_COOK_THRESHOLD;
+    private static volatile int nttThreshold = DEFAULT_NTT_THRESHOLD;
+    private static volatile ForkJoinPool parallelPool = null;
+
+    static {
+        if (Boolean.getBoolean("bignumber.multiply.calibrate")) {
+            calibrate();
+        }
+    }
+
+    private Multiplier() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getKaratsubaThreshold
+     * Purpose   Returns the number of digits in the shorter operand from which
+     *               Karatsuba multiplication is used instead of schoolbook.
+     * @param    None
+     * @returns  (int) the Karatsuba threshold, in decimal digits
+     * ----------------------------------------------------------------------------*/
+    public static int getKaratsubaThreshold() {
+
+        return karatsubaThreshold;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setKaratsubaThreshold
+     * Purpose   Sets the number of digits in the shorter operand from which
+     *               Karatsuba multiplication is used. Throws IllegalArgumentException
+     *               if the threshold is below 2 limbs (18 digits), where Karatsuba
+     *               can no longer split its operands.
+     * @param    'digits'   --    (int)   the new Karatsuba threshold
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setKaratsubaThreshold(int digits) {
+
+        if (digits < 2 * Limbs.BASE_DIGITS) {
+            throw new IllegalArgumentException("The Karatsuba threshold must be at least "
+                    + 2 * Limbs.BASE_DIGITS + " digits.");
+        }
+
+        karatsubaThreshold = digits;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getToomCookThreshold
+     * Purpose   Returns the number of digits in the shorter operand from which
+     *               Toom-Cook 3-way multiplication is used instead of Karatsuba.
+     * @param    None
+     * @returns  (int) the Toom-Cook threshold, in decimal digits
+     * ----------------------------------------------------------------------------*/
+    public static int getToomCookThreshold() {
+
+        return toomCookThreshold;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setToomCookThreshold
+     * Purpose   Sets the number of digits in the shorter operand from which
+     *               Toom-Cook 3-way multiplication is used. Throws
+     *               IllegalArgumentException if the threshold is below 3 limbs
+     *               (27 digits), where Toom-Cook can no longer split its operands.
+     * @param    'digits'   --    (int)   the new Toom-Cook threshold
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setToomCookThreshold(int digits) {
+
+        if (digits < 3 * Limbs.BASE_DIGITS) {
+            throw new IllegalArgumentException("The Toom-Cook threshold must be at least "
+                    + 3 * Limbs.BASE_DIGITS + " digits.");
+        }
+
+        toomCookThreshold = digits;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getNttThreshold
+     * Purpose   Returns the number of digits in the shorter operand from which
+     *               NTT multiplication is used instead of Toom-Cook 3.
+     * @param    None
+     * @returns  (int) the NTT threshold, in decimal digits
+     * ----------------------------------------------------------------------------*/
+    public static int getNttThreshold() {
+
+        return nttThreshold;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setNttThreshold
+     * Purpose   Sets the number of digits in the shorter operand from which NTT
+     *               multiplication is used. Throws IllegalArgumentException if the
+     *               threshold is not positive.
+     * @param    'digits'   --    (int)   the new NTT threshold
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setNttThreshold(int digits) {
+
+        if (digits < 1) {
+            throw new IllegalArgumentException("The NTT threshold must be positive.");
+        }
+
+        nttThreshold = digits;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getParallelPool
+     * Purpose   Returns the pool used in parallel mode, or null if parallel mode
+     *               is off.
+     * @param    None
+     * @returns  (ForkJoinPool) the pool for parallel mode, or null
+     * ----------------------------------------------------------------------------*/
+    public static ForkJoinPool getParallelPool() {
+
+        return parallelPool;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setParallelPool
+     * Purpose   Turns parallel mode on by giving the pool that NTT multiplications
+     *               split their transforms across, or off by passing null.
+     *               ForkJoinPool.commonPool() is a reasonable choice.
+     * @param    'pool'     --    (ForkJoinPool)  the pool for parallel mode, or null
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setParallelPool(ForkJoinPool pool) {
+
+        parallelPool = pool;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    resetThresholds
+     * Purpose   Restores all thresholds to their default values.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void resetThresholds() {
+
+        karatsubaThreshold = DEFAULT_KARATSUBA_THRESHOLD;
+        toomCookThreshold = DEFAULT_TOOM_COOK_THRESHOLD;
+        nttThreshold = DEFAULT_NTT_THRESHOLD;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    calibrate
+     * Purpose   Picks both thresholds for the current machine. For a range of
+     *               operand sizes, times one level of Karatsuba against schoolbook
+     *               multiplication, and then one level of Toom-Cook against
+     *               Karatsuba; each threshold is set to the first size at which the
+     *               faster algorithm wins. Takes well under a second on current
+     *               hardware.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static synchronized void calibrate() {
+
+        Random random = new Random(5004);
+
+        // Karatsuba against schoolbook, with schoolbook below the split
+        int karatsubaLimbs = 2;
+        for (int limbs = 8; limbs <= 256; limbs += 8) {
+            int[] a = randomLimbs(random, limbs);
+            int[] b = randomLimbs(random, limbs);
+            long schoolbookTime = timeOf(() -> schoolbook(a, b));
+            long karatsubaTime = timeOf(() -> karatsuba(a, b, Integer.MAX_VALUE, Integer.MAX_VALUE));
+            karatsubaLimbs = limbs;
+            if (karatsubaTime < schoolbookTime) {
+                break;
+            }
+        }
+
+        // Toom-Cook against Karatsuba, with the calibrated Karatsuba below the split
+        int toomCookLimbs = Math.max(3, karatsubaLimbs);
+        for (int limbs = toomCookLimbs; limbs <= 2048; limbs += Math.max(8, limbs / 8)) {
+            int[] a = randomLimbs(random, limbs);
+            int[] b = randomLimbs(random, limbs);
+            int k = karatsubaLimbs;
+            long karatsubaTime = timeOf(() -> karatsuba(a, b, k, Integer.MAX_VALUE));
+            long toomCookTime = timeOf(() -> toomCook3(a, b, k, Integer.MAX_VALUE));
+            toomCookLimbs = limbs;
+            if (toomCookTime < karatsubaTime) {
+                break;
+            }
+        }
+
+        karatsubaThreshold = Math.max(2, karatsubaLimbs) * Limbs.BASE_DIGITS;
+        toomCookThreshold = Math.max(3, toomCookLimbs) * Limbs.BASE_DIGITS;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiply
+     * Purpose   Multiplies two normalized limb arrays and returns the normalized,
+     *               exactly sized product. The algorithm is picked from the length
+     *               of the shorter operand and the current thresholds.
+     * @param    'a'        --    (int[])  the first factor
+     * @param    'b'        --    (int[])  the second factor
+     * @returns  (int[]) the product as a limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] multiply(int[] a, int[] b) {
+
+        return multiply(a, b, Limbs.limbCountFor(karatsubaThreshold),
+                Limbs.limbCountFor(toomCookThreshold));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiply
+     * Purpose   Multiplies two limb arrays with explicit thresholds, counted in
+     *               limbs. Operands above the NTT threshold always go to the NTT,
+     *               as long as the product fits in its longest transform. Below it,
+     *               very unbalanced operands are cut into pieces the size of the
+     *               shorter one so that the recursive algorithms always split
+     *               operands of similar length.
+     * @param    'a'               --    (int[])  the first factor
+     * @param    'b'               --    (int[])  the second factor
+     * @param    'karatsubaLimbs'  --    (int)    the Karatsuba threshold in limbs
+     * @param    'toomCookLimbs'   --    (int)    the Toom-Cook threshold in limbs
+     * @returns  (int[]) the product as a limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] multiply(int[] a, int[] b, int karatsubaLimbs, int toomCookLimbs) {
+
+        a = trim(a);
+        b = trim(b);
+
+        if (a.length < b.length) {
+            int[] temp = a;
+            a = b;
+            b = temp;
+        }
+
+        if (isZero(b)) {
+            return new int[] {0};
+        }
+
+        if (b.length < karatsubaLimbs) {
+            return schoolbook(a, b);
+        }
+
+        if (b.length >= Limbs.limbCountFor(nttThreshold) && NttMultiplier.supports(a.length, b.length)) {
+            return NttMultiplier.multiply(a, b, parallelPool);
+        }
+
+        // Unbalanced: multiply the shorter operand by each piece of the longer one
+        if (2 * b.length <= a.length) {
+            int[] product = new int[a.length + b.length];
+            for (int offset = 0; offset < a.length; offset += b.length) {
+                int[] piece = slice(a, offset, Math.min(a.length, offset + b.length));
+                addInto(product, multiply(piece, b, karatsubaLimbs, toomCookLimbs), offset);
+            }
+            return trim(product);
+        }
+
+        if (b.length < toomCookLimbs) {
+            return karatsuba(a, b, karatsubaLimbs, toomCookLimbs);
+        }
+
+        return toomCook3(a, b, karatsubaLimbs, toomCookLimbs);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    square
+     * Purpose   Squares a normalized limb array and returns the normalized, exactly
+     *               sized square, using the current thresholds.
+     * @param    'a'        --    (int[])  the value to square
+     * @returns  (int[]) the square as a limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] square(int[] a) {
+
+        return square(a, Limbs.limbCountFor(karatsubaThreshold), Limbs.limbCountFor(toomCookThreshold));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    square
+     * Purpose   Squares a limb array with explicit thresholds, counted in limbs.
+     *               Squaring needs fewer limb products than a general
+     *               multiplication: the schoolbook square computes each cross
+     *               product once and doubles it, Karatsuba squaring splits into
+     *               three half-size squares, and the NTT transforms the operand
+     *               once per prime. Toom-Cook 3 falls back to the general product.
+     * @param    'a'               --    (int[])  the value to square
+     * @param    'karatsubaLimbs'  --    (int)    the Karatsuba threshold in limbs
+     * @param    'toomCookLimbs'   --    (int)    the Toom-Cook threshold in limbs
+     * @returns  (int[]) the square as a limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] square(int[] a, int karatsubaLimbs, int toomCookLimbs) {
+
+        a = trim(a);
+
+        if (isZero(a)) {
+            return new int[] {0};
+        }
+
+        if (a.length < karatsubaLimbs) {
+            return schoolbookSquare(a);
+        }
+
+        if (a.length >= Limbs.limbCountFor(nttThreshold) && NttMultiplier.supports(a.length, a.length)) {
+            return NttMultiplier.multiply(a, a, parallelPool);
+        }
+
+        if (a.length < toomCookLimbs) {
+            return karatsubaSquare(a, karatsubaLimbs, toomCookLimbs);
+        }
+
+        return toomCook3(a, a, karatsubaLimbs, toomCookLimbs);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    schoolbookSquare
+     * Purpose   Squares a limb array by hand: the cross products a[i] * a[j] with
+     *               i < j are summed once, doubled, and the squares of the limbs
+     *               are added on the diagonal, in about half the limb
+     *               multiplications of `schoolbook`.
+     * @param    'a'        --    (int[])  a normalized limb array
+     * @returns  (int[]) the normalized square
+     * ----------------------------------------------------------------------------*/
+    static int[] schoolbookSquare(int[] a) {
+
+        int n = a.length;
+        int[] square = new int[2 * n];
+
+        for (int i = 0; i < n - 1; i++) {
+            long aLimb = a[i];
+            if (aLimb == 0) {
+                continue;
+            }
+
+            long carry = 0;
+            for (int j = i + 1; j < n; j++) {
+                long t = aLimb * a[j] + square[i + j] + carry;
+                carry = t / Limbs.BASE;
+                square[i + j] = (int) (t - carry * Limbs.BASE);
+            }
+            square[i + n] = (int) carry;
+        }
+
+        // Twice the cross products is below the square, so no carry leaves the array
+        long carry = 0;
+        for (int k = 0; k < 2 * n; k++) {
+            long t = 2L * square[k] + carry;
+            carry = t / Limbs.BASE;
+            square[k] = (int) (t - carry * Limbs.BASE);
+        }
+
+        carry = 0;
+        for (int i = 0; i < n; i++) {
+            long diagonal = (long) a[i] * a[i];
+            long high = diagonal / Limbs.BASE;
+
+            long t = square[2 * i] + (diagonal - high * Limbs.BASE) + carry;
+            carry = t / Limbs.BASE;
+            square[2 * i] = (int) (t - carry * Limbs.BASE);
+
+            t = square[2 * i + 1] + high + carry;
+            carry = t / Limbs.BASE;
+            square[2 * i + 1] = (int) (t - carry * Limbs.BASE);
+        }
+
+        return trim(square);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    karatsubaSquare
+     * Purpose   Squares a limb array with one level of Karatsuba splitting: the
+     *               squares of the low half, the high half and their sum, instead
+     *               of the three general products of `karatsuba`. The half-size
+     *               squares recurse through `square`.
+     * @param    'a'               --    (int[])  the value to square
+     * @param    'karatsubaLimbs'  --    (int)    the Karatsuba threshold in limbs
+     * @param    'toomCookLimbs'   --    (int)    the Toom-Cook threshold in limbs
+     * @returns  (int[]) the normalized square
+     * ----------------------------------------------------------------------------*/
+    static int[] karatsubaSquare(int[] a, int karatsubaLimbs, int toomCookLimbs) {
+
+        int half = (a.length + 1) / 2;
+
+        int[] aLow = slice(a, 0, half);
+        int[] aHigh = slice(a, half, a.length);
+
+        int[] low = square(aLow, karatsubaLimbs, toomCookLimbs);
+        int[] high = square(aHigh, karatsubaLimbs, toomCookLimbs);
+        int[] middle = square(add(aLow, aHigh), karatsubaLimbs, toomCookLimbs);
+        middle = subtract(subtract(middle, low), high);
+
+        int[] square = new int[2 * a.length + 1];
+        addInto(square, low, 0);
+        addInto(square, middle, half);
+        addInto(square, high, 2 * half);
+
+        return trim(square);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    schoolbook
+     * Purpose   Multiplies two limb arrays the way it is done by hand, in
+     *               O(n * m) limb multiplications.
+     * @param    'a'        --    (int[])  the first factor
+     * @param    'b'        --    (int[])  the second factor
+     * @returns  (int[]) the normalized product
+     * ----------------------------------------------------------------------------*/
+    static int[] schoolbook(int[] a, int[] b) {
+
+        int[] product = new int[a.length + b.length];
+
+        for (int i = 0; i < a.length; i++) {
+            long aLimb = a[i];
+            if (aLimb == 0) {
+                continue;
+            }
+
+            long carry = 0;
+            for (int j = 0; j < b.length; j++) {
+                long t = aLimb * b[j] + product[i + j] + carry;
+                carry = t / Limbs.BASE;
+                product[i + j] = (int) (t - carry * Limbs.BASE);
+            }
+            product[i + b.length] = (int) carry;
+        }
+
+        return trim(product);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    karatsuba
+     * Purpose   Multiplies two limb arrays of similar length with one level of
+     *               Karatsuba splitting: three half-size products instead of four.
+     *               The half-size products recurse through `multiply`.
+     * @param    'a'               --    (int[])  the first factor
+     * @param    'b'               --    (int[])  the second factor
+     * @param    'karatsubaLimbs'  --    (int)    the Karatsuba threshold in limbs
+     * @param    'toomCookLimbs'   --    (int)    the Toom-Cook threshold in limbs
+     * @returns  (int[]) the normalized product
+     * ----------------------------------------------------------------------------*/
+    static int[] karatsuba(int[] a, int[] b, int karatsubaLimbs, int toomCookLimbs) {
+
+        int half = (Math.max(a.length, b.length) + 1) / 2;
+
+        int[] aLow = slice(a, 0, half);
+        int[] aHigh = slice(a, half, a.length);
+        int[] bLow = slice(b, 0, half);
+        int[] bHigh = slice(b, half, b.length);
+
+        int[] low = multiply(aLow, bLow, karatsubaLimbs, toomCookLimbs);
+        int[] high = multiply(aHigh, bHigh, karatsubaLimbs, toomCookLimbs);
+        int[] middle = multiply(add(aLow, aHigh), add(bLow, bHigh), karatsubaLimbs, toomCookLimbs);
+        middle = subtract(subtract(middle, low), high);
+
+        int[] product = new int[a.length + b.length + 1];
+        addInto(product, low, 0);
+        addInto(product, middle, half);
+        addInto(product, high, 2 * half);
+
+        return trim(product);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toomCook3
+     * Purpose   Multiplies two limb arrays of similar length with one level of
+     *               Toom-Cook 3-way splitting: five third-size products instead of
+     *               nine. Evaluates at 0, 1, -1, -2 and infinity and interpolates
+     *               with Bodrato's sequence, which only needs exact divisions by 2
+     *               and 3. Intermediate values may be negative, so they are held as
+     *               SignedLimbs. The third-size products recurse through `multiply`.
+     * @param    'a'               --    (int[])  the first factor
+     * @param    'b'               --    (int[])  the second factor
+     * @param    'karatsubaLimbs'  --    (int)    the Karatsuba threshold in limbs
+     * @param    'toomCookLimbs'   --    (int)    the Toom-Cook threshold in limbs
+     * @returns  (int[]) the normalized product
+     * ----------------------------------------------------------------------------*/
+    static int[] toomCook3(int[] a, int[] b, int karatsubaLimbs, int toomCookLimbs) {
+
+        int third = (Math.max(a.length, b.length) + 2) / 3;
+
+        SignedLimbs a0 = SignedLimbs.of(slice(a, 0, third));
+        SignedLimbs a1 = SignedLimbs.of(slice(a, third, 2 * third));
+        SignedLimbs a2 = SignedLimbs.of(slice(a, 2 * third, a.length));
+        SignedLimbs b0 = SignedLimbs.of(slice(b, 0, third));
+        SignedLimbs b1 = SignedLimbs.of(slice(b, third, 2 * third));
+        SignedLimbs b2 = SignedLimbs.of(slice(b, 2 * third, b.length));
+
+        // Evaluation
+        SignedLimbs v0 = a0.multiply(b0, karatsubaLimbs, toomCookLimbs);
+        SignedLimbs da1 = a2.add(a0);
+        SignedLimbs db1 = b2.add(b0);
+        SignedLimbs vm1 = da1.subtract(a1).multiply(db1.subtract(b1), karatsubaLimbs, toomCookLimbs);
+        da1 = da1.add(a1);
+        db1 = db1.add(b1);
+        SignedLimbs v1 = da1.multiply(db1, karatsubaLimbs, toomCookLimbs);
+        SignedLimbs v2 = da1.add(a2).multiplySmall(2).subtract(a0)
+                .multiply(db1.add(b2).multiplySmall(2).subtract(b0), karatsubaLimbs, toomCookLimbs);
+        SignedLimbs vInf = a2.multiply(b2, karatsubaLimbs, toomCookLimbs);
+
+        // Interpolation
+        SignedLimbs t2 = v2.subtract(vm1).divideExactSmall(3);
+        SignedLimbs tm1 = v1.subtract(vm1).divideExactSmall(2);
+        SignedLimbs t1 = v1.subtract(v0);
+        t2 = t2.subtract(t1).divideExactSmall(2);
+        t1 = t1.subtract(tm1).subtract(vInf);
+        t2 = t2.subtract(vInf.multiplySmall(2));
+        tm1 = tm1.subtract(t2);
+
+        // Recomposition; every coefficient is non-negative by now
+        int[] product = new int[a.length + b.length + 1];
+        addInto(product, v0.magnitude(), 0);
+        addInto(product, tm1.magnitude(), third);
+        addInto(product, t1.magnitude(), 2 * third);
+        addInto(product, t2.magnitude(), 3 * third);
+        addInto(product, vInf.magnitude(), 4 * third);
+
+        return trim(product);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two limb arrays of any length.
+     * @param    'a'        --    (int[])  the first addend
+     * @param    'b'        --    (int[])  the second addend
+     * @returns  (int[]) the normalized sum
+     * ----------------------------------------------------------------------------*/
+    static int[] add(int[] a, int[] b) {
+
+        return Limbs.add(a, a.length, b, b.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    subtract
+     * Purpose   Subtracts the limb array b from a, where a is at least b. Throws
+     *               IllegalStateException if the difference would be negative.
+     * @param    'a'        --    (int[])  the minuend
+     * @param    'b'        --    (int[])  the subtrahend
+     * @returns  (int[]) the normalized difference
+     * ----------------------------------------------------------------------------*/
+    static int[] subtract(int[] a, int[] b) {
+
+        int[] difference = Arrays.copyOf(a, a.length);
+        int borrow = 0;
+        int i = 0;
+
+        for (; i < b.length; i++) {
+            int limb = difference[i] - b[i] - borrow;
+            borrow = limb < 0 ? 1 : 0;
+            difference[i] = limb + borrow * Limbs.BASE;
+        }
+
+        for (; borrow != 0 && i < difference.length; i++) {
+            int limb = difference[i] - borrow;
+            borrow = limb < 0 ? 1 : 0;
+            difference[i] = limb + borrow * Limbs.BASE;
+        }
+
+        if (borrow != 0) {
+            throw new IllegalStateException("The difference of the limb arrays is negative.");
+        }
+
+        return trim(difference);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compare
+     * Purpose   Compares two limb arrays of any length; zero limbs at the most
+     *               significant end are ignored.
+     * @param    'a'        --    (int[])  the first limb array
+     * @param    'b'        --    (int[])  the second limb array
+     * @returns  (int) 1, 0, or -1, as in BigNumber.compareTo
+     * ----------------------------------------------------------------------------*/
+    static int compare(int[] a, int[] b) {
+
+        return Limbs.compare(a, Limbs.normalizedCount(a, a.length), b, Limbs.normalizedCount(b, b.length));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInto
+     * Purpose   Adds a limb array into a longer accumulator, starting at the given
+     *               limb offset, and propagates the carry. The accumulator must be
+     *               long enough to hold the sum. The addend must be normalized.
+     * @param    'accumulator'   --    (int[])  the array added into
+     * @param    'addend'        --    (int[])  the array to add
+     * @param    'offset'        --    (int)    the limb position of addend[0]
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void addInto(int[] accumulator, int[] addend, int offset) {
+
+        // A zero addend may sit past the end of the accumulator
+        if (isZero(addend)) {
+            return;
+        }
+
+        int carry = 0;
+        int i = 0;
+
+        for (; i < addend.length; i++) {
+            int limb = accumulator[offset + i] + addend[i] + carry;
+            carry = limb >= Limbs.BASE ? 1 : 0;
+            accumulator[offset + i] = limb - carry * Limbs.BASE;
+        }
+
+        for (int j = offset + i; carry != 0; j++) {
+            int limb = accumulator[j] + carry;
+            carry = limb >= Limbs.BASE ? 1 : 0;
+            accumulator[j] = limb - carry * Limbs.BASE;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    slice
+     * Purpose   Returns the limbs from index `from` (inclusive) to `to` (exclusive)
+     *               as a new normalized array. Indices past the end read as 0.
+     * @param    'a'        --    (int[])  the source limb array
+     * @param    'from'     --    (int)    the first limb to copy
+     * @param    'to'       --    (int)    one past the last limb to copy
+     * @returns  (int[]) the normalized slice
+     * ----------------------------------------------------------------------------*/
+    static int[] slice(int[] a, int from, int to) {
+
+        if (from >= Math.min(a.length, to)) {
+            return new int[] {0};
+        }
+
+        return trim(Arrays.copyOfRange(a, from, Math.min(a.length, to)));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    trim
+     * Purpose   Returns the array without its zero limbs at the most significant
+     *               end. Returns the same array if there are none.
+     * @param    'a'        --    (int[])  a limb array
+     * @returns  (int[]) the normalized limb array
+     * ----------------------------------------------------------------------------*/
+    static int[] trim(int[] a) {
+
+        int count = Limbs.normalizedCount(a, a.length);
+        return count == a.length ? a : Arrays.copyOf(a, count);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isZero
+     * Purpose   Returns true if a normalized limb array holds the value 0.
+     * @param    'a'        --    (int[])  a normalized limb array
+     * @returns  (boolean) true if the value is 0
+     * ----------------------------------------------------------------------------*/
+    static boolean isZero(int[] a) {
+
+        return a.length == 1 && a[0] == 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    randomLimbs
+     * Purpose   Returns a limb array of the given length filled with random limbs
+     *               and a non-zero top limb. Used by `calibrate`.
+     * @param    'random'   --    (Random)  the source of randomness
+     * @param    'length'   --    (int)     the number of limbs
+     * @returns  (int[]) a random normalized limb array
+     * ----------------------------------------------------------------------------*/
+    private static int[] randomLimbs(Random random, int length) {
+
+        int[] limbs = new int[length];
+        for (int i = 0; i < length; i++) {
+            limbs[i] = random.nextInt(Limbs.BASE);
+        }
+        limbs[length - 1] = 1 + random.nextInt(Limbs.BASE - 1);
+        return limbs;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    timeOf
+     * Purpose   Returns the best of several timed runs of a task, in nanoseconds,
+     *               after a short warm-up. Used by `calibrate`.
+     * @param    'task'     --    (Runnable)  the task to time
+     * @returns  (long) the fastest observed run time
+     * ----------------------------------------------------------------------------*/
+    private static long timeOf(Runnable task) {
+
+        for (int i = 0; i < 5; i++) {
+            task.run();
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 7; i++) {
+            long start = System.nanoTime();
+            task.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+} /* ****************************************************************************** */
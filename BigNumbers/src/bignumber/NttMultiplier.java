@@ -0,0 +1,364 @@
+package bignumber;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/* ******************************************************************************
+ * Class     NttMultiplier
+ * Purpose   The NttMultiplier class multiplies very long limb arrays with the
+ *               number-theoretic transform (NTT), an FFT carried out modulo a
+ *               prime, so that every step is exact integer arithmetic and there
+ *               is no floating point rounding to worry about. Each limb is cut
+ *               into three base-1000 pieces, the pieces of both factors are
+ *               convolved modulo two NTT-friendly primes, and the Chinese
+ *               Remainder Theorem recovers each coefficient exactly: a coefficient
+ *               is at most 999^2 times the shorter length, well below the product
+ *               of the primes. The transform length is limited to 2^25 pieces, so
+ *               products of up to about 10^8 digits are supported; `supports`
+ *               tells the caller whether a pair of operands fits. When a
+ *               ForkJoinPool is given, the independent transforms run side by
+ *               side and every butterfly stage is split across the pool by
+ *               NttStageTask. The class is package-private and cannot be
+ *               instantiated; it is reached through the Multiplier class.
+ * @attrib   'PRIMES'         --    (long[])   the two NTT primes, 7 * 2^26 + 1 and 5 * 2^25 + 1
+ * @attrib   'GENERATOR'      --    (long)     a primitive root of both primes
+ * @attrib   'MAX_LENGTH'     --    (int)      the longest transform both primes support
+ * ***************************************************************************** */
+final class NttMultiplier {
+
+    static final long[] PRIMES = {469_762_049L, 167_772_161L};
+    static final long GENERATOR = 3;
+    static final int MAX_LENGTH = 1 << 25;
+
+    private static final int PIECE_BASE = 1000;
+    private static final int PIECES_PER_LIMB = 3;
+    private static final int[] PIECE_POWERS = {1, PIECE_BASE, PIECE_BASE * PIECE_BASE};
+
+    private NttMultiplier() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    supports
+     * Purpose   Returns true if a product of two limb arrays of the given lengths
+     *               fits in the longest supported transform.
+     * @param    'aLength'   --    (int)   the number of limbs in the first factor
+     * @param    'bLength'   --    (int)   the number of limbs in the second factor
+     * @returns  (boolean) true if `multiply` can handle the operands
+     * ----------------------------------------------------------------------------*/
+    static boolean supports(int aLength, int bLength) {
+
+        return (long) PIECES_PER_LIMB * (aLength + bLength) <= MAX_LENGTH;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiply
+     * Purpose   Multiplies two normalized limb arrays with the NTT. If both
+     *               arguments are the same array, only one forward transform per
+     *               prime is needed. Throws IllegalArgumentException if the
+     *               operands are too long for the transform.
+     * @param    'a'        --    (int[])         the first factor
+     * @param    'b'        --    (int[])         the second factor
+     * @param    'pool'     --    (ForkJoinPool)  the pool to split the work across,
+     *                                             or null to run sequentially
+     * @returns  (int[]) the normalized product
+     * ----------------------------------------------------------------------------*/
+    static int[] multiply(int[] a, int[] b, ForkJoinPool pool) {
+
+        if (!supports(a.length, b.length)) {
+            throw new IllegalArgumentException("The operands are too long for the NTT.");
+        }
+
+        boolean squaring = (a == b);
+        int[] aPieces = toPieces(a);
+        int[] bPieces = squaring ? aPieces : toPieces(b);
+        int productPieces = aPieces.length + bPieces.length - 1;
+
+        int length = 1;
+        while (length < productPieces) {
+            length <<= 1;
+        }
+
+        // Convolve modulo each prime; the primes are independent of each other
+        int[][] residues = new int[PRIMES.length][];
+        if (pool == null) {
+            for (int p = 0; p < PRIMES.length; p++) {
+                residues[p] = convolve(aPieces, bPieces, squaring, length, PRIMES[p], null);
+            }
+        }
+        else {
+            int n = length;
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(
+                    ForkJoinTask.adapt(() -> {
+                        residues[0] = convolve(aPieces, bPieces, squaring, n, PRIMES[0], pool);
+                    }),
+                    ForkJoinTask.adapt(() -> {
+                        residues[1] = convolve(aPieces, bPieces, squaring, n, PRIMES[1], pool);
+                    }))));
+        }
+
+        return fromResidues(residues[0], residues[1], productPieces, a.length + b.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    convolve
+     * Purpose   Returns the cyclic convolution of two piece arrays modulo a prime:
+     *               forward transforms, a pointwise product, and an inverse
+     *               transform.
+     * @param    'aPieces'    --    (int[])         the pieces of the first factor
+     * @param    'bPieces'    --    (int[])         the pieces of the second factor
+     * @param    'squaring'   --    (boolean)       true if both factors are the same
+     * @param    'length'     --    (int)           the transform length, a power of 2
+     * @param    'prime'      --    (long)          the modulus
+     * @param    'pool'       --    (ForkJoinPool)  the pool, or null
+     * @returns  (int[]) the convolution, reduced modulo the prime
+     * ----------------------------------------------------------------------------*/
+    private static int[] convolve(int[] aPieces, int[] bPieces, boolean squaring,
+                                  int length, long prime, ForkJoinPool pool) {
+
+        long barrett = barrettFactor(prime);
+        int[] roots = rootTable(length, prime, false);
+        int[] fa = Arrays.copyOf(aPieces, length);
+        int[] fb = squaring ? fa : Arrays.copyOf(bPieces, length);
+
+        if (pool == null || squaring) {
+            transform(fa, roots, prime, barrett, pool);
+            if (!squaring) {
+                transform(fb, roots, prime, barrett, pool);
+            }
+        }
+        else {
+            ForkJoinTask.invokeAll(
+                    ForkJoinTask.adapt(() -> transform(fa, roots, prime, barrett, pool)),
+                    ForkJoinTask.adapt(() -> transform(fb, roots, prime, barrett, pool)));
+        }
+
+        for (int i = 0; i < length; i++) {
+            fa[i] = (int) multiplyMod(fa[i], fb[i], prime, barrett);
+        }
+
+        transform(fa, rootTable(length, prime, true), prime, barrett, pool);
+
+        // Scale by the inverse of the length
+        long inverseLength = power(length, prime - 2, prime);
+        for (int i = 0; i < length; i++) {
+            fa[i] = (int) multiplyMod(fa[i], inverseLength, prime, barrett);
+        }
+
+        return fa;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    transform
+     * Purpose   Runs an in-place iterative radix-2 NTT over an array whose length
+     *               is a power of 2, using a precomputed table of roots. With a pool,
+     *               each butterfly stage is split into NttStageTask chunks.
+     * @param    'values'   --    (int[])         the values, replaced by the transform
+     * @param    'roots'    --    (int[])         root^k for k below length / 2
+     * @param    'prime'    --    (long)          the modulus
+     * @param    'barrett'  --    (long)          the Barrett factor of the modulus
+     * @param    'pool'     --    (ForkJoinPool)  the pool, or null
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void transform(int[] values, int[] roots, long prime, long barrett, ForkJoinPool pool) {
+
+        int length = values.length;
+
+        // Bit-reversal permutation
+        for (int i = 1, j = 0; i < length; i++) {
+            int bit = length >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                int temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+
+        // Butterfly stages of doubling block size
+        for (int blockSize = 2; blockSize <= length; blockSize <<= 1) {
+            if (pool == null || length < NttStageTask.SEQUENTIAL_BUTTERFLIES) {
+                butterflies(values, roots, prime, barrett, blockSize, 0, length >> 1);
+            }
+            else {
+                new NttStageTask(values, roots, prime, barrett, blockSize, 0, length >> 1).invoke();
+            }
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    butterflies
+     * Purpose   Runs a range of the length / 2 butterflies of one stage. Butterfly
+     *               t works on block t / (blockSize / 2), offset t % (blockSize / 2).
+     * @param    'values'      --    (int[])  the values being transformed
+     * @param    'roots'       --    (int[])  root^k for k below length / 2
+     * @param    'prime'       --    (long)   the modulus
+     * @param    'barrett'     --    (long)   the Barrett factor of the modulus
+     * @param    'blockSize'   --    (int)    the block size of this stage
+     * @param    'from'        --    (int)    the first butterfly to run
+     * @param    'to'          --    (int)    one past the last butterfly to run
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void butterflies(int[] values, int[] roots, long prime, long barrett,
+                            int blockSize, int from, int to) {
+
+        int half = blockSize >> 1;
+        int rootStride = values.length / blockSize;
+        int blockStart = (from / half) * blockSize;
+        int offset = from % half;
+
+        for (int t = from; t < to; t++) {
+            int i = blockStart + offset;
+            int j = i + half;
+            long u = values[i];
+            long v = multiplyMod(values[j], roots[offset * rootStride], prime, barrett);
+            long sum = u + v;
+            long difference = u - v;
+            values[i] = (int) (sum >= prime ? sum - prime : sum);
+            values[j] = (int) (difference < 0 ? difference + prime : difference);
+
+            // Step to the next block once this one is done
+            if (++offset == half) {
+                offset = 0;
+                blockStart += blockSize;
+            }
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    barrettFactor
+     * Purpose   Returns floor((2^64 - 1) / prime), the factor `multiplyMod` uses to
+     *               replace a division by the prime with a multiplication.
+     * @param    'prime'    --    (long)   a modulus below 2^31
+     * @returns  (long) the Barrett factor
+     * ----------------------------------------------------------------------------*/
+    static long barrettFactor(long prime) {
+
+        return Long.divideUnsigned(-1L, prime);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiplyMod
+     * Purpose   Returns a * b modulo a prime below 2^31 with Barrett reduction:
+     *               the high half of the product with the Barrett factor estimates
+     *               the quotient to within one, so a single correction is enough.
+     * @param    'a'          --    (long)   a value below the prime
+     * @param    'b'          --    (long)   a value below the prime
+     * @param    'prime'      --    (long)   the modulus
+     * @param    'barrett'    --    (long)   the Barrett factor of the modulus
+     * @returns  (long) a * b modulo the prime
+     * ----------------------------------------------------------------------------*/
+    static long multiplyMod(long a, long b, long prime, long barrett) {
+
+        long product = a * b;
+        long remainder = product - Math.multiplyHigh(product, barrett) * prime;
+        return remainder >= prime ? remainder - prime : remainder;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    rootTable
+     * Purpose   Returns root^k modulo the prime for k below length / 2, where root
+     *               is a primitive length-th root of unity (or its inverse).
+     * @param    'length'    --    (int)      the transform length, a power of 2
+     * @param    'prime'     --    (long)     the modulus
+     * @param    'inverse'   --    (boolean)  true for the inverse transform
+     * @returns  (int[]) the table of roots
+     * ----------------------------------------------------------------------------*/
+    private static int[] rootTable(int length, long prime, boolean inverse) {
+
+        long root = power(GENERATOR, (prime - 1) / length, prime);
+        if (inverse) {
+            root = power(root, prime - 2, prime);
+        }
+
+        int[] roots = new int[Math.max(1, length >> 1)];
+        long current = 1;
+        for (int k = 0; k < roots.length; k++) {
+            roots[k] = (int) current;
+            current = current * root % prime;
+        }
+        return roots;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toPieces
+     * Purpose   Cuts each limb into three base-1000 pieces, least significant first.
+     * @param    'limbs'    --    (int[])  a normalized limb array
+     * @returns  (int[]) the pieces
+     * ----------------------------------------------------------------------------*/
+    private static int[] toPieces(int[] limbs) {
+
+        int[] pieces = new int[limbs.length * PIECES_PER_LIMB];
+        for (int i = 0; i < limbs.length; i++) {
+            int limb = limbs[i];
+            for (int k = 0; k < PIECES_PER_LIMB; k++) {
+                pieces[i * PIECES_PER_LIMB + k] = limb % PIECE_BASE;
+                limb /= PIECE_BASE;
+            }
+        }
+        return pieces;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromResidues
+     * Purpose   Recovers each coefficient of the product from its residues modulo
+     *               the two primes (Garner's form of the CRT), then propagates the
+     *               carries in base 1000 and packs the pieces back into limbs.
+     * @param    'r1'            --    (int[])  the convolution modulo the first prime
+     * @param    'r2'            --    (int[])  the convolution modulo the second prime
+     * @param    'pieceCount'    --    (int)    the number of coefficients to read
+     * @param    'limbCount'     --    (int)    the number of limbs in the product
+     * @returns  (int[]) the normalized product
+     * ----------------------------------------------------------------------------*/
+    private static int[] fromResidues(int[] r1, int[] r2, int pieceCount, int limbCount) {
+
+        long p1 = PRIMES[0];
+        long p2 = PRIMES[1];
+        long p1InverseModP2 = power(p1 % p2, p2 - 2, p2);
+
+        int[] product = new int[limbCount];
+        long carry = 0;
+
+        for (int k = 0; k < limbCount * PIECES_PER_LIMB; k++) {
+            long coefficient = 0;
+            if (k < pieceCount) {
+                long x1 = r1[k];
+                long t = ((r2[k] - x1 % p2) % p2 + p2) % p2 * p1InverseModP2 % p2;
+                coefficient = x1 + p1 * t;
+            }
+
+            long value = coefficient + carry;
+            int piece = (int) (value % PIECE_BASE);
+            carry = value / PIECE_BASE;
+            product[k / PIECES_PER_LIMB] += piece * PIECE_POWERS[k % PIECES_PER_LIMB];
+        }
+
+        return Multiplier.trim(product);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    power
+     * Purpose   Returns base^exponent modulo a prime below 2^31.
+     * @param    'base'       --    (long)   the base
+     * @param    'exponent'   --    (long)   a non-negative exponent
+     * @param    'prime'      --    (long)   the modulus
+     * @returns  (long) the modular power
+     * ----------------------------------------------------------------------------*/
+    static long power(long base, long exponent, long prime) {
+
+        long result = 1;
+        base %= prime;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * base % prime;
+            }
+            base = base * base % prime;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+} /* ****************************************************************************** */
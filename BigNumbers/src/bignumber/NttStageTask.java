@@ -0,0 +1,79 @@
+package bignumber;
+
+import java.util.concurrent.RecursiveAction;
+
+/* ******************************************************************************
+ * Class     NttStageTask
+ * Purpose   The NttStageTask class runs a range of the butterflies of one NTT
+ *               stage as a ForkJoin task. Ranges longer than SEQUENTIAL_BUTTERFLIES
+ *               are split in half and run in parallel; shorter ranges are run
+ *               directly by NttMultiplier.butterflies. The butterflies of a stage
+ *               touch disjoint pairs of values, so the halves never interfere.
+ * @attrib   'values'         --    (int[])   the values being transformed
+ * @attrib   'roots'          --    (int[])   the table of roots of unity
+ * @attrib   'prime'          --    (long)    the modulus
+ * @attrib   'barrett'        --    (long)    the Barrett factor of the modulus
+ * @attrib   'blockSize'      --    (int)     the block size of the stage
+ * @attrib   'from'           --    (int)     the first butterfly of the range
+ * @attrib   'to'             --    (int)     one past the last butterfly of the range
+ * ***************************************************************************** */
+class NttStageTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SEQUENTIAL_BUTTERFLIES = 1 << 14;
+
+    private final int[] values;
+    private final int[] roots;
+    private final long prime;
+    private final long barrett;
+    private final int blockSize;
+    private final int from;
+    private final int to;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a task for the butterflies from `from` to `to` of a stage.
+     * @param    'inValues'      --    (int[])   the values being transformed
+     * @param    'inRoots'       --    (int[])   the table of roots of unity
+     * @param    'inPrime'       --    (long)    the modulus
+     * @param    'inBarrett'     --    (long)    the Barrett factor of the modulus
+     * @param    'inBlockSize'   --    (int)     the block size of the stage
+     * @param    'inFrom'        --    (int)     the first butterfly of the range
+     * @param    'inTo'          --    (int)     one past the last butterfly
+     * ----------------------------------------------------------------------------*/
+    NttStageTask(int[] inValues, int[] inRoots, long inPrime, long inBarrett,
+                 int inBlockSize, int inFrom, int inTo) {
+
+        this.values = inValues;
+        this.roots = inRoots;
+        this.prime = inPrime;
+        this.barrett = inBarrett;
+        this.blockSize = inBlockSize;
+        this.from = inFrom;
+        this.to = inTo;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compute
+     * Purpose   Runs the range directly if it is short, else splits it in two.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    protected void compute() {
+
+        if (this.to - this.from <= SEQUENTIAL_BUTTERFLIES) {
+            NttMultiplier.butterflies(this.values, this.roots, this.prime, this.barrett,
+                    this.blockSize, this.from, this.to);
+            return;
+        }
+
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(new NttStageTask(this.values, this.roots, this.prime, this.barrett,
+                        this.blockSize, this.from, middle),
+                new NttStageTask(this.values, this.roots, this.prime, this.barrett,
+                        this.blockSize, middle, this.to));
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,664 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+/* ******************************************************************************
+ * Class     OffHeapBigNumberImpl
+ * Purpose   The OffHeapBigNumberImpl class implements the BigNumber interface with
+ *               its digits stored outside the Java heap. Like PackedBigNumberImpl,
+ *               it packs nine digits into each base-10^9 limb, but the limbs live
+ *               in a direct buffer, so the garbage collector neither scans nor
+ *               copies them: the only heap objects are this class and the buffer
+ *               header. `close` releases the buffer; any later call throws
+ *               IllegalStateException. The memory itself is returned to the system
+ *               once the released buffer is collected. Multiplication and
+ *               division work on a temporary heap copy of the limbs. The class is
+ *               interoperable with the other implementations for `add`,
+ *               `compareTo` and `equals`.
+ * @attrib   'limbs'          --    (IntBuffer)  the off-heap base-10^9 limbs, least
+ *                                                 significant first; null once closed
+ * @attrib   'limbCount'      --    (int)        the number of limbs in use
+ * ***************************************************************************** */
+public class OffHeapBigNumberImpl extends AbstractBigNumber implements AutoCloseable {
+
+    private IntBuffer limbs;
+    private int limbCount;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an OffHeapBigNumberImpl object with the value 0.
+     * ----------------------------------------------------------------------------*/
+    public OffHeapBigNumberImpl() {
+
+        this.limbs = allocate(1);
+        this.limbCount = 1;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an OffHeapBigNumberImpl object from a number represented as
+     *               a String. Throws NumberFormatException if a negative integer or
+     *               non-numeric char is encountered. Leading zeroes are ignored, and
+     *               an empty String is read as 0.
+     * @param    'numberAsString'     --    (String)  a String representing a number.
+     * ----------------------------------------------------------------------------*/
+    public OffHeapBigNumberImpl(String numberAsString) {
+
+        this(Limbs.fromString(numberAsString));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an OffHeapBigNumberImpl object holding the same value as
+     *               another BigNumber of any implementation.
+     * @param    'other'     --    (BigNumber)  the value to copy
+     * ----------------------------------------------------------------------------*/
+    public OffHeapBigNumberImpl(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("Argument must not be null.");
+        }
+
+        if (other instanceof OffHeapBigNumberImpl) {
+            OffHeapBigNumberImpl offHeap = (OffHeapBigNumberImpl) other;
+            offHeap.checkOpen();
+            this.limbs = allocate(offHeap.limbCount);
+            this.limbCount = offHeap.limbCount;
+            copyLimbs(offHeap.limbs, this.limbs, this.limbCount);
+            return;
+        }
+
+        int[] otherLimbs = Limbs.toLimbs(other);
+        this.limbs = allocate(otherLimbs.length);
+        this.limbs.put(0, otherLimbs);
+        this.limbCount = otherLimbs.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an OffHeapBigNumberImpl object from a normalized limb array,
+     *               which is copied off the heap.
+     * @param    'inLimbs'     --    (int[])  the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    OffHeapBigNumberImpl(int[] inLimbs) {
+
+        this.limbs = allocate(inLimbs.length);
+        this.limbs.put(0, inLimbs);
+        this.limbCount = inLimbs.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    length
+     * Purpose   Returns the number of digits in the BigNumber
+     * @param    None
+     * @returns  (int) the number of digits in the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int length() {
+
+        this.checkOpen();
+        return (this.limbCount - 1) * Limbs.BASE_DIGITS + Limbs.digitsIn(this.limbs.get(this.limbCount - 1));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLeft
+     * Purpose   Left-shift BigNumber by one position. Equivalent to multiplying by 10.
+     *               If called with negative numOfShifts, calls shiftRight with positive
+     *               numOfShifts instead. The shifted limbs are written to a new
+     *               off-heap buffer.
+     * @param    'numOfShifts'      --      (int)   the number of times to left-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftLeft(int numOfShifts) {
+
+        this.checkOpen();
+
+        if (numOfShifts == 0 || this.isZero()) {
+            return;
+        }
+
+        if (numOfShifts < 0) {
+            this.shiftRight(-1 * numOfShifts);
+            return;
+        }
+
+        int limbShift = numOfShifts / Limbs.BASE_DIGITS;
+        int digitShift = numOfShifts % Limbs.BASE_DIGITS;
+
+        // Room for the moved limbs plus one limb of overflow from the digit shift
+        int newCount = this.limbCount + limbShift + 1;
+        IntBuffer shifted = allocate(newCount);
+        long multiplier = Limbs.POW10[digitShift];
+        long carry = 0;
+
+        for (int i = 0; i < this.limbCount; i++) {
+            long product = this.limbs.get(i) * multiplier + carry;
+            shifted.put(i + limbShift, (int) (product % Limbs.BASE));
+            carry = product / Limbs.BASE;
+        }
+        shifted.put(newCount - 1, (int) carry);
+
+        this.shiftHash(numOfShifts);
+        this.limbs = shifted;
+        this.limbCount = carry == 0 ? newCount - 1 : newCount;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftRight
+     * Purpose   Right-shift BigNumber by one position. Equivalent to div 10.
+     *               If called with negative numOfShifts, calls shiftLeft with positive
+     *               numOfShifts instead. Shifting past the length leaves the value 0.
+     * @param    'numOfShifts'      --      (int)   the number of times to right-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftRight(int numOfShifts) {
+
+        this.checkOpen();
+
+        if (numOfShifts == 0 || this.isZero()) {
+            return;
+        }
+
+        if (numOfShifts < 0) {
+            this.shiftLeft(-1 * numOfShifts);
+            return;
+        }
+
+        this.invalidateHash();
+
+        if (numOfShifts >= this.length()) {
+            this.limbs = allocate(1);
+            this.limbCount = 1;
+            return;
+        }
+
+        int limbShift = numOfShifts / Limbs.BASE_DIGITS;
+        int digitShift = numOfShifts % Limbs.BASE_DIGITS;
+        int divisor = Limbs.POW10[digitShift];
+        int multiplier = Limbs.POW10[Limbs.BASE_DIGITS - digitShift];
+
+        int newCount = this.limbCount - limbShift;
+        IntBuffer shifted = allocate(newCount);
+
+        // Each new limb takes the high digits of one limb and the low digits of the next
+        for (int i = 0; i < newCount; i++) {
+            int low = this.limbs.get(i + limbShift) / divisor;
+            int high = (i + limbShift + 1 < this.limbCount)
+                    ? (this.limbs.get(i + limbShift + 1) % divisor) * multiplier
+                    : 0;
+            shifted.put(i, low + high);
+        }
+
+        this.limbs = shifted;
+        this.limbCount = normalizedCount(shifted, newCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addDigit
+     * Purpose   Add to BigNumber the value of a single digit. Throws IllegalArgumentException
+     *               if argument is not a valid digit.
+     * @param    'inDigit'      --      (int)   the value to add to the BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addDigit(int inDigit) {
+
+        this.checkOpen();
+
+        if (inDigit < 0 || inDigit > 9) {
+            throw new IllegalArgumentException("The addend must be a single non-negative digit.");
+        }
+
+        this.invalidateHash();
+
+        int carry = inDigit;
+        int i = 0;
+
+        while (carry > 0 && i < this.limbCount) {
+            int limbSum = this.limbs.get(i) + carry;
+            carry = limbSum >= Limbs.BASE ? 1 : 0;
+            this.limbs.put(i, limbSum - carry * Limbs.BASE);
+            i++;
+        }
+
+        // Carry out of the top limb needs one more limb
+        if (carry > 0) {
+            this.ensureCapacity(this.limbCount + 1);
+            this.limbs.put(this.limbCount, carry);
+            this.limbCount++;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitAt
+     * Purpose   Returns digit at the specified position. Throws IllegalArgumentException
+     *               if position is out of bounds.
+     * @param    'position'      --      (int)   the position of the digit
+     * @returns  (int) the digit at the specified position
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int getDigitAt(int position) {
+
+        if (position < 0 || position >= this.length()) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        int limb = this.limbs.get(position / Limbs.BASE_DIGITS);
+        return (limb / Limbs.POW10[position % Limbs.BASE_DIGITS]) % 10;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitAt
+     * Purpose   Sets digit at the specified position. Throws IllegalArgumentException
+     *               if position is out of bounds or if the value is not a single digit.
+     *               Setting the most significant digit to 0 shortens the number.
+     * @param    'position'      --      (int)   the position of the digit
+     * @param    'inDigit'       --      (int)   the value to set at the position
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitAt(int position, int inDigit) {
+
+        if (position < 0 || position >= this.length()) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        if (inDigit < 0 || inDigit > 9) {
+            throw new IllegalArgumentException("The value must be a single non-negative digit.");
+        }
+
+        this.invalidateHash();
+        int limbIndex = position / Limbs.BASE_DIGITS;
+        int place = Limbs.POW10[position % Limbs.BASE_DIGITS];
+        int oldLimb = this.limbs.get(limbIndex);
+        int oldDigit = (oldLimb / place) % 10;
+
+        this.limbs.put(limbIndex, oldLimb + (inDigit - oldDigit) * place);
+        this.limbCount = normalizedCount(this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    copy
+     * Purpose   Returns a copy of this BigNumber obj, in a new off-heap buffer that
+     *               has to be closed separately.
+     * @param    None
+     * @returns  (BigNumber) a copy of this BigNumber obj
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber copy() {
+
+        return new OffHeapBigNumberImpl(this);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two BigNumbers together and returns the value as a new
+     *               OffHeapBigNumberImpl object. The other addend may be of any
+     *               BigNumber implementation; another OffHeapBigNumberImpl is read
+     *               in place, without a heap copy.
+     * @param    'other'      --      (BigNumber)   the second addend
+     * @returns  (BigNumber) the sum of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber add(BigNumber other) {
+
+        OffHeapBigNumberImpl sum = new OffHeapBigNumberImpl(this);
+        sum.addInPlace(other);
+        return sum;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Adds another BigNumber of any implementation to this one, limb by
+     *               limb, into the existing buffer. The buffer only grows when the
+     *               sum needs more capacity.
+     * @param    'other'      --      (BigNumber)   the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addInPlace(BigNumber other) {
+
+        this.checkOpen();
+
+        if (other == null) {
+            throw new IllegalArgumentException("The addend must not be null.");
+        }
+
+        this.invalidateHash();
+        IntBuffer otherLimbs = limbsOf(other);
+        int otherCount = otherLimbs.limit();
+        int top = Math.max(this.limbCount, otherCount);
+        this.ensureCapacity(top + 1);
+
+        int carry = 0;
+        int i = 0;
+
+        for (; i < otherCount; i++) {
+            int thisLimb = i < this.limbCount ? this.limbs.get(i) : 0;
+            int limbSum = thisLimb + otherLimbs.get(i) + carry;
+            carry = limbSum >= Limbs.BASE ? 1 : 0;
+            this.limbs.put(i, limbSum - carry * Limbs.BASE);
+        }
+
+        // Only the carry is left to ripple through the rest of this BigNumber
+        for (; carry != 0 && i < this.limbCount; i++) {
+            int limbSum = this.limbs.get(i) + carry;
+            carry = limbSum >= Limbs.BASE ? 1 : 0;
+            this.limbs.put(i, limbSum - carry * Limbs.BASE);
+        }
+
+        this.limbCount = top;
+        if (carry != 0) {
+            this.limbs.put(top, carry);
+            this.limbCount++;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    accumulateInto
+     * Purpose   Adds the limbs of this BigNumber to an array of base-10^9 limb
+     *               columns, reading the buffer in place.
+     * @param    'columns'    --    (long[])  the columns to add the limbs to
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    void accumulateInto(long[] columns) {
+
+        this.checkOpen();
+        for (int i = 0; i < this.limbCount; i++) {
+            columns[i] += this.limbs.get(i);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    computeHash
+     * Purpose   Computes the hash code from the off-heap limbs in place.
+     * @param    None
+     * @returns  (int) the hash code of the decimal digits
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int computeHash() {
+
+        this.checkOpen();
+
+        return Limbs.hash(this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Copies the limbs in use to a new array on the heap.
+     * @param    None
+     * @returns  (int[]) the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int[] toLimbs() {
+
+        this.checkOpen();
+        int[] heapLimbs = new int[this.limbCount];
+        this.limbs.get(0, heapLimbs);
+        return heapLimbs;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromLimbs
+     * Purpose   Returns a new OffHeapBigNumberImpl holding the value of a
+     *               normalized limb array, copied off the heap.
+     * @param    'inLimbs'    --    (int[])  the value as limbs, least significant first
+     * @returns  (BigNumber) a new OffHeapBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    BigNumber fromLimbs(int[] inLimbs) {
+
+        return new OffHeapBigNumberImpl(inLimbs);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitList
+     * Purpose   Returns the digits as a new Linked List, least significant digit
+     *               at the Head. The List is a snapshot on the heap: changes to it
+     *               are not reflected in this BigNumber.
+     * @param    None
+     * @returns  (MyList) the digits of the BigNumber as a Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyList getDigitList() {
+
+        return Limbs.toDigitList(this.toLimbs(), this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitList
+     * Purpose   Replaces the value with the digits of a Linked List, least
+     *               significant digit at the Head. Throws IllegalArgumentException
+     *               if the List holds a value that is not a single digit.
+     * @param    'inDigitList'  --  (MyList)    a list of digits representing a BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitList(MyList inDigitList) {
+
+        this.checkOpen();
+        this.invalidateHash();
+        int[] newLimbs = Limbs.fromDigitList(inDigitList);
+        this.limbs = allocate(newLimbs.length);
+        this.limbs.put(0, newLimbs);
+        this.limbCount = newLimbs.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compareTo
+     * Purpose   Compares two BigNumbers. Returns -1 if this is smaller than other,
+     *               returns 1 if this is larger than other, and 0 is they are equal.
+     * @param    'other'  --  (BigNumber)    a BigNumber object
+     * @returns  (int) 1, 0, or -1, depending on whether this is larger than, equal
+     *               to, or smaller than other
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int compareTo(BigNumber other) {
+
+        // Compare lengths before reading any digits of the other implementation
+        int thisLength = this.length();
+        int otherLength = other.length();
+        if (thisLength != otherLength) {
+            return thisLength > otherLength ? 1 : -1;
+        }
+
+        IntBuffer otherLimbs = limbsOf(other);
+        for (int i = this.limbCount - 1; i >= 0; i--) {
+            int thisLimb = this.limbs.get(i);
+            int otherLimb = otherLimbs.get(i);
+            if (thisLimb != otherLimb) {
+                return thisLimb > otherLimb ? 1 : -1;
+            }
+        }
+
+        return 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the digits of the BigNumber, most significant first, to an
+     *               Appendable, reading the limbs from the buffer.
+     * @param    'out'      --      (Appendable)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+
+        this.checkOpen();
+
+        if (out == null) {
+            throw new IllegalArgumentException("The Appendable must not be null.");
+        }
+
+        Limbs.writeDecimal(this.limbs, this.limbCount, out);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the BigNumber to a file in the binary format of the
+     *               BigNumberFile class, straight from the off-heap buffer without copying it to the heap.
+     * @param    'file'     --      (Path)   the file to write
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Path file) throws IOException {
+
+        this.checkOpen();
+
+        BigNumberFile.write(file, this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digits
+     * Purpose   Returns the digits of the BigNumber, least significant first, read
+     *               in place from the off-heap buffer.
+     * @param    None
+     * @returns  (IntStream) the digits, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public IntStream digits() {
+
+        this.checkOpen();
+
+        return digitsOf(this.limbs, this.length());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    close
+     * Purpose   Releases the off-heap buffer. Any later call other than `close`
+     *               throws IllegalStateException. Closing twice has no effect.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void close() {
+
+        this.limbs = null;
+        this.limbCount = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isClosed
+     * Purpose   Returns true if `close` has been called.
+     * @param    None
+     * @returns  (boolean) true if the off-heap buffer has been released
+     * ----------------------------------------------------------------------------*/
+    public boolean isClosed() {
+
+        return this.limbs == null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    checkOpen
+     * Purpose   Throws IllegalStateException if the BigNumber has been closed.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void checkOpen() {
+
+        if (this.limbs == null) {
+            throw new IllegalStateException("The BigNumber has been closed.");
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isZero
+     * Purpose   Returns true if the value of the BigNumber is 0.
+     * @param    None
+     * @returns  (boolean) true if the value is 0
+     * ----------------------------------------------------------------------------*/
+    private boolean isZero() {
+
+        return this.limbCount == 1 && this.limbs.get(0) == 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    ensureCapacity
+     * Purpose   Moves the limbs to a larger buffer, if needed, so that it can hold
+     *               at least the given number of limbs. Grows by half again to
+     *               amortize repeated growth.
+     * @param    'minCapacity'  --  (int)    the number of limbs needed
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void ensureCapacity(int minCapacity) {
+
+        int capacity = this.limbs.capacity();
+        if (capacity < minCapacity) {
+            IntBuffer grown = allocate(Math.max(minCapacity, capacity + (capacity >> 1)));
+            copyLimbs(this.limbs, grown, this.limbCount);
+            this.limbs = grown;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    limbsOf
+     * Purpose   Returns the limbs of any BigNumber as an IntBuffer whose limit is
+     *               the number of limbs in use. Another OffHeapBigNumberImpl is
+     *               viewed in place; any other implementation is converted to a
+     *               limb array on the heap.
+     * @param    'number'   --    (BigNumber)  the BigNumber to read
+     * @returns  (IntBuffer) the limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    private static IntBuffer limbsOf(BigNumber number) {
+
+        if (number instanceof OffHeapBigNumberImpl) {
+            OffHeapBigNumberImpl offHeap = (OffHeapBigNumberImpl) number;
+            offHeap.checkOpen();
+            return offHeap.limbs.duplicate().limit(offHeap.limbCount);
+        }
+
+        return IntBuffer.wrap(Limbs.toLimbs(number));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    allocate
+     * Purpose   Allocates a zeroed off-heap buffer of limbs in native byte order.
+     * @param    'capacity'     --    (int)  the number of limbs
+     * @returns  (IntBuffer) the new buffer
+     * ----------------------------------------------------------------------------*/
+    private static IntBuffer allocate(int capacity) {
+
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    copyLimbs
+     * Purpose   Copies limbs from one buffer to another, starting at index 0.
+     * @param    'from'     --    (IntBuffer)  the source buffer
+     * @param    'to'       --    (IntBuffer)  the destination buffer
+     * @param    'count'    --    (int)        the number of limbs to copy
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private static void copyLimbs(IntBuffer from, IntBuffer to, int count) {
+
+        to.put(0, from, 0, count);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    normalizedCount
+     * Purpose   Returns the number of limbs in use once zero limbs at the top are
+     *               dropped, keeping at least one limb.
+     * @param    'buffer'   --    (IntBuffer)  the limbs
+     * @param    'count'    --    (int)        the number of limbs to consider
+     * @returns  (int) the normalized number of limbs
+     * ----------------------------------------------------------------------------*/
+    private static int normalizedCount(IntBuffer buffer, int count) {
+
+        while (count > 1 && buffer.get(count - 1) == 0) {
+            count--;
+        }
+        return count;
+    }
+
+} /* ****************************************************************************** */
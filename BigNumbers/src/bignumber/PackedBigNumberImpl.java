@@ -0,0 +1,595 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/* ******************************************************************************
+ * Class     PackedBigNumberImpl
+ * Purpose   The PackedBigNumberImpl class implements the BigNumber interface
+ *               without a Linked List. The digits of the number are packed nine
+ *               at a time into the limbs of a primitive int array, so that each
+ *               limb holds a value between 0 and 10^9 - 1. The least significant
+ *               limb is stored at index 0. Compared to BigNumberImpl, which spends
+ *               a whole Node per digit, this takes a little over 3.5 bits per
+ *               digit and keeps the digits contiguous in memory. The class is
+ *               interoperable with BigNumberImpl: either may be passed to the
+ *               `add`, `compareTo` and `equals` methods of the other.
+ * @attrib   'limbs'          --    (int[])   the base-10^9 limbs, least significant first
+ * @attrib   'limbCount'      --    (int)     the number of limbs in use
+ * ***************************************************************************** */
+public class PackedBigNumberImpl extends AbstractBigNumber {
+
+    private int[] limbs;
+    private int limbCount;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a PackedBigNumberImpl object with the value 0.
+     * ----------------------------------------------------------------------------*/
+    public PackedBigNumberImpl() {
+
+        this.limbs = new int[1];
+        this.limbCount = 1;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a PackedBigNumberImpl object from a number represented as
+     *               a String. Throws NumberFormatException if a negative integer or
+     *               non-numeric char is encountered. Leading zeroes are ignored, and
+     *               an empty String is read as 0.
+     * @param    'numberAsString'     --    (String)  a String representing a number.
+     * ----------------------------------------------------------------------------*/
+    public PackedBigNumberImpl(String numberAsString) {
+
+        this.limbs = Limbs.fromString(numberAsString);
+        this.limbCount = this.limbs.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a PackedBigNumberImpl from a sequence of decimal digits, most
+     *               significant first. The digits are checked and packed into limbs
+     *               in a single pass, and leading zeroes are skipped before the limb
+     *               array is allocated. Throws NumberFormatException if a non-numeric
+     *               char is encountered, and IllegalArgumentException if the digits
+     *               are null. An empty sequence is read as 0.
+     * @param    'digits'     --    (CharSequence)  the digits of the number
+     * @returns  (PackedBigNumberImpl) a new PackedBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static PackedBigNumberImpl parse(CharSequence digits) {
+
+        if (digits == null) {
+            throw new IllegalArgumentException("The digits must not be null.");
+        }
+
+        int[] newLimbs = Limbs.fromString(digits);
+        return new PackedBigNumberImpl(newLimbs, newLimbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a PackedBigNumberImpl from an array of ASCII decimal digits,
+     *               most significant first, without decoding it into a String.
+     * @param    'digits'     --    (byte[])  the ASCII digits of the number
+     * @returns  (PackedBigNumberImpl) a new PackedBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static PackedBigNumberImpl parse(byte[] digits) {
+
+        if (digits == null) {
+            throw new IllegalArgumentException("The digits must not be null.");
+        }
+
+        return parse(digits, 0, digits.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a PackedBigNumberImpl from a range of an array of ASCII
+     *               decimal digits, most significant first. Throws
+     *               IndexOutOfBoundsException if the range is outside the array.
+     * @param    'digits'     --    (byte[])  the ASCII digits of the number
+     * @param    'offset'     --    (int)     the index of the first digit
+     * @param    'length'     --    (int)     the number of digits
+     * @returns  (PackedBigNumberImpl) a new PackedBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static PackedBigNumberImpl parse(byte[] digits, int offset, int length) {
+
+        if (digits == null) {
+            throw new IllegalArgumentException("The digits must not be null.");
+        }
+
+        return parse(new AsciiDigits(digits, offset, length));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    parse
+     * Purpose   Creates a PackedBigNumberImpl from every remaining char of a
+     *               Reader. The Reader is not closed.
+     * @param    'reader'     --    (Reader)  the source of the digits
+     * @returns  (PackedBigNumberImpl) a new PackedBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    public static PackedBigNumberImpl parse(Reader reader) throws IOException {
+
+        if (reader == null) {
+            throw new IllegalArgumentException("The reader must not be null.");
+        }
+
+        return parse(Limbs.readAll(reader));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a PackedBigNumberImpl object holding the same value as
+     *               another BigNumber of any implementation. The limbs are copied,
+     *               since the array `toLimbs` returns may belong to the other
+     *               BigNumber.
+     * @param    'other'     --    (BigNumber)  the value to copy
+     * ----------------------------------------------------------------------------*/
+    public PackedBigNumberImpl(BigNumber other) {
+
+        this.limbs = Limbs.toLimbs(other).clone();
+        this.limbCount = this.limbs.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Wraps an existing limb array without copying it. Only used within
+     *               the package.
+     * @param    'inLimbs'     --    (int[])  a limb array, least significant first
+     * @param    'inCount'     --    (int)    the number of limbs in use
+     * ----------------------------------------------------------------------------*/
+    PackedBigNumberImpl(int[] inLimbs, int inCount) {
+
+        this.limbs = inLimbs;
+        this.limbCount = Limbs.normalizedCount(inLimbs, inCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    length
+     * Purpose   Returns the number of digits in the BigNumber
+     * @param    None
+     * @returns  (int) the number of digits in the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int length() {
+
+        return Limbs.digitCount(this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLeft
+     * Purpose   Left-shift BigNumber by one position. Equivalent to multiplying by 10.
+     *               If called with negative numOfShifts, calls shiftRight with positive
+     *               numOfShifts instead. Whole limbs are moved at once and the
+     *               remaining shift is done as a single multiplication per limb.
+     * @param    'numOfShifts'      --      (int)   the number of times to left-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftLeft(int numOfShifts) {
+
+        if (numOfShifts == 0 || this.isZero()) {
+            return;
+        }
+
+        if (numOfShifts < 0) {
+            this.shiftRight(-1 * numOfShifts);
+            return;
+        }
+
+        int limbShift = numOfShifts / Limbs.BASE_DIGITS;
+        int digitShift = numOfShifts % Limbs.BASE_DIGITS;
+
+        // Room for the moved limbs plus one limb of overflow from the digit shift
+        int[] shifted = new int[this.limbCount + limbShift + 1];
+        long multiplier = Limbs.POW10[digitShift];
+        long carry = 0;
+
+        for (int i = 0; i < this.limbCount; i++) {
+            long product = this.limbs[i] * multiplier + carry;
+            shifted[i + limbShift] = (int) (product % Limbs.BASE);
+            carry = product / Limbs.BASE;
+        }
+        shifted[this.limbCount + limbShift] = (int) carry;
+
+        this.shiftHash(numOfShifts);
+        this.limbs = shifted;
+        this.limbCount = Limbs.normalizedCount(shifted, shifted.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftRight
+     * Purpose   Right-shift BigNumber by one position. Equivalent to div 10.
+     *               If called with negative numOfShifts, calls shiftLeft with positive
+     *               numOfShifts instead. Shifting past the length leaves the value 0.
+     * @param    'numOfShifts'      --      (int)   the number of times to right-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftRight(int numOfShifts) {
+
+        if (numOfShifts == 0 || this.isZero()) {
+            return;
+        }
+
+        if (numOfShifts < 0) {
+            this.shiftLeft(-1 * numOfShifts);
+            return;
+        }
+
+        this.invalidateHash();
+
+        if (numOfShifts >= this.length()) {
+            this.limbs = new int[1];
+            this.limbCount = 1;
+            return;
+        }
+
+        int limbShift = numOfShifts / Limbs.BASE_DIGITS;
+        int digitShift = numOfShifts % Limbs.BASE_DIGITS;
+        int divisor = Limbs.POW10[digitShift];
+        int multiplier = Limbs.POW10[Limbs.BASE_DIGITS - digitShift];
+
+        int newCount = this.limbCount - limbShift;
+        int[] shifted = new int[newCount];
+
+        // Each new limb takes the high digits of one limb and the low digits of the next
+        for (int i = 0; i < newCount; i++) {
+            int low = this.limbs[i + limbShift] / divisor;
+            int high = (i + limbShift + 1 < this.limbCount)
+                    ? (this.limbs[i + limbShift + 1] % divisor) * multiplier
+                    : 0;
+            shifted[i] = low + high;
+        }
+
+        this.limbs = shifted;
+        this.limbCount = Limbs.normalizedCount(shifted, newCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addDigit
+     * Purpose   Add to BigNumber the value of a single digit. Throws IllegalArgumentException
+     *               if argument is not a valid digit.
+     * @param    'inDigit'      --      (int)   the value to add to the BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addDigit(int inDigit) {
+
+        if (inDigit < 0 || inDigit > 9) {
+            throw new IllegalArgumentException("The addend must be a single non-negative digit.");
+        }
+
+        this.invalidateHash();
+        int carry = inDigit;
+        int i = 0;
+
+        while (carry > 0 && i < this.limbCount) {
+            int limbSum = this.limbs[i] + carry;
+            carry = limbSum >= Limbs.BASE ? 1 : 0;
+            this.limbs[i] = limbSum - carry * Limbs.BASE;
+            i++;
+        }
+
+        // Carry out of the top limb needs one more limb
+        if (carry > 0) {
+            this.ensureCapacity(this.limbCount + 1);
+            this.limbs[this.limbCount] = carry;
+            this.limbCount++;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitAt
+     * Purpose   Returns digit at the specified position. Throws IllegalArgumentException
+     *               if position is out of bounds.
+     * @param    'position'      --      (int)   the position of the digit
+     * @returns  (int) the digit at the specified position
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int getDigitAt(int position) {
+
+        if (position < 0 || position >= this.length()) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        return Limbs.digitAt(this.limbs, this.limbCount, position);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitAt
+     * Purpose   Sets digit at the specified position. Throws IllegalArgumentException
+     *               if position is out of bounds or if the value is not a single digit.
+     *               Setting the most significant digit to 0 shortens the number.
+     * @param    'position'      --      (int)   the position of the digit
+     * @param    'inDigit'       --      (int)   the value to set at the position
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitAt(int position, int inDigit) {
+
+        if (position < 0 || position >= this.length()) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        if (inDigit < 0 || inDigit > 9) {
+            throw new IllegalArgumentException("The value must be a single non-negative digit.");
+        }
+
+        this.invalidateHash();
+        int limbIndex = position / Limbs.BASE_DIGITS;
+        int place = Limbs.POW10[position % Limbs.BASE_DIGITS];
+        int oldDigit = (this.limbs[limbIndex] / place) % 10;
+
+        this.limbs[limbIndex] += (inDigit - oldDigit) * place;
+        this.limbCount = Limbs.normalizedCount(this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    copy
+     * Purpose   Returns a copy of this BigNumber obj.
+     * @param    None
+     * @returns  (BigNumber) a copy of this BigNumber obj
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber copy() {
+
+        return new PackedBigNumberImpl(this.limbsCopy(), this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two BigNumbers together and returns the value as a new
+     *               PackedBigNumberImpl object. The other addend may be of any
+     *               BigNumber implementation. Long additions run in parallel when
+     *               parallel mode is on in the Adder class.
+     * @param    'other'      --      (BigNumber)   the second addend
+     * @returns  (BigNumber) the sum of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber add(BigNumber other) {
+
+        int[] otherLimbs;
+        int otherCount;
+
+        if (other instanceof PackedBigNumberImpl) {
+            otherLimbs = ((PackedBigNumberImpl) other).limbs;
+            otherCount = ((PackedBigNumberImpl) other).limbCount;
+        }
+        else {
+            otherLimbs = Limbs.toLimbs(other);
+            otherCount = otherLimbs.length;
+        }
+
+        int[] sum = Adder.add(this.limbs, this.limbCount, otherLimbs, otherCount);
+        return new PackedBigNumberImpl(sum, sum.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Adds another BigNumber of any implementation to this one, limb by
+     *               limb, into the existing limb array. The array only grows when
+     *               the sum needs more capacity.
+     * @param    'other'      --      (BigNumber)   the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addInPlace(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("The addend must not be null.");
+        }
+
+        int[] otherLimbs;
+        int otherCount;
+
+        if (other instanceof PackedBigNumberImpl) {
+            otherLimbs = ((PackedBigNumberImpl) other).limbs;
+            otherCount = ((PackedBigNumberImpl) other).limbCount;
+        }
+        else {
+            otherLimbs = Limbs.toLimbs(other);
+            otherCount = otherLimbs.length;
+        }
+
+        this.invalidateHash();
+        this.ensureCapacity(Math.max(this.limbCount, otherCount) + 1);
+        this.limbCount = Limbs.addInPlace(this.limbs, this.limbCount, otherLimbs, otherCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    accumulateInto
+     * Purpose   Adds the limbs of this BigNumber to an array of base-10^9 limb
+     *               columns, reading the limb array in place.
+     * @param    'columns'    --    (long[])  the columns to add the limbs to
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    void accumulateInto(long[] columns) {
+
+        for (int i = 0; i < this.limbCount; i++) {
+            columns[i] += this.limbs[i];
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    computeHash
+     * Purpose   Computes the hash code from the limb array in place.
+     * @param    None
+     * @returns  (int) the hash code of the decimal digits
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int computeHash() {
+
+        return Limbs.hash(IntBuffer.wrap(this.limbs), this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Returns an exactly sized copy of the limbs in use.
+     * @param    None
+     * @returns  (int[]) the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int[] toLimbs() {
+
+        return this.limbsCopy();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromLimbs
+     * Purpose   Wraps a normalized limb array in a new PackedBigNumberImpl.
+     * @param    'inLimbs'   --    (int[])  the value as limbs, least significant first
+     * @returns  (BigNumber) a new PackedBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    BigNumber fromLimbs(int[] inLimbs) {
+
+        return new PackedBigNumberImpl(inLimbs, inLimbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitList
+     * Purpose   Returns the digits as a new Linked List, least significant digit
+     *               at the Head. The List is a snapshot: changes to it are not
+     *               reflected in this BigNumber.
+     * @param    None
+     * @returns  (MyList) the digits of the BigNumber as a Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyList getDigitList() {
+
+        return Limbs.toDigitList(this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitList
+     * Purpose   Replaces the value with the digits of a Linked List, least
+     *               significant digit at the Head. Throws IllegalArgumentException
+     *               if the List holds a value that is not a single digit.
+     * @param    'inDigitList'  --  (MyList)    a list of digits representing a BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitList(MyList inDigitList) {
+
+        this.invalidateHash();
+        this.limbs = Limbs.fromDigitList(inDigitList);
+        this.limbCount = this.limbs.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compareTo
+     * Purpose   Compares two BigNumbers. Returns -1 if this is smaller than other,
+     *               returns 1 if this is larger than other, and 0 is they are equal.
+     * @param    'other'  --  (BigNumber)    a BigNumber object
+     * @returns  (int) 1, 0, or -1, depending on whether this is larger than, equal
+     *               to, or smaller than other
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int compareTo(BigNumber other) {
+
+        if (other instanceof PackedBigNumberImpl) {
+            PackedBigNumberImpl packed = (PackedBigNumberImpl) other;
+            return Limbs.compare(this.limbs, this.limbCount, packed.limbs, packed.limbCount);
+        }
+
+        // Compare lengths before reading any digits of the other implementation
+        int thisLength = this.length();
+        int otherLength = other.length();
+        if (thisLength != otherLength) {
+            return thisLength > otherLength ? 1 : -1;
+        }
+
+        int[] otherLimbs = Limbs.toLimbs(other);
+        return Limbs.compare(this.limbs, this.limbCount, otherLimbs, otherLimbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the digits of the BigNumber, most significant first, to an
+     *               Appendable, one limb at a time.
+     * @param    'out'      --      (Appendable)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+
+        if (out == null) {
+            throw new IllegalArgumentException("The Appendable must not be null.");
+        }
+
+        Limbs.writeDecimal(IntBuffer.wrap(this.limbs), this.limbCount, out);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the BigNumber to a file in the binary format of the
+     *               BigNumberFile class, straight from the limb array without copying it.
+     * @param    'file'     --      (Path)   the file to write
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Path file) throws IOException {
+
+        BigNumberFile.write(file, IntBuffer.wrap(this.limbs), this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digits
+     * Purpose   Returns the digits of the BigNumber, least significant first, read
+     *               in place from the limb array.
+     * @param    None
+     * @returns  (IntStream) the digits, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public IntStream digits() {
+
+        return digitsOf(IntBuffer.wrap(this.limbs), this.length());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    limbsCopy
+     * Purpose   Returns an exactly sized copy of the limbs in use.
+     * @param    None
+     * @returns  (int[]) a copy of the limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    int[] limbsCopy() {
+
+        return Arrays.copyOf(this.limbs, this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isZero
+     * Purpose   Returns true if the value of the BigNumber is 0.
+     * @param    None
+     * @returns  (boolean) true if the value is 0
+     * ----------------------------------------------------------------------------*/
+    private boolean isZero() {
+
+        return this.limbCount == 1 && this.limbs[0] == 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    ensureCapacity
+     * Purpose   Grows the limb array, if needed, so that it can hold at least the
+     *               given number of limbs. Grows by half again to amortize repeated
+     *               growth.
+     * @param    'minCapacity'  --  (int)    the number of limbs needed
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void ensureCapacity(int minCapacity) {
+
+        if (this.limbs.length < minCapacity) {
+            int newCapacity = Math.max(minCapacity, this.limbs.length + (this.limbs.length >> 1));
+            this.limbs = Arrays.copyOf(this.limbs, newCapacity);
+        }
+    }
+
+} /* ****************************************************************************** */
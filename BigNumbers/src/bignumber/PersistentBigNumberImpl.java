@@ -0,0 +1,615 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/* ******************************************************************************
+ * Class     PersistentBigNumberImpl
+ * Purpose   The PersistentBigNumberImpl class implements the BigNumber interface
+ *               as an immutable value whose digits are shared between the values
+ *               derived from it. The base-10^9 limbs are split into segments of
+ *               SEGMENT_LIMBS limbs each, and a segment is never written once the
+ *               value holding it is built. A derived value copies only the
+ *               segments it changes and points to the same arrays for the rest:
+ *               `add` rewrites the segments covered by the shorter operand and by
+ *               the carry, and shares every higher segment of the longer one;
+ *               `withDigitAt` copies a single segment; shifts by whole segments
+ *               share all of them. Since nothing is ever changed in place, values
+ *               can be handed to other threads without copies or locks. The
+ *               mutating methods of BigNumber throw UnsupportedOperationException;
+ *               `shiftedLeft`, `shiftedRight`, `withDigitAt` and `plusDigit` return
+ *               new values instead, and `copy` returns a mutable
+ *               PackedBigNumberImpl.
+ * @attrib   'SEGMENT_LIMBS'  --    (int)      the number of limbs per segment
+ * @attrib   'segments'       --    (int[][])  the limbs, least significant segment
+ *                                               first; every segment but the last
+ *                                               is full, the last exactly sized
+ * @attrib   'limbCount'      --    (int)      the number of limbs
+ * @attrib   'digitCount'     --    (int)      the number of decimal digits
+ * ***************************************************************************** */
+public final class PersistentBigNumberImpl extends AbstractBigNumber {
+
+    static final int SEGMENT_LIMBS = 32;
+
+    private final int[][] segments;
+    private final int limbCount;
+    private final int digitCount;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a PersistentBigNumberImpl from a String of digits. Leading
+     *               zeroes are dropped. Throws IllegalArgumentException if the String
+     *               is null, empty or holds anything but decimal digits.
+     * @param    'numberAsString'     --    (String)  the digits of the number
+     * ----------------------------------------------------------------------------*/
+    public PersistentBigNumberImpl(String numberAsString) {
+
+        this(split(Limbs.fromString(numberAsString)));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Wraps segments without copying them. The segments must hold a
+     *               normalized value and must not be changed afterwards.
+     * @param    'inSegments'     --    (int[][])  the limbs, least significant
+     *                                               segment first
+     * ----------------------------------------------------------------------------*/
+    private PersistentBigNumberImpl(int[][] inSegments) {
+
+        int lastLength = inSegments[inSegments.length - 1].length;
+        this.segments = inSegments;
+        this.limbCount = (inSegments.length - 1) * SEGMENT_LIMBS + lastLength;
+        this.digitCount = (this.limbCount - 1) * Limbs.BASE_DIGITS
+                + Limbs.digitsIn(inSegments[inSegments.length - 1][lastLength - 1]);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    of
+     * Purpose   Returns a PersistentBigNumberImpl holding the value of a BigNumber
+     *               of any implementation: the argument itself if it already is
+     *               one. Throws IllegalArgumentException if the argument is null.
+     * @param    'other'     --    (BigNumber)  the value
+     * @returns  (PersistentBigNumberImpl) a persistent BigNumber holding the value
+     * ----------------------------------------------------------------------------*/
+    public static PersistentBigNumberImpl of(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("The BigNumber must not be null.");
+        }
+
+        if (other instanceof PersistentBigNumberImpl) {
+            return (PersistentBigNumberImpl) other;
+        }
+
+        return new PersistentBigNumberImpl(split(Limbs.toLimbs(other)));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    split
+     * Purpose   Copies a normalized limb array into segments.
+     * @param    'limbs'     --    (int[])  the value as limbs, least significant first
+     * @returns  (int[][]) the segments
+     * ----------------------------------------------------------------------------*/
+    private static int[][] split(int[] limbs) {
+
+        int[][] newSegments = new int[(limbs.length + SEGMENT_LIMBS - 1) / SEGMENT_LIMBS][];
+        for (int i = 0; i < newSegments.length; i++) {
+            int from = i * SEGMENT_LIMBS;
+            newSegments[i] = Arrays.copyOfRange(limbs, from, Math.min(from + SEGMENT_LIMBS, limbs.length));
+        }
+        return newSegments;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    limbAt
+     * Purpose   Returns a single limb.
+     * @param    'index'     --    (int)  the index of the limb, 0 the least significant
+     * @returns  (int) the limb
+     * ----------------------------------------------------------------------------*/
+    private int limbAt(int index) {
+
+        return this.segments[index / SEGMENT_LIMBS][index % SEGMENT_LIMBS];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    length
+     * Purpose   Returns the number of digits in the BigNumber
+     * @param    None
+     * @returns  (int) the number of digits in the BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int length() {
+
+        return this.digitCount;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftLeft
+     * Purpose   Not supported: the BigNumber is immutable; see `shiftedLeft`.
+     *               Throws UnsupportedOperationException.
+     * @param    'numOfShifts'      --      (int)   the number of times to left-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftLeft(int numOfShifts) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftRight
+     * Purpose   Not supported: the BigNumber is immutable; see `shiftedRight`.
+     *               Throws UnsupportedOperationException.
+     * @param    'numOfShifts'      --      (int)   the number of times to right-shift
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void shiftRight(int numOfShifts) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addDigit
+     * Purpose   Not supported: the BigNumber is immutable; see `plusDigit`.
+     *               Throws UnsupportedOperationException.
+     * @param    'inDigit'      --      (int)   the value to add to the BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addDigit(int inDigit) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitAt
+     * Purpose   Returns digit at the specified position. Throws IllegalArgumentException
+     *               if position is out of bounds.
+     * @param    'position'      --      (int)   the position of the digit
+     * @returns  (int) the digit at the specified position
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int getDigitAt(int position) {
+
+        if (position < 0 || position >= this.digitCount) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        int limb = this.limbAt(position / Limbs.BASE_DIGITS);
+        return (limb / Limbs.POW10[position % Limbs.BASE_DIGITS]) % 10;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitAt
+     * Purpose   Not supported: the BigNumber is immutable; see `withDigitAt`.
+     *               Throws UnsupportedOperationException.
+     * @param    'position'      --      (int)   the position of the digit
+     * @param    'inDigit'       --      (int)   the value to set at the position
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitAt(int position, int inDigit) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    withDigitAt
+     * Purpose   Returns a new value with the digit at the specified position set,
+     *               copying only the segment that holds it. Setting the most
+     *               significant digit to 0 shortens the number. Throws
+     *               IllegalArgumentException if position is out of bounds or if the
+     *               value is not a single digit.
+     * @param    'position'      --      (int)   the position of the digit
+     * @param    'inDigit'       --      (int)   the value to set at the position
+     * @returns  (PersistentBigNumberImpl) the new value
+     * ----------------------------------------------------------------------------*/
+    public PersistentBigNumberImpl withDigitAt(int position, int inDigit) {
+
+        if (position < 0 || position >= this.digitCount) {
+            throw new IllegalArgumentException("Invalid position passed.");
+        }
+
+        if (inDigit < 0 || inDigit > 9) {
+            throw new IllegalArgumentException("The value must be a single non-negative digit.");
+        }
+
+        int limbIndex = position / Limbs.BASE_DIGITS;
+        int place = Limbs.POW10[position % Limbs.BASE_DIGITS];
+        int oldDigit = (this.limbAt(limbIndex) / place) % 10;
+        if (oldDigit == inDigit) {
+            return this;
+        }
+
+        int[][] newSegments = this.segments.clone();
+        int[] segment = newSegments[limbIndex / SEGMENT_LIMBS].clone();
+        segment[limbIndex % SEGMENT_LIMBS] += (inDigit - oldDigit) * place;
+        newSegments[limbIndex / SEGMENT_LIMBS] = segment;
+
+        // A zero top limb can only come from clearing the leading digits
+        if (segment[segment.length - 1] == 0 && this.limbCount > 1
+                && limbIndex / SEGMENT_LIMBS == newSegments.length - 1) {
+            int[] limbs = new PersistentBigNumberImpl(newSegments).toLimbs();
+            return new PersistentBigNumberImpl(split(
+                    Arrays.copyOf(limbs, Limbs.normalizedCount(limbs, limbs.length))));
+        }
+
+        return new PersistentBigNumberImpl(newSegments);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    plusDigit
+     * Purpose   Returns a new value with a single digit added, sharing every
+     *               segment the carry does not reach. Throws IllegalArgumentException
+     *               if argument is not a valid digit.
+     * @param    'inDigit'      --      (int)   the value to add
+     * @returns  (PersistentBigNumberImpl) the new value
+     * ----------------------------------------------------------------------------*/
+    public PersistentBigNumberImpl plusDigit(int inDigit) {
+
+        if (inDigit < 0 || inDigit > 9) {
+            throw new IllegalArgumentException("The addend must be a single non-negative digit.");
+        }
+
+        return inDigit == 0 ? this : this.plusLimbs(new int[] {inDigit});
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftedLeft
+     * Purpose   Returns this value shifted left by a number of digits, i.e.
+     *               multiplied by a power of ten. A shift by whole segments only
+     *               puts zero segments below the shared ones; any other shift
+     *               repacks the limbs. A negative count shifts right.
+     * @param    'numOfShifts'      --      (int)   the number of digits to shift by
+     * @returns  (PersistentBigNumberImpl) the shifted value
+     * ----------------------------------------------------------------------------*/
+    public PersistentBigNumberImpl shiftedLeft(int numOfShifts) {
+
+        if (numOfShifts < 0) {
+            return this.shiftedRight(-1 * numOfShifts);
+        }
+
+        if (numOfShifts == 0 || this.isZero()) {
+            return this;
+        }
+
+        int segmentDigits = SEGMENT_LIMBS * Limbs.BASE_DIGITS;
+        if (numOfShifts % segmentDigits == 0) {
+            int zeroSegments = numOfShifts / segmentDigits;
+            int[][] newSegments = new int[zeroSegments + this.segments.length][];
+            for (int i = 0; i < zeroSegments; i++) {
+                newSegments[i] = new int[SEGMENT_LIMBS];
+            }
+            System.arraycopy(this.segments, 0, newSegments, zeroSegments, this.segments.length);
+            return new PersistentBigNumberImpl(newSegments);
+        }
+
+        PackedBigNumberImpl shifted = (PackedBigNumberImpl) this.copy();
+        shifted.shiftLeft(numOfShifts);
+        return of(shifted);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    shiftedRight
+     * Purpose   Returns this value shifted right by a number of digits, i.e.
+     *               divided by a power of ten. A shift by whole segments drops the
+     *               low segments and shares the others; any other shift repacks the
+     *               limbs. A negative count shifts left.
+     * @param    'numOfShifts'      --      (int)   the number of digits to shift by
+     * @returns  (PersistentBigNumberImpl) the shifted value
+     * ----------------------------------------------------------------------------*/
+    public PersistentBigNumberImpl shiftedRight(int numOfShifts) {
+
+        if (numOfShifts < 0) {
+            return this.shiftedLeft(-1 * numOfShifts);
+        }
+
+        if (numOfShifts == 0 || this.isZero()) {
+            return this;
+        }
+
+        if (numOfShifts >= this.digitCount) {
+            return new PersistentBigNumberImpl(new int[][] {new int[1]});
+        }
+
+        int segmentDigits = SEGMENT_LIMBS * Limbs.BASE_DIGITS;
+        if (numOfShifts % segmentDigits == 0) {
+            int dropped = numOfShifts / segmentDigits;
+            return new PersistentBigNumberImpl(Arrays.copyOfRange(this.segments, dropped, this.segments.length));
+        }
+
+        PackedBigNumberImpl shifted = (PackedBigNumberImpl) this.copy();
+        shifted.shiftRight(numOfShifts);
+        return of(shifted);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    copy
+     * Purpose   Returns a mutable copy of this BigNumber.
+     * @param    None
+     * @returns  (BigNumber) a PackedBigNumberImpl holding the same value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber copy() {
+
+        int[] limbs = this.toLimbs();
+        return new PackedBigNumberImpl(limbs, limbs.length);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds two BigNumbers together and returns the value as a new
+     *               PersistentBigNumberImpl object. When the longer operand is a
+     *               PersistentBigNumberImpl, the sum shares its segments above the
+     *               shorter operand and the carry.
+     * @param    'other'      --      (BigNumber)   the second addend
+     * @returns  (BigNumber) the sum of the two BigNumbers
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public BigNumber add(BigNumber other) {
+
+        if (other == null) {
+            throw new IllegalArgumentException("The addend must not be null.");
+        }
+
+        if (other instanceof PersistentBigNumberImpl) {
+            PersistentBigNumberImpl persistent = (PersistentBigNumberImpl) other;
+            if (persistent.limbCount > this.limbCount) {
+                return persistent.plusLimbs(this.toLimbs());
+            }
+        }
+
+        int[] otherLimbs = Limbs.toLimbs(other);
+        if (otherLimbs.length > this.limbCount) {
+            return this.fromLimbs(Limbs.add(this.toLimbs(), this.limbCount, otherLimbs, otherLimbs.length));
+        }
+
+        return this.plusLimbs(otherLimbs);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    plusLimbs
+     * Purpose   Returns this value plus a limb array no longer than it. Only the
+     *               segments reached by the addend or by the carry are copied; the
+     *               rest of the new value points to the segments of this one.
+     * @param    'addend'      --      (int[])   a normalized limb array, at most
+     *                                             limbCount limbs long
+     * @returns  (PersistentBigNumberImpl) the sum
+     * ----------------------------------------------------------------------------*/
+    private PersistentBigNumberImpl plusLimbs(int[] addend) {
+
+        int[][] newSegments = this.segments.clone();
+        int[] segment = null;
+        int carry = 0;
+        int i = 0;
+
+        for (; i < this.limbCount && (i < addend.length || carry != 0); i++) {
+            if (i % SEGMENT_LIMBS == 0) {
+                segment = newSegments[i / SEGMENT_LIMBS].clone();
+                newSegments[i / SEGMENT_LIMBS] = segment;
+            }
+
+            int limbSum = segment[i % SEGMENT_LIMBS] + (i < addend.length ? addend[i] : 0) + carry;
+            carry = limbSum >= Limbs.BASE ? 1 : 0;
+            segment[i % SEGMENT_LIMBS] = limbSum - carry * Limbs.BASE;
+        }
+
+        if (carry == 0) {
+            return new PersistentBigNumberImpl(newSegments);
+        }
+
+        // The carry left the top limb: the last segment grows, or a new one starts
+        int last = newSegments.length - 1;
+        if (newSegments[last].length < SEGMENT_LIMBS) {
+            newSegments[last] = Arrays.copyOf(newSegments[last], newSegments[last].length + 1);
+            newSegments[last][newSegments[last].length - 1] = carry;
+            return new PersistentBigNumberImpl(newSegments);
+        }
+
+        int[][] grown = Arrays.copyOf(newSegments, newSegments.length + 1);
+        grown[newSegments.length] = new int[] {carry};
+        return new PersistentBigNumberImpl(grown);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    addInPlace
+     * Purpose   Not supported: the BigNumber is immutable; see `add`. Throws
+     *               UnsupportedOperationException.
+     * @param    'other'      --      (BigNumber)   the value to add
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void addInPlace(BigNumber other) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    accumulateInto
+     * Purpose   Adds the limbs of this BigNumber to an array of base-10^9 limb
+     *               columns, reading the segments in place.
+     * @param    'columns'    --    (long[])  the columns to add the limbs to
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    void accumulateInto(long[] columns) {
+
+        for (int s = 0; s < this.segments.length; s++) {
+            int[] segment = this.segments[s];
+            int base = s * SEGMENT_LIMBS;
+            for (int i = 0; i < segment.length; i++) {
+                columns[base + i] += segment[i];
+            }
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toLimbs
+     * Purpose   Joins the segments into a new limb array.
+     * @param    None
+     * @returns  (int[]) the value as limbs, least significant first
+     * ----------------------------------------------------------------------------*/
+    @Override
+    int[] toLimbs() {
+
+        int[] limbs = new int[this.limbCount];
+        for (int s = 0; s < this.segments.length; s++) {
+            System.arraycopy(this.segments[s], 0, limbs, s * SEGMENT_LIMBS, this.segments[s].length);
+        }
+        return limbs;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    fromLimbs
+     * Purpose   Returns a new PersistentBigNumberImpl holding the value of a
+     *               normalized limb array.
+     * @param    'inLimbs'   --    (int[])  the value as limbs, least significant first
+     * @returns  (BigNumber) a new PersistentBigNumberImpl holding the value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    BigNumber fromLimbs(int[] inLimbs) {
+
+        return new PersistentBigNumberImpl(split(inLimbs));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitList
+     * Purpose   Returns the digits as a new Linked List, least significant digit
+     *               at the Head. The List is a snapshot: changes to it are not
+     *               reflected in this BigNumber.
+     * @param    None
+     * @returns  (MyList) the digits of the BigNumber as a Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyList getDigitList() {
+
+        return Limbs.toDigitList(this.toLimbs(), this.limbCount);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setDigitList
+     * Purpose   Not supported: the BigNumber is immutable. Throws
+     *               UnsupportedOperationException.
+     * @param    'inDigitList'  --  (MyList)    a list of digits representing a BigNumber
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void setDigitList(MyList inDigitList) {
+
+        throw immutable();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    compareTo
+     * Purpose   Compares two BigNumbers. Returns -1 if this is smaller than other,
+     *               returns 1 if this is larger than other, and 0 is they are equal.
+     *               Segments shared with another PersistentBigNumberImpl are equal
+     *               and are skipped without reading them.
+     * @param    'other'  --  (BigNumber)    a BigNumber object
+     * @returns  (int) 1, 0, or -1, depending on whether this is larger than, equal
+     *               to, or smaller than other
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int compareTo(BigNumber other) {
+
+        int otherLength = other.length();
+        if (this.digitCount != otherLength) {
+            return this.digitCount > otherLength ? 1 : -1;
+        }
+
+        if (!(other instanceof PersistentBigNumberImpl)) {
+            int[] otherLimbs = Limbs.toLimbs(other);
+            int[] limbs = this.toLimbs();
+            return Limbs.compare(limbs, limbs.length, otherLimbs, otherLimbs.length);
+        }
+
+        int[][] otherSegments = ((PersistentBigNumberImpl) other).segments;
+        for (int s = this.segments.length - 1; s >= 0; s--) {
+            int[] segment = this.segments[s];
+            int[] otherSegment = otherSegments[s];
+            if (segment == otherSegment) {
+                continue;
+            }
+            for (int i = segment.length - 1; i >= 0; i--) {
+                if (segment[i] != otherSegment[i]) {
+                    return segment[i] > otherSegment[i] ? 1 : -1;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeTo
+     * Purpose   Writes the digits of the BigNumber, most significant first, to an
+     *               Appendable, one limb at a time.
+     * @param    'out'      --      (Appendable)   the destination of the digits
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void writeTo(Appendable out) throws IOException {
+
+        if (out == null) {
+            throw new IllegalArgumentException("The Appendable must not be null.");
+        }
+
+        Limbs.writeDecimal(IntBuffer.wrap(this.toLimbs()), this.limbCount, out);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    sharedSegments
+     * Purpose   Returns the number of segments at the same index that this value
+     *               and another share, i.e. that are the same array.
+     * @param    'other'    --    (PersistentBigNumberImpl)  the other value
+     * @returns  (int) the number of shared segments
+     * ----------------------------------------------------------------------------*/
+    int sharedSegments(PersistentBigNumberImpl other) {
+
+        int shared = 0;
+        int common = Math.min(this.segments.length, other.segments.length);
+        for (int s = 0; s < common; s++) {
+            if (this.segments[s] == other.segments[s]) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getSegmentCount
+     * Purpose   Returns the number of segments the limbs are split into.
+     * @param    None
+     * @returns  (int) the number of segments
+     * ----------------------------------------------------------------------------*/
+    int getSegmentCount() {
+
+        return this.segments.length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isZero
+     * Purpose   Returns true if the value is 0.
+     * @param    None
+     * @returns  (boolean) true if the value is 0
+     * ----------------------------------------------------------------------------*/
+    private boolean isZero() {
+
+        return this.limbCount == 1 && this.segments[0][0] == 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    immutable
+     * Purpose   Returns the exception thrown by every mutating method.
+     * @param    None
+     * @returns  (UnsupportedOperationException) the exception to throw
+     * ----------------------------------------------------------------------------*/
+    private static UnsupportedOperationException immutable() {
+
+        return new UnsupportedOperationException("A persistent BigNumber cannot be changed.");
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,178 @@
+package bignumber;
+
+/* ******************************************************************************
+ * Class     SignedLimbs
+ * Purpose   The SignedLimbs class represents an immutable signed integer as a
+ *               sign and a normalized base-10^9 limb magnitude. BigNumbers are
+ *               never negative, but some algorithms (Toom-Cook interpolation,
+ *               division corrections) pass through negative intermediate values;
+ *               this class carries them. The value 0 always has sign 0.
+ * @attrib   'sign'           --    (int)     -1, 0 or 1
+ * @attrib   'magnitude'      --    (int[])   the normalized absolute value
+ * ***************************************************************************** */
+final class SignedLimbs {
+
+    private final int sign;
+    private final int[] magnitude;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a SignedLimbs object. A zero magnitude forces the sign to 0.
+     * @param    'inSign'        --    (int)     the sign, -1, 0 or 1
+     * @param    'inMagnitude'   --    (int[])   the absolute value as limbs
+     * ----------------------------------------------------------------------------*/
+    private SignedLimbs(int inSign, int[] inMagnitude) {
+
+        this.magnitude = Multiplier.trim(inMagnitude);
+        this.sign = Multiplier.isZero(this.magnitude) ? 0 : inSign;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    of
+     * Purpose   Returns the non-negative SignedLimbs with the given magnitude.
+     * @param    'limbs'   --    (int[])   a limb array
+     * @returns  (SignedLimbs) the value as a SignedLimbs
+     * ----------------------------------------------------------------------------*/
+    static SignedLimbs of(int[] limbs) {
+
+        return new SignedLimbs(1, limbs);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    signum
+     * Purpose   Returns the sign of the value.
+     * @param    None
+     * @returns  (int) -1, 0 or 1
+     * ----------------------------------------------------------------------------*/
+    int signum() {
+
+        return this.sign;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    magnitude
+     * Purpose   Returns the absolute value as limbs. The array must not be changed.
+     * @param    None
+     * @returns  (int[]) the normalized magnitude
+     * ----------------------------------------------------------------------------*/
+    int[] magnitude() {
+
+        return this.magnitude;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Returns this + other.
+     * @param    'other'   --    (SignedLimbs)   the addend
+     * @returns  (SignedLimbs) the sum
+     * ----------------------------------------------------------------------------*/
+    SignedLimbs add(SignedLimbs other) {
+
+        if (other.sign == 0) {
+            return this;
+        }
+
+        if (this.sign == 0) {
+            return other;
+        }
+
+        if (this.sign == other.sign) {
+            return new SignedLimbs(this.sign, Multiplier.add(this.magnitude, other.magnitude));
+        }
+
+        // Signs differ: subtract the smaller magnitude from the larger
+        int comparison = Multiplier.compare(this.magnitude, other.magnitude);
+        if (comparison == 0) {
+            return new SignedLimbs(0, new int[] {0});
+        }
+        if (comparison > 0) {
+            return new SignedLimbs(this.sign, Multiplier.subtract(this.magnitude, other.magnitude));
+        }
+        return new SignedLimbs(other.sign, Multiplier.subtract(other.magnitude, this.magnitude));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    subtract
+     * Purpose   Returns this - other.
+     * @param    'other'   --    (SignedLimbs)   the subtrahend
+     * @returns  (SignedLimbs) the difference
+     * ----------------------------------------------------------------------------*/
+    SignedLimbs subtract(SignedLimbs other) {
+
+        return this.add(other.negate());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    negate
+     * Purpose   Returns -this.
+     * @param    None
+     * @returns  (SignedLimbs) the negated value
+     * ----------------------------------------------------------------------------*/
+    SignedLimbs negate() {
+
+        return new SignedLimbs(-this.sign, this.magnitude);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiply
+     * Purpose   Returns this * other, multiplying the magnitudes with the given
+     *               thresholds.
+     * @param    'other'            --    (SignedLimbs)   the other factor
+     * @param    'karatsubaLimbs'   --    (int)           the Karatsuba threshold in limbs
+     * @param    'toomCookLimbs'    --    (int)           the Toom-Cook threshold in limbs
+     * @returns  (SignedLimbs) the product
+     * ----------------------------------------------------------------------------*/
+    SignedLimbs multiply(SignedLimbs other, int karatsubaLimbs, int toomCookLimbs) {
+
+        return new SignedLimbs(this.sign * other.sign,
+                Multiplier.multiply(this.magnitude, other.magnitude, karatsubaLimbs, toomCookLimbs));
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    multiplySmall
+     * Purpose   Returns this * factor for a small positive factor.
+     * @param    'factor'   --    (int)   a factor between 1 and 10^9 - 1
+     * @returns  (SignedLimbs) the product
+     * ----------------------------------------------------------------------------*/
+    SignedLimbs multiplySmall(int factor) {
+
+        int[] product = new int[this.magnitude.length + 1];
+        long carry = 0;
+
+        for (int i = 0; i < this.magnitude.length; i++) {
+            long t = (long) this.magnitude[i] * factor + carry;
+            carry = t / Limbs.BASE;
+            product[i] = (int) (t - carry * Limbs.BASE);
+        }
+        product[this.magnitude.length] = (int) carry;
+
+        return new SignedLimbs(this.sign, product);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    divideExactSmall
+     * Purpose   Returns this / divisor for a small positive divisor that is known
+     *               to divide the value exactly. Throws IllegalStateException if
+     *               there is a remainder.
+     * @param    'divisor'   --    (int)   a divisor between 1 and 10^9 - 1
+     * @returns  (SignedLimbs) the quotient
+     * ----------------------------------------------------------------------------*/
+    SignedLimbs divideExactSmall(int divisor) {
+
+        int[] quotient = new int[this.magnitude.length];
+        long remainder = 0;
+
+        for (int i = this.magnitude.length - 1; i >= 0; i--) {
+            long current = remainder * Limbs.BASE + this.magnitude[i];
+            quotient[i] = (int) (current / divisor);
+            remainder = current % divisor;
+        }
+
+        if (remainder != 0) {
+            throw new IllegalStateException("The division is not exact.");
+        }
+
+        return new SignedLimbs(this.sign, quotient);
+    }
+
+} /* ****************************************************************************** */
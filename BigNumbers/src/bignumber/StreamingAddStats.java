@@ -0,0 +1,91 @@
+package bignumber;
+
+/* ******************************************************************************
+ * Class     StreamingAddStats
+ * Purpose   The StreamingAddStats class reports the work done by one call to
+ *               `StreamingAdder.add`: the digits read from both addends, the
+ *               digits written to the sum, the time taken and the resulting
+ *               throughput. Objects are created by the StreamingAdder class only.
+ * @attrib   'digitsRead'      --    (long)   the digits in both addends together
+ * @attrib   'digitsWritten'   --    (long)   the digits in the sum
+ * @attrib   'elapsedNanos'    --    (long)   the time taken, in nanoseconds
+ * ***************************************************************************** */
+public final class StreamingAddStats {
+
+    private final long digitsRead;
+    private final long digitsWritten;
+    private final long elapsedNanos;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a StreamingAddStats object.
+     * @param    'inDigitsRead'      --    (long)   the digits in both addends together
+     * @param    'inDigitsWritten'   --    (long)   the digits in the sum
+     * @param    'inElapsedNanos'    --    (long)   the time taken, in nanoseconds
+     * ----------------------------------------------------------------------------*/
+    StreamingAddStats(long inDigitsRead, long inDigitsWritten, long inElapsedNanos) {
+
+        this.digitsRead = inDigitsRead;
+        this.digitsWritten = inDigitsWritten;
+        this.elapsedNanos = inElapsedNanos;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitsRead
+     * Purpose   Returns the number of digits read from both addends together.
+     * @param    None
+     * @returns  (long) the digits read
+     * ----------------------------------------------------------------------------*/
+    public long getDigitsRead() {
+
+        return this.digitsRead;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitsWritten
+     * Purpose   Returns the number of digits in the sum.
+     * @param    None
+     * @returns  (long) the digits written
+     * ----------------------------------------------------------------------------*/
+    public long getDigitsWritten() {
+
+        return this.digitsWritten;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getElapsedNanos
+     * Purpose   Returns the time taken by the addition, including all file I/O.
+     * @param    None
+     * @returns  (long) the time taken, in nanoseconds
+     * ----------------------------------------------------------------------------*/
+    public long getElapsedNanos() {
+
+        return this.elapsedNanos;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getDigitsPerSecond
+     * Purpose   Returns the throughput of the addition: the digits of the sum
+     *               written per second.
+     * @param    None
+     * @returns  (double) the digits written per second
+     * ----------------------------------------------------------------------------*/
+    public double getDigitsPerSecond() {
+
+        return this.digitsWritten * 1e9 / Math.max(1, this.elapsedNanos);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns a one-line summary of the statistics.
+     * @param    None
+     * @returns  (String) the summary
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String toString() {
+
+        return String.format("%d digits read, %d digits written in %.3f ms (%.0f digits/s)",
+                this.digitsRead, this.digitsWritten, this.elapsedNanos / 1e6, this.getDigitsPerSecond());
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,216 @@
+package bignumber;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/* ******************************************************************************
+ * Class     StreamingAdder
+ * Purpose   The StreamingAdder class adds two BigNumber files (see the
+ *               BigNumberFile class) into a third one without holding any of the
+ *               numbers in memory, so the operands may be larger than the heap or
+ *               than the available RAM. The limbs of both operands are read least
+ *               significant first, one fixed-size block at a time, through a
+ *               FileChannel; each block of the sum is written as soon as it is
+ *               computed and the carry is kept across blocks. The checksums of the
+ *               operands are verified as they are read, and the header of the sum
+ *               is written last. The class cannot be instantiated.
+ * @attrib   'DEFAULT_BLOCK_LIMBS'   --    (int)   the limbs read per block by default
+ * ***************************************************************************** */
+public final class StreamingAdder {
+
+    static final int DEFAULT_BLOCK_LIMBS = 1 << 16;
+
+    private StreamingAdder() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds the BigNumber files `a` and `b` and writes the sum to the file
+     *               `sum`, replacing it, with blocks of DEFAULT_BLOCK_LIMBS limbs.
+     * @param    'a'      --    (Path)   the file of the first addend
+     * @param    'b'      --    (Path)   the file of the second addend
+     * @param    'sum'    --    (Path)   the file to write the sum to
+     * @returns  (StreamingAddStats) the digits processed and the throughput
+     * ----------------------------------------------------------------------------*/
+    public static StreamingAddStats add(Path a, Path b, Path sum) throws IOException {
+
+        return add(a, b, sum, DEFAULT_BLOCK_LIMBS);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    add
+     * Purpose   Adds the BigNumber files `a` and `b` and writes the sum to the file
+     *               `sum`, replacing it. Each block holds `blockLimbs` limbs of 9
+     *               digits, so the memory used is 12 * blockLimbs bytes whatever the
+     *               length of the operands. Throws IllegalArgumentException if a path
+     *               is null, if `sum` is one of the addends, or if `blockLimbs` is
+     *               less than 1, and IOException if an addend is not a valid
+     *               BigNumber file or its checksum does not match.
+     * @param    'a'            --    (Path)   the file of the first addend
+     * @param    'b'            --    (Path)   the file of the second addend
+     * @param    'sum'          --    (Path)   the file to write the sum to
+     * @param    'blockLimbs'   --    (int)    the limbs read from each addend per block
+     * @returns  (StreamingAddStats) the digits processed and the throughput
+     * ----------------------------------------------------------------------------*/
+    public static StreamingAddStats add(Path a, Path b, Path sum, int blockLimbs) throws IOException {
+
+        if (a == null || b == null || sum == null) {
+            throw new IllegalArgumentException("The paths must not be null.");
+        }
+
+        if (blockLimbs < 1) {
+            throw new IllegalArgumentException("The block size must be at least one limb.");
+        }
+
+        if (Files.exists(sum) && (Files.isSameFile(sum, a) || Files.isSameFile(sum, b))) {
+            throw new IllegalArgumentException("The sum must not be written over an addend.");
+        }
+
+        long start = System.nanoTime();
+
+        try (FileChannel aChannel = FileChannel.open(a, StandardOpenOption.READ);
+             FileChannel bChannel = FileChannel.open(b, StandardOpenOption.READ);
+             FileChannel sumChannel = FileChannel.open(sum, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            ByteBuffer aHeader = BigNumberFile.readHeader(aChannel, a);
+            ByteBuffer bHeader = BigNumberFile.readHeader(bChannel, b);
+            int aCount = aHeader.getInt(BigNumberFile.LIMB_COUNT_OFFSET);
+            int bCount = bHeader.getInt(BigNumberFile.LIMB_COUNT_OFFSET);
+            int maxCount = Math.max(aCount, bCount);
+
+            int blockBytes = blockLimbs * Integer.BYTES;
+            ByteBuffer aBlock = ByteBuffer.allocateDirect(blockBytes).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer bBlock = ByteBuffer.allocateDirect(blockBytes).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer sumBlock = ByteBuffer.allocateDirect(blockBytes).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 aChecksum = new CRC32();
+            CRC32 bChecksum = new CRC32();
+            CRC32 sumChecksum = new CRC32();
+
+            long sumPosition = BigNumberFile.HEADER_BYTES;
+            int carry = 0;
+            int top = 0;
+
+            for (int from = 0; from < maxCount; from += blockLimbs) {
+                int to = Math.min(maxCount, from + blockLimbs);
+                IntBuffer aLimbs = readBlock(aChannel, aBlock, aChecksum, from, Math.min(to, aCount));
+                IntBuffer bLimbs = readBlock(bChannel, bBlock, bChecksum, from, Math.min(to, bCount));
+
+                sumBlock.clear();
+                for (int i = 0; i < to - from; i++) {
+                    int limb = carry;
+                    if (i < aLimbs.limit()) {
+                        limb += aLimbs.get(i);
+                    }
+                    if (i < bLimbs.limit()) {
+                        limb += bLimbs.get(i);
+                    }
+
+                    carry = limb >= Limbs.BASE ? 1 : 0;
+                    top = limb - carry * Limbs.BASE;
+                    sumBlock.putInt(top);
+                }
+
+                sumPosition = writeBlock(sumChannel, sumBlock, sumChecksum, sumPosition);
+            }
+
+            int sumCount = maxCount;
+            if (carry != 0) {
+                sumBlock.clear();
+                sumBlock.putInt(carry);
+                writeBlock(sumChannel, sumBlock, sumChecksum, sumPosition);
+                sumCount++;
+                top = carry;
+            }
+
+            checkChecksum(aHeader, aChecksum, a);
+            checkChecksum(bHeader, bChecksum, b);
+
+            long sumDigits = (long) (sumCount - 1) * Limbs.BASE_DIGITS + Limbs.digitsIn(top);
+            if (sumDigits > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The sum would be too long.");
+            }
+
+            BigNumberFile.writeFully(sumChannel,
+                    BigNumberFile.header((int) sumDigits, sumCount, sumChecksum.getValue()), 0);
+
+            long digitsRead = (long) aHeader.getInt(BigNumberFile.DIGIT_COUNT_OFFSET)
+                    + bHeader.getInt(BigNumberFile.DIGIT_COUNT_OFFSET);
+            return new StreamingAddStats(digitsRead, sumDigits, System.nanoTime() - start);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    readBlock
+     * Purpose   Reads the limbs [from, to) of an addend into a block and adds their
+     *               bytes to the running checksum. The block is empty when the
+     *               addend has no limbs in the range.
+     * @param    'channel'    --    (FileChannel)  the addend file
+     * @param    'block'      --    (ByteBuffer)   the block to read into
+     * @param    'checksum'   --    (CRC32)        the running checksum of the addend
+     * @param    'from'       --    (int)          the first limb to read
+     * @param    'to'         --    (int)          one past the last limb to read
+     * @returns  (IntBuffer) the limbs read, with the limit set to their count
+     * ----------------------------------------------------------------------------*/
+    private static IntBuffer readBlock(FileChannel channel, ByteBuffer block, CRC32 checksum,
+                                       int from, int to) throws IOException {
+
+        block.clear();
+        if (to > from) {
+            block.limit((to - from) * Integer.BYTES);
+            BigNumberFile.readFully(channel, block,
+                    BigNumberFile.HEADER_BYTES + (long) from * Integer.BYTES);
+            block.flip();
+            checksum.update(block.duplicate());
+        }
+        else {
+            block.limit(0);
+        }
+
+        return block.asIntBuffer();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    writeBlock
+     * Purpose   Writes the filled part of a block of the sum at the given file
+     *               position and adds its bytes to the running checksum.
+     * @param    'channel'     --    (FileChannel)  the sum file
+     * @param    'block'       --    (ByteBuffer)   the block, in write mode
+     * @param    'checksum'    --    (CRC32)        the running checksum of the sum
+     * @param    'position'    --    (long)         the file position to write at
+     * @returns  (long) the file position after the block
+     * ----------------------------------------------------------------------------*/
+    private static long writeBlock(FileChannel channel, ByteBuffer block, CRC32 checksum,
+                                   long position) throws IOException {
+
+        block.flip();
+        checksum.update(block.duplicate());
+        int length = block.remaining();
+        BigNumberFile.writeFully(channel, block, position);
+        return position + length;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    checkChecksum
+     * Purpose   Compares the checksum of the limbs read from an addend with the one
+     *               in its header. Throws IOException if they differ.
+     * @param    'header'     --    (ByteBuffer)  the header of the addend
+     * @param    'checksum'   --    (CRC32)       the checksum of the limbs read
+     * @param    'path'       --    (Path)        the addend file, for the message
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private static void checkChecksum(ByteBuffer header, CRC32 checksum, Path path) throws IOException {
+
+        if (header.getLong(BigNumberFile.CHECKSUM_OFFSET) != checksum.getValue()) {
+            throw new IOException("The BigNumber file checksum does not match: " + path);
+        }
+    }
+
+} /* ****************************************************************************** */
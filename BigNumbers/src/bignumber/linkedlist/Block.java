@@ -0,0 +1,76 @@
+package bignumber.linkedlist;
+
+/* ******************************************************************************
+ * Class     Block
+ * Purpose   The Block class represents a Node of an unrolled List. Instead of a
+ *               single value, each Block holds up to CAPACITY values packed in a
+ *               byte array, in List order from index 0, along with pointers to
+ *               the next and previous Blocks in the List. The class is
+ *               package-private: it is used by UnrolledListImpl and its cursor.
+ * @attrib   'CAPACITY'       --    (int)     the number of values a Block can hold
+ * @attrib   'data'           --    (byte[])  the values held by the Block
+ * @attrib   'count'          --    (int)     the number of values in use
+ * @attrib   'next'           --    (Block)   the next Block in the List
+ * @attrib   'prev'           --    (Block)   the previous Block in the List
+ * ***************************************************************************** */
+class Block {
+
+    static final int CAPACITY = 64;
+
+    final byte[] data;
+    int count;
+    Block next;
+    Block prev;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an empty Block, not linked to any other Block.
+     * ----------------------------------------------------------------------------*/
+    Block() {
+
+        this.data = new byte[CAPACITY];
+        this.count = 0;
+        this.next = null;
+        this.prev = null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isFull
+     * Purpose   Returns true if the Block cannot hold another value.
+     * @param    None
+     * @returns  (boolean) true if the Block is full
+     * ----------------------------------------------------------------------------*/
+    boolean isFull() {
+
+        return this.count == CAPACITY;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    insert
+     * Purpose   Inserts a value at an offset within the Block, moving the values
+     *               after it one place toward the end. The Block must not be full.
+     * @param    'offset'   --    (int)    the offset of the new value
+     * @param    'value'    --    (byte)   the value to insert
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void insert(int offset, byte value) {
+
+        System.arraycopy(this.data, offset, this.data, offset + 1, this.count - offset);
+        this.data[offset] = value;
+        this.count++;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    remove
+     * Purpose   Removes the value at an offset within the Block, moving the values
+     *               after it one place toward the start.
+     * @param    'offset'   --    (int)    the offset of the value to remove
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void remove(int offset) {
+
+        System.arraycopy(this.data, offset + 1, this.data, offset, this.count - offset - 1);
+        this.count--;
+    }
+
+} /* ****************************************************************************** */
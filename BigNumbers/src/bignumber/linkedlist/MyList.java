@@ -1,5 +1,11 @@
 package bignumber.linkedlist;
 
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /* ******************************************************************************
  * Interface  MyList
  * Purpose    The MyList interface models a List ADT. Methods provide the ability
@@ -8,7 +14,14 @@ package bignumber.linkedlist;
  *                size of the List. The `subList` method can be called to return a
  *                sublist or copy of the List. An additional method, `getStrBigNumber`,
  *                concatenates the String representation of each value in reverse order.
- *                The interface is implemented by the concrete class MyListImpl.
+ *                Cursors, returned by `cursorAtHead` and `cursorAtTail`, walk the
+ *                List in either direction one element at a time, and `iterator`,
+ *                `spliterator` and `digits` expose the values, Head first, to the
+ *                Java iteration and stream APIs, including parallel streams.
+ *                The interface is implemented by the concrete classes MyListImpl, a
+ *                Doubly Linked List with one value per Node, UnrolledListImpl,
+ *                which packs up to 64 values into each Node, and SkipListImpl,
+ *                which reaches any index in O(log n) expected time.
  * ***************************************************************************** */
 public interface MyList {
 
@@ -73,6 +86,66 @@ public interface MyList {
      * ----------------------------------------------------------------------------*/
     MyList subList(int startIndex, int endIndex);
 
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtHead
+     * Purpose   Returns a cursor placed before the Head of the List, so that
+     *               repeated calls to `next` walk the List from Head to Tail.
+     * @param    None
+     * @returns  (MyListCursor) a cursor before the first element
+     * ----------------------------------------------------------------------------*/
+    MyListCursor cursorAtHead();
+
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtTail
+     * Purpose   Returns a cursor placed after the Tail of the List, so that
+     *               repeated calls to `previous` walk the List from Tail to Head.
+     * @param    None
+     * @returns  (MyListCursor) a cursor after the last element
+     * ----------------------------------------------------------------------------*/
+    MyListCursor cursorAtTail();
+
+    /* -----------------------------------------------------------------------------
+     * Method    iterator
+     * Purpose   Returns an iterator over the values of the List from Head to Tail,
+     *               built on `cursorAtHead`. The iterator is only valid as long as
+     *               the List is not structurally modified.
+     * @param    None
+     * @returns  (PrimitiveIterator.OfInt) an iterator over the values
+     * ----------------------------------------------------------------------------*/
+    default PrimitiveIterator.OfInt iterator() {
+
+        return new MyListIterator(this.cursorAtHead());
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    spliterator
+     * Purpose   Returns a sized, ordered Spliterator over the values of the List
+     *               from Head to Tail. Splitting copies growing batches of values
+     *               off the front of the List into arrays, so a parallel stream can
+     *               work on them while the rest is still being walked.
+     * @param    None
+     * @returns  (Spliterator.OfInt) a Spliterator over the values
+     * ----------------------------------------------------------------------------*/
+    default Spliterator.OfInt spliterator() {
+
+        return Spliterators.spliterator(this.iterator(), this.size(),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    digits
+     * Purpose   Returns a sequential IntStream of the values of the List from Head
+     *               to Tail; for a BigNumber, its digits from the least significant.
+     *               Call `parallel` on the stream to process a long List in
+     *               parallel.
+     * @param    None
+     * @returns  (IntStream) the values of the List
+     * ----------------------------------------------------------------------------*/
+    default IntStream digits() {
+
+        return StreamSupport.intStream(this.spliterator(), false);
+    }
+
     /* -----------------------------------------------------------------------------
      * Method    getStrBigNumber
      * Purpose   Returns a String concatenating the value of each Node in reverse
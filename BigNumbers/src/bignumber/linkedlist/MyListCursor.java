@@ -0,0 +1,65 @@
+package bignumber.linkedlist;
+
+/* ******************************************************************************
+ * Interface  MyListCursor
+ * Purpose    The MyListCursor interface models a cursor over the values of a
+ *                MyList. A cursor always sits between two elements of the List
+ *                (or before the Head, or after the Tail), and can move in both
+ *                directions: `next` moves one element toward the Tail and
+ *                `previous` moves one element toward the Head. Each move is O(1),
+ *                so walking a whole List costs O(n) instead of the O(n^2) of
+ *                repeated `get` calls. The value last returned by a move can be
+ *                replaced with `set`. A cursor is only valid as long as its List
+ *                is not structurally modified (by inserting or removing elements)
+ *                by other means. Cursors are created by `MyList.cursorAtHead` and
+ *                `MyList.cursorAtTail`.
+ * ***************************************************************************** */
+public interface MyListCursor {
+
+    /* -----------------------------------------------------------------------------
+     * Method    hasNext
+     * Purpose   Returns true if there is an element between the cursor and the Tail.
+     * @param    None
+     * @returns  (boolean) true if `next` can be called
+     * ----------------------------------------------------------------------------*/
+    boolean hasNext();
+
+    /* -----------------------------------------------------------------------------
+     * Method    next
+     * Purpose   Moves the cursor one element toward the Tail and returns the value
+     *               it moved past. Throws NoSuchElementException if the cursor is
+     *               already after the Tail.
+     * @param    None
+     * @returns  (int) the value of the next element
+     * ----------------------------------------------------------------------------*/
+    int next();
+
+    /* -----------------------------------------------------------------------------
+     * Method    hasPrevious
+     * Purpose   Returns true if there is an element between the cursor and the Head.
+     * @param    None
+     * @returns  (boolean) true if `previous` can be called
+     * ----------------------------------------------------------------------------*/
+    boolean hasPrevious();
+
+    /* -----------------------------------------------------------------------------
+     * Method    previous
+     * Purpose   Moves the cursor one element toward the Head and returns the value
+     *               it moved past. Throws NoSuchElementException if the cursor is
+     *               already before the Head.
+     * @param    None
+     * @returns  (int) the value of the previous element
+     * ----------------------------------------------------------------------------*/
+    int previous();
+
+    /* -----------------------------------------------------------------------------
+     * Method    set
+     * Purpose   Replaces the value of the element last returned by `next` or
+     *               `previous`. Throws IllegalStateException if neither has been
+     *               called yet.
+     * @param    'data'     --      (int)   the new value of the element
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    void set(int data);
+
+} /* ****************************************************************************** */
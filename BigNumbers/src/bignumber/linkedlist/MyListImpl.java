@@ -2,13 +2,17 @@ package bignumber.linkedlist;
 
 /* ******************************************************************************
  * Class     MyListImpl
- * Purpose   The MyListImpl class implements the MyList interface as a Singly
+ * Purpose   The MyListImpl class implements the MyList interface as a Doubly
  *               Linked List, with a head Node, tail Node, and the size of the
- *               List as attributes. Alongside the methods defined in the interface,
- *               the `toString` method has also been overloaded to print the values
+ *               List as attributes. Cursors returned by `cursorAtHead` and
+ *               `cursorAtTail` walk the List in either direction in O(1) per
+ *               step. Alongside the methods defined in the interface, the
+ *               `toString` method has also been overloaded to print the values
  *               in the List in their original order. This method is distinct from
  *               the `getStrBigNumber` method, which concatenates the values in reverse
  *               and is specific to the implementation of the BigNumber interface.
+ *               When the NodePool is enabled, inserts draw Nodes from the pool of
+ *               the calling thread, and `remove` and `clear` return them to it.
  * @attrib   'head'           --    (Node)    the Node at the head of the List
  * @attrib   'tail'           --    (Node)    the Node at the tail of the List
  * @attrib   'size'           --    (int)     the number of elements in the List
@@ -129,17 +133,19 @@ public class MyListImpl implements MyList {
         this.size++;
 
         if (this.head == null) {
-            this.head = new Node(data);
+            this.head = NodePool.acquire(data, null);
             this.tail = this.head;
         }
 
         else if (this.head == this.tail) {
-            this.tail = new Node(data);
+            this.tail = NodePool.acquire(data, null);
             this.head.next = this.tail;
+            this.tail.prev = this.head;
         }
 
         else {
-            this.tail.next = new Node(data);
+            this.tail.next = NodePool.acquire(data, null);
+            this.tail.next.prev = this.tail;
             this.tail = this.tail.next;
         }
     }
@@ -157,12 +163,12 @@ public class MyListImpl implements MyList {
         this.size++;
 
         if (iterator == null) {
-            this.head = new Node(data);
+            this.head = NodePool.acquire(data, null);
             this.tail = this.head;
             return;
         }
 
-        this.head = new Node(data, iterator);
+        this.head = NodePool.acquire(data, iterator);
     }
 
     /* -----------------------------------------------------------------------------
@@ -183,9 +189,11 @@ public class MyListImpl implements MyList {
         }
 
         this.size--;
+        Node removed;
 
         // If head to be removed
         if (index == 0) {
+            removed = head;
             // If singleton List
             if (this.head == this.tail) {
                 head = null;
@@ -194,9 +202,17 @@ public class MyListImpl implements MyList {
             // Else, move head to next
             else {
                 head = head.next;
+                head.prev = null;
             }
         }
 
+        // If tail to be removed, step back from the tail
+        else if (index == this.size) {
+            removed = this.tail;
+            this.tail = this.tail.prev;
+            this.tail.next = null;
+        }
+
         // General case
         else {
             int counter = 1;
@@ -209,13 +225,34 @@ public class MyListImpl implements MyList {
                 counter++;
             }
 
-            if (currNodePtr == tail) {
-                this.tail = prevNodePtr;
-            }
-
             prevNodePtr.next = currNodePtr.next;
+            currNodePtr.next.prev = prevNodePtr;
+            removed = currNodePtr;
+        }
+
+        NodePool.release(removed);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    clear
+     * Purpose   Removes every Node from the List, returning them to the NodePool
+     *               when it is enabled.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public void clear() {
+
+        Node iterator = this.head;
 
+        while (iterator != null) {
+            Node next = iterator.next;
+            NodePool.release(iterator);
+            iterator = next;
         }
+
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
     }
 
     /* -----------------------------------------------------------------------------
@@ -252,6 +289,44 @@ public class MyListImpl implements MyList {
         return newList;
     }
 
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtHead
+     * Purpose   Returns a cursor placed before the Head of the List, so that
+     *               repeated calls to `next` walk the List from Head to Tail.
+     * @param    None
+     * @returns  (MyListCursor) a cursor before the first element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyListCursor cursorAtHead() {
+
+        return new MyListCursorImpl(this, this.head);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtTail
+     * Purpose   Returns a cursor placed after the Tail of the List, so that
+     *               repeated calls to `previous` walk the List from Tail to Head.
+     * @param    None
+     * @returns  (MyListCursor) a cursor after the last element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyListCursor cursorAtTail() {
+
+        return new MyListCursorImpl(this, null);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getTailNode
+     * Purpose   Returns the tail Node. Used by MyListCursorImpl to step back from
+     *               the end of the List.
+     * @param    None
+     * @returns  (Node) the Node at the tail of the List, or null if empty
+     * ----------------------------------------------------------------------------*/
+    Node getTailNode() {
+
+        return this.tail;
+    }
+
     /* -----------------------------------------------------------------------------
      * Method    equals
      * Purpose   Returns true if all Nodes and attributes are equal. Else, returns false.
@@ -295,23 +370,43 @@ public class MyListImpl implements MyList {
         return true;
     }
 
+    /* -----------------------------------------------------------------------------
+     * Method    hashCode
+     * Purpose   Returns a hash code computed from the Nodes from Head to Tail, as in
+     *               java.util.List, so that equal Lists have equal hash codes.
+     * @param    None
+     * @returns  (int) the hash code of the List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int hashCode() {
+
+        int hash = 1;
+        Node iterator = this.head;
+        for (int counter = 0; counter < this.size(); counter++) {
+            hash = 31 * hash + iterator.data;
+            iterator = iterator.next;
+        }
+        return hash;
+    }
+
     /* -----------------------------------------------------------------------------
      * Method    getStrBigNumber
      * Purpose   Returns a String concatenating the value of each Node in reverse
      *               order. Specific to the implementation of BigNumber, where
      *               each Node represents a digit; the Head is the smallest value
-     *               digit and the Tail is the largest value digit.
+     *               digit and the Tail is the largest value digit. The List is
+     *               walked once from the Tail, so each value is appended in turn.
      * @param    None
      * @returns  (String) a String representing a BigNumber
      * ----------------------------------------------------------------------------*/
     public String getStrBigNumber() {
 
-        StringBuilder printable = new StringBuilder();
-        Node iterator = this.head;
+        StringBuilder printable = new StringBuilder(this.size);
+        Node iterator = this.tail;
 
         while (iterator != null) {
-            printable.insert(0, iterator.data);
-            iterator = iterator.next;
+            printable.append(iterator.data);
+            iterator = iterator.prev;
         }
 
         return printable.toString();
@@ -0,0 +1,58 @@
+package bignumber.linkedlist;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/* ******************************************************************************
+ * Class     MyListIterator
+ * Purpose   The MyListIterator class adapts a MyListCursor to the
+ *               PrimitiveIterator.OfInt interface, so that any MyList can be
+ *               walked from Head to Tail without boxing, in O(1) per element.
+ *               The class is package-private: iterators are obtained from
+ *               `MyList.iterator`.
+ * @attrib   'cursor'         --    (MyListCursor)  the cursor walking the List
+ * ***************************************************************************** */
+class MyListIterator implements PrimitiveIterator.OfInt {
+
+    private final MyListCursor cursor;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an iterator that reads the values a cursor moves past.
+     * @param    'inCursor'     --    (MyListCursor)  a cursor before the first value
+     * ----------------------------------------------------------------------------*/
+    MyListIterator(MyListCursor inCursor) {
+
+        this.cursor = inCursor;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hasNext
+     * Purpose   Returns true if there are values left to read.
+     * @param    None
+     * @returns  (boolean) true if `nextInt` can be called
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean hasNext() {
+
+        return this.cursor.hasNext();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    nextInt
+     * Purpose   Returns the next value toward the Tail. Throws
+     *               NoSuchElementException if there is none.
+     * @param    None
+     * @returns  (int) the next value
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int nextInt() {
+
+        if (!this.cursor.hasNext()) {
+            throw new NoSuchElementException("The iterator is after the Tail of the List.");
+        }
+
+        return this.cursor.next();
+    }
+
+} /* ****************************************************************************** */
@@ -3,19 +3,23 @@ package bignumber.linkedlist;
 /* ******************************************************************************
  * Class     Node
  * Purpose   The Node class represents a Node in a List. Each Node holds data
- *               of the int type and a pointer to the next Node in the List.
+ *               of the int type, a pointer to the next Node in the List, and a
+ *               pointer to the previous Node in the List.
  * @attrib   'data'           --    (int)     the Node at the head of the List
  * @attrib   'next'           --    (Node)    the next Node in the List
+ * @attrib   'prev'           --    (Node)    the previous Node in the List
  * ***************************************************************************** */
 public class Node {
 
     protected int data;
     protected Node next;
+    protected Node prev;
 
     /* -----------------------------------------------------------------------------
      * Method    Constructor
      * Purpose   Creates a Node object with an int value as its data. `next` is set
-     *               to null. Used when inserting into the Rear of List.
+     *               to null. Used when inserting into the Rear of List; the List
+     *               links `prev` itself.
      * @param    'inData'     --    (int)    the value held by the Node
      * ----------------------------------------------------------------------------*/
     public Node(int inData) {
@@ -27,8 +31,9 @@ public class Node {
     /* -----------------------------------------------------------------------------
      * Method    Constructor
      * Purpose   Creates a Node object with an int value as its data. `next` is set
-     *               to the Node passed in to the Constructor, `inNext`. Used when
-     *               inserting into the Front of List.
+     *               to the Node passed in to the Constructor, `inNext`, whose `prev`
+     *               is pointed back at the new Node. Used when inserting into the
+     *               Front of List.
      * @param    'inData'     --    (int)    the value held by the Node
      * @param    'inNext'     --    (Node)   next Node in the List
      * ----------------------------------------------------------------------------*/
@@ -36,6 +41,9 @@ public class Node {
 
         this.data = inData;
         this.next = inNext;
+        if (inNext != null) {
+            inNext.prev = this;
+        }
     }
 
     /* -----------------------------------------------------------------------------
@@ -0,0 +1,231 @@
+package bignumber.linkedlist;
+
+/* ******************************************************************************
+ * Class     NodePool
+ * Purpose   The NodePool class keeps a free list of Nodes discarded by
+ *               MyListImpl, so that later insertions reuse them instead of
+ *               allocating new ones. Each thread has its own pool, so no locking
+ *               is needed: a Node is returned to the pool of the thread that
+ *               removes it, and is drawn from the pool of the thread that inserts.
+ *               Pooling is off by default and is switched on for every thread with
+ *               `setEnabled`. A Node removed from a List must not be used again by
+ *               the caller once pooling is on, since it may be handed to another
+ *               List. Each pool records how many Nodes were reused (hits) and how
+ *               many had to be allocated (misses), and holds at most `capacity`
+ *               Nodes; any more are left to the garbage collector.
+ * @attrib   'DEFAULT_CAPACITY'   --    (int)       the most Nodes kept per thread by default
+ * @attrib   'free'               --    (Node)      the first pooled Node, linked by `next`
+ * @attrib   'pooled'             --    (int)       the number of Nodes in the pool
+ * @attrib   'hits'               --    (long)      the insertions that reused a Node
+ * @attrib   'misses'             --    (long)      the insertions that allocated a Node
+ * ***************************************************************************** */
+public final class NodePool {
+
+    static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static volatile boolean enabled = false;
+    private static volatile int capacity = DEFAULT_CAPACITY;
+    private static final ThreadLocal<NodePool> POOLS = ThreadLocal.withInitial(NodePool::new);
+
+    private Node free;
+    private int pooled;
+    private long hits;
+    private long misses;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an empty pool. Pools are created per thread by `current`.
+     * ----------------------------------------------------------------------------*/
+    private NodePool() {
+
+        this.free = null;
+        this.pooled = 0;
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    isEnabled
+     * Purpose   Returns true if MyListImpl draws Nodes from and returns Nodes to the
+     *               pools.
+     * @param    None
+     * @returns  (boolean) true if pooling is on
+     * ----------------------------------------------------------------------------*/
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setEnabled
+     * Purpose   Switches pooling on or off for every thread. Nodes already pooled
+     *               are kept until `clear` is called.
+     * @param    'on'     --    (boolean)  true to pool Nodes
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setEnabled(boolean on) {
+
+        enabled = on;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getCapacity
+     * Purpose   Returns the most Nodes each thread's pool keeps.
+     * @param    None
+     * @returns  (int) the capacity of each pool
+     * ----------------------------------------------------------------------------*/
+    public static int getCapacity() {
+
+        return capacity;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    setCapacity
+     * Purpose   Sets the most Nodes each thread's pool keeps. A pool above the new
+     *               capacity shrinks as it is used. Throws IllegalArgumentException
+     *               if the capacity is negative.
+     * @param    'nodes'     --    (int)   the capacity of each pool
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public static void setCapacity(int nodes) {
+
+        if (nodes < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative.");
+        }
+
+        capacity = nodes;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    current
+     * Purpose   Returns the pool of the calling thread, to read its statistics.
+     * @param    None
+     * @returns  (NodePool) the pool of the calling thread
+     * ----------------------------------------------------------------------------*/
+    public static NodePool current() {
+
+        return POOLS.get();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getHits
+     * Purpose   Returns the number of insertions that reused a pooled Node.
+     * @param    None
+     * @returns  (long) the number of hits
+     * ----------------------------------------------------------------------------*/
+    public long getHits() {
+
+        return this.hits;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getMisses
+     * Purpose   Returns the number of insertions that allocated a Node while
+     *               pooling was on.
+     * @param    None
+     * @returns  (long) the number of misses
+     * ----------------------------------------------------------------------------*/
+    public long getMisses() {
+
+        return this.misses;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getPooledCount
+     * Purpose   Returns the number of Nodes waiting in the pool.
+     * @param    None
+     * @returns  (int) the number of pooled Nodes
+     * ----------------------------------------------------------------------------*/
+    public int getPooledCount() {
+
+        return this.pooled;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    clear
+     * Purpose   Drops every pooled Node and resets the hit and miss counts.
+     * @param    None
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    public void clear() {
+
+        this.free = null;
+        this.pooled = 0;
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns a one-line summary of the statistics of the pool.
+     * @param    None
+     * @returns  (String) the summary
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String toString() {
+
+        return "NodePool[hits=" + this.hits + ", misses=" + this.misses
+                + ", pooled=" + this.pooled + "]";
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    acquire
+     * Purpose   Returns a Node holding the value and linked before `next`, as the
+     *               Node(int, Node) constructor does, reusing a pooled Node of the
+     *               calling thread if pooling is on and one is available.
+     * @param    'data'     --    (int)    the value held by the Node
+     * @param    'next'     --    (Node)   the next Node in the List, or null
+     * @returns  (Node) an unlinked Node except for `next`
+     * ----------------------------------------------------------------------------*/
+    static Node acquire(int data, Node next) {
+
+        if (!enabled) {
+            return new Node(data, next);
+        }
+
+        NodePool pool = POOLS.get();
+        Node node = pool.free;
+
+        if (node == null) {
+            pool.misses++;
+            return new Node(data, next);
+        }
+
+        pool.hits++;
+        pool.free = node.next;
+        pool.pooled--;
+
+        node.data = data;
+        node.prev = null;
+        node.next = next;
+        if (next != null) {
+            next.prev = node;
+        }
+        return node;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    release
+     * Purpose   Returns a Node that no List refers to any more to the pool of the
+     *               calling thread, if pooling is on and the pool is not full.
+     * @param    'node'     --    (Node)   the discarded Node
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    static void release(Node node) {
+
+        if (!enabled) {
+            return;
+        }
+
+        NodePool pool = POOLS.get();
+        if (pool.pooled >= capacity) {
+            return;
+        }
+
+        node.prev = null;
+        node.next = pool.free;
+        pool.free = node;
+        pool.pooled++;
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,125 @@
+package bignumber.linkedlist;
+
+import java.util.NoSuchElementException;
+
+/* ******************************************************************************
+ * Class     SkipListCursorImpl
+ * Purpose   The SkipListCursorImpl class implements the MyListCursor interface
+ *               for the SkipListImpl class, walking its bottom level. The cursor
+ *               keeps a pointer to the Node that `next` would return; when the
+ *               cursor is after the Tail this pointer is null and `previous`
+ *               starts from the Tail of the List. The class is package-private:
+ *               cursors are obtained from SkipListImpl.
+ * @attrib   'list'           --    (SkipListImpl)  the List being walked
+ * @attrib   'nextNode'       --    (SkipNode)      the Node `next` would return
+ * @attrib   'lastReturned'   --    (SkipNode)      the Node last moved past
+ * ***************************************************************************** */
+class SkipListCursorImpl implements MyListCursor {
+
+    private final SkipListImpl list;
+    private SkipNode nextNode;
+    private SkipNode lastReturned;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a cursor over a List, placed just before the given Node.
+     *               Passing null places the cursor after the Tail.
+     * @param    'inList'       --    (SkipListImpl)  the List to walk
+     * @param    'inNextNode'   --    (SkipNode)      the Node `next` should return
+     * ----------------------------------------------------------------------------*/
+    SkipListCursorImpl(SkipListImpl inList, SkipNode inNextNode) {
+
+        this.list = inList;
+        this.nextNode = inNextNode;
+        this.lastReturned = null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hasNext
+     * Purpose   Returns true if there is an element between the cursor and the Tail.
+     * @param    None
+     * @returns  (boolean) true if `next` can be called
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean hasNext() {
+
+        return this.nextNode != null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    next
+     * Purpose   Moves the cursor one element toward the Tail and returns the value
+     *               it moved past. Throws NoSuchElementException if the cursor is
+     *               already after the Tail.
+     * @param    None
+     * @returns  (int) the value of the next element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int next() {
+
+        if (this.nextNode == null) {
+            throw new NoSuchElementException("The cursor is after the Tail of the List.");
+        }
+
+        this.lastReturned = this.nextNode;
+        this.nextNode = this.nextNode.next[0];
+        return this.lastReturned.data;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hasPrevious
+     * Purpose   Returns true if there is an element between the cursor and the Head.
+     * @param    None
+     * @returns  (boolean) true if `previous` can be called
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean hasPrevious() {
+
+        if (this.nextNode == null) {
+            return this.list.getTailNode() != null;
+        }
+
+        return this.nextNode.prev != null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    previous
+     * Purpose   Moves the cursor one element toward the Head and returns the value
+     *               it moved past. Throws NoSuchElementException if the cursor is
+     *               already before the Head.
+     * @param    None
+     * @returns  (int) the value of the previous element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int previous() {
+
+        SkipNode previousNode = (this.nextNode == null) ? this.list.getTailNode() : this.nextNode.prev;
+
+        if (previousNode == null) {
+            throw new NoSuchElementException("The cursor is before the Head of the List.");
+        }
+
+        this.nextNode = previousNode;
+        this.lastReturned = previousNode;
+        return previousNode.data;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    set
+     * Purpose   Replaces the value of the element last returned by `next` or
+     *               `previous`. Throws IllegalStateException if neither has been
+     *               called yet.
+     * @param    'data'     --      (int)   the new value of the element
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void set(int data) {
+
+        if (this.lastReturned == null) {
+            throw new IllegalStateException("Neither next nor previous has been called.");
+        }
+
+        this.lastReturned.data = data;
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,459 @@
+package bignumber.linkedlist;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/* ******************************************************************************
+ * Class     SkipListImpl
+ * Purpose   The SkipListImpl class implements the MyList interface as an
+ *               indexable skip list. Every element is a SkipNode on the bottom
+ *               level, which is doubly linked like MyListImpl; a random quarter of
+ *               the Nodes also sit on the level above, a quarter of those on the
+ *               next one, and so on. Each link records how many elements it
+ *               skips, so `get`, `set`, `remove` and `subList` reach any index in
+ *               O(log n) expected steps instead of walking from the Head. The last
+ *               Node of every level is remembered, so `insertRear` takes O(1)
+ *               expected time; `insertFront` links the new Node in O(1) expected
+ *               time and adds one to the width of the first link on each higher
+ *               level. Cursors walk the bottom level in O(1) per step.
+ * @attrib   'MAX_LEVELS'     --    (int)        the most levels a Node can belong to
+ * @attrib   'head'           --    (SkipNode)   a sentinel before the first element, on every level
+ * @attrib   'tail'           --    (SkipNode)   the last element, or null if empty
+ * @attrib   'levels'         --    (int)        the number of levels in use
+ * @attrib   'size'           --    (int)        the number of elements in the List
+ * @attrib   'last'           --    (SkipNode[]) the last Node on each level, or the head
+ * @attrib   'lastIndex'      --    (int[])      the index of each `last` Node, -1 for the head
+ * ***************************************************************************** */
+public class SkipListImpl implements MyList {
+
+    static final int MAX_LEVELS = 16;
+
+    private final SkipNode head;
+    private SkipNode tail;
+    private int levels;
+    private int size;
+    private final SkipNode[] last;
+    private final int[] lastIndex;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an empty SkipListImpl object, representing an empty List.
+     * ----------------------------------------------------------------------------*/
+    public SkipListImpl() {
+
+        this.head = new SkipNode(0, MAX_LEVELS);
+        this.tail = null;
+        this.levels = 1;
+        this.size = 0;
+        this.last = new SkipNode[MAX_LEVELS];
+        this.lastIndex = new int[MAX_LEVELS];
+
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            this.last[level] = this.head;
+            this.lastIndex[level] = -1;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    size
+     * Purpose   Returns the size of the Linked List
+     * @param    None
+     * @returns  (int) the number of elements in the Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int size() {
+
+        return this.size;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    get
+     * Purpose   Returns the value held at a specific index of the List in O(log n)
+     *               expected time. Throws IndexOutOfBoundsException.
+     * @param    'index'    --      (int)   the index of the value in the List
+     * @returns  (int) the value of the Node at the index
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int get(int index) {
+
+        return this.nodeAt(index).data;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    set
+     * Purpose   Sets the value held at a specific index of the List in O(log n)
+     *               expected time. Throws IndexOutOfBoundsException.
+     * @param    'index'    --      (int)   the index of the value in the List
+     * @param    'data'     --      (int)   the value to set at the index
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void set(int index, int data) {
+
+        this.nodeAt(index).data = data;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    insertRear
+     * Purpose   Inserts a new Node with the value at the Rear of the List, linking
+     *               it after the last Node of each of its levels.
+     * @param    'data'     --      (int)   the value to insert at the Rear of List
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void insertRear(int data) {
+
+        SkipNode node = new SkipNode(data, this.randomLevels());
+
+        for (int level = 0; level < node.levels(); level++) {
+            this.last[level].next[level] = node;
+            this.last[level].width[level] = this.size - this.lastIndex[level];
+            this.last[level] = node;
+            this.lastIndex[level] = this.size;
+        }
+
+        node.prev = this.tail;
+        this.tail = node;
+        this.levels = Math.max(this.levels, node.levels());
+        this.size++;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    insertFront
+     * Purpose   Inserts a new Node with the value at the Front of the List. The
+     *               first link of each level above the new Node skips one more
+     *               element.
+     * @param    'data'     --      (int)   the value to insert at the Front of List
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void insertFront(int data) {
+
+        SkipNode node = new SkipNode(data, this.randomLevels());
+        this.levels = Math.max(this.levels, node.levels());
+
+        for (int level = 0; level < this.levels; level++) {
+            if (level < node.levels()) {
+                // The new Node takes over the first link of the level
+                node.next[level] = this.head.next[level];
+                node.width[level] = this.head.width[level];
+                this.head.next[level] = node;
+                this.head.width[level] = 1;
+            }
+            else if (this.head.next[level] != null) {
+                this.head.width[level]++;
+            }
+
+            if (this.last[level] == this.head) {
+                if (level < node.levels()) {
+                    this.last[level] = node;
+                    this.lastIndex[level] = 0;
+                }
+            }
+            else {
+                this.lastIndex[level]++;
+            }
+        }
+
+        if (node.next[0] == null) {
+            this.tail = node;
+        }
+        else {
+            node.next[0].prev = node;
+        }
+        this.size++;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    remove
+     * Purpose   Deletes the Node at the specified index in O(log n) expected time.
+     *               Throws IndexOutOfBoundsException.
+     * @param    'index'    --      (int)   the index of the value in the List
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void remove(int index) {
+
+        if (index >= this.size() || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        SkipNode[] before = new SkipNode[this.levels];
+        int[] beforeIndex = new int[this.levels];
+        this.findBefore(index, before, beforeIndex);
+        SkipNode node = before[0].next[0];
+
+        for (int level = 0; level < this.levels; level++) {
+            if (level < node.levels()) {
+                // Bridge the link over the removed Node
+                before[level].next[level] = node.next[level];
+                before[level].width[level] = (node.next[level] == null) ? 0
+                        : before[level].width[level] + node.width[level] - 1;
+
+                if (this.last[level] == node) {
+                    this.last[level] = before[level];
+                    this.lastIndex[level] = beforeIndex[level];
+                }
+            }
+            else if (before[level].next[level] != null) {
+                before[level].width[level]--;
+            }
+
+            if (this.lastIndex[level] > index) {
+                this.lastIndex[level]--;
+            }
+        }
+
+        if (node.next[0] == null) {
+            this.tail = node.prev;
+        }
+        else {
+            node.next[0].prev = node.prev;
+        }
+
+        while (this.levels > 1 && this.head.next[this.levels - 1] == null) {
+            this.levels--;
+        }
+        this.size--;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    subList
+     * Purpose   Returns a subList from the startIndex to the endIndex. The first
+     *               Node is found in O(log n) expected time and the rest are copied
+     *               along the bottom level. Throws IndexOutOfBoundsException.
+     * @param    'startIndex'    --    (int)   index representing first Node of the subList
+     * @param    'endIndex'      --    (int)   index representing last Node of the subList
+     * @returns  (MyList) a subList from the startIndex to the endIndex of the original List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyList subList(int startIndex, int endIndex) {
+
+        if (endIndex >= this.size() || startIndex < 0 || endIndex < startIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        MyList newList = new SkipListImpl();
+        SkipNode iterator = this.nodeAt(startIndex);
+
+        for (int counter = startIndex; counter <= endIndex; counter++) {
+            newList.insertRear(iterator.data);
+            iterator = iterator.next[0];
+        }
+
+        return newList;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtHead
+     * Purpose   Returns a cursor placed before the Head of the List, so that
+     *               repeated calls to `next` walk the List from Head to Tail.
+     * @param    None
+     * @returns  (MyListCursor) a cursor before the first element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyListCursor cursorAtHead() {
+
+        return new SkipListCursorImpl(this, this.head.next[0]);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtTail
+     * Purpose   Returns a cursor placed after the Tail of the List, so that
+     *               repeated calls to `previous` walk the List from Tail to Head.
+     * @param    None
+     * @returns  (MyListCursor) a cursor after the last element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyListCursor cursorAtTail() {
+
+        return new SkipListCursorImpl(this, null);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getTailNode
+     * Purpose   Returns the tail Node. Used by SkipListCursorImpl to step back from
+     *               the end of the List.
+     * @param    None
+     * @returns  (SkipNode) the Node at the tail of the List, or null if empty
+     * ----------------------------------------------------------------------------*/
+    SkipNode getTailNode() {
+
+        return this.tail;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    equals
+     * Purpose   Returns true if both Lists hold the same values in the same order,
+     *               whatever the levels of their Nodes. Else, returns false.
+     *               Throws IllegalArgumentException when argument is null or not a
+     *               SkipListImpl object.
+     * @param    'obj'     --    (Object)   a comparator against this List
+     * @returns  (boolean) true if two Lists are equal; false if not equal
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean equals(Object obj) {
+
+        if (obj == null) {
+            throw new IllegalArgumentException("Argument must not be null.");
+        }
+
+        if (!(obj instanceof SkipListImpl)) {
+            throw new IllegalArgumentException("Argument must be an instance" +
+                    " of the SkipListImpl class.");
+        }
+
+        SkipListImpl other = (SkipListImpl) obj;
+
+        if (this.size() != other.size()) {
+            return false;
+        }
+
+        SkipNode thisIterator = this.head.next[0];
+        SkipNode otherIterator = other.head.next[0];
+
+        // If any Node not equal, return false.
+        while (thisIterator != null) {
+            if (thisIterator.data != otherIterator.data) {
+                return false;
+            }
+            thisIterator = thisIterator.next[0];
+            otherIterator = otherIterator.next[0];
+        }
+
+        return true;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hashCode
+     * Purpose   Returns a hash code computed from the Nodes from Head to Tail, as in
+     *               java.util.List, so that equal Lists have equal hash codes.
+     * @param    None
+     * @returns  (int) the hash code of the List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int hashCode() {
+
+        int hash = 1;
+        for (SkipNode iterator = this.head.next[0]; iterator != null; iterator = iterator.next[0]) {
+            hash = 31 * hash + iterator.data;
+        }
+        return hash;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getStrBigNumber
+     * Purpose   Returns a String concatenating the value of each Node in reverse
+     *               order. Specific to the implementation of BigNumber, where
+     *               each Node represents a digit; the Head is the smallest value
+     *               digit and the Tail is the largest value digit.
+     * @param    None
+     * @returns  (String) a String representing a BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String getStrBigNumber() {
+
+        StringBuilder printable = new StringBuilder(this.size);
+
+        for (SkipNode iterator = this.tail; iterator != null; iterator = iterator.prev) {
+            printable.append(iterator.data);
+        }
+
+        return printable.toString();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns a String concatenating the value of each Node in order,
+     *               with an arrow signifying the 'next' connection.
+     * @param    None
+     * @returns  (String) a String depicting the Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String toString() {
+
+        StringBuilder printable = new StringBuilder();
+
+        for (SkipNode iterator = this.head.next[0]; iterator != null; iterator = iterator.next[0]) {
+            printable.append(iterator.data);
+            if (iterator.next[0] != null) {
+                printable.append(" -> ");
+            }
+        }
+
+        return printable.toString();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    nodeAt
+     * Purpose   Returns the Node at an index, descending from the top level and
+     *               following each link whose width does not overshoot the index.
+     *               Throws IndexOutOfBoundsException.
+     * @param    'index'    --      (int)   the index of the Node
+     * @returns  (SkipNode) the Node at the index
+     * ----------------------------------------------------------------------------*/
+    private SkipNode nodeAt(int index) {
+
+        if (index >= this.size() || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        // The Rear is reached directly, as MyListImpl does
+        if (index == this.size - 1) {
+            return this.tail;
+        }
+
+        SkipNode iterator = this.head;
+        int position = -1;
+
+        for (int level = this.levels - 1; level >= 0; level--) {
+            while (iterator.next[level] != null && position + iterator.width[level] <= index) {
+                position += iterator.width[level];
+                iterator = iterator.next[level];
+            }
+            if (position == index) {
+                break;
+            }
+        }
+
+        return iterator;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    findBefore
+     * Purpose   Fills, for each level in use, the last Node before an index and
+     *               the index of that Node (-1 for the head).
+     * @param    'index'          --    (int)         the index to search for
+     * @param    'before'         --    (SkipNode[])  receives the Node on each level
+     * @param    'beforeIndex'    --    (int[])       receives the index of each Node
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void findBefore(int index, SkipNode[] before, int[] beforeIndex) {
+
+        SkipNode iterator = this.head;
+        int position = -1;
+
+        for (int level = this.levels - 1; level >= 0; level--) {
+            while (iterator.next[level] != null && position + iterator.width[level] < index) {
+                position += iterator.width[level];
+                iterator = iterator.next[level];
+            }
+            before[level] = iterator;
+            beforeIndex[level] = position;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    randomLevels
+     * Purpose   Returns the number of levels for a new Node: 1, then one more with
+     *               probability 1/4 each time, up to MAX_LEVELS.
+     * @param    None
+     * @returns  (int) the number of levels of the new Node
+     * ----------------------------------------------------------------------------*/
+    private int randomLevels() {
+
+        int bits = ThreadLocalRandom.current().nextInt();
+        int levelCount = 1 + Integer.numberOfTrailingZeros(bits | (1 << 30)) / 2;
+        return Math.min(levelCount, MAX_LEVELS);
+    }
+
+} /* ****************************************************************************** */
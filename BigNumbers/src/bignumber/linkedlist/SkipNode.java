@@ -0,0 +1,50 @@
+package bignumber.linkedlist;
+
+/* ******************************************************************************
+ * Class     SkipNode
+ * Purpose   The SkipNode class represents a Node in an indexable skip list. Each
+ *               SkipNode holds data of the int type, a pointer to the previous
+ *               Node on the bottom level, and, for each level it belongs to, a
+ *               pointer to the next Node on that level together with the width of
+ *               that link: the number of elements it skips over, plus one. The
+ *               class is package-private: it is used by SkipListImpl and its
+ *               cursor.
+ * @attrib   'data'           --    (int)        the value held by the Node
+ * @attrib   'next'           --    (SkipNode[]) the next Node on each level
+ * @attrib   'width'          --    (int[])      the width of each `next` link
+ * @attrib   'prev'           --    (SkipNode)   the previous Node on the bottom level
+ * ***************************************************************************** */
+class SkipNode {
+
+    int data;
+    final SkipNode[] next;
+    final int[] width;
+    SkipNode prev;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an unlinked SkipNode with an int value as its data, which
+     *               belongs to the given number of levels.
+     * @param    'inData'      --    (int)    the value held by the Node
+     * @param    'inLevels'    --    (int)    the number of levels of the Node
+     * ----------------------------------------------------------------------------*/
+    SkipNode(int inData, int inLevels) {
+
+        this.data = inData;
+        this.next = new SkipNode[inLevels];
+        this.width = new int[inLevels];
+        this.prev = null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    levels
+     * Purpose   Returns the number of levels the Node belongs to.
+     * @param    None
+     * @returns  (int) the number of levels of the Node
+     * ----------------------------------------------------------------------------*/
+    int levels() {
+
+        return this.next.length;
+    }
+
+} /* ****************************************************************************** */
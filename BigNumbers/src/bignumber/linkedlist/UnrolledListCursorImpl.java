@@ -0,0 +1,153 @@
+package bignumber.linkedlist;
+
+import java.util.NoSuchElementException;
+
+/* ******************************************************************************
+ * Class     UnrolledListCursorImpl
+ * Purpose   The UnrolledListCursorImpl class implements the MyListCursor
+ *               interface for the UnrolledListImpl class. The cursor keeps the
+ *               Block and offset of the value that `next` would return; when the
+ *               cursor is after the Tail the Block is null and `previous` starts
+ *               from the last value of the Tail Block. Steps within a Block only
+ *               move the offset. The class is package-private: cursors are
+ *               obtained from UnrolledListImpl.
+ * @attrib   'list'           --    (UnrolledListImpl)  the List being walked
+ * @attrib   'nextBlock'      --    (Block)             the Block `next` would read
+ * @attrib   'nextOffset'     --    (int)               the offset `next` would read
+ * @attrib   'lastBlock'      --    (Block)             the Block last read, or null
+ * @attrib   'lastOffset'     --    (int)               the offset last read
+ * ***************************************************************************** */
+class UnrolledListCursorImpl implements MyListCursor {
+
+    private final UnrolledListImpl list;
+    private Block nextBlock;
+    private int nextOffset;
+    private Block lastBlock;
+    private int lastOffset;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates a cursor over a List, placed just before the value at an
+     *               offset of a Block. Passing a null Block places the cursor after
+     *               the Tail.
+     * @param    'inList'         --    (UnrolledListImpl)  the List to walk
+     * @param    'inNextBlock'    --    (Block)             the Block `next` should read
+     * @param    'inNextOffset'   --    (int)               the offset `next` should read
+     * ----------------------------------------------------------------------------*/
+    UnrolledListCursorImpl(UnrolledListImpl inList, Block inNextBlock, int inNextOffset) {
+
+        this.list = inList;
+        this.nextBlock = inNextBlock;
+        this.nextOffset = inNextOffset;
+        this.lastBlock = null;
+        this.lastOffset = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hasNext
+     * Purpose   Returns true if there is an element between the cursor and the Tail.
+     * @param    None
+     * @returns  (boolean) true if `next` can be called
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean hasNext() {
+
+        return this.nextBlock != null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    next
+     * Purpose   Moves the cursor one element toward the Tail and returns the value
+     *               it moved past. Throws NoSuchElementException if the cursor is
+     *               already after the Tail.
+     * @param    None
+     * @returns  (int) the value of the next element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int next() {
+
+        if (this.nextBlock == null) {
+            throw new NoSuchElementException("The cursor is after the Tail of the List.");
+        }
+
+        this.lastBlock = this.nextBlock;
+        this.lastOffset = this.nextOffset;
+
+        if (++this.nextOffset == this.nextBlock.count) {
+            this.nextBlock = this.nextBlock.next;
+            this.nextOffset = 0;
+        }
+
+        return this.lastBlock.data[this.lastOffset];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hasPrevious
+     * Purpose   Returns true if there is an element between the cursor and the Head.
+     * @param    None
+     * @returns  (boolean) true if `previous` can be called
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean hasPrevious() {
+
+        if (this.nextBlock == null) {
+            return this.list.getTailBlock() != null;
+        }
+
+        return this.nextOffset > 0 || this.nextBlock.prev != null;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    previous
+     * Purpose   Moves the cursor one element toward the Head and returns the value
+     *               it moved past. Throws NoSuchElementException if the cursor is
+     *               already before the Head.
+     * @param    None
+     * @returns  (int) the value of the previous element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int previous() {
+
+        if (this.nextBlock != null && this.nextOffset > 0) {
+            this.nextOffset--;
+        }
+        else {
+            Block previousBlock = (this.nextBlock == null) ? this.list.getTailBlock() : this.nextBlock.prev;
+
+            if (previousBlock == null) {
+                throw new NoSuchElementException("The cursor is before the Head of the List.");
+            }
+
+            this.nextBlock = previousBlock;
+            this.nextOffset = previousBlock.count - 1;
+        }
+
+        this.lastBlock = this.nextBlock;
+        this.lastOffset = this.nextOffset;
+        return this.lastBlock.data[this.lastOffset];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    set
+     * Purpose   Replaces the value of the element last returned by `next` or
+     *               `previous`. Throws IllegalStateException if neither has been
+     *               called yet, or IllegalArgumentException if the value does not
+     *               fit in a byte.
+     * @param    'data'     --      (int)   the new value of the element
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void set(int data) {
+
+        if (this.lastBlock == null) {
+            throw new IllegalStateException("Neither next nor previous has been called.");
+        }
+
+        if (data < Byte.MIN_VALUE || data > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("An UnrolledListImpl value must fit in a byte.");
+        }
+
+        this.lastBlock.data[this.lastOffset] = (byte) data;
+    }
+
+} /* ****************************************************************************** */
@@ -0,0 +1,490 @@
+package bignumber.linkedlist;
+
+/* ******************************************************************************
+ * Class     UnrolledListImpl
+ * Purpose   The UnrolledListImpl class implements the MyList interface as an
+ *               unrolled Doubly Linked List: each Node is a Block holding up to
+ *               Block.CAPACITY values in a byte array, so a List of n values has
+ *               about n / 64 Nodes instead of n, and walking it reads contiguous
+ *               memory. Values are therefore limited to the byte range, which
+ *               covers the digits of a BigNumber; inserting or setting any other
+ *               value throws IllegalArgumentException. `get`, `set` and `remove`
+ *               skip whole Blocks to reach an index, starting from the Head, the
+ *               Tail or the Block last reached, whichever is closest, so walking
+ *               the List by index is O(1) per step. A Block that a removal leaves
+ *               less than a quarter full is merged into a neighbour when it fits.
+ *               As in MyListImpl, `toString` prints the values in their original
+ *               order and `getStrBigNumber` concatenates them in reverse.
+ * @attrib   'head'           --    (Block)   the Block at the head of the List
+ * @attrib   'tail'           --    (Block)   the Block at the tail of the List
+ * @attrib   'size'           --    (int)     the number of elements in the List
+ * @attrib   'finger'         --    (Block)   the Block last reached by index, or null
+ * @attrib   'fingerStart'    --    (int)     the index of the first value of `finger`
+ * ***************************************************************************** */
+public class UnrolledListImpl implements MyList {
+
+    private Block head;
+    private Block tail;
+    private int size;
+    private Block finger;
+    private int fingerStart;
+
+    /* -----------------------------------------------------------------------------
+     * Method    Constructor
+     * Purpose   Creates an empty UnrolledListImpl object, representing an empty
+     *               List.
+     * ----------------------------------------------------------------------------*/
+    public UnrolledListImpl() {
+
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.finger = null;
+        this.fingerStart = 0;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    size
+     * Purpose   Returns the size of the Linked List
+     * @param    None
+     * @returns  (int) the number of elements in the Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int size() {
+
+        return this.size;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    get
+     * Purpose   Returns the value held at a specific index of the List. Throws
+     *               IndexOutOfBoundsException.
+     * @param    'index'    --      (int)   the index of the value in the List
+     * @returns  (int) the value at the index
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int get(int index) {
+
+        Block block = this.locate(index);
+        return block.data[index - this.fingerStart];
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    set
+     * Purpose   Sets the value held at a specific index of the List. Throws
+     *               IndexOutOfBoundsException, or IllegalArgumentException if the
+     *               value does not fit in a byte.
+     * @param    'index'    --      (int)   the index of the value in the List
+     * @param    'data'     --      (int)   the value to set at the index
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void set(int index, int data) {
+
+        byte value = toByte(data);
+        Block block = this.locate(index);
+        block.data[index - this.fingerStart] = value;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    insertRear
+     * Purpose   Inserts the value at the Rear of the List, starting a new Block
+     *               when the Tail Block is full. Throws IllegalArgumentException if
+     *               the value does not fit in a byte.
+     * @param    'data'     --      (int)   the value to insert at the Rear of List
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void insertRear(int data) {
+
+        byte value = toByte(data);
+
+        if (this.tail == null || this.tail.isFull()) {
+            this.linkRear(new Block());
+        }
+
+        this.tail.data[this.tail.count++] = value;
+        this.size++;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    insertFront
+     * Purpose   Inserts the value at the Front of the List, starting a new Block
+     *               when the Head Block is full. Throws IllegalArgumentException if
+     *               the value does not fit in a byte.
+     * @param    'data'     --      (int)   the value to insert at the Front of List
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void insertFront(int data) {
+
+        byte value = toByte(data);
+
+        if (this.head == null || this.head.isFull()) {
+            Block block = new Block();
+            block.next = this.head;
+            if (this.head == null) {
+                this.tail = block;
+            }
+            else {
+                this.head.prev = block;
+            }
+            this.head = block;
+        }
+
+        this.head.insert(0, value);
+        this.size++;
+
+        // Every Block after the Head now starts one index later
+        if (this.finger != null && this.finger != this.head) {
+            this.fingerStart++;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    remove
+     * Purpose   Deletes the value at the specified index. Throws
+     *               IndexOutOfBoundsException.
+     * @param    'index'    --      (int)   the index of the value in the List
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public void remove(int index) {
+
+        Block block = this.locate(index);
+        block.remove(index - this.fingerStart);
+        this.size--;
+        this.finger = null;
+
+        if (block.count == 0) {
+            this.unlink(block);
+        }
+        else if (block.count < Block.CAPACITY / 4) {
+            this.mergeIntoNeighbour(block);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    subList
+     * Purpose   Returns a subList from the startIndex to the endIndex, copying the
+     *               values a run of bytes at a time. Throws IndexOutOfBoundsException.
+     * @param    'startIndex'    --    (int)   index representing first value of the subList
+     * @param    'endIndex'      --    (int)   index representing last value of the subList
+     * @returns  (MyList) a subList from the startIndex to the endIndex of the original List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyList subList(int startIndex, int endIndex) {
+
+        if (endIndex >= this.size() || startIndex < 0 || endIndex < startIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        UnrolledListImpl newList = new UnrolledListImpl();
+        Block block = this.locate(startIndex);
+        int offset = startIndex - this.fingerStart;
+        int remaining = endIndex - startIndex + 1;
+
+        while (remaining > 0) {
+            int run = Math.min(remaining, block.count - offset);
+            newList.appendRun(block.data, offset, run);
+            remaining -= run;
+            block = block.next;
+            offset = 0;
+        }
+
+        return newList;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtHead
+     * Purpose   Returns a cursor placed before the Head of the List, so that
+     *               repeated calls to `next` walk the List from Head to Tail.
+     * @param    None
+     * @returns  (MyListCursor) a cursor before the first element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyListCursor cursorAtHead() {
+
+        return new UnrolledListCursorImpl(this, this.head, 0);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    cursorAtTail
+     * Purpose   Returns a cursor placed after the Tail of the List, so that
+     *               repeated calls to `previous` walk the List from Tail to Head.
+     * @param    None
+     * @returns  (MyListCursor) a cursor after the last element
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public MyListCursor cursorAtTail() {
+
+        return new UnrolledListCursorImpl(this, null, 0);
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getTailBlock
+     * Purpose   Returns the tail Block. Used by UnrolledListCursorImpl to step
+     *               back from the end of the List.
+     * @param    None
+     * @returns  (Block) the Block at the tail of the List, or null if empty
+     * ----------------------------------------------------------------------------*/
+    Block getTailBlock() {
+
+        return this.tail;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    equals
+     * Purpose   Returns true if both Lists hold the same values in the same order,
+     *               however they are split into Blocks. Else, returns false.
+     *               Throws IllegalArgumentException when argument is null or not an
+     *               UnrolledListImpl object.
+     * @param    'obj'     --    (Object)   a comparator against this List
+     * @returns  (boolean) true if two Lists are equal; false if not equal
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public boolean equals(Object obj) {
+
+        if (obj == null) {
+            throw new IllegalArgumentException("Argument must not be null.");
+        }
+
+        if (!(obj instanceof UnrolledListImpl)) {
+            throw new IllegalArgumentException("Argument must be an instance" +
+                    " of the UnrolledListImpl class.");
+        }
+
+        UnrolledListImpl other = (UnrolledListImpl) obj;
+
+        if (this.size() != other.size()) {
+            return false;
+        }
+
+        MyListCursor thisCursor = this.cursorAtHead();
+        MyListCursor otherCursor = other.cursorAtHead();
+
+        // If any value not equal, return false.
+        while (thisCursor.hasNext()) {
+            if (thisCursor.next() != otherCursor.next()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    hashCode
+     * Purpose   Returns a hash code computed from the values from Head to Tail, as in
+     *               java.util.List, so that equal Lists have equal hash codes.
+     * @param    None
+     * @returns  (int) the hash code of the List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public int hashCode() {
+
+        int hash = 1;
+        MyListCursor cursor = this.cursorAtHead();
+        while (cursor.hasNext()) {
+            hash = 31 * hash + cursor.next();
+        }
+        return hash;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    getStrBigNumber
+     * Purpose   Returns a String concatenating the values in reverse order.
+     *               Specific to the implementation of BigNumber, where each value
+     *               represents a digit; the Head is the smallest value digit and
+     *               the Tail is the largest value digit.
+     * @param    None
+     * @returns  (String) a String representing a BigNumber
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String getStrBigNumber() {
+
+        StringBuilder printable = new StringBuilder(this.size);
+
+        for (Block block = this.tail; block != null; block = block.prev) {
+            for (int i = block.count - 1; i >= 0; i--) {
+                printable.append(block.data[i]);
+            }
+        }
+
+        return printable.toString();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toString
+     * Purpose   Returns a String concatenating the values in order, with an arrow
+     *               signifying the 'next' connection.
+     * @param    None
+     * @returns  (String) a String depicting the Linked List
+     * ----------------------------------------------------------------------------*/
+    @Override
+    public String toString() {
+
+        StringBuilder printable = new StringBuilder();
+        MyListCursor cursor = this.cursorAtHead();
+
+        while (cursor.hasNext()) {
+            printable.append(cursor.next());
+            if (cursor.hasNext()) {
+                printable.append(" -> ");
+            }
+        }
+
+        return printable.toString();
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    locate
+     * Purpose   Returns the Block holding the value at an index and records it as
+     *               the finger, with `fingerStart` set to the index of its first
+     *               value. The walk starts from the Head, the Tail or the previous
+     *               finger, whichever is closest. Throws IndexOutOfBoundsException.
+     * @param    'index'    --      (int)   the index of the value in the List
+     * @returns  (Block) the Block holding the value
+     * ----------------------------------------------------------------------------*/
+    private Block locate(int index) {
+
+        if (index >= this.size() || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Block block = this.head;
+        int start = 0;
+
+        if (this.finger != null && Math.abs(index - this.fingerStart) < Math.min(index, this.size - index)) {
+            block = this.finger;
+            start = this.fingerStart;
+        }
+        else if (this.size - index < index) {
+            block = this.tail;
+            start = this.size - this.tail.count;
+        }
+
+        while (index < start) {
+            block = block.prev;
+            start -= block.count;
+        }
+
+        while (index >= start + block.count) {
+            start += block.count;
+            block = block.next;
+        }
+
+        this.finger = block;
+        this.fingerStart = start;
+        return block;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    appendRun
+     * Purpose   Appends a run of values to the Rear of the List, filling the Tail
+     *               Block before starting new ones.
+     * @param    'values'    --    (byte[])  the array holding the run
+     * @param    'from'      --    (int)     the index of the first value of the run
+     * @param    'length'    --    (int)     the number of values in the run
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void appendRun(byte[] values, int from, int length) {
+
+        while (length > 0) {
+            if (this.tail == null || this.tail.isFull()) {
+                this.linkRear(new Block());
+            }
+
+            int run = Math.min(length, Block.CAPACITY - this.tail.count);
+            System.arraycopy(values, from, this.tail.data, this.tail.count, run);
+            this.tail.count += run;
+            this.size += run;
+            from += run;
+            length -= run;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    linkRear
+     * Purpose   Links an empty Block after the Tail of the List.
+     * @param    'block'    --    (Block)   the Block to link
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void linkRear(Block block) {
+
+        block.prev = this.tail;
+        if (this.tail == null) {
+            this.head = block;
+        }
+        else {
+            this.tail.next = block;
+        }
+        this.tail = block;
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    unlink
+     * Purpose   Removes a Block from the chain of Blocks.
+     * @param    'block'    --    (Block)   the Block to unlink
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void unlink(Block block) {
+
+        if (block.prev == null) {
+            this.head = block.next;
+        }
+        else {
+            block.prev.next = block.next;
+        }
+
+        if (block.next == null) {
+            this.tail = block.prev;
+        }
+        else {
+            block.next.prev = block.prev;
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    mergeIntoNeighbour
+     * Purpose   Moves the values of a sparse Block to the end of the previous
+     *               Block or to the start of the next one, if either has room, and
+     *               unlinks the emptied Block.
+     * @param    'block'    --    (Block)   the sparse Block
+     * @returns  None
+     * ----------------------------------------------------------------------------*/
+    private void mergeIntoNeighbour(Block block) {
+
+        Block previous = block.prev;
+        Block next = block.next;
+
+        if (previous != null && previous.count + block.count <= Block.CAPACITY) {
+            System.arraycopy(block.data, 0, previous.data, previous.count, block.count);
+            previous.count += block.count;
+            this.unlink(block);
+        }
+        else if (next != null && next.count + block.count <= Block.CAPACITY) {
+            System.arraycopy(next.data, 0, next.data, block.count, next.count);
+            System.arraycopy(block.data, 0, next.data, 0, block.count);
+            next.count += block.count;
+            this.unlink(block);
+        }
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    toByte
+     * Purpose   Returns a value as a byte. Throws IllegalArgumentException if the
+     *               value does not fit in a byte.
+     * @param    'data'     --      (int)   the value to store
+     * @returns  (byte) the value as a byte
+     * ----------------------------------------------------------------------------*/
+    private static byte toByte(int data) {
+
+        if (data < Byte.MIN_VALUE || data > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("An UnrolledListImpl value must fit in a byte.");
+        }
+
+        return (byte) data;
+    }
+
+} /* ****************************************************************************** */
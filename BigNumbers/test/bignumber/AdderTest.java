@@ -0,0 +1,113 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+
+public class AdderTest {
+
+    private static void assertParallelSum(String a, String b, int chunkLimbs) {
+
+        int[] aLimbs = Limbs.fromString(a);
+        int[] bLimbs = Limbs.fromString(b);
+        int[] sum = Adder.addParallel(aLimbs, aLimbs.length, bLimbs, bLimbs.length,
+                ForkJoinPool.commonPool(), chunkLimbs);
+
+        assertEquals(new BigInteger(a).add(new BigInteger(b)).toString(),
+                Limbs.toDecimalString(sum, sum.length));
+    }
+
+    private static void assertLanesSum(String a, String b) {
+
+        int[] aLimbs = Limbs.fromString(a);
+        int[] bLimbs = Limbs.fromString(b);
+        int[] sum = Adder.addLanes(aLimbs, aLimbs.length, bLimbs, bLimbs.length);
+
+        assertEquals(new BigInteger(a).add(new BigInteger(b)).toString(),
+                Limbs.toDecimalString(sum, sum.length));
+    }
+
+    @Test
+    public void testAddLanes() {
+
+        Random random = new Random(3);
+        for (int i = 0; i < 50; i++) {
+            assertLanesSum(TestDigits.randomDigits(random, 1 + random.nextInt(3000)),
+                    TestDigits.randomDigits(random, 1 + random.nextInt(3000)));
+        }
+    }
+
+    @Test
+    public void testAddLanesCarryChains() {
+
+        // Limbs of 999999999 that receive a carry need the scalar ripple pass
+        assertLanesSum("9".repeat(900), "1");
+        assertLanesSum("9".repeat(900), "9".repeat(900));
+        assertLanesSum("9".repeat(450) + "0".repeat(9) + "9".repeat(441), "1" + "9".repeat(441));
+        assertLanesSum("5" + "9".repeat(300), "4" + "0".repeat(299) + "1");
+        assertLanesSum("0", "0");
+
+        BigNumber nines = new PackedBigNumberImpl("9".repeat(10000));
+        assertEquals("1" + "9".repeat(9999) + "8", nines.add(nines).toString());
+    }
+
+    @Test
+    public void testAddParallel() {
+
+        Random random = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            assertParallelSum(TestDigits.randomDigits(random, 1 + random.nextInt(2000)),
+                    TestDigits.randomDigits(random, 1 + random.nextInt(2000)), 1 + random.nextInt(8));
+        }
+    }
+
+    @Test
+    public void testAddParallelCarryChains() {
+
+        // A carry generated in the lowest chunk ripples through every chunk above it
+        assertParallelSum("9".repeat(500), "1", 3);
+        assertParallelSum("9".repeat(500), "9".repeat(500), 2);
+        assertParallelSum("1" + "9".repeat(200) + "0".repeat(100) + "9".repeat(200),
+                "1" + "0".repeat(200), 4);
+        assertParallelSum("5" + "9".repeat(300), "4" + "0".repeat(299) + "1", 1);
+        assertParallelSum("123", "877", 1);
+    }
+
+    @Test
+    public void testParallelMode() {
+
+        Adder.setParallelPool(ForkJoinPool.commonPool());
+        Adder.setParallelThreshold(1000);
+
+        Random random = new Random(2);
+        String a = TestDigits.randomDigits(random, 200000);
+        String b = TestDigits.randomDigits(random, 150000);
+        BigNumber sum = new PackedBigNumberImpl(a).add(new BigNumberImpl(b));
+        assertEquals(new BigInteger(a).add(new BigInteger(b)).toString(), sum.toString());
+
+        Adder.setParallelPool(null);
+        Adder.resetThresholds();
+        assertNull(Adder.getParallelPool());
+        assertEquals(Adder.DEFAULT_PARALLEL_THRESHOLD, Adder.getParallelThreshold());
+    }
+
+    @Test
+    public void testCombineStates() {
+
+        assertEquals(Adder.GENERATE, Adder.combineStates(Adder.GENERATE, Adder.PROPAGATE));
+        assertEquals(Adder.KILL, Adder.combineStates(Adder.GENERATE, Adder.KILL));
+        assertEquals(Adder.GENERATE, Adder.combineStates(Adder.KILL, Adder.GENERATE));
+        assertEquals(Adder.PROPAGATE, Adder.combineStates(Adder.PROPAGATE, Adder.PROPAGATE));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testThresholdException() {
+
+        Adder.setParallelThreshold(0);
+    }
+}
@@ -0,0 +1,118 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+
+public class BigNumberAdderTest {
+
+    @Test
+    public void testEmpty() {
+
+        BigNumberAdder adder = new BigNumberAdder();
+        assertEquals("0", adder.sum().toString());
+        assertEquals("0", adder.toString());
+    }
+
+    @Test
+    public void testAddLongs() {
+
+        BigNumberAdder adder = new BigNumberAdder(4);
+        assertEquals(4, adder.getCellCount());
+
+        adder.add(Long.MAX_VALUE);
+        adder.add(Long.MAX_VALUE);
+        adder.add(999999999999999999L);
+        adder.add(1);
+        adder.increment();
+        adder.add(0);
+
+        BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO)
+                .add(BigInteger.valueOf(999999999999999999L)).add(BigInteger.TWO);
+        assertEquals(expected.toString(), adder.sum().toString());
+    }
+
+    @Test
+    public void testAddBigNumbers() {
+
+        BigNumberAdder adder = new BigNumberAdder(3);
+        assertEquals(4, adder.getCellCount());
+
+        String big = "123456789012345678901234567890123456789";
+        adder.add(new BigNumberImpl(big));
+        adder.add(new PackedBigNumberImpl("987654321987654321"));
+        adder.add(new PersistentBigNumberImpl(big));
+        adder.add(5);
+
+        BigInteger expected = new BigInteger(big).multiply(BigInteger.TWO)
+                .add(new BigInteger("987654321987654326"));
+        assertEquals(expected.toString(), adder.sum().toString());
+    }
+
+    @Test
+    public void testSumThenReset() {
+
+        BigNumberAdder adder = new BigNumberAdder();
+        adder.add(new BigNumberImpl("99999999999999999999999"));
+        adder.add(42);
+
+        assertEquals("100000000000000000000041", adder.sumThenReset().toString());
+        assertEquals("0", adder.sum().toString());
+
+        adder.add(7);
+        adder.reset();
+        assertEquals("0", adder.sum().toString());
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+
+        BigNumberAdder adder = new BigNumberAdder(2);
+        int threadCount = 4;
+        int perThread = 20000;
+        long step = 900000000000000000L;
+
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    adder.add(step);
+                    adder.increment();
+                    if (i % 1000 == 0) {
+                        adder.add(new PackedBigNumberImpl("1000000000000000000000"));
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long operations = (long) threadCount * perThread;
+        BigInteger expected = BigInteger.valueOf(step + 1).multiply(BigInteger.valueOf(operations))
+                .add(new BigInteger("1000000000000000000000").multiply(BigInteger.valueOf(threadCount * 20)));
+        assertEquals(expected.toString(), adder.sum().toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNegativeException() {
+
+        new BigNumberAdder().add(-1);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNullException() {
+
+        new BigNumberAdder().add(null);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testCellCountException() {
+
+        new BigNumberAdder(0);
+    }
+}
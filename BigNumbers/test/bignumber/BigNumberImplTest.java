@@ -2,6 +2,15 @@ package bignumber;
 import bignumber.linkedlist.*;
 
 import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.Assert.*;
 
 
@@ -145,6 +154,164 @@ public class BigNumberImplTest {
         assertNotEquals(test1, test2);
     }
 
+    @Test
+    public void testListFactory() {
+
+        BigNumberImpl test1 = new BigNumberImpl("98765432123456789", SkipListImpl::new);
+        assertTrue(test1.getDigitList() instanceof SkipListImpl);
+        assertEquals(2, test1.getDigitAt(7));
+
+        test1.setDigitAt(7, 0);
+        test1.shiftLeft(3);
+        assertEquals("98765432103456789000", test1.toString());
+
+        BigNumber sum = test1.add(new BigNumberImpl("1000"));
+        assertTrue(sum.getDigitList() instanceof SkipListImpl);
+        assertEquals("98765432103456790000", sum.toString());
+
+        BigNumber product = test1.multiply(new BigNumberImpl("2"));
+        assertTrue(product.getDigitList() instanceof SkipListImpl);
+        assertEquals("197530864206913578000", product.toString());
+
+        BigNumber copy = test1.copy();
+        copy.shiftRight(30);
+        assertTrue(copy.getDigitList() instanceof SkipListImpl);
+        assertEquals("0", copy.toString());
+
+        BigNumberImpl test2 = new BigNumberImpl(UnrolledListImpl::new);
+        test2.addDigit(7);
+        assertTrue(test2.getDigitList() instanceof UnrolledListImpl);
+        assertEquals("7", test2.toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testListFactoryException() {
+
+        new BigNumberImpl("12", null);
+    }
+
+    @Test
+    public void testDigitStream() {
+
+        BigNumber test1 = new BigNumberImpl("9081726354");
+        assertArrayEquals(new int[] {4, 5, 3, 6, 2, 7, 1, 8, 0, 9}, test1.digits().toArray());
+
+        // The implicit zeroes of the scale come first
+        test1.shiftLeft(3);
+        assertArrayEquals(new int[] {0, 0, 0, 4, 5, 3}, test1.digits().limit(6).toArray());
+        assertEquals(13, test1.digits().count());
+
+        BigNumber test2 = new BigNumberImpl("7".repeat(50000));
+        assertEquals(350000, test2.digits().parallel().sum());
+        assertEquals(50000, test2.digits().parallel().filter(d -> d == 7).count());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+
+        BigNumber test1 = new BigNumberImpl("123456789");
+        BigNumber test2 = test1.copy();
+        BigNumber test3 = test1.copy();
+
+        test2.setDigitAt(0, 0);
+        test3.addDigit(5);
+        assertEquals("123456789", test1.toString());
+        assertEquals("123456780", test2.toString());
+        assertEquals("123456794", test3.toString());
+
+        test2 = test1.copy();
+        test1.shiftRight(4);
+        assertEquals("12345", test1.toString());
+        assertEquals("123456789", test2.toString());
+
+        test1 = test2.copy();
+        test1.shiftLeft(2);
+        test1.getDigitList().set(2, 0);
+        assertEquals("12345678000", test1.toString());
+        assertEquals("123456789", test2.toString());
+
+        test1 = test2.copy();
+        test2.getDigitList().set(0, 1);
+        assertEquals("123456789", test1.toString());
+        assertEquals("123456781", test2.toString());
+    }
+
+    @Test
+    public void testNodePoolRelease() {
+
+        NodePool.setEnabled(true);
+        NodePool pool = NodePool.current();
+        pool.clear();
+
+        try {
+            // A digitList dropped whole goes back to the pool
+            BigNumber test = new BigNumberImpl("12345");
+            test.shiftRight(10);
+            assertEquals("0", test.toString());
+            assertEquals(5, pool.getPooledCount());
+
+            test = new BigNumberImpl("678");
+            int pooled = pool.getPooledCount();
+            test.setDigitList(new MyListImpl());
+            assertEquals(pooled + 3, pool.getPooledCount());
+
+            // Lists still held by a caller or a copy are not released
+            pool.clear();
+            test = new BigNumberImpl("91011");
+            MyList digits = test.getDigitList();
+            test.shiftRight(10);
+            assertEquals(0, pool.getPooledCount());
+            assertEquals(5, digits.size());
+
+            test = new BigNumberImpl("1213");
+            BigNumber copy = test.copy();
+            test.shiftRight(10);
+            assertEquals(0, pool.getPooledCount());
+            assertEquals("1213", copy.toString());
+        }
+        finally {
+            NodePool.setEnabled(false);
+            pool.clear();
+        }
+    }
+
+    @Test
+    public void testCopyOfSum() {
+
+        // A sum has not been handed out, so it is shared and its hash is cached
+        BigNumberImpl total = (BigNumberImpl) new BigNumberImpl("999").add(new BigNumberImpl("1"));
+        assertTrue(total.cachesHash());
+        assertEquals("1000".hashCode(), total.hashCode());
+
+        BigNumberImpl copy = (BigNumberImpl) total.copy();
+        assertTrue(total.isShared());
+        assertTrue(copy.isShared());
+        assertTrue(copy.cachesHash());
+        assertEquals(total, copy);
+    }
+
+    @Test
+    public void testCopyOfExposedList() {
+
+        // A List already handed out is never shared with a copy
+        BigNumber test1 = new BigNumberImpl("555");
+        MyList digits = test1.getDigitList();
+        BigNumber test2 = test1.copy();
+        digits.set(0, 9);
+        assertEquals("559", test1.toString());
+        assertEquals("555", test2.toString());
+
+        MyList given = new MyListImpl();
+        given.insertRear(1);
+        given.insertRear(2);
+        test1.setDigitList(given);
+        test1.shiftLeft(1);
+        test2 = test1.copy();
+        given.set(0, 3);
+        assertEquals("230", test1.toString());
+        assertEquals("210", test2.toString());
+    }
+
     @Test
     public void testAdd() {
 
@@ -173,6 +340,247 @@ public class BigNumberImplTest {
         assertEquals("0", test3.toString());
     }
 
+    @Test
+    public void testMultiply() {
+
+        BigNumber test1 = new BigNumberImpl("99999");
+        BigNumber test2 = new BigNumberImpl("99999");
+        BigNumber test3 = test1.multiply(test2);
+
+        assertEquals("9999800001", test3.toString());
+
+        test1 = new BigNumberImpl("7502759287502846283");
+        test2 = new BigNumberImpl("2871907985729758402");
+        test3 = test1.multiply(test2);
+
+        assertEquals("21547234312787536578614005428933719766", test3.toString());
+
+        test1 = new BigNumberImpl("0");
+        test2 = new BigNumberImpl("1740170310999");
+        test3 = test1.multiply(test2);
+
+        assertEquals("0", test3.toString());
+        assertTrue(test3 instanceof BigNumberImpl);
+    }
+
+    @Test
+    public void testLargeShifts() {
+
+        BigNumber test1 = new BigNumberImpl("123");
+        test1.shiftLeft(100000);
+        test1.shiftLeft(100000);
+
+        assertEquals(200003, test1.length());
+        assertEquals(0, test1.getDigitAt(150000));
+        assertEquals(3, test1.getDigitAt(200000));
+        assertEquals(1, test1.getDigitAt(200002));
+
+        test1.shiftRight(199998);
+        assertEquals("12300", test1.toString());
+
+        test1.shiftRight(3);
+        assertEquals("12", test1.toString());
+
+        test1.shiftLeft(4);
+        test1.setDigitAt(1, 0);
+        assertEquals("120000", test1.toString());
+        test1.setDigitAt(1, 7);
+        assertEquals("120070", test1.toString());
+
+        test1.shiftLeft(3);
+        test1.addDigit(5);
+        assertEquals("120070005", test1.toString());
+
+        test1 = new BigNumberImpl("5");
+        test1.shiftLeft(10);
+        test1.shiftRight(11);
+        assertEquals("0", test1.toString());
+        assertEquals(1, test1.length());
+    }
+
+    @Test
+    public void testLargeShiftsCombined() {
+
+        BigNumber test1 = new BigNumberImpl("999");
+        BigNumber test2 = new BigNumberImpl("1");
+        test1.shiftLeft(5);
+        test2.shiftLeft(3);
+
+        assertEquals("99901000", test1.add(test2).toString());
+        assertEquals("99901000", test2.add(test1).toString());
+        assertEquals("99900001", test1.add(new PackedBigNumberImpl("1")).toString());
+        assertEquals("99900000000", test1.multiply(test2).toString());
+        assertEquals(new PackedBigNumberImpl("99900000"), test1);
+        assertEquals(1, test1.compareTo(new BigNumberImpl("99899999")));
+        assertEquals(-1, test1.compareTo(new BigNumberImpl("99900001")));
+
+        BigNumber copy = test1.copy();
+        copy.shiftRight(5);
+        assertEquals("999", copy.toString());
+        assertEquals("99900000", test1.toString());
+
+        MyList digits = test1.getDigitList();
+        assertEquals(8, digits.size());
+        assertEquals(0, digits.get(0));
+    }
+
+    @Test
+    public void testParse() throws IOException {
+
+        assertEquals("1234567890123", BigNumberImpl.parse("0001234567890123").toString());
+        assertEquals("0", BigNumberImpl.parse("0000").toString());
+        assertEquals("0", BigNumberImpl.parse("").toString());
+        assertEquals(13, BigNumberImpl.parse(new StringBuilder("1234567890123")).length());
+
+        byte[] ascii = "x00987654321y".getBytes(StandardCharsets.US_ASCII);
+        assertEquals("987654321", BigNumberImpl.parse(ascii, 1, 11).toString());
+        assertEquals("42", BigNumberImpl.parse("42".getBytes(StandardCharsets.US_ASCII)).toString());
+
+        String longDigits = "0".repeat(5000) + "9".repeat(20000);
+        BigNumber test1 = BigNumberImpl.parse(new StringReader(longDigits));
+        assertEquals(20000, test1.length());
+        assertEquals("9".repeat(20000), test1.toString());
+    }
+
+    @Test (expected = NumberFormatException.class)
+    public void testParseException() {
+
+        BigNumberImpl.parse("12a4".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test (expected = NumberFormatException.class)
+    public void testParseLeadingZeroException() {
+
+        BigNumberImpl.parse("00-0");
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+
+        BigNumber test1 = new BigNumberImpl("000123456789012345678901");
+        StringBuilder builder = new StringBuilder("x");
+        test1.writeTo(builder);
+        assertEquals("x123456789012345678901", builder.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        test1.writeTo(bytes);
+        assertEquals("123456789012345678901", bytes.toString(StandardCharsets.US_ASCII));
+
+        String longDigits = "1" + "0".repeat(9000) + "7";
+        test1 = new BigNumberImpl(longDigits);
+        StringWriter writer = new StringWriter();
+        test1.writeTo(writer);
+        assertEquals(longDigits, writer.toString());
+        assertEquals(longDigits, test1.toString());
+        assertEquals("0", new BigNumberImpl().toString());
+    }
+
+    @Test
+    public void testAddInPlace() {
+
+        BigNumber test1 = new BigNumberImpl("99999");
+        test1.addInPlace(new BigNumberImpl("1"));
+        assertEquals("100000", test1.toString());
+
+        test1.addInPlace(new BigNumberImpl("1740170310999"));
+        assertEquals("1740170410999", test1.toString());
+
+        test1.addInPlace(new PackedBigNumberImpl("0"));
+        assertEquals("1740170410999", test1.toString());
+
+        test1.addInPlace(test1);
+        assertEquals("3480340821998", test1.toString());
+
+        BigNumber test2 = new BigNumberImpl("25");
+        test2.shiftLeft(20);
+        test1.addInPlace(test2);
+        assertEquals("2500000003480340821998", test1.toString());
+
+        test2 = new BigNumberImpl("7");
+        test2.shiftLeft(6);
+        test1 = new BigNumberImpl("3");
+        test1.shiftLeft(9);
+        test1.addInPlace(test2);
+        assertEquals("3007000000", test1.toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testAddInPlaceException() {
+
+        new BigNumberImpl("1").addInPlace(null);
+    }
+
+    @Test
+    public void testDivide() {
+
+        BigNumber test1 = new BigNumberImpl("9999800001");
+        BigNumber test2 = new BigNumberImpl("99999");
+
+        assertEquals("99999", test1.divide(test2).toString());
+        assertEquals("0", test1.remainder(test2).toString());
+
+        test1 = new BigNumberImpl("21547234312787536578614005428933719777");
+        test2 = new BigNumberImpl("2871907985729758402");
+        BigNumber[] result = test1.divideAndRemainder(test2);
+
+        assertEquals("7502759287502846283", result[0].toString());
+        assertEquals("11", result[1].toString());
+        assertTrue(result[0] instanceof BigNumberImpl);
+
+        test1 = new BigNumberImpl("17");
+        test2 = new BigNumberImpl("1740170310999");
+
+        assertEquals("0", test1.divide(test2).toString());
+        assertEquals("17", test1.remainder(test2).toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testDivideByZero() {
+
+        BigNumber test1 = new BigNumberImpl("1234");
+        test1.divide(new BigNumberImpl("0"));
+    }
+
+    @Test
+    public void testPow() {
+
+        BigNumber test = new BigNumberImpl("2");
+        assertEquals("1267650600228229401496703205376", test.pow(100).toString());
+        assertEquals("1", test.pow(0).toString());
+        assertEquals("2", test.pow(1).toString());
+        assertEquals("2", test.toString());
+
+        BigNumber result = new BigNumberImpl("12345678901234567890").pow(3);
+        assertEquals("1881676372353657772490265749424677022198701224860897069000", result.toString());
+        assertTrue(result instanceof BigNumberImpl);
+    }
+
+    @Test
+    public void testModPow() {
+
+        BigNumber test = new BigNumberImpl("4");
+        assertEquals("445", test.modPow(new BigNumberImpl("13"), new BigNumberImpl("497")).toString());
+
+        test = new BigNumberImpl("987654321987654321");
+        BigNumber result = test.modPow(new BigNumberImpl("123456789123"), new BigNumberImpl("1000000007000000063"));
+        assertEquals("794555690660968191", result.toString());
+        assertTrue(result instanceof BigNumberImpl);
+
+        assertEquals("1", new BigNumberImpl("7").modPow(new BigNumberImpl("0"), new BigNumberImpl("13")).toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testPowException() {
+
+        new BigNumberImpl("12").pow(-1);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testModPowByZero() {
+
+        new BigNumberImpl("12").modPow(new BigNumberImpl("3"), new BigNumberImpl("0"));
+    }
+
     @Test
     public void testGetDigitList() {
 
@@ -232,6 +640,103 @@ public class BigNumberImplTest {
         assertEquals(test1, test2);
     }
 
+    @Test
+    public void testEqualsShortcuts() {
+
+        BigNumber test1 = new BigNumberImpl("718461");
+        BigNumber test2 = new BigNumberImpl("818461");
+        BigNumber test3 = new BigNumberImpl("7184610");
+
+        assertNotEquals(test1, test2);
+        assertNotEquals(test1, test3);
+        assertEquals(test1, test1);
+
+        // Cached hash codes of equal numbers do not tell them apart
+        test3.shiftRight(1);
+        assertEquals(test1.hashCode(), test3.hashCode());
+        assertEquals(test1, test3);
+        assertEquals(test1, new PackedBigNumberImpl("718461"));
+    }
+
+    @Test
+    public void testHashCode() {
+
+        BigNumber test1 = new BigNumberImpl("7502759287502846283");
+        BigNumber test2 = new PackedBigNumberImpl("7502759287502846283");
+
+        assertEquals("7502759287502846283".hashCode(), test1.hashCode());
+        assertEquals(test1.hashCode(), test2.hashCode());
+        assertEquals("0".hashCode(), new BigNumberImpl().hashCode());
+
+        // Shifts update the cached hash code, other changes drop it
+        test1.shiftLeft(25);
+        assertEquals(test1.toString().hashCode(), test1.hashCode());
+        test1.shiftRight(20);
+        assertEquals(test1.toString().hashCode(), test1.hashCode());
+        test1.shiftRight(7);
+        assertEquals(test1.toString().hashCode(), test1.hashCode());
+        test1.addDigit(9);
+        assertEquals(test1.toString().hashCode(), test1.hashCode());
+        test1.setDigitAt(3, 1);
+        assertEquals(test1.toString().hashCode(), test1.hashCode());
+        test1.addInPlace(new BigNumberImpl("999999"));
+        assertEquals(test1.toString().hashCode(), test1.hashCode());
+        test1.getDigitList().insertRear(4);
+        assertEquals(test1.toString().hashCode(), test1.hashCode());
+
+        // A copy keeps its hash code when the original changes
+        BigNumber copy = test1.copy();
+        int copyHash = copy.hashCode();
+        test1.addDigit(1);
+        assertEquals(copyHash, copy.hashCode());
+        assertNotEquals(copyHash, test1.hashCode());
+    }
+
+    @Test
+    public void testHashMapKey() {
+
+        Map<BigNumber, String> names = new HashMap<>();
+        names.put(new BigNumberImpl("1000000007"), "prime");
+        names.put(new PackedBigNumberImpl("998244353"), "ntt prime");
+
+        assertEquals("prime", names.get(new PackedBigNumberImpl("1000000007")));
+        assertEquals("ntt prime", names.get(new BigNumberImpl("998244353")));
+
+        BigNumber shifted = new BigNumberImpl("100000000700");
+        shifted.shiftRight(2);
+        assertEquals("prime", names.get(shifted));
+        assertNull(names.get(new BigNumberImpl("1000000008")));
+    }
+
+    @Test
+    public void testHashCodeAfterListMutation() {
+
+        BigNumber test = new BigNumberImpl("123");
+        MyList digits = test.getDigitList();
+        int before = test.hashCode();
+
+        // Writes through the List handed out must not leave a stale hash code
+        digits.set(0, 4);
+        assertEquals(new BigNumberImpl("124"), test);
+        assertEquals("124".hashCode(), test.hashCode());
+        assertNotEquals(before, test.hashCode());
+
+        Map<BigNumber, String> names = new HashMap<>();
+        names.put(new BigNumberImpl("124"), "found");
+        assertEquals("found", names.get(test));
+
+        MyList given = new MyListImpl();
+        given.insertRear(5);
+        given.insertRear(6);
+        BigNumber replaced = new BigNumberImpl();
+        replaced.setDigitList(given);
+        assertEquals("65".hashCode(), replaced.hashCode());
+
+        given.set(1, 7);
+        assertEquals(new BigNumberImpl("75"), replaced);
+        assertEquals("75".hashCode(), replaced.hashCode());
+    }
+
     @Test
     public void testToString() {
 
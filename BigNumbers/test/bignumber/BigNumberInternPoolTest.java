@@ -0,0 +1,86 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+
+public class BigNumberInternPoolTest {
+
+    @Test
+    public void testIntern() {
+
+        BigNumberInternPool pool = new BigNumberInternPool();
+
+        ImmutableBigNumberImpl first = pool.intern(new BigNumberImpl("1234567890123"));
+        ImmutableBigNumberImpl second = pool.intern(new PackedBigNumberImpl("1234567890123"));
+        ImmutableBigNumberImpl other = pool.intern(new BigNumberImpl("1234567890124"));
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals("1234567890123", first.toString());
+        assertSame(first, pool.intern(first));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void testStatistics() {
+
+        BigNumberInternPool pool = new BigNumberInternPool();
+        assertEquals(1.0, pool.getDedupRatio(), 0.0);
+
+        List<BigNumber> kept = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            kept.add(pool.intern(new BigNumberImpl(String.valueOf(1_000_000_000_000L + i % 4))));
+        }
+
+        assertEquals(100, pool.getRequests());
+        assertEquals(96, pool.getHits());
+        assertEquals(25.0, pool.getDedupRatio(), 1e-9);
+
+        // Each hit saves at least the object and two limbs of a 13 digit value
+        assertEquals(96 * (BigNumberInternPool.OBJECT_BYTES + 8), pool.getBytesSaved());
+        assertTrue(pool.toString().contains("hits=96"));
+
+        pool.clear();
+        assertEquals(0, pool.size());
+        assertEquals(0, pool.getRequests());
+        assertEquals(4, kept.stream().distinct().count());
+    }
+
+    @Test
+    public void testWeakReferences() throws InterruptedException {
+
+        BigNumberInternPool pool = new BigNumberInternPool();
+        for (int i = 0; i < 1000; i++) {
+            pool.intern(new PackedBigNumberImpl(String.valueOf(i)));
+        }
+
+        // Nothing holds the canonical instances, so they may all be collected
+        for (int i = 0; i < 20 && pool.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(pool.size() < 1000);
+    }
+
+    @Test
+    public void testSharedPool() {
+
+        BigNumber test1 = new BigNumberImpl("98765432109876543210").intern();
+        BigNumber test2 = new PackedBigNumberImpl("98765432109876543210").intern();
+
+        assertSame(test1, test2);
+        assertTrue(test1 instanceof ImmutableBigNumberImpl);
+        assertSame(test1, BigNumberInternPool.shared().intern(test1));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInternException() {
+
+        new BigNumberInternPool().intern(null);
+    }
+}
@@ -0,0 +1,85 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+
+public class BigNumbersTest {
+
+    private static List<BigNumber> randomNumbers(Random random, int count) {
+
+        List<BigNumber> numbers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder digits = new StringBuilder();
+            int length = 1 + random.nextInt(60);
+            for (int d = 0; d < length; d++) {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+            BigNumber number = (i % 2 == 0)
+                    ? new BigNumberImpl(digits.toString())
+                    : new PackedBigNumberImpl(digits.toString());
+            if (i % 5 == 0) {
+                number.shiftLeft(random.nextInt(20));
+            }
+            numbers.add(number);
+        }
+        return numbers;
+    }
+
+    private static String expectedSum(List<BigNumber> numbers) {
+
+        BigInteger sum = BigInteger.ZERO;
+        for (BigNumber number : numbers) {
+            sum = sum.add(new BigInteger(number.toString()));
+        }
+        return sum.toString();
+    }
+
+    @Test
+    public void testSumIterable() {
+
+        List<BigNumber> numbers = randomNumbers(new Random(1), 1000);
+        BigNumber sum = BigNumbers.sum(numbers);
+
+        assertEquals(expectedSum(numbers), sum.toString());
+        assertTrue(sum instanceof PackedBigNumberImpl);
+    }
+
+    @Test
+    public void testSumStream() {
+
+        List<BigNumber> numbers = randomNumbers(new Random(2), 1000);
+
+        assertEquals(expectedSum(numbers), BigNumbers.sum(numbers.stream()).toString());
+        assertEquals(expectedSum(numbers), BigNumbers.sum(numbers.parallelStream()).toString());
+    }
+
+    @Test
+    public void testSumCarries() {
+
+        List<BigNumber> numbers = Collections.nCopies(12345, new PackedBigNumberImpl("999999999999999999"));
+
+        assertEquals(expectedSum(numbers), BigNumbers.sum(numbers).toString());
+    }
+
+    @Test
+    public void testSumEmpty() {
+
+        assertEquals("0", BigNumbers.sum(new ArrayList<BigNumber>()).toString());
+        assertEquals("0", BigNumbers.sum(Stream.<BigNumber>empty()).toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testSumException() {
+
+        BigNumbers.sum(Stream.of(new BigNumberImpl("1"), null));
+    }
+}
@@ -0,0 +1,80 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+public class DividerTest {
+
+    private static void assertDivision(String a, String b, int[][] result) {
+
+        BigInteger[] expected = new BigInteger(a).divideAndRemainder(new BigInteger(b));
+
+        assertEquals(expected[0].toString(), Limbs.toDecimalString(result[0], result[0].length));
+        assertEquals(expected[1].toString(), Limbs.toDecimalString(result[1], result[1].length));
+    }
+
+    @Test
+    public void testDivideBySmall() {
+
+        Random random = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            String a = TestDigits.randomDigits(random, 1 + random.nextInt(200));
+            String b = TestDigits.randomDigits(random, 1 + random.nextInt(9));
+            assertDivision(a, b, Divider.divideAndRemainder(Limbs.fromString(a), Limbs.fromString(b)));
+        }
+    }
+
+    @Test
+    public void testDivideKnuth() {
+
+        Random random = new Random(2);
+        for (int i = 0; i < 50; i++) {
+            String b = TestDigits.randomDigits(random, 10 + random.nextInt(300));
+            String a = TestDigits.randomDigits(random, b.length() + random.nextInt(300));
+            assertDivision(a, b, Divider.divideKnuth(Limbs.fromString(a), Limbs.fromString(b)));
+        }
+
+        // Divisors whose top limb forces the quotient estimate to be corrected
+        String a = "999999999999999999999999999999999999999999999999999999";
+        String b = "1000000000000000001";
+        assertDivision(a, b, Divider.divideKnuth(Limbs.fromString(a), Limbs.fromString(b)));
+        b = "999999999000000000999999999";
+        assertDivision(a, b, Divider.divideKnuth(Limbs.fromString(a), Limbs.fromString(b)));
+    }
+
+    @Test
+    public void testDivideBurnikelZiegler() {
+
+        Random random = new Random(3);
+        for (int i = 0; i < 10; i++) {
+            String b = TestDigits.randomDigits(random, 800 + random.nextInt(4000));
+            String a = TestDigits.randomDigits(random, b.length() + 400 + random.nextInt(6000));
+            assertDivision(a, b, Divider.divideBurnikelZiegler(Limbs.fromString(a), Limbs.fromString(b)));
+        }
+
+        String nines = "9".repeat(9000);
+        String b = "9".repeat(4000);
+        assertDivision(nines, b, Divider.divideBurnikelZiegler(Limbs.fromString(nines), Limbs.fromString(b)));
+        b = "1" + "0".repeat(3999);
+        assertDivision(nines, b, Divider.divideBurnikelZiegler(Limbs.fromString(nines), Limbs.fromString(b)));
+    }
+
+    @Test
+    public void testSmallerDividend() {
+
+        int[][] result = Divider.divideAndRemainder(Limbs.fromString("12345"), Limbs.fromString("123456"));
+        assertArrayEquals(new int[] {0}, result[0]);
+        assertArrayEquals(new int[] {12345}, result[1]);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testDivideByZero() {
+
+        Divider.divideAndRemainder(Limbs.fromString("12345"), new int[] {0});
+    }
+}
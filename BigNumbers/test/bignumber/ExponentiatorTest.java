@@ -0,0 +1,124 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+public class ExponentiatorTest {
+
+    private static String decimal(int[] limbs) {
+
+        return Limbs.toDecimalString(limbs, limbs.length);
+    }
+
+    @Test
+    public void testPow() {
+
+        Random random = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            String base = TestDigits.randomDigits(random, 1 + random.nextInt(60));
+            int exponent = random.nextInt(40);
+            assertEquals(new BigInteger(base).pow(exponent).toString(),
+                    decimal(Exponentiator.pow(Limbs.fromString(base), exponent)));
+        }
+
+        assertEquals("0", decimal(Exponentiator.pow(new int[] {0}, 1000)));
+        assertEquals("1", decimal(Exponentiator.pow(new int[] {1}, Integer.MAX_VALUE)));
+        assertEquals("1", decimal(Exponentiator.pow(new int[] {0}, 0)));
+
+        // Squares past the Karatsuba threshold
+        String base = TestDigits.randomDigits(random, 900);
+        assertEquals(new BigInteger(base).pow(5).toString(), decimal(Exponentiator.pow(Limbs.fromString(base), 5)));
+    }
+
+    @Test
+    public void testPowKeepsBase() {
+
+        int[] base = {5};
+        int[] power = Exponentiator.pow(base, 1);
+        assertNotSame(base, power);
+        assertEquals("5", decimal(power));
+    }
+
+    @Test
+    public void testModPow() {
+
+        Random random = new Random(2);
+        for (int i = 0; i < 40; i++) {
+            String base = TestDigits.randomDigits(random, 1 + random.nextInt(120));
+            String exponent = TestDigits.randomDigits(random, 1 + random.nextInt(40));
+            String modulus = TestDigits.randomDigits(random, 1 + random.nextInt(60));
+
+            String expected = new BigInteger(base).modPow(new BigInteger(exponent), new BigInteger(modulus)).toString();
+            assertEquals(expected, decimal(Exponentiator.modPow(Limbs.fromString(base),
+                    Limbs.fromString(exponent), Limbs.fromString(modulus))));
+        }
+    }
+
+    @Test
+    public void testModPowEdgeCases() {
+
+        int[] modulus = Limbs.fromString("1000000007");
+        assertEquals("1", decimal(Exponentiator.modPow(new int[] {3}, new int[] {0}, modulus)));
+        assertEquals("0", decimal(Exponentiator.modPow(new int[] {3}, new int[] {5}, new int[] {1})));
+        assertEquals("0", decimal(Exponentiator.modPow(Limbs.fromString("2000000014"), new int[] {5}, modulus)));
+        assertEquals("2", decimal(Exponentiator.modPow(new int[] {2}, new int[] {1}, modulus)));
+
+        // An even modulus, which Montgomery reduction could not handle in base 10^9
+        BigInteger expected = new BigInteger("123456789").modPow(new BigInteger("987654321"),
+                new BigInteger("1000000000000000000000"));
+        assertEquals(expected.toString(), decimal(Exponentiator.modPow(Limbs.fromString("123456789"),
+                Limbs.fromString("987654321"), Limbs.fromString("1000000000000000000000"))));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testModPowByZero() {
+
+        Exponentiator.modPow(new int[] {3}, new int[] {5}, new int[] {0});
+    }
+
+    @Test
+    public void testWindowSize() {
+
+        assertEquals(1, Exponentiator.windowSize(1));
+        assertEquals(1, Exponentiator.windowSize(7));
+        assertEquals(2, Exponentiator.windowSize(8));
+        assertEquals(5, Exponentiator.windowSize(673));
+        assertEquals(7, Exponentiator.windowSize(100000));
+    }
+
+    @Test
+    public void testToBits() {
+
+        String digits = "123456789123456789123456789123456789";
+        BitSet bits = Exponentiator.toBits(Limbs.fromString(digits));
+        BigInteger value = new BigInteger(digits);
+
+        assertEquals(value.bitLength(), bits.length());
+        for (int i = 0; i < value.bitLength(); i++) {
+            assertEquals(value.testBit(i), bits.get(i));
+        }
+        assertTrue(Exponentiator.toBits(new int[] {0}).isEmpty());
+    }
+
+    @Test
+    public void testBarrettReducer() {
+
+        Random random = new Random(3);
+        for (int i = 0; i < 40; i++) {
+            String modulus = TestDigits.randomDigits(random, 1 + random.nextInt(100));
+            BarrettReducer reducer = new BarrettReducer(Limbs.fromString(modulus));
+            BigInteger m = new BigInteger(modulus);
+
+            BigInteger a = new BigInteger(TestDigits.randomDigits(random, modulus.length())).mod(m);
+            BigInteger b = new BigInteger(TestDigits.randomDigits(random, modulus.length())).mod(m);
+            int[] product = reducer.multiply(Limbs.fromString(a.toString()), Limbs.fromString(b.toString()));
+            assertEquals(a.multiply(b).mod(m).toString(), decimal(product));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+
+public class ImmutableBigNumberImplTest {
+
+    @Test
+    public void testConstructor() {
+
+        BigNumber test1 = new ImmutableBigNumberImpl("000987654321987654321");
+        assertEquals("987654321987654321", test1.toString());
+        assertEquals(18, test1.length());
+        assertEquals(2, test1.getDigitAt(1));
+
+        BigNumber test2 = new ImmutableBigNumberImpl("0");
+        assertEquals("0", test2.toString());
+        assertEquals(1, test2.length());
+    }
+
+    @Test
+    public void testOf() {
+
+        BigNumber list = new BigNumberImpl("123456789123");
+        ImmutableBigNumberImpl test = ImmutableBigNumberImpl.of(list);
+        assertEquals(list, test);
+        assertEquals(list.hashCode(), test.hashCode());
+        assertSame(test, ImmutableBigNumberImpl.of(test));
+
+        // Later changes to the source do not reach the immutable value
+        list.addDigit(7);
+        assertEquals("123456789123", test.toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testOfException() {
+
+        ImmutableBigNumberImpl.of(null);
+    }
+
+    @Test
+    public void testArithmetic() {
+
+        BigNumber test1 = new ImmutableBigNumberImpl("999999999999999999");
+        BigNumber test2 = new ImmutableBigNumberImpl("1");
+
+        BigNumber sum = test1.add(test2);
+        assertTrue(sum instanceof ImmutableBigNumberImpl);
+        assertEquals("1000000000000000000", sum.toString());
+
+        BigNumber product = test1.multiply(new PackedBigNumberImpl("12345"));
+        assertTrue(product instanceof ImmutableBigNumberImpl);
+        assertEquals(new BigInteger("999999999999999999").multiply(BigInteger.valueOf(12345)).toString(),
+                product.toString());
+
+        assertEquals(1, test1.compareTo(test2));
+        assertEquals(0, test1.compareTo(new BigNumberImpl("999999999999999999")));
+    }
+
+    @Test
+    public void testCopy() {
+
+        BigNumber test = new ImmutableBigNumberImpl("4096");
+        BigNumber copy = test.copy();
+        assertTrue(copy instanceof PackedBigNumberImpl);
+
+        copy.shiftLeft(2);
+        assertEquals("409600", copy.toString());
+        assertEquals("4096", test.toString());
+    }
+
+    @Test
+    public void testPackedFromImmutable() {
+
+        // A PackedBigNumberImpl built from an immutable value never writes to its limbs
+        BigNumber test = new ImmutableBigNumberImpl("123");
+        BigNumber packed = new PackedBigNumberImpl(test);
+        packed.addDigit(5);
+        assertEquals("128", packed.toString());
+        assertEquals("123", test.toString());
+
+        BigNumber canonical = new ImmutableBigNumberImpl("777").intern();
+        packed = new PackedBigNumberImpl(canonical);
+        packed.setDigitAt(0, 1);
+        assertEquals("771", packed.toString());
+        assertEquals("777", canonical.toString());
+        assertSame(canonical, new BigNumberImpl("777").intern());
+    }
+
+    @Test
+    public void testDigitStream() {
+
+        BigNumber test = new ImmutableBigNumberImpl("12345678987");
+        assertArrayEquals(new int[] {7, 8, 9, 8, 7, 6, 5, 4, 3, 2, 1}, test.digits().toArray());
+        assertEquals("12345678987", test.getDigitList().getStrBigNumber());
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void testShiftLeftException() {
+
+        new ImmutableBigNumberImpl("12").shiftLeft(1);
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void testAddInPlaceException() {
+
+        new ImmutableBigNumberImpl("12").addInPlace(new BigNumberImpl("1"));
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void testSetDigitAtException() {
+
+        new ImmutableBigNumberImpl("12").setDigitAt(0, 5);
+    }
+}
@@ -0,0 +1,160 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+public class MappedBigNumberImplTest {
+
+    private static Path tempFile() throws IOException {
+
+        Path file = Files.createTempFile("bignumber", ".bin");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+
+        String digits = TestDigits.randomDigits(new Random(1), 100000);
+        BigNumber[] sources = {new BigNumberImpl(digits), new PackedBigNumberImpl(digits),
+                new OffHeapBigNumberImpl(digits)};
+
+        for (BigNumber source : sources) {
+            Path file = tempFile();
+            source.writeTo(file);
+            assertEquals(24 + 4 * ((digits.length() + 8) / 9), Files.size(file));
+
+            BigNumber mapped = BigNumber.mapFromFile(file);
+            assertEquals(digits.length(), mapped.length());
+            assertEquals(digits, mapped.toString());
+            assertEquals(0, mapped.compareTo(source));
+            assertEquals(source, mapped);
+        }
+
+        Path file = tempFile();
+        new BigNumberImpl("0").writeTo(file);
+        assertEquals("0", BigNumber.mapFromFile(file).toString());
+
+        BigNumberImpl scaled = new BigNumberImpl("12");
+        scaled.shiftLeft(20);
+        scaled.writeTo(file);
+        assertEquals("1200000000000000000000", BigNumber.mapFromFile(file).toString());
+    }
+
+    @Test
+    public void testReadDigits() throws IOException {
+
+        Path file = tempFile();
+        new PackedBigNumberImpl("98765432123456789").writeTo(file);
+        BigNumber mapped = BigNumber.mapFromFile(file);
+
+        assertEquals(9, mapped.getDigitAt(0));
+        assertEquals(1, mapped.getDigitAt(8));
+        assertEquals(2, mapped.getDigitAt(9));
+        assertEquals(9, mapped.getDigitAt(16));
+        assertEquals("98765432123456789", mapped.getDigitList().getStrBigNumber());
+        assertEquals(1, mapped.compareTo(new BigNumberImpl("98765432123456788")));
+        assertEquals(-1, mapped.compareTo(new BigNumberImpl("100000000000000000")));
+    }
+
+    @Test
+    public void testDigitStream() throws IOException {
+
+        Path file = tempFile();
+        new PackedBigNumberImpl("5".repeat(30000)).writeTo(file);
+        assertEquals(150000, BigNumber.mapFromFile(file).digits().parallel().sum());
+    }
+
+    @Test
+    public void testArithmetic() throws IOException {
+
+        Path file = tempFile();
+        new BigNumberImpl("999999999999").writeTo(file);
+        BigNumber mapped = BigNumber.mapFromFile(file);
+
+        assertEquals("1000000000000", mapped.add(new BigNumberImpl("1")).toString());
+        assertEquals("1999999999998", mapped.multiply(new BigNumberImpl("2")).toString());
+        assertEquals("333333333333", mapped.divide(new BigNumberImpl("3")).toString());
+
+        BigNumber copy = mapped.copy();
+        copy.addDigit(1);
+        assertEquals("1000000000000", copy.toString());
+        assertEquals("999999999999", mapped.toString());
+
+        Path other = tempFile();
+        mapped.writeTo(other);
+        assertEquals(mapped, BigNumber.mapFromFile(other));
+    }
+
+    @Test
+    public void testVerifyChecksum() throws IOException {
+
+        Path file = tempFile();
+        new PackedBigNumberImpl("123456789123456789").writeTo(file);
+        assertTrue(MappedBigNumberImpl.map(file, true).verifyChecksum());
+
+        // Swap two digits without changing the header
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer limb = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            limb.putInt(213456789).flip();
+            channel.write(limb, 24);
+        }
+
+        MappedBigNumberImpl corrupt = MappedBigNumberImpl.map(file, false);
+        assertFalse(corrupt.verifyChecksum());
+
+        try {
+            MappedBigNumberImpl.map(file, true);
+            fail("A corrupt file must not be mapped when verified.");
+        }
+        catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("checksum"));
+        }
+    }
+
+    @Test (expected = IOException.class)
+    public void testNotBigNumberFile() throws IOException {
+
+        Path file = tempFile();
+        Files.writeString(file, "123456789123456789123456789");
+        BigNumber.mapFromFile(file);
+    }
+
+    @Test (expected = IOException.class)
+    public void testTruncatedFile() throws IOException {
+
+        Path file = tempFile();
+        new PackedBigNumberImpl("123456789123456789").writeTo(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 4);
+        }
+        BigNumber.mapFromFile(file);
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void testReadOnly() throws IOException {
+
+        Path file = tempFile();
+        new PackedBigNumberImpl("42").writeTo(file);
+        BigNumber.mapFromFile(file).shiftLeft(1);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testGetDigitAtException() throws IOException {
+
+        Path file = tempFile();
+        new PackedBigNumberImpl("42").writeTo(file);
+        BigNumber.mapFromFile(file).getDigitAt(2);
+    }
+}
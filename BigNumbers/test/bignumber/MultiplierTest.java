@@ -0,0 +1,162 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+
+public class MultiplierTest {
+
+    private static void assertProduct(String a, String b, int karatsubaLimbs, int toomCookLimbs) {
+
+        int[] product = Multiplier.multiply(Limbs.fromString(a), Limbs.fromString(b),
+                karatsubaLimbs, toomCookLimbs);
+        String expected = new BigInteger(a).multiply(new BigInteger(b)).toString();
+
+        assertEquals(expected, Limbs.toDecimalString(product, product.length));
+    }
+
+    @Test
+    public void testSchoolbook() {
+
+        Random random = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            assertProduct(TestDigits.randomDigits(random, 1 + random.nextInt(200)),
+                    TestDigits.randomDigits(random, 1 + random.nextInt(200)),
+                    Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void testKaratsuba() {
+
+        Random random = new Random(2);
+        for (int i = 0; i < 20; i++) {
+            assertProduct(TestDigits.randomDigits(random, 100 + random.nextInt(400)),
+                    TestDigits.randomDigits(random, 100 + random.nextInt(400)),
+                    2, Integer.MAX_VALUE);
+        }
+
+        assertProduct("999999999999999999999999999999999999", "999999999999999999999999999999999999",
+                2, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testToomCook3() {
+
+        Random random = new Random(3);
+        for (int i = 0; i < 20; i++) {
+            assertProduct(TestDigits.randomDigits(random, 100 + random.nextInt(900)),
+                    TestDigits.randomDigits(random, 100 + random.nextInt(900)),
+                    4, 3);
+        }
+
+        assertProduct("999999999999999999999999999999999999999999999999999999",
+                "999999999999999999999999999999999999999999999999999999", 2, 3);
+    }
+
+    @Test
+    public void testSquare() {
+
+        Random random = new Random(6);
+        for (int i = 0; i < 30; i++) {
+            String a = TestDigits.randomDigits(random, 1 + random.nextInt(1500));
+            int[] limbs = Limbs.fromString(a);
+            String expected = new BigInteger(a).pow(2).toString();
+
+            int[] schoolbook = Multiplier.square(limbs, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            int[] karatsuba = Multiplier.square(limbs, 2, Integer.MAX_VALUE);
+            int[] toomCook = Multiplier.square(limbs, 4, 6);
+            assertEquals(expected, Limbs.toDecimalString(schoolbook, schoolbook.length));
+            assertEquals(expected, Limbs.toDecimalString(karatsuba, karatsuba.length));
+            assertEquals(expected, Limbs.toDecimalString(toomCook, toomCook.length));
+        }
+
+        int[] nines = Limbs.fromString("999999999999999999999999999999999999999999999");
+        int[] square = Multiplier.square(nines, 2, Integer.MAX_VALUE);
+        assertEquals(new BigInteger("999999999999999999999999999999999999999999999").pow(2).toString(),
+                Limbs.toDecimalString(square, square.length));
+        assertEquals("0", Limbs.toDecimalString(Multiplier.square(new int[] {0}), 1));
+    }
+
+    @Test
+    public void testUnbalanced() {
+
+        Random random = new Random(4);
+        assertProduct(TestDigits.randomDigits(random, 3000), TestDigits.randomDigits(random, 200), 2, 3);
+        assertProduct(TestDigits.randomDigits(random, 50), TestDigits.randomDigits(random, 2000), 4, 8);
+    }
+
+    @Test
+    public void testNtt() {
+
+        Random random = new Random(7);
+        for (int i = 0; i < 10; i++) {
+            String a = TestDigits.randomDigits(random, 1 + random.nextInt(3000));
+            String b = TestDigits.randomDigits(random, 1 + random.nextInt(3000));
+            int[] product = NttMultiplier.multiply(Limbs.fromString(a), Limbs.fromString(b), null);
+            assertEquals(new BigInteger(a).multiply(new BigInteger(b)).toString(),
+                    Limbs.toDecimalString(product, product.length));
+        }
+
+        int[] nines = Limbs.fromString("999999999999999999999999999999999999");
+        int[] square = NttMultiplier.multiply(nines, nines, null);
+        assertEquals("999999999999999999999999999999999998000000000000000000000000000000000001",
+                Limbs.toDecimalString(square, square.length));
+    }
+
+    @Test
+    public void testNttParallel() {
+
+        Multiplier.setNttThreshold(1000);
+        Multiplier.setParallelPool(ForkJoinPool.commonPool());
+
+        Random random = new Random(8);
+        String a = TestDigits.randomDigits(random, 200000);
+        String b = TestDigits.randomDigits(random, 150000);
+        BigNumber product = new PackedBigNumberImpl(a).multiply(new PackedBigNumberImpl(b));
+        assertEquals(new BigInteger(a).multiply(new BigInteger(b)).toString(), product.toString());
+
+        Multiplier.setParallelPool(null);
+        Multiplier.resetThresholds();
+        assertNull(Multiplier.getParallelPool());
+        assertEquals(Multiplier.DEFAULT_NTT_THRESHOLD, Multiplier.getNttThreshold());
+    }
+
+    @Test
+    public void testThresholds() {
+
+        Multiplier.setKaratsubaThreshold(90);
+        Multiplier.setToomCookThreshold(270);
+        assertEquals(90, Multiplier.getKaratsubaThreshold());
+        assertEquals(270, Multiplier.getToomCookThreshold());
+
+        BigNumber test1 = new PackedBigNumberImpl(TestDigits.randomDigits(new Random(5), 2000));
+        BigNumber test2 = new BigNumberImpl(TestDigits.randomDigits(new Random(6), 1500));
+        String expected = new BigInteger(test1.toString())
+                .multiply(new BigInteger(test2.toString())).toString();
+        assertEquals(expected, test1.multiply(test2).toString());
+
+        Multiplier.resetThresholds();
+        assertEquals(Multiplier.DEFAULT_KARATSUBA_THRESHOLD, Multiplier.getKaratsubaThreshold());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testThresholdException() {
+
+        Multiplier.setKaratsubaThreshold(1);
+    }
+
+    @Test
+    public void testCalibrate() {
+
+        Multiplier.calibrate();
+        assertTrue(Multiplier.getKaratsubaThreshold() >= 2 * Limbs.BASE_DIGITS);
+        assertTrue(Multiplier.getToomCookThreshold() >= 3 * Limbs.BASE_DIGITS);
+        Multiplier.resetThresholds();
+    }
+}
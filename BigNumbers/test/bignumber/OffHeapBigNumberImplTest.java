@@ -0,0 +1,155 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+
+public class OffHeapBigNumberImplTest {
+
+    @Test
+    public void testConstructor() {
+
+        try (OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("000987654321987654321")) {
+            assertEquals("987654321987654321", test1.toString());
+            assertEquals(18, test1.length());
+        }
+
+        try (OffHeapBigNumberImpl test2 = new OffHeapBigNumberImpl()) {
+            assertEquals("0", test2.toString());
+            assertEquals(1, test2.length());
+        }
+
+        try (OffHeapBigNumberImpl test3 = new OffHeapBigNumberImpl(new BigNumberImpl("4321"))) {
+            assertEquals("4321", test3.toString());
+        }
+    }
+
+    @Test
+    public void testDigitStream() {
+
+        try (OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("12345678987")) {
+            assertArrayEquals(new int[] {7, 8, 9, 8, 7, 6, 5, 4, 3, 2, 1}, test1.digits().toArray());
+        }
+    }
+
+    @Test
+    public void testShift() {
+
+        OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("123456789");
+        test1.shiftLeft(12);
+        assertEquals("123456789000000000000", test1.toString());
+
+        test1.shiftRight(15);
+        assertEquals("123456", test1.toString());
+
+        test1.shiftLeft(-2);
+        assertEquals("1234", test1.toString());
+
+        test1.shiftRight(10);
+        assertEquals("0", test1.toString());
+        test1.close();
+    }
+
+    @Test
+    public void testHashCode() {
+
+        try (OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("123456789")) {
+            assertEquals("123456789".hashCode(), test1.hashCode());
+            test1.shiftLeft(12);
+            assertEquals("123456789000000000000".hashCode(), test1.hashCode());
+            test1.shiftRight(15);
+            assertEquals("123456".hashCode(), test1.hashCode());
+            assertEquals(new PackedBigNumberImpl("123456"), test1);
+            assertEquals(new PackedBigNumberImpl("123456").hashCode(), test1.hashCode());
+        }
+    }
+
+    @Test
+    public void testDigits() {
+
+        OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("999999999");
+        test1.addDigit(1);
+        assertEquals("1000000000", test1.toString());
+
+        test1.setDigitAt(3, 7);
+        assertEquals(7, test1.getDigitAt(3));
+        assertEquals("1000007000", test1.toString());
+
+        test1.setDigitAt(9, 0);
+        assertEquals("7000", test1.toString());
+
+        MyList digits = test1.getDigitList();
+        assertEquals(4, digits.size());
+        assertEquals(7, digits.get(3));
+
+        test1.setDigitList(new BigNumberImpl("5150").getDigitList());
+        assertEquals("5150", test1.toString());
+        test1.close();
+    }
+
+    @Test
+    public void testInteroperability() {
+
+        OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("99999999999999999999");
+        BigNumber test2 = new BigNumberImpl("1");
+        BigNumber test3 = new PackedBigNumberImpl("99999999999999999999");
+
+        BigNumber sum = test1.add(test2);
+        assertEquals("100000000000000000000", sum.toString());
+        assertTrue(sum instanceof OffHeapBigNumberImpl);
+        assertEquals("100000000000000000000", test2.add(test1).toString());
+
+        assertEquals(test1, test3);
+        assertEquals(test3, test1);
+        assertEquals(0, new BigNumberImpl("99999999999999999999").compareTo(test1));
+        assertEquals(-1, test1.compareTo(sum));
+        assertEquals(1, test1.compareTo(test2));
+
+        test1.addInPlace(test1);
+        assertEquals("199999999999999999998", test1.toString());
+
+        BigNumber product = test1.multiply(new BigNumberImpl("3"));
+        assertEquals(new BigInteger("199999999999999999998").multiply(BigInteger.valueOf(3)).toString(),
+                product.toString());
+
+        test1.close();
+        ((OffHeapBigNumberImpl) sum).close();
+        ((OffHeapBigNumberImpl) product).close();
+    }
+
+    @Test
+    public void testCopy() {
+
+        OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("123456789123");
+        BigNumber test2 = test1.copy();
+        test1.addDigit(7);
+
+        assertEquals("123456789130", test1.toString());
+        assertEquals("123456789123", test2.toString());
+
+        test1.close();
+        assertTrue(test1.isClosed());
+        assertEquals("123456789123", test2.toString());
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testClosedException() {
+
+        OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("42");
+        test1.close();
+        test1.close();
+        test1.length();
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testEqualsException() {
+
+        try (OffHeapBigNumberImpl test1 = new OffHeapBigNumberImpl("42")) {
+            test1.equals("42");
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package bignumber;
+import bignumber.linkedlist.*;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+
+public class PackedBigNumberImplTest {
+
+    @Test
+    public void testConstructor() {
+
+        BigNumber test1 = new PackedBigNumberImpl();
+        assertEquals("0", test1.toString());
+
+        String numString2 = "81726100";
+        BigNumber test2 = new PackedBigNumberImpl(numString2);
+        assertEquals(numString2, test2.toString());
+
+        String numString3 = "000098342720857200050003";
+        BigNumber test3 = new PackedBigNumberImpl(numString3);
+        assertEquals("98342720857200050003", test3.toString());
+
+        String numString4 = "";
+        BigNumber test4 = new PackedBigNumberImpl(numString4);
+        assertEquals("0", test4.toString());
+
+        BigNumber test5 = new PackedBigNumberImpl(new BigNumberImpl("1000000000000000000"));
+        assertEquals("1000000000000000000", test5.toString());
+    }
+
+    @Test (expected = NumberFormatException.class)
+    public void testConstructorException() {
+
+        BigNumber test = new PackedBigNumberImpl("1000a149");
+    }
+
+    @Test
+    public void testLength() {
+
+        BigNumber test1 = new PackedBigNumberImpl();
+        assertEquals(1, test1.length());
+
+        BigNumber test2 = new PackedBigNumberImpl("2110000");
+        assertEquals(7, test2.length());
+
+        BigNumber test3 = new PackedBigNumberImpl("81641746001172846197");
+        assertEquals(20, test3.length());
+
+        BigNumber test4 = new PackedBigNumberImpl("100000000");
+        assertEquals(9, test4.length());
+    }
+
+    @Test
+    public void testShiftLeft() {
+
+        BigNumber test1 = new PackedBigNumberImpl();
+        BigNumber test2 = new PackedBigNumberImpl();
+        test1.shiftLeft(5);
+        assertEquals(test2, test1);
+
+        test1 = new PackedBigNumberImpl("5");
+        test2 = new PackedBigNumberImpl("5000");
+        test1.shiftLeft(3);
+        assertEquals(test2, test1);
+
+        test2 = new PackedBigNumberImpl("50");
+        test1.shiftLeft(-2);
+        assertEquals(test2, test1);
+
+        test1 = new PackedBigNumberImpl("123456789123");
+        test1.shiftLeft(20);
+        assertEquals("12345678912300000000000000000000", test1.toString());
+    }
+
+    @Test
+    public void testShiftRight() {
+
+        BigNumber test1 = new PackedBigNumberImpl();
+        BigNumber test2 = new PackedBigNumberImpl();
+        test1.shiftRight(5);
+        assertEquals(test2, test1);
+
+        test1 = new PackedBigNumberImpl("147888");
+        test2 = new PackedBigNumberImpl("147");
+        test1.shiftRight(3);
+        assertEquals(test2, test1);
+
+        test2 = new PackedBigNumberImpl("14700000");
+        test1.shiftRight(-5);
+        assertEquals(test2, test1);
+
+        test2 = new PackedBigNumberImpl();
+        test1.shiftRight(1000);
+        assertEquals(test2, test1);
+
+        test1 = new PackedBigNumberImpl("12345678912300000000000000000000");
+        test1.shiftRight(22);
+        assertEquals("1234567891", test1.toString());
+    }
+
+    @Test
+    public void testAddDigit() {
+
+        BigNumber test = new PackedBigNumberImpl("1999");
+        test.addDigit(1);
+        assertEquals("2000", test.toString());
+
+        test = new PackedBigNumberImpl("999999999999999999");
+        test.addDigit(9);
+        assertEquals("1000000000000000008", test.toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testAddDigitException() {
+
+        BigNumber test = new PackedBigNumberImpl("1999");
+        test.addDigit(12);
+    }
+
+    @Test
+    public void testGetDigitAt() {
+
+        BigNumber test = new PackedBigNumberImpl("9876543210123");
+        assertEquals(3, test.getDigitAt(0));
+        assertEquals(0, test.getDigitAt(3));
+        assertEquals(9, test.getDigitAt(12));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testGetDigitAtException() {
+
+        BigNumber test = new PackedBigNumberImpl("2110000");
+        test.getDigitAt(7);
+    }
+
+    @Test
+    public void testSetDigitAt() {
+
+        BigNumber test = new PackedBigNumberImpl("1999");
+        test.setDigitAt(1, 1);
+        assertEquals("1919", test.toString());
+
+        test = new PackedBigNumberImpl("1000000000");
+        test.setDigitAt(9, 0);
+        assertEquals("0", test.toString());
+    }
+
+    @Test
+    public void testCopy() {
+
+        BigNumber test1 = new PackedBigNumberImpl("123456789123456789");
+        BigNumber test2 = test1.copy();
+        assertEquals(test1, test2);
+
+        test2.addDigit(1);
+        assertNotEquals(test1, test2);
+    }
+
+    @Test
+    public void testAdd() {
+
+        BigNumber test1 = new PackedBigNumberImpl("99999");
+        BigNumber test2 = new PackedBigNumberImpl("1");
+        BigNumber test3 = test1.add(test2);
+
+        assertEquals("100000", test3.toString());
+
+        test1 = new PackedBigNumberImpl("7502759287502846283");
+        test2 = new PackedBigNumberImpl("2871907985729758402");
+        test3 = test1.add(test2);
+
+        assertEquals("10374667273232604685", test3.toString());
+
+        test1 = new PackedBigNumberImpl("999999999999999999");
+        test2 = new BigNumberImpl("1");
+        test3 = test1.add(test2);
+
+        assertEquals("1000000000000000000", test3.toString());
+    }
+
+    @Test
+    public void testInteroperability() {
+
+        BigNumber packed = new PackedBigNumberImpl("1740170310999");
+        BigNumber linked = new BigNumberImpl("1740170310999");
+
+        assertEquals(packed, linked);
+        assertEquals(linked, packed);
+        assertEquals(0, packed.compareTo(linked));
+        assertEquals(0, linked.compareTo(packed));
+
+        assertEquals("3480340621998", linked.add(packed).toString());
+        assertEquals("3480340621998", packed.add(linked).toString());
+
+        linked = new BigNumberImpl("1740170311000");
+        assertEquals(-1, packed.compareTo(linked));
+        assertEquals(1, linked.compareTo(packed));
+    }
+
+    @Test
+    public void testMultiply() {
+
+        BigNumber test1 = new PackedBigNumberImpl("99999");
+        BigNumber test2 = new PackedBigNumberImpl("99999");
+        BigNumber test3 = test1.multiply(test2);
+
+        assertEquals("9999800001", test3.toString());
+
+        test1 = new PackedBigNumberImpl("7502759287502846283");
+        test2 = new PackedBigNumberImpl("2871907985729758402");
+        test3 = test1.multiply(test2);
+
+        assertEquals("21547234312787536578614005428933719766", test3.toString());
+
+        test1 = new PackedBigNumberImpl("0");
+        test2 = new PackedBigNumberImpl("1740170310999");
+        test3 = test1.multiply(test2);
+
+        assertEquals("0", test3.toString());
+        assertTrue(test3 instanceof PackedBigNumberImpl);
+    }
+
+    @Test
+    public void testParse() throws IOException {
+
+        assertEquals("1234567890123", PackedBigNumberImpl.parse("0001234567890123").toString());
+        assertEquals("0", PackedBigNumberImpl.parse("0000").toString());
+        assertEquals("0", PackedBigNumberImpl.parse("").toString());
+        assertEquals(13, PackedBigNumberImpl.parse(new StringBuilder("1234567890123")).length());
+
+        byte[] ascii = "x00987654321y".getBytes(StandardCharsets.US_ASCII);
+        assertEquals("987654321", PackedBigNumberImpl.parse(ascii, 1, 11).toString());
+        assertEquals("42", PackedBigNumberImpl.parse("42".getBytes(StandardCharsets.US_ASCII)).toString());
+
+        String longDigits = "0".repeat(5000) + "9".repeat(20000);
+        BigNumber test1 = PackedBigNumberImpl.parse(new StringReader(longDigits));
+        assertEquals(20000, test1.length());
+        assertEquals("9".repeat(20000), test1.toString());
+    }
+
+    @Test (expected = NumberFormatException.class)
+    public void testParseException() {
+
+        PackedBigNumberImpl.parse("12a4".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test (expected = NumberFormatException.class)
+    public void testParseLeadingZeroException() {
+
+        PackedBigNumberImpl.parse("00-0");
+    }
+
+    @Test
+    public void testDigitStream() {
+
+        BigNumber test1 = new PackedBigNumberImpl("9081726354123");
+        assertArrayEquals(new int[] {3, 2, 1, 4, 5, 3, 6, 2, 7, 1, 8, 0, 9}, test1.digits().toArray());
+        assertEquals(1, new PackedBigNumberImpl().digits().count());
+
+        // Every digit read alone and in bulk, across splits
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < 100003; i++) {
+            digits.append((char) ('1' + i % 9));
+        }
+        BigNumber test2 = new PackedBigNumberImpl(digits.toString());
+        int[] histogram = new int[10];
+        test2.digits().forEach(d -> histogram[d]++);
+
+        assertEquals(100003, test2.digits().parallel().count());
+        assertEquals(test2.digits().sum(), test2.digits().parallel().sum());
+        assertEquals(histogram[5], test2.digits().parallel().filter(d -> d == 5).count());
+        assertArrayEquals(digits.reverse().chars().map(c -> c - '0').toArray(),
+                test2.digits().parallel().toArray());
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+
+        BigNumber test1 = new PackedBigNumberImpl("000123456789012345678901");
+        StringBuilder builder = new StringBuilder("x");
+        test1.writeTo(builder);
+        assertEquals("x123456789012345678901", builder.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        test1.writeTo(bytes);
+        assertEquals("123456789012345678901", bytes.toString(StandardCharsets.US_ASCII));
+
+        String longDigits = "1" + "0".repeat(9000) + "7";
+        test1 = new PackedBigNumberImpl(longDigits);
+        StringWriter writer = new StringWriter();
+        test1.writeTo(writer);
+        assertEquals(longDigits, writer.toString());
+        assertEquals(longDigits, test1.toString());
+        assertEquals("0", new PackedBigNumberImpl().toString());
+    }
+
+    @Test
+    public void testAddInPlace() {
+
+        BigNumber test1 = new PackedBigNumberImpl("99999");
+        test1.addInPlace(new PackedBigNumberImpl("1"));
+        assertEquals("100000", test1.toString());
+
+        test1.addInPlace(new BigNumberImpl("1740170310999"));
+        assertEquals("1740170410999", test1.toString());
+
+        test1.addInPlace(new PackedBigNumberImpl("0"));
+        assertEquals("1740170410999", test1.toString());
+
+        test1.addInPlace(test1);
+        assertEquals("3480340821998", test1.toString());
+
+        BigNumber test2 = new BigNumberImpl("25");
+        test2.shiftLeft(20);
+        test1.addInPlace(test2);
+        assertEquals("2500000003480340821998", test1.toString());
+
+        test2 = new PackedBigNumberImpl("7");
+        test2.shiftLeft(6);
+        test1 = new PackedBigNumberImpl("3");
+        test1.shiftLeft(9);
+        test1.addInPlace(test2);
+        assertEquals("3007000000", test1.toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testAddInPlaceException() {
+
+        new PackedBigNumberImpl("1").addInPlace(null);
+    }
+
+    @Test
+    public void testDivide() {
+
+        BigNumber test1 = new PackedBigNumberImpl("9999800001");
+        BigNumber test2 = new PackedBigNumberImpl("99999");
+
+        assertEquals("99999", test1.divide(test2).toString());
+        assertEquals("0", test1.remainder(test2).toString());
+
+        test1 = new PackedBigNumberImpl("21547234312787536578614005428933719777");
+        test2 = new PackedBigNumberImpl("2871907985729758402");
+        BigNumber[] result = test1.divideAndRemainder(test2);
+
+        assertEquals("7502759287502846283", result[0].toString());
+        assertEquals("11", result[1].toString());
+        assertTrue(result[0] instanceof PackedBigNumberImpl);
+
+        test1 = new PackedBigNumberImpl("17");
+        test2 = new PackedBigNumberImpl("1740170310999");
+
+        assertEquals("0", test1.divide(test2).toString());
+        assertEquals("17", test1.remainder(test2).toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testDivideByZero() {
+
+        BigNumber test1 = new PackedBigNumberImpl("1234");
+        test1.divide(new PackedBigNumberImpl("0"));
+    }
+
+    @Test
+    public void testPow() {
+
+        BigNumber test = new PackedBigNumberImpl("2");
+        assertEquals("1267650600228229401496703205376", test.pow(100).toString());
+        assertEquals("1", test.pow(0).toString());
+        assertEquals("2", test.pow(1).toString());
+        assertEquals("2", test.toString());
+
+        BigNumber result = new PackedBigNumberImpl("12345678901234567890").pow(3);
+        assertEquals("1881676372353657772490265749424677022198701224860897069000", result.toString());
+        assertTrue(result instanceof PackedBigNumberImpl);
+    }
+
+    @Test
+    public void testModPow() {
+
+        BigNumber test = new PackedBigNumberImpl("4");
+        assertEquals("445", test.modPow(new PackedBigNumberImpl("13"), new PackedBigNumberImpl("497")).toString());
+
+        test = new PackedBigNumberImpl("987654321987654321");
+        BigNumber result = test.modPow(new PackedBigNumberImpl("123456789123"), new PackedBigNumberImpl("1000000007000000063"));
+        assertEquals("794555690660968191", result.toString());
+        assertTrue(result instanceof PackedBigNumberImpl);
+
+        assertEquals("1", new PackedBigNumberImpl("7").modPow(new PackedBigNumberImpl("0"), new PackedBigNumberImpl("13")).toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testPowException() {
+
+        new PackedBigNumberImpl("12").pow(-1);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testModPowByZero() {
+
+        new PackedBigNumberImpl("12").modPow(new PackedBigNumberImpl("3"), new PackedBigNumberImpl("0"));
+    }
+
+    @Test
+    public void testGetDigitList() {
+
+        BigNumber testBigNumber = new PackedBigNumberImpl("913");
+        MyList testList = new MyListImpl();
+        testList.insertRear(3);
+        testList.insertRear(1);
+        testList.insertRear(9);
+
+        assertEquals(testList, testBigNumber.getDigitList());
+    }
+
+    @Test
+    public void testSetDigitList() {
+
+        BigNumber testBigNumber = new PackedBigNumberImpl();
+        MyList testList = new MyListImpl();
+        testList.insertRear(3);
+        testList.insertRear(1);
+        testList.insertRear(9);
+
+        testBigNumber.setDigitList(testList);
+        assertEquals("913", testBigNumber.toString());
+    }
+
+    @Test
+    public void testCompareTo() {
+
+        BigNumber test1 = new PackedBigNumberImpl("1");
+        BigNumber test2 = new PackedBigNumberImpl("2");
+
+        assertEquals(-1, test1.compareTo(test2));
+
+        test1 = new PackedBigNumberImpl("1234567890234567");
+        test2 = new PackedBigNumberImpl("1234567890234067");
+
+        assertEquals(1, test1.compareTo(test2));
+        assertEquals(-1, test2.compareTo(test1));
+
+        test1 = new PackedBigNumberImpl("999999999999999");
+        test2 = new PackedBigNumberImpl("999999999999999");
+
+        assertEquals(0, test1.compareTo(test2));
+    }
+
+    @Test
+    public void testHashCode() {
+
+        BigNumber test = new PackedBigNumberImpl("123456789012345678901");
+        assertEquals("123456789012345678901".hashCode(), test.hashCode());
+        assertEquals(new BigNumberImpl("123456789012345678901").hashCode(), test.hashCode());
+
+        test.shiftLeft(13);
+        assertEquals(test.toString().hashCode(), test.hashCode());
+        test.shiftRight(20);
+        assertEquals(test.toString().hashCode(), test.hashCode());
+        test.addDigit(7);
+        assertEquals(test.toString().hashCode(), test.hashCode());
+        test.setDigitAt(test.length() - 1, 0);
+        assertEquals(test.toString().hashCode(), test.hashCode());
+        test.addInPlace(new PackedBigNumberImpl("99999999999"));
+        assertEquals(test.toString().hashCode(), test.hashCode());
+        test.setDigitList(new BigNumberImpl("42").getDigitList());
+        assertEquals("42".hashCode(), test.hashCode());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testEqualsException() {
+
+        BigNumber test = new PackedBigNumberImpl("1");
+        test.equals("1");
+    }
+}
@@ -0,0 +1,203 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+public class PersistentBigNumberImplTest {
+
+    private static final int SEGMENT_DIGITS = PersistentBigNumberImpl.SEGMENT_LIMBS * Limbs.BASE_DIGITS;
+
+    @Test
+    public void testConstructor() {
+
+        BigNumber test1 = new PersistentBigNumberImpl("000987654321987654321");
+        assertEquals("987654321987654321", test1.toString());
+        assertEquals(18, test1.length());
+        assertEquals(2, test1.getDigitAt(1));
+
+        BigNumber test2 = new PersistentBigNumberImpl("0");
+        assertEquals("0", test2.toString());
+        assertEquals(1, test2.length());
+
+        String digits = TestDigits.randomDigits(new Random(23), 3 * SEGMENT_DIGITS + 5);
+        PersistentBigNumberImpl test3 = new PersistentBigNumberImpl(digits);
+        assertEquals(digits, test3.toString());
+        assertEquals(4, test3.getSegmentCount());
+        assertEquals(digits.hashCode(), test3.hashCode());
+    }
+
+    @Test
+    public void testOf() {
+
+        BigNumber list = new BigNumberImpl("123456789123");
+        PersistentBigNumberImpl test = PersistentBigNumberImpl.of(list);
+        assertEquals(list, test);
+        assertSame(test, PersistentBigNumberImpl.of(test));
+
+        list.addDigit(7);
+        assertEquals("123456789123", test.toString());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testOfException() {
+
+        PersistentBigNumberImpl.of(null);
+    }
+
+    @Test
+    public void testAddSharesHighSegments() {
+
+        String digits = TestDigits.randomDigits(new Random(5), 10 * SEGMENT_DIGITS);
+        PersistentBigNumberImpl big = new PersistentBigNumberImpl(digits);
+
+        PersistentBigNumberImpl sum = (PersistentBigNumberImpl) big.add(new PackedBigNumberImpl("12345"));
+        assertEquals(new BigInteger(digits).add(BigInteger.valueOf(12345)).toString(), sum.toString());
+        assertTrue(sum.sharedSegments(big) >= 9);
+        assertEquals("the original is unchanged", digits, big.toString());
+
+        // The longer operand is shared whichever side it is on
+        PersistentBigNumberImpl small = new PersistentBigNumberImpl("98765");
+        PersistentBigNumberImpl reversed = (PersistentBigNumberImpl) small.add(big);
+        assertEquals(new BigInteger(digits).add(BigInteger.valueOf(98765)).toString(), reversed.toString());
+        assertTrue(reversed.sharedSegments(big) >= 9);
+    }
+
+    @Test
+    public void testAddCarryAcrossSegments() {
+
+        StringBuilder nines = new StringBuilder();
+        for (int i = 0; i < 2 * SEGMENT_DIGITS; i++) {
+            nines.append('9');
+        }
+
+        PersistentBigNumberImpl test = new PersistentBigNumberImpl(nines.toString());
+        BigNumber sum = test.add(new BigNumberImpl("1"));
+        assertEquals(new BigInteger(nines.toString()).add(BigInteger.ONE).toString(), sum.toString());
+        assertEquals(3, ((PersistentBigNumberImpl) sum).getSegmentCount());
+
+        BigNumber sum2 = new PersistentBigNumberImpl("999999999999").add(new PersistentBigNumberImpl("1"));
+        assertEquals("1000000000000", sum2.toString());
+    }
+
+    @Test
+    public void testAddRandom() {
+
+        Random random = new Random(11);
+        for (int trial = 0; trial < 50; trial++) {
+            String a = TestDigits.randomDigits(random, 1 + random.nextInt(3 * SEGMENT_DIGITS));
+            String b = TestDigits.randomDigits(random, 1 + random.nextInt(3 * SEGMENT_DIGITS));
+            String expected = new BigInteger(a).add(new BigInteger(b)).toString();
+
+            BigNumber persistent = new PersistentBigNumberImpl(a);
+            assertEquals(expected, persistent.add(new PersistentBigNumberImpl(b)).toString());
+            assertEquals(expected, persistent.add(new PackedBigNumberImpl(b)).toString());
+        }
+    }
+
+    @Test
+    public void testWithDigitAt() {
+
+        String digits = TestDigits.randomDigits(new Random(3), 4 * SEGMENT_DIGITS);
+        PersistentBigNumberImpl test = new PersistentBigNumberImpl(digits);
+
+        PersistentBigNumberImpl changed = test.withDigitAt(5, (test.getDigitAt(5) + 1) % 10);
+        assertEquals((test.getDigitAt(5) + 1) % 10, changed.getDigitAt(5));
+        assertEquals(3, changed.sharedSegments(test));
+        assertEquals(digits, test.toString());
+        assertSame(test, test.withDigitAt(7, test.getDigitAt(7)));
+
+        PersistentBigNumberImpl shortened = new PersistentBigNumberImpl("1000000000123").withDigitAt(12, 0);
+        assertEquals("123", shortened.toString());
+        assertEquals(3, shortened.length());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testWithDigitAtException() {
+
+        new PersistentBigNumberImpl("12").withDigitAt(2, 1);
+    }
+
+    @Test
+    public void testPlusDigit() {
+
+        PersistentBigNumberImpl test = new PersistentBigNumberImpl("999");
+        assertEquals("1006", test.plusDigit(7).toString());
+        assertSame(test, test.plusDigit(0));
+        assertEquals("999", test.toString());
+    }
+
+    @Test
+    public void testShifts() {
+
+        String digits = TestDigits.randomDigits(new Random(17), 2 * SEGMENT_DIGITS + 40);
+        PersistentBigNumberImpl test = new PersistentBigNumberImpl(digits);
+        BigInteger value = new BigInteger(digits);
+
+        PersistentBigNumberImpl left = test.shiftedLeft(SEGMENT_DIGITS);
+        assertEquals(value.multiply(BigInteger.TEN.pow(SEGMENT_DIGITS)).toString(), left.toString());
+        assertEquals(test.getSegmentCount() + 1, left.getSegmentCount());
+
+        PersistentBigNumberImpl back = left.shiftedRight(SEGMENT_DIGITS);
+        assertEquals(test, back);
+        assertEquals(test.getSegmentCount(), back.sharedSegments(test));
+
+        assertEquals(value.multiply(BigInteger.TEN.pow(7)).toString(), test.shiftedLeft(7).toString());
+        assertEquals(value.divide(BigInteger.TEN.pow(13)).toString(), test.shiftedRight(13).toString());
+        assertEquals(value.divide(BigInteger.TEN.pow(13)).toString(), test.shiftedLeft(-13).toString());
+        assertEquals("0", test.shiftedRight(digits.length()).toString());
+        assertEquals(digits, test.toString());
+    }
+
+    @Test
+    public void testCompareToSharedSegments() {
+
+        String digits = TestDigits.randomDigits(new Random(29), 3 * SEGMENT_DIGITS);
+        PersistentBigNumberImpl test = new PersistentBigNumberImpl(digits);
+        PersistentBigNumberImpl bigger = test.plusDigit(1);
+
+        assertEquals(-1, test.compareTo(bigger));
+        assertEquals(1, bigger.compareTo(test));
+        assertEquals(0, test.compareTo(new PackedBigNumberImpl(digits)));
+        assertEquals(new PackedBigNumberImpl(digits), test);
+    }
+
+    @Test
+    public void testCopy() {
+
+        BigNumber test = new PersistentBigNumberImpl("4096");
+        BigNumber copy = test.copy();
+        assertTrue(copy instanceof PackedBigNumberImpl);
+
+        copy.shiftLeft(2);
+        assertEquals("409600", copy.toString());
+        assertEquals("4096", test.toString());
+    }
+
+    @Test
+    public void testArithmetic() {
+
+        BigNumber test = new PersistentBigNumberImpl("999999999999999999");
+        BigNumber product = test.multiply(new PackedBigNumberImpl("12345"));
+        assertTrue(product instanceof PersistentBigNumberImpl);
+        assertEquals(new BigInteger("999999999999999999").multiply(BigInteger.valueOf(12345)).toString(),
+                product.toString());
+        assertArrayEquals(new int[] {6, 9, 0, 4}, new PersistentBigNumberImpl("4096").digits().toArray());
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void testShiftLeftException() {
+
+        new PersistentBigNumberImpl("12").shiftLeft(1);
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void testAddInPlaceException() {
+
+        new PersistentBigNumberImpl("12").addInPlace(new BigNumberImpl("1"));
+    }
+}
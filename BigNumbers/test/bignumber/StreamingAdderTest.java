@@ -0,0 +1,112 @@
+package bignumber;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+public class StreamingAdderTest {
+
+    private static Path write(String digits) throws IOException {
+
+        Path file = Files.createTempFile("bignumber", ".bin");
+        file.toFile().deleteOnExit();
+        new PackedBigNumberImpl(digits).writeTo(file);
+        return file;
+    }
+
+    private static void assertSum(String a, String b, int blockLimbs) throws IOException {
+
+        Path sum = Files.createTempFile("bignumber", ".bin");
+        sum.toFile().deleteOnExit();
+        StreamingAddStats stats = StreamingAdder.add(write(a), write(b), sum, blockLimbs);
+
+        String expected = new BigInteger(a).add(new BigInteger(b)).toString();
+        MappedBigNumberImpl result = MappedBigNumberImpl.map(sum, true);
+        assertEquals(expected, result.toString());
+        assertEquals(expected.length(), stats.getDigitsWritten());
+        assertEquals(a.length() + b.length(), stats.getDigitsRead());
+    }
+
+    @Test
+    public void testAdd() throws IOException {
+
+        Random random = new Random(1);
+        for (int i = 0; i < 20; i++) {
+            assertSum(TestDigits.randomDigits(random, 1 + random.nextInt(500)),
+                    TestDigits.randomDigits(random, 1 + random.nextInt(500)), 1 + random.nextInt(8));
+        }
+
+        assertSum("0", "0", 1);
+        assertSum("5", "0", 3);
+        assertSum("123", "98765432123456789", 1);
+    }
+
+    @Test
+    public void testCarryAcrossBlocks() throws IOException {
+
+        String nines = "9".repeat(90);
+        assertSum(nines, "1", 1);
+        assertSum("1", nines, 2);
+        assertSum(nines, nines, 3);
+        assertSum(nines, "1" + "0".repeat(89), 4);
+    }
+
+    @Test
+    public void testDefaultBlockSize() throws IOException {
+
+        Random random = new Random(2);
+        String a = TestDigits.randomDigits(random, 700000);
+        String b = TestDigits.randomDigits(random, 650000);
+        Path sum = Files.createTempFile("bignumber", ".bin");
+        sum.toFile().deleteOnExit();
+
+        StreamingAddStats stats = StreamingAdder.add(write(a), write(b), sum);
+        assertEquals(new BigInteger(a).add(new BigInteger(b)).toString(), BigNumber.mapFromFile(sum).toString());
+        assertTrue(stats.getDigitsPerSecond() > 0);
+        assertTrue(stats.toString().contains("digits/s"));
+    }
+
+    @Test
+    public void testChecksumMismatch() throws IOException {
+
+        Path a = write("123456789123456789");
+        try (FileChannel channel = FileChannel.open(a, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1}), 24);
+        }
+
+        Path sum = Files.createTempFile("bignumber", ".bin");
+        sum.toFile().deleteOnExit();
+        try {
+            StreamingAdder.add(a, write("1"), sum);
+            fail("A corrupt addend must be reported.");
+        }
+        catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("checksum"));
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testSumOverAddend() throws IOException {
+
+        Path a = write("42");
+        StreamingAdder.add(a, write("1"), a);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testBlockSizeException() throws IOException {
+
+        Path sum = Files.createTempFile("bignumber", ".bin");
+        sum.toFile().deleteOnExit();
+        StreamingAdder.add(write("1"), write("1"), sum, 0);
+    }
+}
@@ -0,0 +1,34 @@
+package bignumber;
+
+import java.util.Random;
+
+/* ******************************************************************************
+ * Class     TestDigits
+ * Purpose   The TestDigits class builds the random operands shared by the tests
+ *               and the benchmarks of the package. The class is package-private
+ *               and cannot be instantiated.
+ * ***************************************************************************** */
+final class TestDigits {
+
+    private TestDigits() {
+    }
+
+    /* -----------------------------------------------------------------------------
+     * Method    randomDigits
+     * Purpose   Returns a String of random decimal digits without a leading zero.
+     *               The same seed always gives the same digits.
+     * @param    'random'    --    (Random)  the source of the digits
+     * @param    'length'    --    (int)     the number of digits
+     * @returns  (String) the digits
+     * ----------------------------------------------------------------------------*/
+    static String randomDigits(Random random, int length) {
+
+        StringBuilder digits = new StringBuilder(length);
+        digits.append((char) ('1' + random.nextInt(9)));
+        for (int i = 1; i < length; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        return digits.toString();
+    }
+
+} /* ****************************************************************************** */
@@ -2,6 +2,10 @@ package bignumber.linkedlist;
 
 import org.junit.Test;
 
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
 import static org.junit.Assert.*;
 
 public class MyListImplTest {
@@ -190,6 +194,113 @@ public class MyListImplTest {
         assertNotEquals(testList1, testList2);
     }
 
+    @Test
+    public void testHashCode() {
+
+        MyList testList1 = new MyListImpl();
+        MyList testList2 = new MyListImpl();
+        assertEquals(testList1.hashCode(), testList2.hashCode());
+
+        testList1.insertRear(3);
+        testList1.insertRear(1);
+        testList2.insertFront(1);
+        testList2.insertFront(3);
+        assertEquals(testList1, testList2);
+        assertEquals(testList1.hashCode(), testList2.hashCode());
+        assertEquals(31 * (31 + 3) + 1, testList1.hashCode());
+
+        testList2.set(1, 4);
+        assertNotEquals(testList1.hashCode(), testList2.hashCode());
+    }
+
+    @Test
+    public void testCursorAtHead() {
+
+        testList = new MyListImpl();
+        testList.insertRear(2);
+        testList.insertRear(4);
+        testList.insertRear(3);
+
+        MyListCursor cursor = testList.cursorAtHead();
+        assertFalse(cursor.hasPrevious());
+        assertEquals(2, cursor.next());
+        assertEquals(4, cursor.next());
+        cursor.set(40);
+        assertEquals(3, cursor.next());
+        assertFalse(cursor.hasNext());
+
+        assertEquals(3, cursor.previous());
+        assertEquals(40, cursor.previous());
+        assertEquals(40, testList.get(1));
+    }
+
+    @Test
+    public void testCursorAtTail() {
+
+        testList = new MyListImpl();
+        testList.insertFront(2);
+        testList.insertFront(4);
+        testList.insertFront(3);
+        testList.remove(2);                   // {3, 4}
+        testList.insertRear(7);                // {3, 4, 7}
+
+        MyListCursor cursor = testList.cursorAtTail();
+        assertFalse(cursor.hasNext());
+        assertEquals(7, cursor.previous());
+        assertEquals(4, cursor.previous());
+        assertEquals(3, cursor.previous());
+        assertFalse(cursor.hasPrevious());
+
+        testList = new MyListImpl();
+        assertFalse(testList.cursorAtTail().hasPrevious());
+        assertFalse(testList.cursorAtHead().hasNext());
+    }
+
+    @Test (expected = NoSuchElementException.class)
+    public void testCursorException() {
+
+        testList = new MyListImpl();
+        testList.insertRear(5);
+
+        MyListCursor cursor = testList.cursorAtHead();
+        cursor.next();
+        cursor.next();
+    }
+
+    @Test
+    public void testIterator() {
+
+        testList = new MyListImpl();
+        testList.insertRear(2);
+        testList.insertRear(4);
+        testList.insertRear(3);
+
+        PrimitiveIterator.OfInt iterator = testList.iterator();
+        assertEquals(2, iterator.nextInt());
+        assertEquals(4, iterator.nextInt());
+        assertEquals(3, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testDigitStream() {
+
+        testList = new MyListImpl();
+        for (int i = 0; i < 100000; i++) {
+            testList.insertRear(i % 10);
+        }
+
+        Spliterator.OfInt spliterator = testList.spliterator();
+        assertEquals(100000, spliterator.getExactSizeIfKnown());
+        assertNotNull(spliterator.trySplit());
+
+        assertEquals(450000, testList.digits().sum());
+        assertEquals(450000, testList.digits().parallel().sum());
+        assertEquals(10000, testList.digits().parallel().filter(d -> d == 7).count());
+        assertArrayEquals(new int[] {0, 1, 2}, testList.digits().limit(3).toArray());
+        assertEquals(0, new MyListImpl().digits().count());
+    }
+
     @Test
     public void testToStringBigNumber() {
 
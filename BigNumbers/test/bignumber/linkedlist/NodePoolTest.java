@@ -0,0 +1,130 @@
+package bignumber.linkedlist;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NodePoolTest {
+
+    private static MyListImpl listOf(int size) {
+
+        MyListImpl list = new MyListImpl();
+        for (int i = 0; i < size; i++) {
+            list.insertRear(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void testDisabled() {
+
+        NodePool.setEnabled(false);
+        NodePool pool = NodePool.current();
+        pool.clear();
+
+        MyListImpl list = listOf(10);
+        list.remove(3);
+        list.clear();
+
+        assertEquals(0, pool.getHits());
+        assertEquals(0, pool.getMisses());
+        assertEquals(0, pool.getPooledCount());
+    }
+
+    @Test
+    public void testReuse() {
+
+        NodePool.setEnabled(true);
+        NodePool pool = NodePool.current();
+        pool.clear();
+
+        try {
+            MyListImpl list = listOf(10);
+            assertEquals(10, pool.getMisses());
+
+            list.remove(0);
+            list.remove(8);
+            list.remove(4);
+            assertEquals(3, pool.getPooledCount());
+            assertEquals("1 -> 2 -> 3 -> 4 -> 6 -> 7 -> 8", list.toString());
+
+            list.clear();
+            assertEquals(0, list.size());
+            assertEquals(10, pool.getPooledCount());
+
+            MyListImpl other = new MyListImpl();
+            other.insertRear(1);
+            other.insertFront(0);
+            other.insertRear(2);
+            assertEquals("0 -> 1 -> 2", other.toString());
+            assertEquals("210", other.getStrBigNumber());
+            assertEquals(3, pool.getHits());
+            assertEquals(7, pool.getPooledCount());
+
+            MyListCursor cursor = other.cursorAtTail();
+            assertEquals(2, cursor.previous());
+            assertEquals(1, cursor.previous());
+            assertEquals(0, cursor.previous());
+            assertFalse(cursor.hasPrevious());
+        }
+        finally {
+            NodePool.setEnabled(false);
+            pool.clear();
+        }
+    }
+
+    @Test
+    public void testCapacity() {
+
+        NodePool.setEnabled(true);
+        NodePool.setCapacity(5);
+        NodePool pool = NodePool.current();
+        pool.clear();
+
+        try {
+            listOf(20).clear();
+            assertEquals(5, pool.getPooledCount());
+            assertEquals(20, pool.getMisses());
+
+            listOf(8);
+            assertEquals(5, pool.getHits());
+            assertEquals(23, pool.getMisses());
+            assertEquals(0, pool.getPooledCount());
+        }
+        finally {
+            NodePool.setEnabled(false);
+            NodePool.setCapacity(NodePool.DEFAULT_CAPACITY);
+            pool.clear();
+        }
+    }
+
+    @Test
+    public void testPerThread() throws InterruptedException {
+
+        NodePool.setEnabled(true);
+        NodePool pool = NodePool.current();
+        pool.clear();
+
+        try {
+            listOf(4).clear();
+
+            long[] otherPooled = new long[1];
+            Thread other = new Thread(() -> otherPooled[0] = NodePool.current().getPooledCount());
+            other.start();
+            other.join();
+
+            assertEquals(0, otherPooled[0]);
+            assertEquals(4, pool.getPooledCount());
+        }
+        finally {
+            NodePool.setEnabled(false);
+            pool.clear();
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testCapacityException() {
+
+        NodePool.setCapacity(-1);
+    }
+}
@@ -0,0 +1,271 @@
+package bignumber.linkedlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SkipListImplTest {
+
+    MyList testList;
+
+    private static void assertSameValues(List<Integer> expected, MyList actual) {
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((int) expected.get(i), actual.get(i));
+        }
+
+        MyListCursor cursor = actual.cursorAtTail();
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertEquals((int) expected.get(i), cursor.previous());
+        }
+        assertFalse(cursor.hasPrevious());
+    }
+
+    @Test
+    public void testInsertRear() {
+
+        testList = new SkipListImpl();
+        testList.insertRear(4);
+        testList.insertRear(-5);
+        testList.insertRear(100);
+
+        assertEquals(4, testList.get(0));
+        assertEquals(-5, testList.get(1));
+        assertEquals(100, testList.get(2));
+    }
+
+    @Test
+    public void testInsertFront() {
+
+        testList = new SkipListImpl();
+        for (int i = 0; i < 200; i++) {
+            testList.insertFront(i % 10);
+        }
+
+        assertEquals(200, testList.size());
+        assertEquals(9, testList.get(0));
+        assertEquals(0, testList.get(199));
+        assertEquals(6, testList.get(63));
+        assertEquals(5, testList.get(64));
+    }
+
+    @Test
+    public void testSet() {
+
+        testList = new SkipListImpl();
+        for (int i = 0; i < 150; i++) {
+            testList.insertRear(0);
+        }
+
+        testList.set(0, 1);
+        testList.set(64, 2);
+        testList.set(149, 3);
+
+        assertEquals(1, testList.get(0));
+        assertEquals(2, testList.get(64));
+        assertEquals(3, testList.get(149));
+        assertEquals(0, testList.get(65));
+    }
+
+    @Test
+    public void testLargeValues() {
+
+        testList = new SkipListImpl();
+        testList.insertRear(128);
+        testList.insertFront(-100000);
+
+        assertEquals(-100000, testList.get(0));
+        assertEquals(128, testList.get(1));
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void testGetException() {
+
+        testList = new SkipListImpl();
+        testList.insertRear(4);
+        testList.get(1);
+    }
+
+    @Test
+    public void testRemove() {
+
+        testList = new SkipListImpl();          // {}
+        testList.insertRear(5);                // {5}
+        testList.remove(0);                   // {}
+        testList.insertRear(2);                // {2}
+        testList.insertRear(4);                // {2, 4}
+        testList.insertRear(3);                // {2, 4, 3}
+        testList.remove(2);                   // {2, 4}
+        testList.insertRear(6);                // {2, 4, 6}
+        testList.remove(1);                   // {2, 6}
+
+        assertEquals(2, testList.size());
+        assertEquals(2, testList.get(0));
+        assertEquals(6, testList.get(1));
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void testRemoveFromEmptyList() {
+
+        testList = new SkipListImpl();
+        testList.remove(0);
+    }
+
+    @Test
+    public void testRandomOperations() {
+
+        Random random = new Random(1);
+        List<Integer> expected = new ArrayList<>();
+        testList = new SkipListImpl();
+
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(1000);
+            int operation = random.nextInt(6);
+
+            if (operation == 0) {
+                expected.add(0, value);
+                testList.insertFront(value);
+            }
+            else if (operation == 1 || expected.isEmpty()) {
+                expected.add(value);
+                testList.insertRear(value);
+            }
+            else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, value);
+                testList.set(index, value);
+            }
+            else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                testList.remove(index);
+            }
+            else {
+                int index = random.nextInt(expected.size());
+                assertEquals((int) expected.get(index), testList.get(index));
+            }
+        }
+
+        assertSameValues(expected, testList);
+    }
+
+    @Test
+    public void testLongList() {
+
+        testList = new SkipListImpl();
+        for (int i = 0; i < 100000; i++) {
+            testList.insertRear(i);
+        }
+        for (int i = 1; i <= 100000; i++) {
+            testList.insertFront(-i);
+        }
+
+        for (int i = 0; i < 200000; i += 997) {
+            assertEquals(i - 100000, testList.get(i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            testList.remove(150000);
+        }
+        assertEquals(199000, testList.size());
+        assertEquals(51000, testList.get(150000));
+        assertEquals(99999, testList.get(198999));
+    }
+
+    @Test
+    public void testSubList() {
+
+        testList = new SkipListImpl();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            testList.insertRear(i % 7);
+            expected.add(i % 7);
+        }
+
+        assertEquals(testList, testList.subList(0, 299));
+        assertSameValues(expected.subList(1, 2), testList.subList(1, 1));
+        assertSameValues(expected.subList(60, 201), testList.subList(60, 200));
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void testSubListIndexException() {
+
+        testList = new SkipListImpl();
+        testList.insertRear(-5);
+        testList.insertRear(12);
+
+        testList.subList(1, 2);
+    }
+
+    @Test
+    public void testEquals() {
+
+        MyList testList1 = new SkipListImpl();
+        MyList testList2 = new SkipListImpl();
+        assertEquals(testList1, testList2);
+
+        // The same values built from opposite ends
+        for (int i = 0; i < 100; i++) {
+            testList1.insertRear(i % 10);
+            testList2.insertFront(9 - i % 10);
+        }
+        assertEquals(testList1, testList2);
+        assertEquals(testList1.hashCode(), testList2.hashCode());
+
+        testList2.set(70, 1);
+        assertNotEquals(testList1, testList2);
+    }
+
+    @Test
+    public void testCursor() {
+
+        testList = new SkipListImpl();
+        for (int i = 0; i < 130; i++) {
+            testList.insertRear(i % 10);
+        }
+
+        MyListCursor cursor = testList.cursorAtHead();
+        assertFalse(cursor.hasPrevious());
+        for (int i = 0; i < 64; i++) {
+            assertEquals(i % 10, cursor.next());
+        }
+        assertEquals(4, cursor.next());
+        cursor.set(-4);
+        assertEquals(-4, cursor.previous());
+        assertEquals(3, cursor.previous());
+        assertEquals(-4, testList.get(64));
+
+        testList = new SkipListImpl();
+        assertFalse(testList.cursorAtTail().hasPrevious());
+        assertFalse(testList.cursorAtHead().hasNext());
+    }
+
+    @Test (expected = NoSuchElementException.class)
+    public void testCursorException() {
+
+        testList = new SkipListImpl();
+        testList.insertRear(5);
+
+        MyListCursor cursor = testList.cursorAtHead();
+        cursor.next();
+        cursor.next();
+    }
+
+    @Test
+    public void testToString() {
+
+        testList = new SkipListImpl();
+        testList.insertRear(2);
+        testList.insertRear(4);
+        testList.insertRear(3);
+
+        assertEquals("2 -> 4 -> 3", testList.toString());
+        assertEquals("342", testList.getStrBigNumber());
+    }
+}